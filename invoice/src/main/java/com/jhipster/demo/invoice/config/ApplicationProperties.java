@@ -1,5 +1,7 @@
 package com.jhipster.demo.invoice.config;
 
+import com.jhipster.demo.invoice.service.count.CountStrategy;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -11,4 +13,32 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
 
+    private final Pagination pagination = new Pagination();
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public static class Pagination {
+
+        private CountStrategy.Type countStrategy = CountStrategy.Type.EXACT;
+
+        private int countCacheTimeToLiveSeconds = 60;
+
+        public CountStrategy.Type getCountStrategy() {
+            return countStrategy;
+        }
+
+        public void setCountStrategy(CountStrategy.Type countStrategy) {
+            this.countStrategy = countStrategy;
+        }
+
+        public int getCountCacheTimeToLiveSeconds() {
+            return countCacheTimeToLiveSeconds;
+        }
+
+        public void setCountCacheTimeToLiveSeconds(int countCacheTimeToLiveSeconds) {
+            this.countCacheTimeToLiveSeconds = countCacheTimeToLiveSeconds;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.jhipster.demo.invoice.config;
+
+import com.jhipster.demo.invoice.service.count.CachedCountStrategy;
+import com.jhipster.demo.invoice.service.count.CountStrategy;
+import com.jhipster.demo.invoice.service.count.EstimatedCountStrategy;
+import com.jhipster.demo.invoice.service.count.ExactCountStrategy;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class PaginationConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(PaginationConfiguration.class);
+
+    private final ApplicationProperties applicationProperties;
+
+    public PaginationConfiguration(ApplicationProperties applicationProperties) {
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Bean
+    public CountStrategy countStrategy(HazelcastInstance hazelcastInstance, JdbcTemplate jdbcTemplate) {
+        ApplicationProperties.Pagination pagination = applicationProperties.getPagination();
+        log.debug("Configuring the {} pagination count strategy", pagination.getCountStrategy());
+        switch (pagination.getCountStrategy()) {
+            case CACHED:
+                return new CachedCountStrategy(hazelcastInstance, pagination.getCountCacheTimeToLiveSeconds());
+            case ESTIMATED:
+                // Filtered lists cannot be estimated from the table statistics, their counts are cached instead
+                return new EstimatedCountStrategy(jdbcTemplate,
+                    new CachedCountStrategy(hazelcastInstance, pagination.getCountCacheTimeToLiveSeconds()));
+            default:
+                return new ExactCountStrategy();
+        }
+    }
+}
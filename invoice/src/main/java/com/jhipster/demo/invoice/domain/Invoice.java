@@ -31,7 +31,8 @@ public class Invoice implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invoiceSequenceGenerator")
+    @SequenceGenerator(name = "invoiceSequenceGenerator", sequenceName = "invoice_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -22,7 +22,8 @@ public class Shipment implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "shipmentSequenceGenerator")
+    @SequenceGenerator(name = "shipmentSequenceGenerator", sequenceName = "shipment_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "tracking_code")
@@ -1,9 +1,17 @@
 package com.jhipster.demo.invoice.repository;
 
 import com.jhipster.demo.invoice.domain.Invoice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 /**
  * Spring Data  repository for the Invoice entity.
@@ -12,4 +20,18 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long> {
 
+    Slice<Invoice> findAllBy(Pageable pageable);
+
+    /**
+     * Stream all the invoices, ordered by id, with a database cursor. On MySQL, the cursor is only used when
+     * "useCursorFetch=true" is set on the JDBC URL, otherwise the driver reads all the rows at once.
+     * <p>
+     * The stream must be closed, and read in a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READONLY, value = "true"),
+        @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<Invoice> streamAllByOrderByIdAsc();
 }
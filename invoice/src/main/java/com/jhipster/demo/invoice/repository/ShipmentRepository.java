@@ -1,6 +1,8 @@
 package com.jhipster.demo.invoice.repository;
 
 import com.jhipster.demo.invoice.domain.Shipment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -12,4 +14,5 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ShipmentRepository extends JpaRepository<Shipment, Long> {
 
+    Slice<Shipment> findAllBy(Pageable pageable);
 }
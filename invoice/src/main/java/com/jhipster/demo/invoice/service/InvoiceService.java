@@ -2,15 +2,20 @@ package com.jhipster.demo.invoice.service;
 
 import com.jhipster.demo.invoice.domain.Invoice;
 import com.jhipster.demo.invoice.repository.InvoiceRepository;
+import com.jhipster.demo.invoice.service.count.CountStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service Implementation for managing Invoice.
@@ -23,8 +28,14 @@ public class InvoiceService {
 
     private final InvoiceRepository invoiceRepository;
 
-    public InvoiceService(InvoiceRepository invoiceRepository) {
+    private final CountStrategy countStrategy;
+
+    private final EntityManager entityManager;
+
+    public InvoiceService(InvoiceRepository invoiceRepository, CountStrategy countStrategy, EntityManager entityManager) {
         this.invoiceRepository = invoiceRepository;
+        this.countStrategy = countStrategy;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -40,13 +51,36 @@ public class InvoiceService {
     /**
      * Get all the invoices.
      *
+     * <p>
+     * The total number of entities is computed by the configured {@link CountStrategy}.
+     *
      * @param pageable the pagination information
      * @return the list of entities
      */
     @Transactional(readOnly = true)
     public Page<Invoice> findAll(Pageable pageable) {
         log.debug("Request to get all Invoices");
-        return invoiceRepository.findAll(pageable);
+        Slice<Invoice> slice = invoiceRepository.findAllBy(pageable);
+        return countStrategy.toPage(slice, "invoice", "", invoiceRepository::count);
+    }
+
+    /**
+     * Export all the invoices, ordered by id.
+     * <p>
+     * Invoices are read with a database cursor, and detached once consumed, so the memory used does not depend
+     * on the number of invoices.
+     *
+     * @param consumer the consumer of the invoices
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<Invoice> consumer) {
+        log.debug("Request to export all Invoices");
+        try (Stream<Invoice> invoices = invoiceRepository.streamAllByOrderByIdAsc()) {
+            invoices.forEach(invoice -> {
+                consumer.accept(invoice);
+                entityManager.detach(invoice);
+            });
+        }
     }
 
 
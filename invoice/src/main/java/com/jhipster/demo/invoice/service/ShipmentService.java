@@ -2,11 +2,13 @@ package com.jhipster.demo.invoice.service;
 
 import com.jhipster.demo.invoice.domain.Shipment;
 import com.jhipster.demo.invoice.repository.ShipmentRepository;
+import com.jhipster.demo.invoice.service.count.CountStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +25,11 @@ public class ShipmentService {
 
     private final ShipmentRepository shipmentRepository;
 
-    public ShipmentService(ShipmentRepository shipmentRepository) {
+    private final CountStrategy countStrategy;
+
+    public ShipmentService(ShipmentRepository shipmentRepository, CountStrategy countStrategy) {
         this.shipmentRepository = shipmentRepository;
+        this.countStrategy = countStrategy;
     }
 
     /**
@@ -40,13 +45,17 @@ public class ShipmentService {
     /**
      * Get all the shipments.
      *
+     * <p>
+     * The total number of entities is computed by the configured {@link CountStrategy}.
+     *
      * @param pageable the pagination information
      * @return the list of entities
      */
     @Transactional(readOnly = true)
     public Page<Shipment> findAll(Pageable pageable) {
         log.debug("Request to get all Shipments");
-        return shipmentRepository.findAll(pageable);
+        Slice<Shipment> slice = shipmentRepository.findAllBy(pageable);
+        return countStrategy.toPage(slice, "shipment", "", shipmentRepository::count);
     }
 
 
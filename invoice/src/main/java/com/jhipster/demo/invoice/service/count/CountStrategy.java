@@ -0,0 +1,56 @@
+package com.jhipster.demo.invoice.service.count;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Strategy used to compute the total number of elements of a paginated list, sent in the X-Total-Count header.
+ *
+ * <p>
+ * Lists are fetched as a {@link Slice}, which does not run any count query, and this strategy decides
+ * whether the total comes from an exact {@code count(*)}, a cached value or an estimate.
+ */
+public interface CountStrategy {
+
+    /**
+     * Count the rows of a table.
+     *
+     * @param table the name of the table being paginated
+     * @param filter a key identifying the filter applied to the table, empty when the table is not filtered
+     * @param exactCount the exact count query, only called when the strategy needs it
+     * @return the total number of rows, which may be approximate
+     */
+    long count(String table, String filter, LongSupplier exactCount);
+
+    /**
+     * Convert a slice to a page, counting the rows of the table only when it is needed.
+     * <p>
+     * When the slice is the last one, the total is known without any count query, unless the slice is empty and is not
+     * the first one: a slice past the end of the list does not tell where the list ends.
+     *
+     * @param slice the slice of data
+     * @param table the name of the table being paginated
+     * @param filter a key identifying the filter applied to the table, empty when the table is not filtered
+     * @param exactCount the exact count query
+     * @return the page of data
+     */
+    default <T> Page<T> toPage(Slice<T> slice, String table, String filter, LongSupplier exactCount) {
+        long total;
+        if (!slice.hasNext() && (slice.getPageable().getOffset() == 0 || slice.hasContent())) {
+            total = slice.getPageable().getOffset() + slice.getNumberOfElements();
+        } else {
+            total = count(table, filter, exactCount);
+        }
+        return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+    }
+
+    /**
+     * The available count strategies.
+     */
+    enum Type {
+        EXACT, CACHED, ESTIMATED
+    }
+}
@@ -0,0 +1,64 @@
+package com.jhipster.demo.invoice.service.count;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Count strategy estimating the number of rows of a table from the InnoDB table statistics.
+ * <p>
+ * The estimate is only available for unfiltered tables on MySQL: filtered lists, and other databases,
+ * fall back to the given delegate strategy.
+ */
+public class EstimatedCountStrategy implements CountStrategy {
+
+    private final Logger log = LoggerFactory.getLogger(EstimatedCountStrategy.class);
+
+    private static final String TABLE_ROWS_QUERY =
+        "select table_rows from information_schema.tables where table_schema = database() and table_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final CountStrategy delegate;
+
+    private volatile Boolean mysql;
+
+    public EstimatedCountStrategy(JdbcTemplate jdbcTemplate, CountStrategy delegate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public long count(String table, String filter, LongSupplier exactCount) {
+        if (!filter.isEmpty() || !isMysql()) {
+            return delegate.count(table, filter, exactCount);
+        }
+        List<Long> rows = jdbcTemplate.queryForList(TABLE_ROWS_QUERY, Long.class, table);
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return delegate.count(table, filter, exactCount);
+        }
+        return rows.get(0);
+    }
+
+    private boolean isMysql() {
+        if (mysql == null) {
+            try {
+                String productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+                mysql = "MySQL".equalsIgnoreCase(productName);
+            } catch (DataAccessException e) {
+                log.warn("Could not detect the database, row counts will not be estimated: {}", e.getMessage());
+                mysql = false;
+            }
+            if (!mysql) {
+                log.info("Row count estimates are only available on MySQL, falling back to {}", delegate.getClass().getSimpleName());
+            }
+        }
+        return mysql;
+    }
+}
@@ -6,15 +6,19 @@ import com.jhipster.demo.invoice.service.InvoiceService;
 import com.jhipster.demo.invoice.web.rest.errors.BadRequestAlertException;
 import com.jhipster.demo.invoice.web.rest.util.HeaderUtil;
 import com.jhipster.demo.invoice.web.rest.util.PaginationUtil;
+import com.jhipster.demo.invoice.web.rest.util.StreamingExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.net.URI;
@@ -22,6 +26,7 @@ import java.net.URISyntaxException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST controller for managing Invoice.
@@ -34,10 +39,28 @@ public class InvoiceResource {
 
     private static final String ENTITY_NAME = "invoiceInvoice";
 
+    /**
+     * The invoices read by a user may be cached by its client, and by the gateway for this user only.
+     */
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate();
+
+    private static final StreamingExport<Invoice> EXPORT = new StreamingExport<Invoice>("invoices")
+        .column("id", Invoice::getId)
+        .column("code", Invoice::getCode)
+        .column("date", Invoice::getDate)
+        .column("details", Invoice::getDetails)
+        .column("status", Invoice::getStatus)
+        .column("paymentMethod", Invoice::getPaymentMethod)
+        .column("paymentDate", Invoice::getPaymentDate)
+        .column("paymentAmount", Invoice::getPaymentAmount);
+
     private final InvoiceService invoiceService;
 
-    public InvoiceResource(InvoiceService invoiceService) {
+    private final ObjectMapper objectMapper;
+
+    public InvoiceResource(InvoiceService invoiceService, ObjectMapper objectMapper) {
         this.invoiceService = invoiceService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -94,9 +117,27 @@ public class InvoiceResource {
         log.debug("REST request to get a page of Invoices");
         Page<Invoice> page = invoiceService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/invoices");
+        headers.setCacheControl(CACHE_CONTROL.getHeaderValue());
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * GET  /invoices/export : export all the invoices, ordered by id.
+     * <p>
+     * The invoices are streamed as they are read from the database, so that any number of invoices can be exported
+     * with a single request, without counting them.
+     *
+     * @param format the export format: "ndjson" (one invoice per line) or "csv"
+     * @return the ResponseEntity with status 200 (OK) and the invoices in body,
+     * or with status 400 (Bad Request) if the format is not supported
+     */
+    @GetMapping("/invoices/export")
+    @Timed
+    public ResponseEntity<StreamingResponseBody> exportInvoices(@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        log.debug("REST request to export Invoices as {}", format);
+        return EXPORT.toResponse(format, objectMapper, invoiceService::exportAll);
+    }
+
     /**
      * GET  /invoices/:id : get the "id" invoice.
      *
@@ -108,7 +149,9 @@ public class InvoiceResource {
     public ResponseEntity<Invoice> getInvoice(@PathVariable Long id) {
         log.debug("REST request to get Invoice : {}", id);
         Optional<Invoice> invoice = invoiceService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(invoice);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(CACHE_CONTROL.getHeaderValue());
+        return ResponseUtil.wrapOrNotFound(invoice, headers);
     }
 
     /**
@@ -11,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,7 @@ import java.net.URISyntaxException;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST controller for managing Shipment.
@@ -34,6 +36,11 @@ public class ShipmentResource {
 
     private static final String ENTITY_NAME = "invoiceShipment";
 
+    /**
+     * The shipments read by a user may be cached by its client, and by the gateway for this user only.
+     */
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate();
+
     private final ShipmentService shipmentService;
 
     public ShipmentResource(ShipmentService shipmentService) {
@@ -94,6 +101,7 @@ public class ShipmentResource {
         log.debug("REST request to get a page of Shipments");
         Page<Shipment> page = shipmentService.findAll(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/shipments");
+        headers.setCacheControl(CACHE_CONTROL.getHeaderValue());
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
@@ -108,7 +116,9 @@ public class ShipmentResource {
     public ResponseEntity<Shipment> getShipment(@PathVariable Long id) {
         log.debug("REST request to get Shipment : {}", id);
         Optional<Shipment> shipment = shipmentService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(shipment);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(CACHE_CONTROL.getHeaderValue());
+        return ResponseUtil.wrapOrNotFound(shipment, headers);
     }
 
     /**
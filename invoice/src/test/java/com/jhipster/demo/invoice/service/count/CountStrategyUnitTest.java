@@ -0,0 +1,71 @@
+package com.jhipster.demo.invoice.service.count;
+
+import org.junit.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link CountStrategy} page conversion.
+ */
+public class CountStrategyUnitTest {
+
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    private final CountStrategy countStrategy = new ExactCountStrategy();
+
+    @Test
+    public void testCountIsQueriedWhenThereIsANextSlice() {
+        SliceImpl<String> slice = new SliceImpl<>(Arrays.asList("a", "b"), PageRequest.of(3, 2), true);
+
+        Page<String> page = countStrategy.toPage(slice, "example", "", this::exactCount);
+
+        assertThat(countQueries.get()).isEqualTo(1);
+        assertThat(page.getTotalElements()).isEqualTo(400L);
+        assertThat(page.getContent()).containsExactly("a", "b");
+        assertThat(page.getNumber()).isEqualTo(3);
+    }
+
+    @Test
+    public void testCountIsNotQueriedOnTheLastSlice() {
+        SliceImpl<String> slice = new SliceImpl<>(Arrays.asList("a"), PageRequest.of(3, 2), false);
+
+        Page<String> page = countStrategy.toPage(slice, "example", "", this::exactCount);
+
+        assertThat(countQueries.get()).isEqualTo(0);
+        assertThat(page.getTotalElements()).isEqualTo(7L);
+        assertThat(page.getTotalPages()).isEqualTo(4);
+    }
+
+    @Test
+    public void testCountIsQueriedPastTheLastSlice() {
+        SliceImpl<String> slice = new SliceImpl<>(Collections.emptyList(), PageRequest.of(100, 10), false);
+
+        Page<String> page = countStrategy.toPage(slice, "example", "", this::exactCount);
+
+        assertThat(countQueries.get()).isEqualTo(1);
+        assertThat(page.getTotalElements()).isEqualTo(400L);
+        assertThat(page.getTotalPages()).isEqualTo(40);
+    }
+
+    @Test
+    public void testCountIsNotQueriedOnAnEmptyFirstSlice() {
+        SliceImpl<String> slice = new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 10), false);
+
+        Page<String> page = countStrategy.toPage(slice, "example", "", this::exactCount);
+
+        assertThat(countQueries.get()).isEqualTo(0);
+        assertThat(page.getTotalElements()).isEqualTo(0L);
+    }
+
+    private long exactCount() {
+        countQueries.incrementAndGet();
+        return 400L;
+    }
+}
@@ -7,6 +7,7 @@ import com.jhipster.demo.invoice.repository.InvoiceRepository;
 import com.jhipster.demo.invoice.service.InvoiceService;
 import com.jhipster.demo.invoice.web.rest.errors.ExceptionTranslator;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -14,10 +15,12 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +33,9 @@ import java.util.List;
 
 import static com.jhipster.demo.invoice.web.rest.TestUtil.createFormattingConversionService;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -75,6 +80,9 @@ public class InvoiceResourceIntTest {
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private PageableHandlerMethodArgumentResolver pageableArgumentResolver;
 
@@ -91,7 +99,7 @@ public class InvoiceResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final InvoiceResource invoiceResource = new InvoiceResource(invoiceService);
+        final InvoiceResource invoiceResource = new InvoiceResource(invoiceService, objectMapper);
         this.restInvoiceMockMvc = MockMvcBuilders.standaloneSetup(invoiceResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -283,6 +291,7 @@ public class InvoiceResourceIntTest {
         restInvoiceMockMvc.perform(get("/api/invoices?sort=id,desc"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, private"))
             .andExpect(jsonPath("$.[*].id").value(hasItem(invoice.getId().intValue())))
             .andExpect(jsonPath("$.[*].code").value(hasItem(DEFAULT_CODE.toString())))
             .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())))
@@ -303,6 +312,7 @@ public class InvoiceResourceIntTest {
         restInvoiceMockMvc.perform(get("/api/invoices/{id}", invoice.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, private"))
             .andExpect(jsonPath("$.id").value(invoice.getId().intValue()))
             .andExpect(jsonPath("$.code").value(DEFAULT_CODE.toString()))
             .andExpect(jsonPath("$.date").value(DEFAULT_DATE.toString()))
@@ -313,6 +323,52 @@ public class InvoiceResourceIntTest {
             .andExpect(jsonPath("$.paymentAmount").value(DEFAULT_PAYMENT_AMOUNT.intValue()));
     }
 
+    @Test
+    public void exportInvoicesAsCsv() throws Exception {
+        // The export reads the invoices in its own transaction, so the invoice must be committed
+        invoiceRepository.saveAndFlush(invoice);
+        try {
+            MvcResult mvcResult = restInvoiceMockMvc.perform(get("/api/invoices/export?format=csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            restInvoiceMockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"invoices.csv\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(content().string(startsWith("id,code,date,details,status,paymentMethod,paymentDate,paymentAmount\r\n")))
+                .andExpect(content().string(containsString("\r\n" + invoice.getId() + "," + DEFAULT_CODE + "," + DEFAULT_DATE + "," +
+                    DEFAULT_DETAILS + "," + DEFAULT_STATUS + "," + DEFAULT_PAYMENT_METHOD + "," + DEFAULT_PAYMENT_DATE + "," +
+                    DEFAULT_PAYMENT_AMOUNT.setScale(2) + "\r\n")));
+        } finally {
+            invoiceRepository.delete(invoice);
+        }
+    }
+
+    @Test
+    public void exportInvoicesAsNdjson() throws Exception {
+        invoiceRepository.saveAndFlush(invoice);
+        try {
+            MvcResult mvcResult = restInvoiceMockMvc.perform(get("/api/invoices/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            restInvoiceMockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(containsString("{\"id\":" + invoice.getId() + ",\"code\":\"" + DEFAULT_CODE + "\"")))
+                .andExpect(content().string(containsString("\"paymentAmount\":" + DEFAULT_PAYMENT_AMOUNT.setScale(2) + ",")));
+        } finally {
+            invoiceRepository.delete(invoice);
+        }
+    }
+
+    @Test
+    @Transactional
+    public void exportInvoicesWithUnsupportedFormat() throws Exception {
+        restInvoiceMockMvc.perform(get("/api/invoices/export?format=xml"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     public void getNonExistingInvoice() throws Exception {
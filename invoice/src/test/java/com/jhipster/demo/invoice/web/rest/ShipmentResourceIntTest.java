@@ -15,6 +15,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -176,6 +177,7 @@ public class ShipmentResourceIntTest {
         restShipmentMockMvc.perform(get("/api/shipments?sort=id,desc"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, private"))
             .andExpect(jsonPath("$.[*].id").value(hasItem(shipment.getId().intValue())))
             .andExpect(jsonPath("$.[*].trackingCode").value(hasItem(DEFAULT_TRACKING_CODE.toString())))
             .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())))
@@ -192,6 +194,7 @@ public class ShipmentResourceIntTest {
         restShipmentMockMvc.perform(get("/api/shipments/{id}", shipment.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, private"))
             .andExpect(jsonPath("$.id").value(shipment.getId().intValue()))
             .andExpect(jsonPath("$.trackingCode").value(DEFAULT_TRACKING_CODE.toString()))
             .andExpect(jsonPath("$.date").value(DEFAULT_DATE.toString()))
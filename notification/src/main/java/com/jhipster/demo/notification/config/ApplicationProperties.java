@@ -1,7 +1,12 @@
 package com.jhipster.demo.notification.config;
 
+import com.jhipster.demo.notification.domain.enumeration.NotificationType;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Properties specific to Notification.
  * <p>
@@ -11,4 +16,180 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
 
+    private final Ingest ingest = new Ingest();
+
+    private final Delivery delivery = new Delivery();
+
+    public Ingest getIngest() {
+        return ingest;
+    }
+
+    public Delivery getDelivery() {
+        return delivery;
+    }
+
+    public static class Ingest {
+
+        private int queueCapacity = 100000;
+
+        private int batchSize = 1000;
+
+        private long flushIntervalMillis = 100;
+
+        private String writeConcern = "JOURNALED";
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushIntervalMillis() {
+            return flushIntervalMillis;
+        }
+
+        public void setFlushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+        }
+
+        public String getWriteConcern() {
+            return writeConcern;
+        }
+
+        public void setWriteConcern(String writeConcern) {
+            this.writeConcern = writeConcern;
+        }
+    }
+
+    public static class Delivery {
+
+        private boolean enabled = false;
+
+        private boolean stubTransports = false;
+
+        private long pollIntervalMillis = 1000;
+
+        private long leaseSeconds = 300;
+
+        private int maxAttempts = 5;
+
+        private long initialBackoffSeconds = 30;
+
+        private long maxBackoffSeconds = 3600;
+
+        private final Map<NotificationType, Channel> channels = new EnumMap<>(NotificationType.class);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public boolean isStubTransports() {
+            return stubTransports;
+        }
+
+        public void setStubTransports(boolean stubTransports) {
+            this.stubTransports = stubTransports;
+        }
+
+        public long getPollIntervalMillis() {
+            return pollIntervalMillis;
+        }
+
+        public void setPollIntervalMillis(long pollIntervalMillis) {
+            this.pollIntervalMillis = pollIntervalMillis;
+        }
+
+        public long getLeaseSeconds() {
+            return leaseSeconds;
+        }
+
+        public void setLeaseSeconds(long leaseSeconds) {
+            this.leaseSeconds = leaseSeconds;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getInitialBackoffSeconds() {
+            return initialBackoffSeconds;
+        }
+
+        public void setInitialBackoffSeconds(long initialBackoffSeconds) {
+            this.initialBackoffSeconds = initialBackoffSeconds;
+        }
+
+        public long getMaxBackoffSeconds() {
+            return maxBackoffSeconds;
+        }
+
+        public void setMaxBackoffSeconds(long maxBackoffSeconds) {
+            this.maxBackoffSeconds = maxBackoffSeconds;
+        }
+
+        public Map<NotificationType, Channel> getChannels() {
+            return channels;
+        }
+
+        /**
+         * Get the properties of a channel, which are the default ones if the channel is not configured.
+         *
+         * @param type the type of the notifications delivered by the channel
+         * @return the properties of the channel
+         */
+        public Channel getChannel(NotificationType type) {
+            return channels.computeIfAbsent(type, key -> new Channel());
+        }
+    }
+
+    public static class Channel {
+
+        private int workers = 2;
+
+        private int queueCapacity = 10;
+
+        private int batchSize = 1;
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package com.jhipster.demo.notification.config.dbmigrations;
+
+import com.github.mongobee.changeset.ChangeLog;
+import com.github.mongobee.changeset.ChangeSet;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the indexes of the notification collection, used to filter and paginate the notifications.
+ * <p>
+ * The first indexes have the equality field first, then the id the notifications are sorted and paginated on, then
+ * the date the notifications can be filtered on: a slice of the notifications of a user, a product or a format is
+ * read from the index without sorting them, whatever the date range. The indexes are built in the background, so the
+ * collection stays available while they are built.
+ * <p>
+ * The next indexes serve the lookups of the notifications of a user or a product by date, and remove the
+ * notifications once they have been sent for {@link #RETENTION_DAYS} days. The retention of an existing TTL index
+ * cannot be changed by ensuring it again: a later change set must change it with the "collMod" command.
+ * <p>
+ * The last index serves the delivery of the pending notifications, claimed by format and next attempt date. It only
+ * holds the pending notifications, so it stays small whatever the number of sent notifications.
+ */
+@ChangeLog(order = "001")
+public class NotificationIndexesMigration {
+
+    public static final long RETENTION_DAYS = 365;
+
+    @ChangeSet(order = "01", author = "initiator", id = "01-addNotificationIndexes")
+    public void addNotificationIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations indexOperations = mongoTemplate.indexOps("notification");
+        indexOperations.ensureIndex(notificationIndex("user_id"));
+        indexOperations.ensureIndex(notificationIndex("product_id"));
+        indexOperations.ensureIndex(notificationIndex("format"));
+    }
+
+    @ChangeSet(order = "02", author = "initiator", id = "02-addNotificationDateIndexes")
+    public void addNotificationDateIndexes(MongoTemplate mongoTemplate) {
+        IndexOperations indexOperations = mongoTemplate.indexOps("notification");
+        indexOperations.ensureIndex(notificationDateIndex("user_id"));
+        indexOperations.ensureIndex(notificationDateIndex("product_id"));
+        indexOperations.ensureIndex(new Index().on("sent_date", Sort.Direction.ASC)
+            .expire(RETENTION_DAYS, TimeUnit.DAYS).named("sent_date_ttl").background());
+    }
+
+    @ChangeSet(order = "03", author = "initiator", id = "03-addNotificationDeliveryIndex")
+    public void addNotificationDeliveryIndex(MongoTemplate mongoTemplate) {
+        CompoundIndexDefinition index = new CompoundIndexDefinition(new Document("format", 1).append("next_attempt_date", 1));
+        index.partial(PartialIndexFilter.of(Criteria.where("delivery_status").is("PENDING")))
+            .named("pending_format_next_attempt_date").background();
+        mongoTemplate.indexOps("notification").ensureIndex(index);
+    }
+
+    private static CompoundIndexDefinition notificationIndex(String field) {
+        CompoundIndexDefinition index = new CompoundIndexDefinition(new Document(field, 1).append("_id", -1).append("date", 1));
+        index.named(field + "_id_date").background();
+        return index;
+    }
+
+    private static CompoundIndexDefinition notificationDateIndex(String field) {
+        CompoundIndexDefinition index = new CompoundIndexDefinition(new Document(field, 1).append("date", -1));
+        index.named(field + "_date").background();
+        return index;
+    }
+}
@@ -1,5 +1,6 @@
 package com.jhipster.demo.notification.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.annotations.ApiModel;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -12,6 +13,8 @@ import java.util.Objects;
 
 import com.jhipster.demo.notification.domain.enumeration.NotificationType;
 
+import com.jhipster.demo.notification.domain.enumeration.DeliveryStatus;
+
 /**
  * Entities for notification microservice
  */
@@ -47,6 +50,26 @@ public class Notification implements Serializable {
     @Field("product_id")
     private Long productId;
 
+    /**
+     * Null for the notifications which are not delivered by this service.
+     */
+    @Field("delivery_status")
+    private DeliveryStatus deliveryStatus;
+
+    @Field("delivery_attempts")
+    private Integer deliveryAttempts;
+
+    /**
+     * When a pending notification can be claimed for delivery: after its creation, its retry backoff, or the lease of
+     * the node delivering it.
+     */
+    @Field("next_attempt_date")
+    private Instant nextAttemptDate;
+
+    @JsonIgnore
+    @Field("lease_id")
+    private String leaseId;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here, do not remove
     public String getId() {
         return id;
@@ -133,6 +156,53 @@ public class Notification implements Serializable {
     public void setProductId(Long productId) {
         this.productId = productId;
     }
+
+    public DeliveryStatus getDeliveryStatus() {
+        return deliveryStatus;
+    }
+
+    public Notification deliveryStatus(DeliveryStatus deliveryStatus) {
+        this.deliveryStatus = deliveryStatus;
+        return this;
+    }
+
+    public void setDeliveryStatus(DeliveryStatus deliveryStatus) {
+        this.deliveryStatus = deliveryStatus;
+    }
+
+    public Integer getDeliveryAttempts() {
+        return deliveryAttempts;
+    }
+
+    public Notification deliveryAttempts(Integer deliveryAttempts) {
+        this.deliveryAttempts = deliveryAttempts;
+        return this;
+    }
+
+    public void setDeliveryAttempts(Integer deliveryAttempts) {
+        this.deliveryAttempts = deliveryAttempts;
+    }
+
+    public Instant getNextAttemptDate() {
+        return nextAttemptDate;
+    }
+
+    public Notification nextAttemptDate(Instant nextAttemptDate) {
+        this.nextAttemptDate = nextAttemptDate;
+        return this;
+    }
+
+    public void setNextAttemptDate(Instant nextAttemptDate) {
+        this.nextAttemptDate = nextAttemptDate;
+    }
+
+    public String getLeaseId() {
+        return leaseId;
+    }
+
+    public void setLeaseId(String leaseId) {
+        this.leaseId = leaseId;
+    }
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here, do not remove
 
     @Override
@@ -165,6 +235,9 @@ public class Notification implements Serializable {
             ", format='" + getFormat() + "'" +
             ", userId=" + getUserId() +
             ", productId=" + getProductId() +
+            ", deliveryStatus='" + getDeliveryStatus() + "'" +
+            ", deliveryAttempts=" + getDeliveryAttempts() +
+            ", nextAttemptDate='" + getNextAttemptDate() + "'" +
             "}";
     }
 }
@@ -0,0 +1,8 @@
+package com.jhipster.demo.notification.domain.enumeration;
+
+/**
+ * The DeliveryStatus enumeration.
+ */
+public enum DeliveryStatus {
+    PENDING, SENT, FAILED
+}
@@ -1,14 +1,29 @@
 package com.jhipster.demo.notification.repository;
 
 import com.jhipster.demo.notification.domain.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+
 /**
  * Spring Data MongoDB repository for the Notification entity.
+ * <p>
+ * The lookups by user and by product are served by the "user_id_date" and "product_id_date" indexes: they read the
+ * notifications already sorted by date, most recent first, and return slices, so the notifications are not counted.
+ * The notifications are updated with {@link #updateContent(Notification)}, which keeps their delivery state.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface NotificationRepository extends MongoRepository<Notification, String> {
+public interface NotificationRepository extends MongoRepository<Notification, String>, NotificationRepositoryCustom {
+
+    Slice<Notification> findAllByUserIdOrderByDateDesc(Long userId, Pageable pageable);
+
+    Slice<Notification> findAllByUserIdAndDateBetweenOrderByDateDesc(Long userId, Instant fromDate, Instant toDate, Pageable pageable);
+
+    Slice<Notification> findAllByProductIdOrderByDateDesc(Long productId, Pageable pageable);
 
+    Slice<Notification> findAllByProductIdAndDateBetweenOrderByDateDesc(Long productId, Instant fromDate, Instant toDate, Pageable pageable);
 }
@@ -0,0 +1,21 @@
+package com.jhipster.demo.notification.repository;
+
+import com.jhipster.demo.notification.domain.Notification;
+
+import java.util.Optional;
+
+/**
+ * Custom operations of the {@link NotificationRepository}.
+ */
+public interface NotificationRepositoryCustom {
+
+    /**
+     * Update the fields of a notification which are set by its clients, keeping the fields owned by its delivery:
+     * its status, attempts, next attempt date and lease. The update is atomic, so a notification being delivered keeps
+     * the lease of the node sending it.
+     *
+     * @param notification the notification to update
+     * @return the updated notification, or empty if it does not exist
+     */
+    Optional<Notification> updateContent(Notification notification);
+}
@@ -0,0 +1,36 @@
+package com.jhipster.demo.notification.repository;
+
+import com.jhipster.demo.notification.domain.Notification;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+/**
+ * Implementation of the {@link NotificationRepositoryCustom} operations.
+ */
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    public NotificationRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<Notification> updateContent(Notification notification) {
+        Update update = new Update()
+            .set("date", notification.getDate())
+            .set("details", notification.getDetails())
+            .set("sentDate", notification.getSentDate())
+            .set("format", notification.getFormat())
+            .set("userId", notification.getUserId())
+            .set("productId", notification.getProductId());
+        return Optional.ofNullable(mongoTemplate.findAndModify(new Query(Criteria.where("id").is(notification.getId())),
+            update, FindAndModifyOptions.options().returnNew(true), Notification.class));
+    }
+}
@@ -0,0 +1,168 @@
+package com.jhipster.demo.notification.service;
+
+import com.jhipster.demo.notification.config.ApplicationProperties;
+import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.web.rest.errors.TooManyRequestsException;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.mongodb.WriteConcern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service ingesting notifications by batches.
+ * <p>
+ * The notifications are queued, then inserted by a single writer thread with one "insertMany" command per batch,
+ * sent when the batch is full or when the flush interval has elapsed since its first notification. The queue is
+ * bounded: a request which does not fit in it is rejected as a whole, so clients can slow down and retry instead of
+ * exhausting the memory of the service. Queued notifications are lost if the service stops abruptly: clients which
+ * need to know they are stored wait for the returned future, completed once their batches have been written with
+ * the configured write concern.
+ */
+@Service
+public class NotificationIngestService {
+
+    private final Logger log = LoggerFactory.getLogger(NotificationIngestService.class);
+
+    private final BlockingQueue<PendingNotification> queue = new LinkedBlockingQueue<>();
+
+    private final Semaphore capacity;
+
+    private final MongoTemplate ingestTemplate;
+
+    private final ApplicationProperties.Ingest properties;
+
+    private final Meter ingested;
+
+    private final Meter rejected;
+
+    private final Thread writer = new Thread(this::writeBatches, "notification-ingest-writer");
+
+    private volatile boolean running = true;
+
+    public NotificationIngestService(MongoTemplate mongoTemplate, ApplicationProperties applicationProperties,
+            MetricRegistry metricRegistry) {
+        this.properties = applicationProperties.getIngest();
+        this.capacity = new Semaphore(properties.getQueueCapacity());
+        // The ingested notifications have been validated by the resource: a template without the application event
+        // listeners avoids validating them again, and has its own write concern
+        this.ingestTemplate = new MongoTemplate(mongoTemplate.getMongoDbFactory(), mongoTemplate.getConverter());
+        this.ingestTemplate.setWriteConcern(WriteConcern.valueOf(properties.getWriteConcern()));
+        this.ingested = metricRegistry.meter(MetricRegistry.name(NotificationIngestService.class, "ingested"));
+        this.rejected = metricRegistry.meter(MetricRegistry.name(NotificationIngestService.class, "rejected"));
+        metricRegistry.register(MetricRegistry.name(NotificationIngestService.class, "queue-size"), (Gauge<Integer>) queue::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    /**
+     * Queue notifications to be inserted.
+     *
+     * @param notifications the notifications to insert, without id
+     * @return the future of the inserted notifications, completed once all of them have been written
+     * @throws TooManyRequestsException if the queue cannot hold all the notifications
+     */
+    public CompletableFuture<List<Notification>> ingest(List<Notification> notifications) {
+        log.debug("Request to ingest {} Notifications", notifications.size());
+        if (!running || !capacity.tryAcquire(notifications.size())) {
+            rejected.mark(notifications.size());
+            throw new TooManyRequestsException("The notification queue is full, retry later");
+        }
+        List<CompletableFuture<Notification>> futures = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            PendingNotification pending = new PendingNotification(notification);
+            futures.add(pending.future);
+            queue.add(pending);
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(done -> notifications);
+    }
+
+    /**
+     * Get the maximum number of notifications that can be queued, which is the maximum size of a request.
+     *
+     * @return the capacity of the queue
+     */
+    public int getQueueCapacity() {
+        return properties.getQueueCapacity();
+    }
+
+    private void writeBatches() {
+        List<PendingNotification> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingNotification first = queue.poll(properties.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMillis());
+                while (batch.size() < properties.getBatchSize()) {
+                    if (queue.drainTo(batch, properties.getBatchSize() - batch.size()) > 0) {
+                        continue;
+                    }
+                    PendingNotification next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingNotification> batch) {
+        List<Notification> notifications = new ArrayList<>(batch.size());
+        batch.forEach(pending -> notifications.add(pending.notification));
+        try {
+            ingestTemplate.insert(notifications, Notification.class);
+            ingested.mark(batch.size());
+            batch.forEach(pending -> pending.future.complete(pending.notification));
+        } catch (RuntimeException e) {
+            log.error("Could not insert a batch of {} notifications: {}", batch.size(), e.getMessage());
+            batch.forEach(pending -> pending.future.completeExceptionally(e));
+        } finally {
+            capacity.release(batch.size());
+        }
+    }
+
+    private static final class PendingNotification {
+
+        private final Notification notification;
+
+        private final CompletableFuture<Notification> future = new CompletableFuture<>();
+
+        private PendingNotification(Notification notification) {
+            this.notification = notification;
+        }
+    }
+}
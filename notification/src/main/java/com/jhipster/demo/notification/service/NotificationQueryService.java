@@ -0,0 +1,168 @@
+package com.jhipster.demo.notification.service;
+
+import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.service.dto.NotificationCriteria;
+
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.RangeFilter;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service for executing complex queries for Notification entities in the database.
+ * The main input is a {@link NotificationCriteria} which gets converted to a MongoDB {@link Query},
+ * in a way that all the filters must apply.
+ * <p>
+ * The filters are served by the compound indexes created by
+ * {@link com.jhipster.demo.notification.config.dbmigrations.NotificationIndexesMigration}, which have the filtered
+ * field first, then the id: the notifications of a user or a product are read in id order, without sorting them.
+ */
+@Service
+public class NotificationQueryService {
+
+    private final Logger log = LoggerFactory.getLogger(NotificationQueryService.class);
+
+    private static final Sort ID_DESC = Sort.by(Sort.Direction.DESC, "id");
+
+    private final MongoTemplate mongoTemplate;
+
+    public NotificationQueryService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * Return a {@link Page} of {@link Notification} which matches the criteria from the database.
+     * <p>
+     * The page is sorted by id, most recent first, unless another sort is requested.
+     *
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<Notification> findByCriteria(NotificationCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        Pageable sortedPage = page.getSort().isSorted() ? page : PageRequest.of(page.getPageNumber(), page.getPageSize(), ID_DESC);
+        List<Notification> content = mongoTemplate.find(createQuery(criteria).with(sortedPage), Notification.class);
+        return PageableExecutionUtils.getPage(content, sortedPage,
+            () -> mongoTemplate.count(createQuery(criteria), Notification.class));
+    }
+
+    /**
+     * Return a {@link Slice} of {@link Notification} which matches the criteria, most recent first, using keyset
+     * pagination on the id: the notifications are read from the given id, instead of skipping the previous ones.
+     *
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param beforeId the id of the last notification of the previous slice, or null for the first slice
+     * @param size the size of the slice
+     * @return the matching entities, with an id lower than beforeId.
+     */
+    public Slice<Notification> findByCriteriaBefore(NotificationCriteria criteria, ObjectId beforeId, int size) {
+        log.debug("find by criteria : {}, before: {}, size: {}", criteria, beforeId, size);
+        Query query = createQuery(criteria).with(ID_DESC).limit(size + 1);
+        if (beforeId != null) {
+            query.addCriteria(Criteria.where("id").lt(beforeId));
+        }
+        List<Notification> content = mongoTemplate.find(query, Notification.class);
+        boolean hasNext = content.size() > size;
+        if (hasNext) {
+            content = content.subList(0, size);
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, size, ID_DESC), hasNext);
+    }
+
+    /**
+     * Pass each {@link Notification} which matches the criteria, ordered by id, to the consumer.
+     * <p>
+     * The notifications are read with a MongoDB cursor, by batches, so any number of them can be consumed.
+     *
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param consumer the consumer of the matching entities.
+     */
+    public void streamByCriteria(NotificationCriteria criteria, Consumer<Notification> consumer) {
+        log.debug("stream by criteria : {}", criteria);
+        Query query = createQuery(criteria).with(Sort.by(Sort.Direction.ASC, "id"));
+        try (CloseableIterator<Notification> notifications = mongoTemplate.stream(query, Notification.class)) {
+            notifications.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * Function to convert NotificationCriteria to a {@link Query}
+     */
+    private Query createQuery(NotificationCriteria criteria) {
+        Query query = new Query();
+        if (criteria != null) {
+            if (criteria.getUserId() != null) {
+                query.addCriteria(buildRangeCriteria(criteria.getUserId(), "userId"));
+            }
+            if (criteria.getProductId() != null) {
+                query.addCriteria(buildRangeCriteria(criteria.getProductId(), "productId"));
+            }
+            if (criteria.getFormat() != null) {
+                query.addCriteria(buildCriteria(criteria.getFormat(), "format"));
+            }
+            if (criteria.getDate() != null) {
+                query.addCriteria(buildRangeCriteria(criteria.getDate(), "date"));
+            }
+        }
+        return query;
+    }
+
+    private static <X> Criteria buildCriteria(Filter<X> filter, String field) {
+        Criteria criteria = Criteria.where(field);
+        if (filter.getEquals() != null) {
+            return criteria.is(filter.getEquals());
+        } else if (filter.getIn() != null) {
+            return criteria.in(filter.getIn());
+        } else if (filter.getSpecified() != null) {
+            return filter.getSpecified() ? criteria.ne(null) : criteria.is(null);
+        }
+        return criteria.exists(true);
+    }
+
+    private static <X extends Comparable<? super X>> Criteria buildRangeCriteria(RangeFilter<X> filter, String field) {
+        if (filter.getEquals() != null || filter.getIn() != null || Boolean.FALSE.equals(filter.getSpecified())) {
+            return buildCriteria(filter, field);
+        }
+        Criteria criteria = Criteria.where(field);
+        boolean bounded = false;
+        if (filter.getGreaterThan() != null) {
+            criteria = criteria.gt(filter.getGreaterThan());
+            bounded = true;
+        }
+        if (filter.getGreaterOrEqualThan() != null) {
+            criteria = criteria.gte(filter.getGreaterOrEqualThan());
+            bounded = true;
+        }
+        if (filter.getLessThan() != null) {
+            criteria = criteria.lt(filter.getLessThan());
+            bounded = true;
+        }
+        if (filter.getLessOrEqualThan() != null) {
+            criteria = criteria.lte(filter.getLessOrEqualThan());
+            bounded = true;
+        }
+        if (Boolean.TRUE.equals(filter.getSpecified())) {
+            criteria = criteria.ne(null);
+        } else if (!bounded) {
+            criteria = criteria.exists(true);
+        }
+        return criteria;
+    }
+}
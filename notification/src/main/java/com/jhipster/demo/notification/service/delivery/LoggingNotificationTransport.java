@@ -0,0 +1,40 @@
+package com.jhipster.demo.notification.service.delivery;
+
+import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.domain.enumeration.NotificationType;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Local stub transport, which only logs the notifications. It is used for the channels without provider when
+ * "application.delivery.stub-transports" is enabled, in development only: the notifications are marked as sent.
+ */
+public class LoggingNotificationTransport implements NotificationTransport {
+
+    private final Logger log = LoggerFactory.getLogger(LoggingNotificationTransport.class);
+
+    private final NotificationType type;
+
+    public LoggingNotificationTransport(NotificationType type) {
+        this.type = type;
+    }
+
+    @Override
+    public NotificationType getType() {
+        return type;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void send(List<Notification> notifications) {
+        notifications.forEach(notification -> log.info("Sending {} notification {} to user {}", type,
+            notification.getId(), notification.getUserId()));
+    }
+}
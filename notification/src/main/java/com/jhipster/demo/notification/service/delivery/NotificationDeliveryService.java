@@ -0,0 +1,278 @@
+package com.jhipster.demo.notification.service.delivery;
+
+import com.jhipster.demo.notification.config.ApplicationProperties;
+import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.domain.enumeration.DeliveryStatus;
+import com.jhipster.demo.notification.domain.enumeration.NotificationType;
+
+import com.codahale.metrics.CachedGauge;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Service delivering the pending notifications, with one channel per {@link NotificationType} which has a
+ * {@link NotificationTransport}. The notifications of the types without a transport are never claimed, so they stay
+ * pending until a transport is declared, unless "application.delivery.stub-transports" is enabled: they are then
+ * "sent" by a {@link LoggingNotificationTransport}.
+ * <p>
+ * The notifications are claimed from MongoDB one at a time with "findAndModify", which leases them to this node: the
+ * lease moves their next attempt date forward, so the other nodes do not claim them, and another node sends them once
+ * the lease has expired if this node stops before sending them. The claimed notifications are grouped by batches of
+ * the size accepted by the transport of their channel, and sent by the bounded worker pool of the channel: a slow
+ * provider only delays its own channel, and no more notifications are claimed than the pool can queue.
+ * <p>
+ * Failed sends are retried with an exponential backoff, until the maximum number of attempts is reached.
+ */
+@Service
+public class NotificationDeliveryService {
+
+    private final Logger log = LoggerFactory.getLogger(NotificationDeliveryService.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ApplicationProperties.Delivery properties;
+
+    private final Map<NotificationType, DeliveryChannel> channels = new EnumMap<>(NotificationType.class);
+
+    @Autowired
+    public NotificationDeliveryService(MongoTemplate mongoTemplate, ApplicationProperties applicationProperties,
+            ObjectProvider<List<NotificationTransport>> transports, MetricRegistry metricRegistry) {
+        this(mongoTemplate, applicationProperties, transports.getIfAvailable(Collections::emptyList), metricRegistry);
+    }
+
+    NotificationDeliveryService(MongoTemplate mongoTemplate, ApplicationProperties applicationProperties,
+            List<NotificationTransport> transports, MetricRegistry metricRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = applicationProperties.getDelivery();
+        Map<NotificationType, NotificationTransport> transportsByType = transports.stream()
+            .collect(Collectors.toMap(NotificationTransport::getType, transport -> transport));
+        for (NotificationType type : NotificationType.values()) {
+            NotificationTransport transport = transportsByType.get(type);
+            if (transport == null && properties.isStubTransports()) {
+                transport = new LoggingNotificationTransport(type);
+            }
+            if (transport == null) {
+                log.info("No transport for the {} notifications, they are not delivered", type);
+            } else {
+                channels.put(type, new DeliveryChannel(type, transport, properties.getChannel(type), metricRegistry));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void destroy() throws InterruptedException {
+        for (DeliveryChannel channel : channels.values()) {
+            channel.executor.shutdown();
+        }
+        for (DeliveryChannel channel : channels.values()) {
+            channel.executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.delivery.poll-interval-millis:1000}")
+    public void scheduledPoll() {
+        if (properties.isEnabled()) {
+            poll();
+        }
+    }
+
+    /**
+     * Claim the pending notifications which can be sent now, and dispatch them to the worker pools of their channels.
+     *
+     * @return the number of claimed notifications
+     */
+    public int poll() {
+        int claimed = 0;
+        for (DeliveryChannel channel : channels.values()) {
+            try {
+                claimed += poll(channel);
+            } catch (RuntimeException e) {
+                log.error("Could not claim the pending {} notifications: {}", channel.type, e.getMessage());
+            }
+        }
+        return claimed;
+    }
+
+    private int poll(DeliveryChannel channel) {
+        int claimed = 0;
+        int batches = channel.executor.getQueue().remainingCapacity();
+        for (int i = 0; i < batches; i++) {
+            String leaseId = UUID.randomUUID().toString();
+            List<Notification> batch = claim(channel.type, leaseId, channel.batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            claimed += batch.size();
+            try {
+                channel.executor.execute(() -> deliver(channel, leaseId, batch));
+            } catch (RejectedExecutionException e) {
+                log.warn("Could not dispatch {} {} notifications, they will be sent after their lease", batch.size(), channel.type);
+                break;
+            }
+            if (batch.size() < channel.batchSize) {
+                break;
+            }
+        }
+        return claimed;
+    }
+
+    private List<Notification> claim(NotificationType type, String leaseId, int size) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where("deliveryStatus").is(DeliveryStatus.PENDING)
+            .and("format").is(type)
+            .and("nextAttemptDate").lte(now))
+            .with(Sort.by(Sort.Direction.ASC, "nextAttemptDate"));
+        Update update = new Update()
+            .set("nextAttemptDate", now.plusSeconds(properties.getLeaseSeconds()))
+            .set("leaseId", leaseId)
+            .inc("deliveryAttempts", 1);
+        List<Notification> batch = new ArrayList<>(size);
+        while (batch.size() < size) {
+            Notification notification = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Notification.class);
+            if (notification == null) {
+                break;
+            }
+            batch.add(notification);
+        }
+        return batch;
+    }
+
+    private void deliver(DeliveryChannel channel, String leaseId, List<Notification> batch) {
+        Timer.Context context = channel.sendTimer.time();
+        try {
+            channel.transport.send(batch);
+        } catch (RuntimeException e) {
+            log.warn("Could not send {} {} notifications: {}", batch.size(), channel.type, e.getMessage());
+            batch.forEach(notification -> retry(channel, leaseId, notification));
+            return;
+        } finally {
+            context.stop();
+        }
+        List<String> ids = batch.stream().map(Notification::getId).collect(Collectors.toList());
+        mongoTemplate.updateMulti(new Query(Criteria.where("id").in(ids).and("leaseId").is(leaseId)),
+            new Update()
+                .set("deliveryStatus", DeliveryStatus.SENT)
+                .set("sentDate", Instant.now())
+                .unset("nextAttemptDate")
+                .unset("leaseId"),
+            Notification.class);
+        channel.delivered.mark(batch.size());
+    }
+
+    private void retry(DeliveryChannel channel, String leaseId, Notification notification) {
+        int attempts = notification.getDeliveryAttempts() == null ? 1 : notification.getDeliveryAttempts();
+        Update update = new Update().unset("leaseId");
+        if (attempts >= properties.getMaxAttempts()) {
+            update.set("deliveryStatus", DeliveryStatus.FAILED).unset("nextAttemptDate");
+            channel.failed.mark();
+        } else {
+            update.set("nextAttemptDate", Instant.now().plus(backoff(attempts)));
+            channel.retried.mark();
+        }
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(notification.getId()).and("leaseId").is(leaseId)),
+            update, Notification.class);
+    }
+
+    /**
+     * Get the delay before the next attempt to send a notification.
+     *
+     * @param attempts the number of attempts already made, at least 1
+     * @return the initial backoff, doubled after each attempt, up to the maximum backoff
+     */
+    Duration backoff(int attempts) {
+        long seconds = properties.getInitialBackoffSeconds() << Math.min(attempts - 1, 30);
+        return Duration.ofSeconds(Math.min(seconds, properties.getMaxBackoffSeconds()));
+    }
+
+    /**
+     * Get the lag of a channel: how long the oldest notification which can be sent now has been waiting.
+     *
+     * @param type the channel
+     * @return the lag, zero if no notification is waiting
+     */
+    public Duration getLag(NotificationType type) {
+        Instant now = Instant.now();
+        Query query = new Query(Criteria.where("deliveryStatus").is(DeliveryStatus.PENDING)
+            .and("format").is(type)
+            .and("nextAttemptDate").lte(now))
+            .with(Sort.by(Sort.Direction.ASC, "nextAttemptDate"));
+        query.fields().include("nextAttemptDate");
+        Notification oldest = mongoTemplate.findOne(query, Notification.class);
+        return oldest == null ? Duration.ZERO : Duration.between(oldest.getNextAttemptDate(), now);
+    }
+
+    private final class DeliveryChannel {
+
+        private final NotificationType type;
+
+        private final NotificationTransport transport;
+
+        private final int batchSize;
+
+        private final ThreadPoolExecutor executor;
+
+        private final Meter delivered;
+
+        private final Meter retried;
+
+        private final Meter failed;
+
+        private final Timer sendTimer;
+
+        private DeliveryChannel(NotificationType type, NotificationTransport transport, ApplicationProperties.Channel channel,
+                MetricRegistry metricRegistry) {
+            this.type = type;
+            this.transport = transport;
+            this.batchSize = Math.max(1, Math.min(channel.getBatchSize(), transport.getMaxBatchSize()));
+            String name = type.name().toLowerCase(Locale.ROOT);
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(channel.getWorkers(), channel.getWorkers(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(channel.getQueueCapacity()),
+                runnable -> new Thread(runnable, "notification-delivery-" + name + "-" + threadNumber.incrementAndGet()));
+            String prefix = MetricRegistry.name(NotificationDeliveryService.class, name);
+            this.delivered = metricRegistry.meter(MetricRegistry.name(prefix, "delivered"));
+            this.retried = metricRegistry.meter(MetricRegistry.name(prefix, "retried"));
+            this.failed = metricRegistry.meter(MetricRegistry.name(prefix, "failed"));
+            this.sendTimer = metricRegistry.timer(MetricRegistry.name(prefix, "send"));
+            metricRegistry.register(MetricRegistry.name(prefix, "queued-batches"), (Gauge<Integer>) () -> executor.getQueue().size());
+            metricRegistry.register(MetricRegistry.name(prefix, "lag-seconds"), new CachedGauge<Long>(10, TimeUnit.SECONDS) {
+                @Override
+                protected Long loadValue() {
+                    return getLag(type).getSeconds();
+                }
+            });
+        }
+    }
+}
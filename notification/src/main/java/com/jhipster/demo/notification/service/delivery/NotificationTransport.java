@@ -0,0 +1,35 @@
+package com.jhipster.demo.notification.service.delivery;
+
+import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.domain.enumeration.NotificationType;
+
+import java.util.List;
+
+/**
+ * Transport sending the notifications of a channel to their provider.
+ * <p>
+ * Declare an implementation as a Spring bean to deliver the notifications of its type: without one, they are not
+ * delivered.
+ */
+public interface NotificationTransport {
+
+    /**
+     * @return the type of the notifications sent by this transport
+     */
+    NotificationType getType();
+
+    /**
+     * @return the maximum number of notifications sent by a single call, greater than 1 if the provider accepts bulk sends
+     */
+    default int getMaxBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Send notifications.
+     *
+     * @param notifications the notifications to send, no more than {@link #getMaxBatchSize()}
+     * @throws RuntimeException if the notifications could not be sent: they are all sent again later
+     */
+    void send(List<Notification> notifications);
+}
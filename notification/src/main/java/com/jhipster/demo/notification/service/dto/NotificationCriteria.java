@@ -0,0 +1,107 @@
+package com.jhipster.demo.notification.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import com.jhipster.demo.notification.domain.enumeration.NotificationType;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.InstantFilter;
+import io.github.jhipster.service.filter.LongFilter;
+
+/**
+ * Criteria class for the Notification entity. This class is used in NotificationResource to
+ * receive all the possible filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * <code>/notifications?userId.equals=5&amp;date.greaterOrEqualThan=2018-10-01T00:00:00Z&amp;format.in=EMAIL,SMS</code>
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class NotificationCriteria implements Serializable {
+    /**
+     * Class for filtering NotificationType
+     */
+    public static class NotificationTypeFilter extends Filter<NotificationType> {
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter userId;
+
+    private LongFilter productId;
+
+    private NotificationTypeFilter format;
+
+    private InstantFilter date;
+
+    public NotificationCriteria() {
+    }
+
+    public LongFilter getUserId() {
+        return userId;
+    }
+
+    public void setUserId(LongFilter userId) {
+        this.userId = userId;
+    }
+
+    public LongFilter getProductId() {
+        return productId;
+    }
+
+    public void setProductId(LongFilter productId) {
+        this.productId = productId;
+    }
+
+    public NotificationTypeFilter getFormat() {
+        return format;
+    }
+
+    public void setFormat(NotificationTypeFilter format) {
+        this.format = format;
+    }
+
+    public InstantFilter getDate() {
+        return date;
+    }
+
+    public void setDate(InstantFilter date) {
+        this.date = date;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final NotificationCriteria that = (NotificationCriteria) o;
+        return
+            Objects.equals(userId, that.userId) &&
+            Objects.equals(productId, that.productId) &&
+            Objects.equals(format, that.format) &&
+            Objects.equals(date, that.date);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        userId,
+        productId,
+        format,
+        date
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationCriteria{" +
+                (userId != null ? "userId=" + userId + ", " : "") +
+                (productId != null ? "productId=" + productId + ", " : "") +
+                (format != null ? "format=" + format + ", " : "") +
+                (date != null ? "date=" + date + ", " : "") +
+            "}";
+    }
+
+}
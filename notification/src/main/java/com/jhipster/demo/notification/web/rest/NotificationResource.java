@@ -2,21 +2,44 @@ package com.jhipster.demo.notification.web.rest;
 
 import com.codahale.metrics.annotation.Timed;
 import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.domain.enumeration.DeliveryStatus;
 import com.jhipster.demo.notification.repository.NotificationRepository;
+import com.jhipster.demo.notification.service.NotificationIngestService;
+import com.jhipster.demo.notification.service.NotificationQueryService;
+import com.jhipster.demo.notification.service.dto.NotificationCriteria;
 import com.jhipster.demo.notification.web.rest.errors.BadRequestAlertException;
 import com.jhipster.demo.notification.web.rest.util.HeaderUtil;
+import com.jhipster.demo.notification.web.rest.util.PaginationUtil;
+import com.jhipster.demo.notification.web.rest.util.StreamingExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.jhipster.web.util.ResponseUtil;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.ConstraintViolation;
 import javax.validation.Valid;
+import javax.validation.Validator;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Instant;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * REST controller for managing Notification.
@@ -29,10 +52,37 @@ public class NotificationResource {
 
     private static final String ENTITY_NAME = "notificationNotification";
 
+    /**
+     * The notifications read by a user may be cached by its client, and by the gateway for this user only.
+     */
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate();
+
+    private static final StreamingExport<Notification> EXPORT = new StreamingExport<Notification>("notifications")
+        .column("id", Notification::getId)
+        .column("date", Notification::getDate)
+        .column("details", Notification::getDetails)
+        .column("sentDate", Notification::getSentDate)
+        .column("format", Notification::getFormat)
+        .column("userId", Notification::getUserId)
+        .column("productId", Notification::getProductId);
+
     private final NotificationRepository notificationRepository;
 
-    public NotificationResource(NotificationRepository notificationRepository) {
+    private final NotificationQueryService notificationQueryService;
+
+    private final NotificationIngestService notificationIngestService;
+
+    private final Validator validator;
+
+    private final ObjectMapper objectMapper;
+
+    public NotificationResource(NotificationRepository notificationRepository, NotificationQueryService notificationQueryService,
+            NotificationIngestService notificationIngestService, Validator validator, ObjectMapper objectMapper) {
         this.notificationRepository = notificationRepository;
+        this.notificationQueryService = notificationQueryService;
+        this.notificationIngestService = notificationIngestService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -49,18 +99,72 @@ public class NotificationResource {
         if (notification.getId() != null) {
             throw new BadRequestAlertException("A new notification cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Notification result = notificationRepository.save(notification);
+        Notification result = notificationRepository.save(toDeliver(notification));
         return ResponseEntity.created(new URI("/api/notifications/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, result.getId().toString()))
             .body(result);
     }
 
+    /**
+     * POST  /notifications/bulk : Create new notifications, inserted by batches.
+     * <p>
+     * The notifications are queued, and inserted together with the notifications of the other requests. With the
+     * "accepted" acknowledgement, the response is sent once they are queued; with the "durable" acknowledgement, it is
+     * sent once they have been written to the database.
+     *
+     * @param notifications the notifications to create
+     * @param ack the acknowledgement mode: "accepted" or "durable"
+     * @return the ResponseEntity with status 202 (Accepted) once the notifications are queued,
+     * or with status 201 (Created) and with body the new notifications once they are written,
+     * or with status 400 (Bad Request) if a notification is not valid or has already an ID,
+     * or with status 429 (Too Many Requests) if the notifications cannot be queued now
+     */
+    @PostMapping("/notifications/bulk")
+    @Timed
+    public CompletableFuture<ResponseEntity<List<Notification>>> createNotifications(@RequestBody List<Notification> notifications,
+            @RequestParam(value = "ack", defaultValue = "accepted") String ack) {
+        log.debug("REST request to save {} Notifications with {} acknowledgement", notifications.size(), ack);
+        boolean durable = "durable".equals(ack);
+        if (!durable && !"accepted".equals(ack)) {
+            throw new BadRequestAlertException("Unsupported acknowledgement mode: " + ack, ENTITY_NAME, "ackmode");
+        }
+        if (notifications.isEmpty() || notifications.size() > notificationIngestService.getQueueCapacity()) {
+            throw new BadRequestAlertException("A bulk request must contain between 1 and " +
+                notificationIngestService.getQueueCapacity() + " notifications", ENTITY_NAME, "bulksize");
+        }
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            if (notification == null || notification.getId() != null) {
+                throw new BadRequestAlertException("A new notification cannot already have an ID", ENTITY_NAME, "idexists");
+            }
+            Set<ConstraintViolation<Notification>> violations = validator.validate(notification);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<Notification> violation = violations.iterator().next();
+                throw new BadRequestAlertException("Invalid notification at index " + i + ": " +
+                    violation.getPropertyPath() + " " + violation.getMessage(), ENTITY_NAME, "invalidnotification");
+            }
+        }
+        notifications.forEach(NotificationResource::toDeliver);
+        CompletableFuture<List<Notification>> result = notificationIngestService.ingest(notifications);
+        if (!durable) {
+            return CompletableFuture.completedFuture(ResponseEntity.accepted()
+                .headers(HeaderUtil.createAlert("notificationApp." + ENTITY_NAME + ".queued", String.valueOf(notifications.size())))
+                .build());
+        }
+        return result.thenApply(created -> ResponseEntity.status(HttpStatus.CREATED)
+            .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, String.valueOf(created.size())))
+            .body(created));
+    }
+
     /**
      * PUT  /notifications : Updates an existing notification.
+     * <p>
+     * The delivery state of the notification is kept: it is owned by the delivery, and is not sent back by clients.
      *
      * @param notification the notification to update
      * @return the ResponseEntity with status 200 (OK) and with body the updated notification,
      * or with status 400 (Bad Request) if the notification is not valid,
+     * or with status 404 (Not Found) if the notification does not exist,
      * or with status 500 (Internal Server Error) if the notification couldn't be updated
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
@@ -71,22 +175,74 @@ public class NotificationResource {
         if (notification.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
-        Notification result = notificationRepository.save(notification);
-        return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, notification.getId().toString()))
-            .body(result);
+        Optional<Notification> result = notificationRepository.updateContent(notification);
+        return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, notification.getId()));
     }
 
     /**
      * GET  /notifications : get all the notifications.
      *
+     * @param criteria the criteria which the requested entities should match
+     * @param pageable the pagination information
      * @return the ResponseEntity with status 200 (OK) and the list of notifications in body
      */
     @GetMapping("/notifications")
     @Timed
-    public List<Notification> getAllNotifications() {
-        log.debug("REST request to get all Notifications");
-        return notificationRepository.findAll();
+    public ResponseEntity<List<Notification>> getAllNotifications(NotificationCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Notifications by criteria: {}", criteria);
+        Page<Notification> page = notificationQueryService.findByCriteria(criteria, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/notifications");
+        headers.setCacheControl(CACHE_CONTROL.getHeaderValue());
+        return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * GET  /notifications?after=:cursor : get a slice of the notifications, most recent first, using keyset pagination.
+     * <p>
+     * The slice is read from the id of the cursor, so its cost does not depend on how far the client has paginated,
+     * and the notifications are not counted.
+     *
+     * @param after the cursor of the "next" link of the previous slice, or empty for the first slice
+     * @param criteria the criteria which the requested entities should match
+     * @param pageable the pagination information, only the page size is used
+     * @param request the request, whose filters are kept in the pagination links
+     * @return the ResponseEntity with status 200 (OK) and the list of notifications in body,
+     * or with status 400 (Bad Request) if the cursor is not valid
+     */
+    @GetMapping(value = "/notifications", params = "after")
+    @Timed
+    public ResponseEntity<List<Notification>> getAllNotificationsAfter(@RequestParam("after") String after,
+            NotificationCriteria criteria, Pageable pageable, HttpServletRequest request) {
+        log.debug("REST request to get a slice of Notifications by criteria: {}, after : {}", criteria, after);
+        if (!after.isEmpty() && !ObjectId.isValid(after)) {
+            throw new BadRequestAlertException("Invalid pagination cursor", ENTITY_NAME, "invalidcursor");
+        }
+        Slice<Notification> slice = notificationQueryService.findByCriteriaBefore(criteria,
+            after.isEmpty() ? null : new ObjectId(after), pageable.getPageSize());
+        String nextCursor = slice.hasContent() ? slice.getContent().get(slice.getNumberOfElements() - 1).getId() : null;
+        String baseUrl = UriComponentsBuilder.fromPath("/api/notifications").query(request.getQueryString()).toUriString();
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, nextCursor, baseUrl);
+        headers.setCacheControl(CACHE_CONTROL.getHeaderValue());
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * GET  /notifications/export : export all the notifications matching the criteria, ordered by id.
+     * <p>
+     * The notifications are streamed as they are read from a MongoDB cursor, so that any number of notifications can
+     * be exported with a single request.
+     *
+     * @param format the export format: "ndjson" (one notification per line) or "csv"
+     * @param criteria the criteria which the exported entities should match
+     * @return the ResponseEntity with status 200 (OK) and the notifications in body,
+     * or with status 400 (Bad Request) if the format is not supported
+     */
+    @GetMapping("/notifications/export")
+    @Timed
+    public ResponseEntity<StreamingResponseBody> exportNotifications(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+            NotificationCriteria criteria) {
+        log.debug("REST request to export Notifications by criteria: {} as {}", criteria, format);
+        return EXPORT.toResponse(format, objectMapper, consumer -> notificationQueryService.streamByCriteria(criteria, consumer));
     }
 
     /**
@@ -100,7 +256,9 @@ public class NotificationResource {
     public ResponseEntity<Notification> getNotification(@PathVariable String id) {
         log.debug("REST request to get Notification : {}", id);
         Optional<Notification> notification = notificationRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(notification);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(CACHE_CONTROL.getHeaderValue());
+        return ResponseUtil.wrapOrNotFound(notification, headers);
     }
 
     /**
@@ -117,4 +275,15 @@ public class NotificationResource {
         notificationRepository.deleteById(id);
         return ResponseEntity.ok().headers(HeaderUtil.createEntityDeletionAlert(ENTITY_NAME, id)).build();
     }
+
+    /**
+     * Make a new notification pending, so it is sent by the NotificationDeliveryService, unless its delivery status is
+     * already set, like for the notifications sent by another system.
+     */
+    private static Notification toDeliver(Notification notification) {
+        if (notification.getDeliveryStatus() == null) {
+            notification.deliveryStatus(DeliveryStatus.PENDING).deliveryAttempts(0).nextAttemptDate(Instant.now());
+        }
+        return notification;
+    }
 }
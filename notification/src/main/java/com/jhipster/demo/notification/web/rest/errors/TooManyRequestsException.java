@@ -0,0 +1,17 @@
+package com.jhipster.demo.notification.web.rest.errors;
+
+import org.zalando.problem.AbstractThrowableProblem;
+import org.zalando.problem.Status;
+
+/**
+ * Simple exception with a message, that returns a Too Many Requests code, when the request cannot be processed
+ * now and should be retried later.
+ */
+public class TooManyRequestsException extends AbstractThrowableProblem {
+
+    private static final long serialVersionUID = 1L;
+
+    public TooManyRequestsException(String message) {
+        super(ErrorConstants.DEFAULT_TYPE, message, Status.TOO_MANY_REQUESTS);
+    }
+}
@@ -1,6 +1,7 @@
 package com.jhipster.demo.notification.web.rest.util;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -39,7 +40,36 @@ public final class PaginationUtil {
         return headers;
     }
 
+    /**
+     * Generate the headers of a keyset ("seek") page.
+     *
+     * <p>
+     * No {@code X-Total-Count} header is sent, as counting the documents is precisely what keyset pagination avoids.
+     * The {@code next} link carries the cursor of the last document, and is omitted on the last page. The query
+     * parameters of the base URL, such as the filters, are kept in the links.
+     *
+     * @param slice the current slice of data
+     * @param nextCursor the cursor of the last document of the slice, or null
+     * @param baseUrl the base URL of the collection
+     * @return the pagination headers
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(Slice<T> slice, String nextCursor, String baseUrl) {
+
+        HttpHeaders headers = new HttpHeaders();
+        String link = "";
+        if (slice.hasNext() && nextCursor != null) {
+            link = "<" + generateKeysetUri(baseUrl, nextCursor, slice.getSize()) + ">; rel=\"next\",";
+        }
+        link += "<" + generateKeysetUri(baseUrl, "", slice.getSize()) + ">; rel=\"first\"";
+        headers.add(HttpHeaders.LINK, link);
+        return headers;
+    }
+
     private static String generateUri(String baseUrl, int page, int size) {
         return UriComponentsBuilder.fromUriString(baseUrl).queryParam("page", page).queryParam("size", size).toUriString();
     }
+
+    private static String generateKeysetUri(String baseUrl, String after, int size) {
+        return UriComponentsBuilder.fromUriString(baseUrl).replaceQueryParam("after", after).replaceQueryParam("size", size).toUriString();
+    }
 }
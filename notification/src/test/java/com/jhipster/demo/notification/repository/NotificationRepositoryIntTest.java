@@ -0,0 +1,143 @@
+package com.jhipster.demo.notification.repository;
+
+import com.jhipster.demo.notification.NotificationApp;
+import com.jhipster.demo.notification.config.dbmigrations.NotificationIndexesMigration;
+import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.domain.enumeration.NotificationType;
+
+import org.bson.Document;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the NotificationRepository, and the indexes serving its queries.
+ *
+ * @see NotificationRepository
+ * @see NotificationIndexesMigration
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = NotificationApp.class)
+public class NotificationRepositoryIntTest {
+
+    // Recent, so the notifications are not removed by the TTL index during the test
+    private static final Instant DATE = Instant.now().truncatedTo(ChronoUnit.MILLIS).minus(2, ChronoUnit.DAYS);
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Before
+    public void setup() {
+        notificationRepository.deleteAll();
+    }
+
+    private Notification createNotification(Long userId, Long productId, Instant date) {
+        return notificationRepository.save(new Notification()
+            .date(date)
+            .sentDate(date)
+            .format(NotificationType.EMAIL)
+            .userId(userId)
+            .productId(productId));
+    }
+
+    @Test
+    public void testFindAllByUserId() {
+        Notification oldest = createNotification(1L, 1L, DATE);
+        Notification recent = createNotification(1L, 2L, DATE.plus(1, ChronoUnit.DAYS));
+        createNotification(2L, 1L, DATE);
+
+        Slice<Notification> slice = notificationRepository.findAllByUserIdOrderByDateDesc(1L, PageRequest.of(0, 1));
+        assertThat(slice.getContent()).extracting(Notification::getId).containsExactly(recent.getId());
+        assertThat(slice.hasNext()).isTrue();
+
+        slice = notificationRepository.findAllByUserIdAndDateBetweenOrderByDateDesc(1L,
+            DATE.minusSeconds(1), DATE.plusSeconds(1), PageRequest.of(0, 10));
+        assertThat(slice.getContent()).extracting(Notification::getId).containsExactly(oldest.getId());
+    }
+
+    @Test
+    public void testFindAllByProductId() {
+        Notification oldest = createNotification(1L, 1L, DATE);
+        Notification recent = createNotification(2L, 1L, DATE.plus(1, ChronoUnit.DAYS));
+        createNotification(1L, 2L, DATE);
+
+        Slice<Notification> slice = notificationRepository.findAllByProductIdOrderByDateDesc(1L, PageRequest.of(0, 10));
+        assertThat(slice.getContent()).extracting(Notification::getId).containsExactly(recent.getId(), oldest.getId());
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testUserIdQueriesUseIndexScan() {
+        createNotification(1L, 1L, DATE);
+
+        assertIndexScanWithoutSort(new Document("user_id", 1L));
+        assertIndexScanWithoutSort(new Document("user_id", 1L)
+            .append("date", new Document("$gt", Date.from(DATE)).append("$lt", Date.from(DATE))));
+    }
+
+    @Test
+    public void testProductIdQueriesUseIndexScan() {
+        createNotification(1L, 1L, DATE);
+
+        assertIndexScanWithoutSort(new Document("product_id", 1L));
+        assertIndexScanWithoutSort(new Document("product_id", 1L)
+            .append("date", new Document("$gt", Date.from(DATE)).append("$lt", Date.from(DATE))));
+    }
+
+    @Test
+    public void testSentDateHasTtlIndex() {
+        Document ttlIndex = null;
+        for (Document index : mongoTemplate.getCollection("notification").listIndexes()) {
+            if ("sent_date_ttl".equals(index.getString("name"))) {
+                ttlIndex = index;
+            }
+        }
+        assertThat(ttlIndex).isNotNull();
+        assertThat(ttlIndex.get("key", Document.class).keySet()).containsExactly("sent_date");
+        assertThat(((Number) ttlIndex.get("expireAfterSeconds")).longValue())
+            .isEqualTo(TimeUnit.DAYS.toSeconds(NotificationIndexesMigration.RETENTION_DAYS));
+    }
+
+    /**
+     * Explain the query of a repository method, sorted by date like the repository methods, and check that its
+     * winning plan reads an index, instead of scanning the collection, and does not sort the notifications in memory.
+     */
+    private void assertIndexScanWithoutSort(Document filter) {
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain",
+            new Document("find", "notification").append("filter", filter).append("sort", new Document("date", -1)))
+            .append("verbosity", "queryPlanner"));
+        List<String> stages = new ArrayList<>();
+        collectStages(explain.get("queryPlanner", Document.class).get("winningPlan", Document.class), stages);
+        assertThat(stages).contains("IXSCAN").doesNotContain("COLLSCAN", "SORT");
+    }
+
+    private static void collectStages(Document plan, List<String> stages) {
+        stages.add(plan.getString("stage"));
+        Document inputStage = plan.get("inputStage", Document.class);
+        if (inputStage != null) {
+            collectStages(inputStage, stages);
+        }
+        List<?> inputStages = plan.get("inputStages", List.class);
+        if (inputStages != null) {
+            inputStages.forEach(stage -> collectStages((Document) stage, stages));
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package com.jhipster.demo.notification.service.delivery;
+
+import com.jhipster.demo.notification.NotificationApp;
+import com.jhipster.demo.notification.config.ApplicationProperties;
+import com.jhipster.demo.notification.domain.Notification;
+import com.jhipster.demo.notification.domain.enumeration.DeliveryStatus;
+import com.jhipster.demo.notification.domain.enumeration.NotificationType;
+import com.jhipster.demo.notification.repository.NotificationRepository;
+import com.jhipster.demo.notification.service.NotificationIngestService;
+import com.jhipster.demo.notification.service.NotificationQueryService;
+import com.jhipster.demo.notification.web.rest.NotificationResource;
+import com.jhipster.demo.notification.web.rest.TestUtil;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import javax.validation.Validator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Test class for the NotificationDeliveryService.
+ * <p>
+ * The scheduled delivery is disabled in the tests: each test creates its own service, with stub transports, and polls
+ * it explicitly.
+ *
+ * @see NotificationDeliveryService
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = NotificationApp.class)
+public class NotificationDeliveryServiceIntTest {
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private NotificationQueryService notificationQueryService;
+
+    @Autowired
+    private NotificationIngestService notificationIngestService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    private final List<Notification> sent = new CopyOnWriteArrayList<>();
+
+    private NotificationDeliveryService deliveryService;
+
+    @Before
+    public void setup() {
+        notificationRepository.deleteAll();
+        NotificationTransport recordingTransport = new NotificationTransport() {
+            @Override
+            public NotificationType getType() {
+                return NotificationType.EMAIL;
+            }
+
+            @Override
+            public void send(List<Notification> notifications) {
+                sent.addAll(notifications);
+            }
+        };
+        NotificationTransport failingTransport = new NotificationTransport() {
+            @Override
+            public NotificationType getType() {
+                return NotificationType.SMS;
+            }
+
+            @Override
+            public void send(List<Notification> notifications) {
+                throw new IllegalStateException("SMS provider unavailable");
+            }
+        };
+        deliveryService = new NotificationDeliveryService(mongoTemplate, applicationProperties,
+            Arrays.asList(recordingTransport, failingTransport), new MetricRegistry());
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        deliveryService.destroy();
+    }
+
+    private Notification createPendingNotification(NotificationType format, int attempts, Instant nextAttemptDate) {
+        return notificationRepository.save(new Notification()
+            .date(Instant.now())
+            .format(format)
+            .userId(1L)
+            .productId(1L)
+            .deliveryStatus(DeliveryStatus.PENDING)
+            .deliveryAttempts(attempts)
+            .nextAttemptDate(nextAttemptDate));
+    }
+
+    @Test
+    public void testPendingNotificationIsSent() throws InterruptedException {
+        Notification notification = createPendingNotification(NotificationType.EMAIL, 0, Instant.now());
+
+        assertThat(deliveryService.poll()).isEqualTo(1);
+
+        Notification delivered = awaitNotification(notification.getId(), n -> n.getDeliveryStatus() == DeliveryStatus.SENT);
+        assertThat(delivered.getDeliveryAttempts()).isEqualTo(1);
+        assertThat(delivered.getNextAttemptDate()).isNull();
+        assertThat(delivered.getSentDate()).isNotNull();
+        assertThat(sent).extracting(Notification::getId).containsExactly(notification.getId());
+    }
+
+    @Test
+    public void testNotificationIsNotSentBeforeNextAttemptDate() {
+        createPendingNotification(NotificationType.EMAIL, 1, Instant.now().plusSeconds(60));
+
+        assertThat(deliveryService.poll()).isEqualTo(0);
+        assertThat(deliveryService.getLag(NotificationType.EMAIL)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void testClaimedNotificationIsNotClaimedAgain() {
+        createPendingNotification(NotificationType.SMS, 0, Instant.now());
+
+        assertThat(deliveryService.poll()).isEqualTo(1);
+        assertThat(deliveryService.poll()).isEqualTo(0);
+    }
+
+    @Test
+    public void testFailedSendIsRetriedWithBackoff() throws InterruptedException {
+        Notification notification = createPendingNotification(NotificationType.SMS, 0, Instant.now());
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        deliveryService.poll();
+
+        Notification retried = awaitNotification(notification.getId(),
+            n -> n.getNextAttemptDate().isBefore(before.plusSeconds(applicationProperties.getDelivery().getLeaseSeconds())));
+        assertThat(retried.getDeliveryStatus()).isEqualTo(DeliveryStatus.PENDING);
+        assertThat(retried.getDeliveryAttempts()).isEqualTo(1);
+        assertThat(retried.getNextAttemptDate()).isAfterOrEqualTo(before.plus(deliveryService.backoff(1)));
+    }
+
+    @Test
+    public void testFailedSendFailsAfterMaxAttempts() throws InterruptedException {
+        int maxAttempts = applicationProperties.getDelivery().getMaxAttempts();
+        Notification notification = createPendingNotification(NotificationType.SMS, maxAttempts - 1, Instant.now());
+
+        deliveryService.poll();
+
+        Notification failed = awaitNotification(notification.getId(), n -> n.getDeliveryStatus() == DeliveryStatus.FAILED);
+        assertThat(failed.getDeliveryAttempts()).isEqualTo(maxAttempts);
+        assertThat(failed.getNextAttemptDate()).isNull();
+    }
+
+    @Test
+    public void testNotificationWithoutTransportIsNotClaimed() {
+        Notification notification = createPendingNotification(NotificationType.PARCEL, 0, Instant.now());
+
+        assertThat(deliveryService.poll()).isEqualTo(0);
+
+        Notification pending = notificationRepository.findById(notification.getId()).get();
+        assertThat(pending.getDeliveryStatus()).isEqualTo(DeliveryStatus.PENDING);
+        assertThat(pending.getDeliveryAttempts()).isEqualTo(0);
+        assertThat(pending.getSentDate()).isNull();
+    }
+
+    @Test
+    public void testNotificationWithoutTransportIsSentByStubTransport() throws InterruptedException {
+        Notification notification = createPendingNotification(NotificationType.PARCEL, 0, Instant.now());
+        ApplicationProperties stubProperties = new ApplicationProperties();
+        stubProperties.getDelivery().setStubTransports(true);
+        NotificationDeliveryService stubDeliveryService = new NotificationDeliveryService(mongoTemplate, stubProperties,
+            Collections.emptyList(), new MetricRegistry());
+        try {
+            assertThat(stubDeliveryService.poll()).isEqualTo(1);
+
+            awaitNotification(notification.getId(), n -> n.getDeliveryStatus() == DeliveryStatus.SENT);
+        } finally {
+            stubDeliveryService.destroy();
+        }
+    }
+
+    @Test
+    public void testNotificationUpdatedDuringDeliveryIsSentOnce() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+        List<Notification> sentOnce = new CopyOnWriteArrayList<>();
+        NotificationTransport blockingTransport = new NotificationTransport() {
+            @Override
+            public NotificationType getType() {
+                return NotificationType.EMAIL;
+            }
+
+            @Override
+            public void send(List<Notification> notifications) {
+                sentOnce.addAll(notifications);
+                sending.countDown();
+                try {
+                    updated.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        NotificationDeliveryService blockingDeliveryService = new NotificationDeliveryService(mongoTemplate,
+            applicationProperties, Collections.singletonList(blockingTransport), new MetricRegistry());
+        NotificationResource notificationResource = new NotificationResource(notificationRepository,
+            notificationQueryService, notificationIngestService, validator, objectMapper);
+        MockMvc restNotificationMockMvc = MockMvcBuilders.standaloneSetup(notificationResource)
+            .setMessageConverters(jacksonMessageConverter).build();
+        Notification notification = createPendingNotification(NotificationType.EMAIL, 0, Instant.now());
+        try {
+            assertThat(blockingDeliveryService.poll()).isEqualTo(1);
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // Update the leased notification, as the clients do: without its delivery state
+            notification.setDetails("Updated details");
+            notification.setDeliveryStatus(null);
+            notification.setDeliveryAttempts(null);
+            notification.setNextAttemptDate(null);
+            restNotificationMockMvc.perform(put("/api/notifications")
+                .contentType(TestUtil.APPLICATION_JSON_UTF8)
+                .content(TestUtil.convertObjectToJsonBytes(notification)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deliveryStatus").value(DeliveryStatus.PENDING.toString()));
+            updated.countDown();
+
+            Notification delivered = awaitNotification(notification.getId(), n -> n.getDeliveryStatus() == DeliveryStatus.SENT);
+            assertThat(delivered.getDetails()).isEqualTo("Updated details");
+            assertThat(delivered.getLeaseId()).isNull();
+            assertThat(blockingDeliveryService.poll()).isEqualTo(0);
+            assertThat(sentOnce).hasSize(1);
+        } finally {
+            updated.countDown();
+            blockingDeliveryService.destroy();
+        }
+    }
+
+    @Test
+    public void testBackoffIsExponentialAndBounded() {
+        ApplicationProperties.Delivery properties = applicationProperties.getDelivery();
+        assertThat(deliveryService.backoff(1)).isEqualTo(Duration.ofSeconds(properties.getInitialBackoffSeconds()));
+        assertThat(deliveryService.backoff(2)).isEqualTo(Duration.ofSeconds(properties.getInitialBackoffSeconds() * 2));
+        assertThat(deliveryService.backoff(100)).isEqualTo(Duration.ofSeconds(properties.getMaxBackoffSeconds()));
+    }
+
+    private Notification awaitNotification(String id, Predicate<Notification> condition) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Notification notification = notificationRepository.findById(id).get();
+            if (condition.test(notification)) {
+                return notification;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Notification " + id + " was not updated in time");
+    }
+}
@@ -2,31 +2,45 @@ package com.jhipster.demo.notification.web.rest;
 
 import com.jhipster.demo.notification.NotificationApp;
 
+import com.jhipster.demo.notification.config.ApplicationProperties;
+
 import com.jhipster.demo.notification.domain.Notification;
 import com.jhipster.demo.notification.repository.NotificationRepository;
+import com.jhipster.demo.notification.service.NotificationIngestService;
+import com.jhipster.demo.notification.service.NotificationQueryService;
 import com.jhipster.demo.notification.web.rest.errors.ExceptionTranslator;
 
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import javax.validation.Validator;
+
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.List;
 
 
 import static com.jhipster.demo.notification.web.rest.TestUtil.createFormattingConversionService;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -61,9 +75,24 @@ public class NotificationResourceIntTest {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private NotificationQueryService notificationQueryService;
+
+    @Autowired
+    private NotificationIngestService notificationIngestService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private Validator validator;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private PageableHandlerMethodArgumentResolver pageableArgumentResolver;
 
@@ -77,8 +106,13 @@ public class NotificationResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final NotificationResource notificationResource = new NotificationResource(notificationRepository);
-        this.restNotificationMockMvc = MockMvcBuilders.standaloneSetup(notificationResource)
+        this.restNotificationMockMvc = createMockMvc(notificationIngestService);
+    }
+
+    private MockMvc createMockMvc(NotificationIngestService notificationIngestService) {
+        final NotificationResource notificationResource = new NotificationResource(notificationRepository, notificationQueryService,
+            notificationIngestService, validator, objectMapper);
+        return MockMvcBuilders.standaloneSetup(notificationResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
@@ -148,6 +182,74 @@ public class NotificationResourceIntTest {
         assertThat(notificationList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    public void createNotificationsInBulkWithDurableAck() throws Exception {
+        int databaseSizeBeforeCreate = notificationRepository.findAll().size();
+
+        // Create the Notifications, waiting until they are written
+        MvcResult mvcResult = restNotificationMockMvc.perform(post("/api/notifications/bulk?ack=durable")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(Arrays.asList(createEntity(), createEntity().details(UPDATED_DETAILS)))))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restNotificationMockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[*].id").isNotEmpty());
+
+        // Validate the Notifications in the database
+        List<Notification> notificationList = notificationRepository.findAll();
+        assertThat(notificationList).hasSize(databaseSizeBeforeCreate + 2);
+        assertThat(notificationList).extracting(Notification::getDetails).contains(DEFAULT_DETAILS, UPDATED_DETAILS);
+    }
+
+    @Test
+    public void createNotificationsInBulk() throws Exception {
+        int databaseSizeBeforeCreate = notificationRepository.findAll().size();
+
+        // Create the Notifications, without waiting until they are written
+        MvcResult mvcResult = restNotificationMockMvc.perform(post("/api/notifications/bulk")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(Arrays.asList(createEntity(), createEntity()))))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restNotificationMockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isAccepted());
+
+        // The Notifications are written after the flush interval
+        for (int i = 0; i < 50 && notificationRepository.count() < databaseSizeBeforeCreate + 2; i++) {
+            Thread.sleep(100);
+        }
+        assertThat(notificationRepository.findAll()).hasSize(databaseSizeBeforeCreate + 2);
+    }
+
+    @Test
+    public void createNotificationsInBulkWithInvalidNotification() throws Exception {
+        int databaseSizeBeforeCreate = notificationRepository.findAll().size();
+
+        // The second Notification has no userId: none of them is created
+        restNotificationMockMvc.perform(post("/api/notifications/bulk?ack=durable")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(Arrays.asList(createEntity(), createEntity().userId(null)))))
+            .andExpect(status().isBadRequest());
+
+        assertThat(notificationRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    public void createNotificationsInBulkWhenQueueIsFull() throws Exception {
+        // An ingest service whose writer is not started, so its queue is never emptied
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getIngest().setQueueCapacity(2);
+        MockMvc restMockMvc = createMockMvc(new NotificationIngestService(mongoTemplate, applicationProperties, new MetricRegistry()));
+        byte[] notifications = TestUtil.convertObjectToJsonBytes(Arrays.asList(createEntity(), createEntity()));
+
+        restMockMvc.perform(post("/api/notifications/bulk").contentType(TestUtil.APPLICATION_JSON_UTF8).content(notifications))
+            .andExpect(request().asyncStarted());
+        restMockMvc.perform(post("/api/notifications/bulk").contentType(TestUtil.APPLICATION_JSON_UTF8).content(notifications))
+            .andExpect(status().isTooManyRequests());
+    }
+
     @Test
     public void checkDateIsRequired() throws Exception {
         int databaseSizeBeforeTest = notificationRepository.findAll().size();
@@ -242,6 +344,7 @@ public class NotificationResourceIntTest {
         restNotificationMockMvc.perform(get("/api/notifications?sort=id,desc"))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, private"))
             .andExpect(jsonPath("$.[*].id").value(hasItem(notification.getId())))
             .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())))
             .andExpect(jsonPath("$.[*].details").value(hasItem(DEFAULT_DETAILS.toString())))
@@ -251,6 +354,110 @@ public class NotificationResourceIntTest {
             .andExpect(jsonPath("$.[*].productId").value(hasItem(DEFAULT_PRODUCT_ID.intValue())));
     }
     
+    @Test
+    public void getAllNotificationsByUserIdIsEqualToSomething() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+
+        // Get all the notificationList where userId equals to DEFAULT_USER_ID
+        defaultNotificationShouldBeFound("userId.equals=" + DEFAULT_USER_ID);
+
+        // Get all the notificationList where userId equals to UPDATED_USER_ID
+        defaultNotificationShouldNotBeFound("userId.equals=" + UPDATED_USER_ID);
+    }
+
+    @Test
+    public void getAllNotificationsByProductIdIsInShouldWork() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+
+        // Get all the notificationList where productId in DEFAULT_PRODUCT_ID or UPDATED_PRODUCT_ID
+        defaultNotificationShouldBeFound("productId.in=" + DEFAULT_PRODUCT_ID + "," + UPDATED_PRODUCT_ID);
+
+        // Get all the notificationList where productId equals to UPDATED_PRODUCT_ID
+        defaultNotificationShouldNotBeFound("productId.in=" + UPDATED_PRODUCT_ID);
+    }
+
+    @Test
+    public void getAllNotificationsByFormatIsEqualToSomething() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+
+        // Get all the notificationList where format equals to DEFAULT_FORMAT
+        defaultNotificationShouldBeFound("format.equals=" + DEFAULT_FORMAT);
+
+        // Get all the notificationList where format equals to UPDATED_FORMAT
+        defaultNotificationShouldNotBeFound("format.equals=" + UPDATED_FORMAT);
+    }
+
+    @Test
+    public void getAllNotificationsByDateIsInRange() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+
+        // Get all the notificationList where date is between DEFAULT_DATE and UPDATED_DATE
+        defaultNotificationShouldBeFound("date.greaterOrEqualThan=" + DEFAULT_DATE + "&date.lessThan=" + UPDATED_DATE);
+
+        // Get all the notificationList where date is after DEFAULT_DATE
+        defaultNotificationShouldNotBeFound("date.greaterThan=" + DEFAULT_DATE);
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned
+     */
+    private void defaultNotificationShouldBeFound(String filter) throws Exception {
+        restNotificationMockMvc.perform(get("/api/notifications?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(notification.getId())))
+            .andExpect(jsonPath("$.[*].userId").value(hasItem(DEFAULT_USER_ID.intValue())));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned
+     */
+    private void defaultNotificationShouldNotBeFound(String filter) throws Exception {
+        restNotificationMockMvc.perform(get("/api/notifications?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string("X-Total-Count", "0"))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    public void getAllNotificationsWithKeysetPagination() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+        Notification recentNotification = notificationRepository.save(createEntity());
+        notificationRepository.save(createEntity().userId(UPDATED_USER_ID));
+
+        // Get the first slice of the notifications of the user, which only contains the most recent one
+        MvcResult result = restNotificationMockMvc.perform(get("/api/notifications?after=&size=1&userId.equals=" + DEFAULT_USER_ID))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string("Link", containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(recentNotification.getId()))
+            .andReturn();
+
+        // Follow the "next" link, which keeps the filter, to get the oldest notification of the user
+        String nextLink = result.getResponse().getHeader("Link").split(">; rel=\"next\"")[0].substring(1);
+        assertThat(nextLink).contains("userId.equals=" + DEFAULT_USER_ID);
+        restNotificationMockMvc.perform(get(nextLink))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Link", not(containsString("rel=\"next\""))))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(notification.getId()));
+    }
+
+    @Test
+    public void getAllNotificationsWithInvalidCursor() throws Exception {
+        restNotificationMockMvc.perform(get("/api/notifications?after=invalid"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void getNotification() throws Exception {
         // Initialize the database
@@ -260,6 +467,7 @@ public class NotificationResourceIntTest {
         restNotificationMockMvc.perform(get("/api/notifications/{id}", notification.getId()))
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=10, private"))
             .andExpect(jsonPath("$.id").value(notification.getId()))
             .andExpect(jsonPath("$.date").value(DEFAULT_DATE.toString()))
             .andExpect(jsonPath("$.details").value(DEFAULT_DETAILS.toString()))
@@ -269,6 +477,62 @@ public class NotificationResourceIntTest {
             .andExpect(jsonPath("$.productId").value(DEFAULT_PRODUCT_ID.intValue()));
     }
 
+    @Test
+    public void exportNotificationsAsCsv() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+
+        MvcResult mvcResult = restNotificationMockMvc.perform(get("/api/notifications/export?format=csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restNotificationMockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"notifications.csv\""))
+            .andExpect(content().string("id,date,details,sentDate,format,userId,productId\r\n" +
+                notification.getId() + "," + DEFAULT_DATE + "," + DEFAULT_DETAILS + "," + DEFAULT_SENT_DATE + "," +
+                DEFAULT_FORMAT + "," + DEFAULT_USER_ID + "," + DEFAULT_PRODUCT_ID + "\r\n"));
+    }
+
+    @Test
+    public void exportNotificationsAsNdjson() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+        notificationRepository.save(createEntity().details(UPDATED_DETAILS));
+
+        MvcResult mvcResult = restNotificationMockMvc.perform(get("/api/notifications/export?format=ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String content = restNotificationMockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(content().string(containsString("{\"id\":\"" + notification.getId() + "\"")))
+            .andReturn().getResponse().getContentAsString();
+        assertThat(content.split("\n")).hasSize(2);
+    }
+
+    @Test
+    public void exportNotificationsByUserId() throws Exception {
+        // Initialize the database
+        notificationRepository.save(notification);
+        notificationRepository.save(createEntity().userId(UPDATED_USER_ID));
+
+        MvcResult mvcResult = restNotificationMockMvc.perform(get("/api/notifications/export?format=ndjson&userId.equals=" + DEFAULT_USER_ID))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String content = restNotificationMockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("{\"id\":\"" + notification.getId() + "\"")))
+            .andReturn().getResponse().getContentAsString();
+        assertThat(content.split("\n")).hasSize(1);
+    }
+
+    @Test
+    public void exportNotificationsWithUnsupportedFormat() throws Exception {
+        restNotificationMockMvc.perform(get("/api/notifications/export?format=xml"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void getNonExistingNotification() throws Exception {
         // Get the notification
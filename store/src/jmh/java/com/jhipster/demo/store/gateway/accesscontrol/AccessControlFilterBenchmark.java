@@ -0,0 +1,81 @@
+package com.jhipster.demo.store.gateway.accesscontrol;
+
+import com.netflix.zuul.context.RequestContext;
+import io.github.jhipster.config.JHipsterProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.netflix.zuul.filters.Route;
+import org.springframework.cloud.netflix.zuul.filters.RouteLocator;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the access control done by the gateway on every request routed to a microservice.
+ *
+ * <p>
+ * The request matches the last route, which is the worst case of the linear scan over the routes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessControlFilterBenchmark {
+
+    @Param({"3", "50"})
+    private int routeCount;
+
+    @Param({"/service2/api/invoices/1", "/service2/management/health"})
+    private String requestPath;
+
+    private AccessControlFilter accessControlFilter;
+
+    @Setup
+    public void setup() {
+        List<Route> routes = new ArrayList<>(routeCount);
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        Map<String, List<String>> authorizedMicroservicesEndpoints = jHipsterProperties.getGateway().getAuthorizedMicroservicesEndpoints();
+        for (int i = 0; i < routeCount; i++) {
+            // Reverse order, so that "service2" is always the last route
+            String serviceName = "service" + (routeCount + 1 - i);
+            routes.add(new Route(serviceName, "/**", serviceName, "/" + serviceName, null, null));
+            authorizedMicroservicesEndpoints.put(serviceName, Collections.singletonList("/api"));
+        }
+        accessControlFilter = new AccessControlFilter(new RouteLocator() {
+
+            @Override
+            public Collection<String> getIgnoredPaths() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<Route> getRoutes() {
+                return routes;
+            }
+
+            @Override
+            public Route getMatchingRoute(String path) {
+                return null;
+            }
+        }, jHipsterProperties);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestPath);
+        RequestContext.getCurrentContext().setRequest(request);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContext.getCurrentContext().unset();
+    }
+
+    @Benchmark
+    public boolean shouldFilter() {
+        return accessControlFilter.shouldFilter();
+    }
+}
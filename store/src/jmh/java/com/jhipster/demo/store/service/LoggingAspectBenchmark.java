@@ -0,0 +1,56 @@
+package com.jhipster.demo.store.service;
+
+import com.jhipster.demo.store.aop.logging.LoggingAspect;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the overhead of the LoggingAspect around service calls, compared with a direct call.
+ *
+ * <p>
+ * The benchmarked service lives in the service package, so that it matches the pointcuts of the aspect.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    @Service
+    public static class EchoService {
+
+        public String echo(String value) {
+            return value;
+        }
+    }
+
+    private EchoService echoService;
+
+    private EchoService loggedEchoService;
+
+    @Setup
+    public void setup() {
+        echoService = new EchoService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new EchoService());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(new MockEnvironment()));
+        loggedEchoService = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public String direct() {
+        return echoService.echo("value");
+    }
+
+    @Benchmark
+    public String logAround() {
+        return loggedEchoService.echo("value");
+    }
+}
@@ -0,0 +1,81 @@
+package com.jhipster.demo.store.service.search;
+
+import com.jhipster.demo.store.domain.enumeration.Size;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the product search, on an index of one million generated products.
+ * <p>
+ * The generated names and descriptions use a very small vocabulary, so most words match more than 10% of the products,
+ * which is the worst case for the search: the brand words are closer to the usual, more selective, queries.
+ * Run with the sample time mode to check the latency percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class ProductSearchIndexBenchmark {
+
+    private static final String[] ADJECTIVES = { "red", "blue", "green", "black", "white", "light", "warm", "classic",
+        "vintage", "sport", "slim", "organic", "waterproof", "leather", "cotton", "wool" };
+
+    private static final String[] NOUNS = { "shoes", "coat", "shirt", "hat", "scarf", "jacket", "dress", "sneakers",
+        "boots", "socks", "gloves", "sweater", "jeans", "skirt", "belt", "bag" };
+
+    private static final String[] CATEGORIES = { "Men", "Women", "Kids", "Sport", "Outdoor", "Accessories", "Shoes",
+        "Winter", "Summer", "Sale" };
+
+    private static final String BRAND_PREFIX = "brand";
+
+    private static final int BRANDS = 5000;
+
+    @Param("1000000")
+    private int products;
+
+    private ProductSearchIndex index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        index = new ProductSearchIndex();
+        Size[] sizes = Size.values();
+        for (long id = 1; id <= products; id++) {
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)] + " " + id;
+            String description = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + ADJECTIVES[random.nextInt(ADJECTIVES.length)] +
+                " " + NOUNS[random.nextInt(NOUNS.length)] + " for everyday use, from the " + BRAND_PREFIX +
+                random.nextInt(BRANDS) + " collection";
+            long category = random.nextInt(CATEGORIES.length);
+            index.index(id, name, description, sizes[random.nextInt(sizes.length)], category, CATEGORIES[(int) category]);
+        }
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Hits searchTwoWords() {
+        return index.search("red shoes", null, null, 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Hits searchSelectiveWord() {
+        return index.search("red brand1234", null, null, 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Hits searchPrefix() {
+        return index.search("leather bo", null, null, 0, 20);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Hits searchWithFilters() {
+        return index.search("warm", Size.M, 7L, 20, 20);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.Hits browseCategory() {
+        return index.search("", null, 3L, 0, 20);
+    }
+}
@@ -0,0 +1,89 @@
+package com.jhipster.demo.store.web.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.jhipster.demo.store.domain.Customer;
+import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.ProductCategory;
+import com.jhipster.demo.store.domain.ProductOrder;
+import com.jhipster.demo.store.domain.enumeration.OrderStatus;
+import com.jhipster.demo.store.domain.enumeration.Size;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the JSON serialization of a page of products and of productOrders, as returned by their
+ * REST resources, with and without the Jackson Afterburner module.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"true", "false"})
+    private boolean afterburner;
+
+    private ObjectMapper objectMapper;
+
+    private List<Product> products;
+
+    private List<ProductOrder> productOrders;
+
+    @Setup
+    public void setup() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (afterburner) {
+            builder.modulesToInstall(new JavaTimeModule(), new Jdk8Module(), new Hibernate5Module(), new AfterburnerModule());
+        } else {
+            builder.modulesToInstall(new JavaTimeModule(), new Jdk8Module(), new Hibernate5Module());
+        }
+        objectMapper = builder.build();
+
+        ProductCategory productCategory = new ProductCategory().name("Category").description("A product category");
+        productCategory.setId(1L);
+        Customer customer = new Customer().firstName("John").lastName("Doe").email("john.doe@localhost")
+            .phone("0123456789").addressLine1("1 main street").city("Paris").country("France");
+        customer.setId(1L);
+        products = new ArrayList<>(pageSize);
+        productOrders = new ArrayList<>(pageSize);
+        for (long i = 1; i <= pageSize; i++) {
+            Product product = new Product().name("Product " + i).description("Description of product " + i)
+                .price(BigDecimal.valueOf(i * 100, 2)).size(Size.M).imageContentType("image/png").imageSha256("0123456789abcdef")
+                .productCategory(productCategory);
+            product.setId(i);
+            products.add(product);
+            ProductOrder productOrder = new ProductOrder().placedDate(Instant.now()).status(OrderStatus.PENDING)
+                .code("ORDER-" + i).invoiceId(i).customer(customer);
+            productOrder.setId(i);
+            productOrders.add(productOrder);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeProducts() throws Exception {
+        return objectMapper.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] serializeProductOrders() throws Exception {
+        return objectMapper.writeValueAsBytes(productOrders);
+    }
+}
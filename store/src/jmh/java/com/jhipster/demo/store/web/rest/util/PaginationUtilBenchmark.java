@@ -0,0 +1,46 @@
+package com.jhipster.demo.store.web.rest.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the pagination headers added to every paginated list response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationUtilBenchmark {
+
+    private Page<Long> page;
+
+    private Slice<Long> slice;
+
+    @Setup
+    public void setup() {
+        List<Long> content = Collections.nCopies(20, 1L);
+        page = new PageImpl<>(content, PageRequest.of(5, 20), 10_000);
+        slice = new SliceImpl<>(content, PageRequest.of(0, 20), true);
+    }
+
+    @Benchmark
+    public HttpHeaders generatePaginationHttpHeaders() {
+        return PaginationUtil.generatePaginationHttpHeaders(page, "/api/products");
+    }
+
+    @Benchmark
+    public HttpHeaders generateKeysetPaginationHttpHeaders() {
+        return PaginationUtil.generateKeysetPaginationHttpHeaders(slice, KeysetCursor.of(100L), "/api/products");
+    }
+}
@@ -1,7 +1,14 @@
 package com.jhipster.demo.store.config;
 
+import com.jhipster.demo.store.service.count.CountStrategy;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Properties specific to Store.
  * <p>
@@ -11,4 +18,430 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
 
+    private final Pagination pagination = new Pagination();
+
+    private final Images images = new Images();
+
+    private final RateLimiting rateLimiting = new RateLimiting();
+
+    private final ResponseCaching responseCaching = new ResponseCaching();
+
+    private final Analytics analytics = new Analytics();
+
+    private final Mail mail = new Mail();
+
+    private final Audit audit = new Audit();
+
+    public Pagination getPagination() {
+        return pagination;
+    }
+
+    public Images getImages() {
+        return images;
+    }
+
+    public RateLimiting getRateLimiting() {
+        return rateLimiting;
+    }
+
+    public ResponseCaching getResponseCaching() {
+        return responseCaching;
+    }
+
+    public Analytics getAnalytics() {
+        return analytics;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public Audit getAudit() {
+        return audit;
+    }
+
+    public static class Pagination {
+
+        private CountStrategy.Type countStrategy = CountStrategy.Type.EXACT;
+
+        private int countCacheTimeToLiveSeconds = 60;
+
+        public CountStrategy.Type getCountStrategy() {
+            return countStrategy;
+        }
+
+        public void setCountStrategy(CountStrategy.Type countStrategy) {
+            this.countStrategy = countStrategy;
+        }
+
+        public int getCountCacheTimeToLiveSeconds() {
+            return countCacheTimeToLiveSeconds;
+        }
+
+        public void setCountCacheTimeToLiveSeconds(int countCacheTimeToLiveSeconds) {
+            this.countCacheTimeToLiveSeconds = countCacheTimeToLiveSeconds;
+        }
+    }
+
+    public static class Images {
+
+        private String storageDirectory = "build/images";
+
+        private boolean clearLegacyImages = false;
+
+        private long migrationRetryMillis = 600000;
+
+        public String getStorageDirectory() {
+            return storageDirectory;
+        }
+
+        public void setStorageDirectory(String storageDirectory) {
+            this.storageDirectory = storageDirectory;
+        }
+
+        public boolean isClearLegacyImages() {
+            return clearLegacyImages;
+        }
+
+        public void setClearLegacyImages(boolean clearLegacyImages) {
+            this.clearLegacyImages = clearLegacyImages;
+        }
+
+        public long getMigrationRetryMillis() {
+            return migrationRetryMillis;
+        }
+
+        public void setMigrationRetryMillis(long migrationRetryMillis) {
+            this.migrationRetryMillis = migrationRetryMillis;
+        }
+    }
+
+    public static class RateLimiting {
+
+        private int nearCacheBatchSize = 0;
+
+        private int nearCacheIdleSeconds = 10;
+
+        private List<Policy> policies = new ArrayList<>();
+
+        public int getNearCacheBatchSize() {
+            return nearCacheBatchSize;
+        }
+
+        public void setNearCacheBatchSize(int nearCacheBatchSize) {
+            this.nearCacheBatchSize = nearCacheBatchSize;
+        }
+
+        public int getNearCacheIdleSeconds() {
+            return nearCacheIdleSeconds;
+        }
+
+        public void setNearCacheIdleSeconds(int nearCacheIdleSeconds) {
+            this.nearCacheIdleSeconds = nearCacheIdleSeconds;
+        }
+
+        public List<Policy> getPolicies() {
+            return policies;
+        }
+
+        public void setPolicies(List<Policy> policies) {
+            this.policies = policies;
+        }
+
+        /**
+         * A rate limiting policy, applied to the requests matching all its criteria. Empty criteria match all requests.
+         * <p>
+         * Each policy has its own buckets, with all its limits: for example a burst limit and a sustained limit.
+         */
+        public static class Policy {
+
+            private String name;
+
+            private String route;
+
+            private String path;
+
+            private List<String> methods = new ArrayList<>();
+
+            private List<String> authorities = new ArrayList<>();
+
+            private List<Limit> limits = new ArrayList<>();
+
+            public String getName() {
+                return name;
+            }
+
+            public void setName(String name) {
+                this.name = name;
+            }
+
+            public String getRoute() {
+                return route;
+            }
+
+            public void setRoute(String route) {
+                this.route = route;
+            }
+
+            public String getPath() {
+                return path;
+            }
+
+            public void setPath(String path) {
+                this.path = path;
+            }
+
+            public List<String> getMethods() {
+                return methods;
+            }
+
+            public void setMethods(List<String> methods) {
+                this.methods = methods;
+            }
+
+            public List<String> getAuthorities() {
+                return authorities;
+            }
+
+            public void setAuthorities(List<String> authorities) {
+                this.authorities = authorities;
+            }
+
+            public List<Limit> getLimits() {
+                return limits;
+            }
+
+            public void setLimits(List<Limit> limits) {
+                this.limits = limits;
+            }
+        }
+
+        public static class Limit {
+
+            private long capacity;
+
+            private long durationInSeconds;
+
+            public long getCapacity() {
+                return capacity;
+            }
+
+            public void setCapacity(long capacity) {
+                this.capacity = capacity;
+            }
+
+            public long getDurationInSeconds() {
+                return durationInSeconds;
+            }
+
+            public void setDurationInSeconds(long durationInSeconds) {
+                this.durationInSeconds = durationInSeconds;
+            }
+        }
+    }
+
+    public static class ResponseCaching {
+
+        private boolean enabled = false;
+
+        private int maxBodySize = 1024 * 1024;
+
+        private long coalescingTimeoutMillis = 5000;
+
+        private int revalidationSeconds = 300;
+
+        private Map<String, Route> routes = new LinkedHashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(int maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        public long getCoalescingTimeoutMillis() {
+            return coalescingTimeoutMillis;
+        }
+
+        public void setCoalescingTimeoutMillis(long coalescingTimeoutMillis) {
+            this.coalescingTimeoutMillis = coalescingTimeoutMillis;
+        }
+
+        public int getRevalidationSeconds() {
+            return revalidationSeconds;
+        }
+
+        public void setRevalidationSeconds(int revalidationSeconds) {
+            this.revalidationSeconds = revalidationSeconds;
+        }
+
+        public Map<String, Route> getRoutes() {
+            return routes;
+        }
+
+        public void setRoutes(Map<String, Route> routes) {
+            this.routes = routes;
+        }
+
+        public static class Route {
+
+            private int timeToLiveSeconds = 0;
+
+            private boolean shared = false;
+
+            public int getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(int timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public boolean isShared() {
+                return shared;
+            }
+
+            public void setShared(boolean shared) {
+                this.shared = shared;
+            }
+        }
+    }
+
+    public static class Analytics {
+
+        private String rebuildCron = "0 30 2 * * ?";
+
+        public String getRebuildCron() {
+            return rebuildCron;
+        }
+
+        public void setRebuildCron(String rebuildCron) {
+            this.rebuildCron = rebuildCron;
+        }
+    }
+
+    public static class Mail {
+
+        private int batchSize = 50;
+
+        private int corePoolSize = 2;
+
+        private int maxPoolSize = 2;
+
+        private int queueCapacity = 100;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getCorePoolSize() {
+            return corePoolSize;
+        }
+
+        public void setCorePoolSize(int corePoolSize) {
+            this.corePoolSize = corePoolSize;
+        }
+
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        public void setMaxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    public static class Audit {
+
+        private boolean writeBehind = false;
+
+        private int bufferSize = 10000;
+
+        private int batchSize = 100;
+
+        private long flushIntervalMillis = 1000;
+
+        private int retentionMonths = 12;
+
+        private int partitionsAhead = 3;
+
+        private String retentionCron = "0 0 3 * * ?";
+
+        public boolean isWriteBehind() {
+            return writeBehind;
+        }
+
+        public void setWriteBehind(boolean writeBehind) {
+            this.writeBehind = writeBehind;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getFlushIntervalMillis() {
+            return flushIntervalMillis;
+        }
+
+        public void setFlushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+        }
+
+        public int getRetentionMonths() {
+            return retentionMonths;
+        }
+
+        public void setRetentionMonths(int retentionMonths) {
+            this.retentionMonths = retentionMonths;
+        }
+
+        public int getPartitionsAhead() {
+            return partitionsAhead;
+        }
+
+        public void setPartitionsAhead(int partitionsAhead) {
+            this.partitionsAhead = partitionsAhead;
+        }
+
+        public String getRetentionCron() {
+            return retentionCron;
+        }
+
+        public void setRetentionCron(String retentionCron) {
+            this.retentionCron = retentionCron;
+        }
+    }
 }
@@ -3,6 +3,11 @@ package com.jhipster.demo.store.config;
 import io.github.jhipster.config.JHipsterConstants;
 import io.github.jhipster.config.JHipsterProperties;
 
+import com.jhipster.demo.store.gateway.responsecaching.GatewayResponseCache;
+import com.jhipster.demo.store.service.util.SingleFlight;
+
+import com.codahale.metrics.MetricRegistry;
+
 import com.hazelcast.config.*;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.Hazelcast;
@@ -60,6 +65,11 @@ public class CacheConfiguration {
         return cacheManager;
     }
 
+    @Bean
+    public SingleFlight singleFlight(HazelcastInstance hazelcastInstance, MetricRegistry metricRegistry) {
+        return new SingleFlight(hazelcastInstance.getMap(SingleFlight.LOCKS_MAP_NAME), metricRegistry);
+    }
+
     @Bean
     public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties) {
         log.debug("Configuring Hazelcast");
@@ -106,6 +116,7 @@ public class CacheConfiguration {
         // Full reference is available at: http://docs.hazelcast.org/docs/management-center/3.9/manual/html/Deploying_and_Starting.html
         config.setManagementCenterConfig(initializeDefaultManagementCenterConfig(jHipsterProperties));
         config.getMapConfigs().put("com.jhipster.demo.store.domain.*", initializeDomainMapConfig(jHipsterProperties));
+        config.getMapConfigs().put(GatewayResponseCache.CACHE_NAME, initializeGatewayResponseCacheMapConfig());
         return Hazelcast.newHazelcastInstance(config);
     }
 
@@ -147,6 +158,15 @@ public class CacheConfiguration {
         return mapConfig;
     }
 
+    private MapConfig initializeGatewayResponseCacheMapConfig() {
+        MapConfig mapConfig = new MapConfig();
+        // Cached responses can be fetched again from the microservices, so they are not backed up
+        mapConfig.setBackupCount(0);
+        mapConfig.setEvictionPolicy(EvictionPolicy.LRU);
+        mapConfig.setMaxSizeConfig(new MaxSizeConfig(10000, MaxSizeConfig.MaxSizePolicy.PER_NODE));
+        return mapConfig;
+    }
+
     private MapConfig initializeDomainMapConfig(JHipsterProperties jHipsterProperties) {
         MapConfig mapConfig = new MapConfig();
         mapConfig.setTimeToLiveSeconds(jHipsterProperties.getCache().getHazelcast().getTimeToLiveSeconds());
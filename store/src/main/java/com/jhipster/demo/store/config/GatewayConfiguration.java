@@ -4,13 +4,21 @@ import io.github.jhipster.config.JHipsterProperties;
 
 import com.jhipster.demo.store.gateway.ratelimiting.RateLimitingFilter;
 import com.jhipster.demo.store.gateway.accesscontrol.AccessControlFilter;
+import com.jhipster.demo.store.gateway.responsecaching.CachedResponseFilter;
+import com.jhipster.demo.store.gateway.responsecaching.GatewayResponseCache;
+import com.jhipster.demo.store.gateway.responsecaching.ResponseCachingFilter;
 import com.jhipster.demo.store.gateway.responserewriting.SwaggerBasePathRewritingFilter;
 
+import com.hazelcast.core.HazelcastInstance;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.netflix.zuul.filters.RouteLocator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executor;
+
 @Configuration
 public class GatewayConfiguration {
 
@@ -43,13 +51,42 @@ public class GatewayConfiguration {
 
         private final JHipsterProperties jHipsterProperties;
 
-        public RateLimitingConfiguration(JHipsterProperties jHipsterProperties) {
+        private final ApplicationProperties applicationProperties;
+
+        public RateLimitingConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
             this.jHipsterProperties = jHipsterProperties;
+            this.applicationProperties = applicationProperties;
+        }
+
+        @Bean
+        public RateLimitingFilter rateLimitingFilter(@Qualifier("taskExecutor") Executor taskExecutor) {
+            return new RateLimitingFilter(jHipsterProperties, applicationProperties, taskExecutor);
+        }
+    }
+
+    /**
+     * Configures the Zuul filters that cache the GET responses of the microservices in Hazelcast.
+     * <p>
+     * See {@link com.jhipster.demo.store.gateway.responsecaching.GatewayResponseCache}.
+     */
+    @Configuration
+    @ConditionalOnProperty("application.response-caching.enabled")
+    public static class ResponseCachingConfiguration {
+
+        @Bean
+        public GatewayResponseCache gatewayResponseCache(HazelcastInstance hazelcastInstance, ApplicationProperties applicationProperties) {
+            return new GatewayResponseCache(hazelcastInstance.getMap(GatewayResponseCache.CACHE_NAME),
+                applicationProperties.getResponseCaching());
+        }
+
+        @Bean
+        public CachedResponseFilter cachedResponseFilter(GatewayResponseCache gatewayResponseCache) {
+            return new CachedResponseFilter(gatewayResponseCache);
         }
 
         @Bean
-        public RateLimitingFilter rateLimitingFilter() {
-            return new RateLimitingFilter(jHipsterProperties);
+        public ResponseCachingFilter responseCachingFilter(GatewayResponseCache gatewayResponseCache) {
+            return new ResponseCachingFilter(gatewayResponseCache);
         }
     }
 }
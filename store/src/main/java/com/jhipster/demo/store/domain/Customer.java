@@ -25,7 +25,8 @@ public class Customer implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customerSequenceGenerator")
+    @SequenceGenerator(name = "customerSequenceGenerator", sequenceName = "customer_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
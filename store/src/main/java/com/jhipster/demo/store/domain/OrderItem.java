@@ -24,7 +24,8 @@ public class OrderItem implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orderItemSequenceGenerator")
+    @SequenceGenerator(name = "orderItemSequenceGenerator", sequenceName = "order_item_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
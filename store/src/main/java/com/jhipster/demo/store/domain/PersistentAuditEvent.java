@@ -27,7 +27,7 @@ public class PersistentAuditEvent implements Serializable {
     @Column(nullable = false)
     private String principal;
 
-    @Column(name = "event_date")
+    @Column(name = "event_date", nullable = false)
     private Instant auditEventDate;
 
     @Column(name = "event_type")
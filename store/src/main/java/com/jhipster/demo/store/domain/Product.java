@@ -1,6 +1,8 @@
 package com.jhipster.demo.store.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.annotations.ApiModel;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
@@ -13,6 +15,7 @@ import java.math.BigDecimal;
 import java.util.Objects;
 
 import com.jhipster.demo.store.domain.enumeration.Size;
+import com.jhipster.demo.store.service.search.ProductSearchEntityListener;
 
 /**
  * Product sold by the Online store
@@ -21,12 +24,14 @@ import com.jhipster.demo.store.domain.enumeration.Size;
 @Entity
 @Table(name = "product")
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@EntityListeners(ProductSearchEntityListener.class)
 public class Product implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productSequenceGenerator")
+    @SequenceGenerator(name = "productSequenceGenerator", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -46,13 +51,19 @@ public class Product implements Serializable {
     @Column(name = "jhi_size", nullable = false)
     private Size size;
 
-    @Lob
-    @Column(name = "image")
-    private byte[] image;
+    /**
+     * Content of a new image, only used on creation and update: images are stored by the
+     * ImageStorageService, and served from /api/products/{id}/image.
+     */
+    private transient byte[] image;
 
     @Column(name = "image_content_type")
     private String imageContentType;
 
+    @JsonIgnore
+    @Column(name = "image_sha256", length = 64)
+    private String imageSha256;
+
     @ManyToOne
     @JsonIgnoreProperties("products")
     private ProductCategory productCategory;
@@ -118,6 +129,7 @@ public class Product implements Serializable {
         this.size = size;
     }
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public byte[] getImage() {
         return image;
     }
@@ -144,6 +156,19 @@ public class Product implements Serializable {
         this.imageContentType = imageContentType;
     }
 
+    public String getImageSha256() {
+        return imageSha256;
+    }
+
+    public Product imageSha256(String imageSha256) {
+        this.imageSha256 = imageSha256;
+        return this;
+    }
+
+    public void setImageSha256(String imageSha256) {
+        this.imageSha256 = imageSha256;
+    }
+
     public ProductCategory getProductCategory() {
         return productCategory;
     }
@@ -186,8 +211,8 @@ public class Product implements Serializable {
             ", description='" + getDescription() + "'" +
             ", price=" + getPrice() +
             ", size='" + getSize() + "'" +
-            ", image='" + getImage() + "'" +
             ", imageContentType='" + getImageContentType() + "'" +
+            ", imageSha256='" + getImageSha256() + "'" +
             "}";
     }
 }
@@ -1,6 +1,7 @@
 package com.jhipster.demo.store.domain;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jhipster.demo.store.service.search.ProductSearchEntityListener;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
 
@@ -18,12 +19,14 @@ import java.util.Objects;
 @Entity
 @Table(name = "product_category")
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+@EntityListeners(ProductSearchEntityListener.class)
 public class ProductCategory implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "productCategorySequenceGenerator")
+    @SequenceGenerator(name = "productCategorySequenceGenerator", sequenceName = "product_category_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
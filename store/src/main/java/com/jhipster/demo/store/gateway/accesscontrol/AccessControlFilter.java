@@ -3,12 +3,21 @@ package com.jhipster.demo.store.gateway.accesscontrol;
 import io.github.jhipster.config.JHipsterProperties;
 
 import java.util.List;
-import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.client.discovery.event.InstanceRegisteredEvent;
+import org.springframework.cloud.client.discovery.event.ParentHeartbeatEvent;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.cloud.netflix.zuul.RoutesRefreshedEvent;
 import org.springframework.cloud.netflix.zuul.filters.Route;
 import org.springframework.cloud.netflix.zuul.filters.RouteLocator;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 
 import com.netflix.zuul.ZuulFilter;
@@ -25,6 +34,10 @@ public class AccessControlFilter extends ZuulFilter {
 
     private final JHipsterProperties jHipsterProperties;
 
+    private volatile AccessControlTrie accessControlTrie;
+
+    private volatile boolean dirty = true;
+
     public AccessControlFilter(RouteLocator routeLocator, JHipsterProperties jHipsterProperties) {
         this.routeLocator = routeLocator;
         this.jHipsterProperties = jHipsterProperties;
@@ -40,52 +53,56 @@ public class AccessControlFilter extends ZuulFilter {
         return 0;
     }
 
+    /**
+     * Rebuild the access control trie on the next request, as routes or authorized endpoints may have changed.
+     */
+    @EventListener({ContextRefreshedEvent.class, RoutesRefreshedEvent.class, RefreshScopeRefreshedEvent.class,
+        EnvironmentChangeEvent.class, InstanceRegisteredEvent.class, HeartbeatEvent.class, ParentHeartbeatEvent.class})
+    public void onRoutesChanged() {
+        this.dirty = true;
+    }
+
     /**
      * Filter requests on endpoints that are not in the list of authorized microservices endpoints.
      */
     @Override
     public boolean shouldFilter() {
-        String requestUri = RequestContext.getCurrentContext().getRequest().getRequestURI();
-        String contextPath = RequestContext.getCurrentContext().getRequest().getContextPath();
-
-        // If the request Uri does not start with the path of the authorized endpoints, we block the request
-        for (Route route : routeLocator.getRoutes()) {
-            String serviceUrl = contextPath + route.getFullPath();
-            String serviceName = route.getId();
-
-            // If this route correspond to the current request URI
-            // We do a substring to remove the "**" at the end of the route URL
-            if (requestUri.startsWith(serviceUrl.substring(0, serviceUrl.length() - 2))) {
-				return !isAuthorizedRequest(serviceUrl, serviceName, requestUri);
-            }
+        HttpServletRequest request = RequestContext.getCurrentContext().getRequest();
+        String requestUri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+
+        // If the request Uri does not start with the path of a route, we block the request
+        if (!requestUri.startsWith(contextPath)) {
+            return true;
+        }
+        AccessControlTrie trie = getAccessControlTrie();
+        int route = trie.findRoute(requestUri, contextPath.length());
+        if (route < 0) {
+            return true;
         }
-        return true;
+        boolean authorized = trie.isAuthorized(route, requestUri, contextPath.length());
+        if (authorized && log.isDebugEnabled()) {
+            log.debug("Access Control: allowing access for {}, as it matches an authorized endpoint of service: {}",
+                requestUri, trie.getRouteId(route));
+        }
+        return !authorized;
     }
 
-    private boolean isAuthorizedRequest(String serviceUrl, String serviceName, String requestUri) {
-        Map<String, List<String>> authorizedMicroservicesEndpoints = jHipsterProperties.getGateway()
-            .getAuthorizedMicroservicesEndpoints();
-
-        // If the authorized endpoints list was left empty for this route, all access are allowed
-        if (authorizedMicroservicesEndpoints.get(serviceName) == null) {
-            log.debug("Access Control: allowing access for {}, as no access control policy has been set up for " +
-                "service: {}", requestUri, serviceName);
-            return true;
-        } else {
-            List<String> authorizedEndpoints = authorizedMicroservicesEndpoints.get(serviceName);
-
-            // Go over the authorized endpoints to control that the request URI matches it
-            for (String endpoint : authorizedEndpoints) {
-                // We do a substring to remove the "**/" at the end of the route URL
-                String gatewayEndpoint = serviceUrl.substring(0, serviceUrl.length() - 3) + endpoint;
-                if (requestUri.startsWith(gatewayEndpoint)) {
-                    log.debug("Access Control: allowing access for {}, as it matches the following authorized " +
-                        "microservice endpoint: {}", requestUri, gatewayEndpoint);
-                    return true;
+    private AccessControlTrie getAccessControlTrie() {
+        AccessControlTrie trie = this.accessControlTrie;
+        if (trie == null || this.dirty) {
+            synchronized (this) {
+                trie = this.accessControlTrie;
+                if (trie == null || this.dirty) {
+                    this.dirty = false;
+                    List<Route> routes = routeLocator.getRoutes();
+                    trie = AccessControlTrie.build(routes, jHipsterProperties.getGateway().getAuthorizedMicroservicesEndpoints());
+                    this.accessControlTrie = trie;
+                    log.debug("Access Control: compiled the access control rules of {} routes", routes.size());
                 }
             }
         }
-        return false;
+        return trie;
     }
 
     @Override
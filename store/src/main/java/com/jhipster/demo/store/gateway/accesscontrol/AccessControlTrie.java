@@ -0,0 +1,197 @@
+package com.jhipster.demo.store.gateway.accesscontrol;
+
+import org.springframework.cloud.netflix.zuul.filters.Route;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix trie of the gateway routes and of their authorized microservices endpoints.
+ *
+ * <p>
+ * A request URI is looked up by walking the trie once, character by character, without any allocation:
+ * <ul>
+ * <li>the matching route is the first route, in the order of the RouteLocator, whose path is a prefix of the URI</li>
+ * <li>the request is authorized if this route has no access control policy, or if one of its authorized endpoints
+ * is a prefix of the URI</li>
+ * </ul>
+ */
+final class AccessControlTrie {
+
+    private static final int NO_ROUTE = Integer.MAX_VALUE;
+
+    private static final char[] NO_KEYS = new char[0];
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private static final int[] NO_ROUTES = new int[0];
+
+    private final Node root;
+
+    private final boolean[] unrestrictedRoutes;
+
+    private final String[] routeIds;
+
+    private AccessControlTrie(Node root, boolean[] unrestrictedRoutes, String[] routeIds) {
+        this.root = root;
+        this.unrestrictedRoutes = unrestrictedRoutes;
+        this.routeIds = routeIds;
+    }
+
+    /**
+     * Compile the routes and their authorized endpoints.
+     *
+     * @param routes the routes of the gateway, in matching order
+     * @param authorizedMicroservicesEndpoints the authorized endpoints of each route id; routes without entry are not restricted
+     * @return the trie
+     */
+    static AccessControlTrie build(List<Route> routes, Map<String, List<String>> authorizedMicroservicesEndpoints) {
+        NodeBuilder root = new NodeBuilder();
+        boolean[] unrestrictedRoutes = new boolean[routes.size()];
+        String[] routeIds = new String[routes.size()];
+        for (int i = 0; i < routes.size(); i++) {
+            Route route = routes.get(i);
+            String fullPath = route.getFullPath();
+            routeIds[i] = route.getId();
+            // We remove the "**" at the end of the route URL
+            NodeBuilder routeNode = root.add(fullPath.substring(0, Math.max(0, fullPath.length() - 2)));
+            routeNode.route = Math.min(routeNode.route, i);
+            List<String> authorizedEndpoints = authorizedMicroservicesEndpoints.get(route.getId());
+            if (authorizedEndpoints == null) {
+                unrestrictedRoutes[i] = true;
+            } else {
+                // We remove the "/**" at the end of the route URL
+                String servicePath = fullPath.substring(0, Math.max(0, fullPath.length() - 3));
+                for (String endpoint : authorizedEndpoints) {
+                    NodeBuilder endpointNode = root.add(servicePath + endpoint);
+                    endpointNode.authorizedRoutes = append(endpointNode.authorizedRoutes, i);
+                }
+            }
+        }
+        return new AccessControlTrie(root.build(), unrestrictedRoutes, routeIds);
+    }
+
+    /**
+     * Get the index of the route matching a request URI.
+     *
+     * @param requestUri the request URI
+     * @param offset the index of the first character of the URI to match, after the context path
+     * @return the index of the route, or -1 if no route matches
+     */
+    int findRoute(String requestUri, int offset) {
+        int route = root.route;
+        Node node = root;
+        for (int i = offset; i < requestUri.length(); i++) {
+            node = node.child(requestUri.charAt(i));
+            if (node == null) {
+                break;
+            }
+            route = Math.min(route, node.route);
+        }
+        return route == NO_ROUTE ? -1 : route;
+    }
+
+    /**
+     * Check if a request URI is authorized for a route.
+     *
+     * @param route the index of the route, as returned by {@link #findRoute(String, int)}
+     * @param requestUri the request URI
+     * @param offset the index of the first character of the URI to match, after the context path
+     * @return true if the route has no access control policy, or if the URI starts with one of its authorized endpoints
+     */
+    boolean isAuthorized(int route, String requestUri, int offset) {
+        if (unrestrictedRoutes[route]) {
+            return true;
+        }
+        Node node = root;
+        if (contains(node.authorizedRoutes, route)) {
+            return true;
+        }
+        for (int i = offset; i < requestUri.length(); i++) {
+            node = node.child(requestUri.charAt(i));
+            if (node == null) {
+                return false;
+            }
+            if (contains(node.authorizedRoutes, route)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    String getRouteId(int route) {
+        return routeIds[route];
+    }
+
+    private static boolean contains(int[] values, int value) {
+        for (int v : values) {
+            if (v == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static final class Node {
+
+        private final char[] keys;
+
+        private final Node[] children;
+
+        private final int route;
+
+        private final int[] authorizedRoutes;
+
+        private Node(char[] keys, Node[] children, int route, int[] authorizedRoutes) {
+            this.keys = keys;
+            this.children = children;
+            this.route = route;
+            this.authorizedRoutes = authorizedRoutes;
+        }
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        private final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+
+        private int route = NO_ROUTE;
+
+        private int[] authorizedRoutes = NO_ROUTES;
+
+        private NodeBuilder add(String path) {
+            NodeBuilder node = this;
+            for (int i = 0; i < path.length(); i++) {
+                node = node.children.computeIfAbsent(path.charAt(i), key -> new NodeBuilder());
+            }
+            return node;
+        }
+
+        private Node build() {
+            if (children.isEmpty()) {
+                return new Node(NO_KEYS, NO_CHILDREN, route, authorizedRoutes);
+            }
+            char[] keys = new char[children.size()];
+            Node[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> child : children.entrySet()) {
+                keys[i] = child.getKey();
+                nodes[i] = child.getValue().build();
+                i++;
+            }
+            return new Node(keys, nodes, route, authorizedRoutes);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jhipster.demo.store.gateway.ratelimiting;
+
+import io.github.bucket4j.BucketConfiguration;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free local bucket, holding the tokens a gateway node has reserved from the distributed bucket of a client.
+ */
+class LocalTokenBucket {
+
+    private final Supplier<BucketConfiguration> configSupplier;
+
+    private final AtomicLong tokens = new AtomicLong();
+
+    private final AtomicBoolean reserving = new AtomicBoolean();
+
+    private volatile long lastUsedTime = System.currentTimeMillis();
+
+    LocalTokenBucket(Supplier<BucketConfiguration> configSupplier) {
+        this.configSupplier = configSupplier;
+    }
+
+    /**
+     * Get the configuration of the distributed bucket the tokens are reserved from.
+     *
+     * @return the configuration supplier
+     */
+    Supplier<BucketConfiguration> getConfigSupplier() {
+        return configSupplier;
+    }
+
+    /**
+     * Consume one token, if available.
+     *
+     * @return true if a token was consumed
+     */
+    boolean tryConsume() {
+        lastUsedTime = System.currentTimeMillis();
+        long available;
+        do {
+            available = tokens.get();
+            if (available <= 0) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(available, available - 1));
+        return true;
+    }
+
+    void addTokens(long reserved) {
+        tokens.addAndGet(reserved);
+    }
+
+    /**
+     * Take all the remaining tokens, to give them back to the distributed bucket.
+     *
+     * @return the number of remaining tokens
+     */
+    long drain() {
+        return tokens.getAndSet(0);
+    }
+
+    long getAvailableTokens() {
+        return tokens.get();
+    }
+
+    /**
+     * Mark this bucket as being refilled, so that only one reservation is in flight at a time.
+     *
+     * @return true if no other reservation was in progress
+     */
+    boolean startReservation() {
+        return reserving.compareAndSet(false, true);
+    }
+
+    void endReservation() {
+        reserving.set(false);
+    }
+
+    boolean isIdleSince(long time) {
+        return lastUsedTime < time;
+    }
+}
@@ -1,8 +1,13 @@
 package com.jhipster.demo.store.gateway.ratelimiting;
 
+import com.jhipster.demo.store.config.ApplicationProperties;
+import com.jhipster.demo.store.gateway.ratelimiting.RateLimitingPolicies.RateLimitingPolicy;
 import com.jhipster.demo.store.security.SecurityUtils;
 
-import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.cache.CacheManager;
 import javax.cache.Caching;
@@ -13,7 +18,14 @@ import javax.servlet.http.HttpServletRequest;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.cloud.netflix.zuul.filters.support.FilterConstants;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.netflix.zuul.ZuulFilter;
 import com.netflix.zuul.context.RequestContext;
@@ -30,6 +42,13 @@ import io.github.jhipster.config.JHipsterProperties;
  * See the Bucket4j documentation at https://github.com/vladimir-bukhtoyarov/bucket4j
  * https://github.com/vladimir-bukhtoyarov/bucket4j/blob/master/doc-pages/jcache-usage
  * .md#example-1---limiting-access-to-http-server-by-ip-address
+ * <p>
+ * When {@code application.rate-limiting.near-cache-batch-size} is greater than 1, each gateway node reserves tokens
+ * by batches from the distributed bucket of a client, and consumes them locally without calling the grid. Batches are
+ * refilled asynchronously before they run out, and the tokens of idle clients are given back to the grid, so the
+ * limit is approximately enforced across the cluster.
+ * <p>
+ * Limits are defined by the {@code application.rate-limiting.policies}, see {@link RateLimitingPolicies}.
  */
 public class RateLimitingFilter extends ZuulFilter {
 
@@ -43,8 +62,27 @@ public class RateLimitingFilter extends ZuulFilter {
 
     private ProxyManager<String> buckets;
 
-    public RateLimitingFilter(JHipsterProperties jHipsterProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private volatile RateLimitingPolicies policies;
+
+    private volatile boolean policiesChanged;
+
+    private final int nearCacheBatchSize;
+
+    private final long nearCacheIdleMillis;
+
+    private final ConcurrentMap<String, LocalTokenBucket> localBuckets = new ConcurrentHashMap<>();
+
+    private final Executor taskExecutor;
+
+    public RateLimitingFilter(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties,
+            Executor taskExecutor) {
         this.jHipsterProperties = jHipsterProperties;
+        this.applicationProperties = applicationProperties;
+        this.taskExecutor = taskExecutor;
+        this.nearCacheBatchSize = applicationProperties.getRateLimiting().getNearCacheBatchSize();
+        this.nearCacheIdleMillis = applicationProperties.getRateLimiting().getNearCacheIdleSeconds() * 1000L;
 
         CachingProvider cachingProvider = Caching.getCachingProvider();
         CacheManager cacheManager = cachingProvider.getCacheManager();
@@ -54,6 +92,8 @@ public class RateLimitingFilter extends ZuulFilter {
 
         this.cache = cacheManager.createCache(GATEWAY_RATE_LIMITING_CACHE_NAME, config);
         this.buckets = Bucket4j.extension(JCache.class).proxyManagerForCache(cache);
+        this.policies = RateLimitingPolicies.build(applicationProperties.getRateLimiting().getPolicies(),
+            jHipsterProperties.getGateway().getRateLimiting());
     }
 
     @Override
@@ -75,9 +115,14 @@ public class RateLimitingFilter extends ZuulFilter {
 
     @Override
     public Object run() {
-        String bucketId = getId(RequestContext.getCurrentContext().getRequest());
-        Bucket bucket = buckets.getProxy(bucketId, getConfigSupplier());
-        if (bucket.tryConsume(1)) {
+        RequestContext ctx = RequestContext.getCurrentContext();
+        HttpServletRequest request = ctx.getRequest();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        RateLimitingPolicy policy = getPolicies().find((String) ctx.get(FilterConstants.PROXY_KEY), request.getMethod(),
+            (String) ctx.get(FilterConstants.REQUEST_URI_KEY),
+            authentication != null ? authentication.getAuthorities() : Collections.emptyList());
+        String bucketId = policy.getBucketId(getId(request));
+        if (tryConsume(bucketId, policy.getConfigSupplier())) {
             // the limit is not exceeded
             log.debug("API rate limit OK for {}", bucketId);
         } else {
@@ -88,16 +133,78 @@ public class RateLimitingFilter extends ZuulFilter {
         return null;
     }
 
-    private Supplier<BucketConfiguration> getConfigSupplier() {
-        return () -> {
-            JHipsterProperties.Gateway.RateLimiting rateLimitingProperties =
-                jHipsterProperties.getGateway().getRateLimiting();
+    /**
+     * Recompile the policies on the next request, as their configuration may have been refreshed.
+     */
+    @EventListener({EnvironmentChangeEvent.class, RefreshScopeRefreshedEvent.class})
+    public void onConfigurationChanged() {
+        this.policiesChanged = true;
+    }
 
-            return Bucket4j.configurationBuilder()
-                .addLimit(Bandwidth.simple(rateLimitingProperties.getLimit(),
-                    Duration.ofSeconds(rateLimitingProperties.getDurationInSeconds())))
-                .build();
-        };
+    /**
+     * Give the tokens reserved for idle clients back to their distributed buckets.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void releaseIdleLocalBuckets() {
+        long idleSince = System.currentTimeMillis() - nearCacheIdleMillis;
+        localBuckets.forEach((bucketId, localBucket) -> {
+            if (localBucket.isIdleSince(idleSince) && localBuckets.remove(bucketId, localBucket)) {
+                long remainingTokens = localBucket.drain();
+                if (remainingTokens > 0) {
+                    log.debug("Giving back {} API rate limit tokens for {}", remainingTokens, bucketId);
+                    buckets.getProxy(bucketId, localBucket.getConfigSupplier()).addTokens(remainingTokens);
+                }
+            }
+        });
+    }
+
+    private RateLimitingPolicies getPolicies() {
+        if (policiesChanged) {
+            synchronized (this) {
+                if (policiesChanged) {
+                    policiesChanged = false;
+                    try {
+                        policies = RateLimitingPolicies.build(applicationProperties.getRateLimiting().getPolicies(),
+                            jHipsterProperties.getGateway().getRateLimiting());
+                        log.info("API rate limiting policies reloaded");
+                    } catch (IllegalArgumentException e) {
+                        log.error("Invalid API rate limiting policies, keeping the previous ones: {}", e.getMessage());
+                    }
+                }
+            }
+        }
+        return policies;
+    }
+
+    private boolean tryConsume(String bucketId, Supplier<BucketConfiguration> configSupplier) {
+        if (nearCacheBatchSize <= 1) {
+            return buckets.getProxy(bucketId, configSupplier).tryConsume(1);
+        }
+        LocalTokenBucket localBucket = localBuckets.computeIfAbsent(bucketId, id -> new LocalTokenBucket(configSupplier));
+        if (localBucket.tryConsume()) {
+            // Refill the local bucket before it is empty, so that requests do not wait for the grid
+            if (localBucket.getAvailableTokens() < nearCacheBatchSize / 2 && localBucket.startReservation()) {
+                taskExecutor.execute(() -> reserveTokens(bucketId, localBucket));
+            }
+            return true;
+        }
+        long reservedTokens = buckets.getProxy(bucketId, configSupplier).tryConsumeAsMuchAsPossible(nearCacheBatchSize);
+        if (reservedTokens == 0) {
+            return false;
+        }
+        localBucket.addTokens(reservedTokens - 1);
+        return true;
+    }
+
+    private void reserveTokens(String bucketId, LocalTokenBucket localBucket) {
+        try {
+            localBucket.addTokens(buckets.getProxy(bucketId, localBucket.getConfigSupplier())
+                .tryConsumeAsMuchAsPossible(nearCacheBatchSize));
+        } catch (RuntimeException e) {
+            log.warn("Could not reserve API rate limit tokens for {}: {}", bucketId, e.getMessage());
+        } finally {
+            localBucket.endReservation();
+        }
     }
 
     /**
@@ -0,0 +1,194 @@
+package com.jhipster.demo.store.gateway.ratelimiting;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket4j;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.ConfigurationBuilder;
+import io.github.jhipster.config.JHipsterProperties;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, compiled rate limiting policies.
+ *
+ * <p>
+ * The policies that can apply to each route are precomputed, so a request is only matched against them, in their
+ * configured order. Requests matching no policy use the default policy, built from the
+ * {@code jhipster.gateway.rate-limiting} limit.
+ */
+final class RateLimitingPolicies {
+
+    static final String DEFAULT_POLICY_NAME = "default";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final RateLimitingPolicy[] NO_POLICIES = new RateLimitingPolicy[0];
+
+    private final Map<String, RateLimitingPolicy[]> policiesByRoute;
+
+    private final RateLimitingPolicy[] policiesForAllRoutes;
+
+    private final RateLimitingPolicy defaultPolicy;
+
+    private RateLimitingPolicies(Map<String, RateLimitingPolicy[]> policiesByRoute, RateLimitingPolicy[] policiesForAllRoutes,
+            RateLimitingPolicy defaultPolicy) {
+        this.policiesByRoute = policiesByRoute;
+        this.policiesForAllRoutes = policiesForAllRoutes;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    /**
+     * Compile the rate limiting policies.
+     *
+     * @param policies the configured policies, in matching order
+     * @param defaultRateLimiting the limit of the default policy
+     * @return the compiled policies
+     * @throws IllegalArgumentException if a policy is not valid
+     */
+    static RateLimitingPolicies build(List<ApplicationProperties.RateLimiting.Policy> policies,
+            JHipsterProperties.Gateway.RateLimiting defaultRateLimiting) {
+        Set<String> names = new HashSet<>();
+        List<RateLimitingPolicy> compiledPolicies = new ArrayList<>();
+        for (ApplicationProperties.RateLimiting.Policy policy : policies) {
+            if (!StringUtils.hasText(policy.getName()) || DEFAULT_POLICY_NAME.equals(policy.getName())) {
+                throw new IllegalArgumentException("Rate limiting policies must have a name, other than \"default\"");
+            }
+            if (!names.add(policy.getName())) {
+                throw new IllegalArgumentException("Duplicate rate limiting policy: " + policy.getName());
+            }
+            if (policy.getLimits().isEmpty()) {
+                throw new IllegalArgumentException("Rate limiting policy " + policy.getName() + " has no limit");
+            }
+            ConfigurationBuilder configurationBuilder = Bucket4j.configurationBuilder();
+            for (ApplicationProperties.RateLimiting.Limit limit : policy.getLimits()) {
+                if (limit.getCapacity() <= 0 || limit.getDurationInSeconds() <= 0) {
+                    throw new IllegalArgumentException("Rate limiting policy " + policy.getName() +
+                        " has a limit without capacity or duration");
+                }
+                configurationBuilder.addLimit(Bandwidth.simple(limit.getCapacity(), Duration.ofSeconds(limit.getDurationInSeconds())));
+            }
+            compiledPolicies.add(new RateLimitingPolicy(policy.getName(), policy.getRoute(), policy.getPath(),
+                toSet(policy.getMethods(), true), toSet(policy.getAuthorities(), false), configurationBuilder.build()));
+        }
+
+        Map<String, RateLimitingPolicy[]> policiesByRoute = new HashMap<>();
+        compiledPolicies.stream()
+            .map(policy -> policy.route)
+            .filter(Objects::nonNull)
+            .distinct()
+            .forEach(route -> policiesByRoute.put(route, compiledPolicies.stream()
+                .filter(policy -> policy.route == null || policy.route.equals(route))
+                .toArray(RateLimitingPolicy[]::new)));
+        RateLimitingPolicy[] policiesForAllRoutes = compiledPolicies.stream()
+            .filter(policy -> policy.route == null)
+            .toArray(RateLimitingPolicy[]::new);
+
+        BucketConfiguration defaultConfiguration = Bucket4j.configurationBuilder()
+            .addLimit(Bandwidth.simple(defaultRateLimiting.getLimit(), Duration.ofSeconds(defaultRateLimiting.getDurationInSeconds())))
+            .build();
+        RateLimitingPolicy defaultPolicy = new RateLimitingPolicy(DEFAULT_POLICY_NAME, null, null,
+            Collections.emptySet(), Collections.emptySet(), defaultConfiguration);
+
+        return new RateLimitingPolicies(policiesByRoute, policiesForAllRoutes.length == 0 ? NO_POLICIES : policiesForAllRoutes,
+            defaultPolicy);
+    }
+
+    /**
+     * Find the policy of a request.
+     *
+     * @param route the id of the route of the request, or null if it is not routed to a microservice
+     * @param method the HTTP method of the request
+     * @param path the path of the request, relative to the route
+     * @param authorities the authorities of the current user
+     * @return the first matching policy, or the default policy
+     */
+    RateLimitingPolicy find(String route, String method, String path, Collection<? extends GrantedAuthority> authorities) {
+        RateLimitingPolicy[] policies = route == null ? policiesForAllRoutes : policiesByRoute.getOrDefault(route, policiesForAllRoutes);
+        for (RateLimitingPolicy policy : policies) {
+            if (policy.matches(method, path, authorities)) {
+                return policy;
+            }
+        }
+        return defaultPolicy;
+    }
+
+    private static Set<String> toSet(List<String> values, boolean upperCase) {
+        Set<String> result = new HashSet<>();
+        for (String value : values) {
+            result.add(upperCase ? value.toUpperCase(Locale.ENGLISH) : value);
+        }
+        return result;
+    }
+
+    /**
+     * A compiled rate limiting policy.
+     */
+    static final class RateLimitingPolicy {
+
+        private final String name;
+
+        private final String route;
+
+        private final String path;
+
+        private final Set<String> methods;
+
+        private final Set<String> authorities;
+
+        private final Supplier<BucketConfiguration> configSupplier;
+
+        private RateLimitingPolicy(String name, String route, String path, Set<String> methods, Set<String> authorities,
+                BucketConfiguration configuration) {
+            this.name = name;
+            this.route = StringUtils.hasText(route) ? route : null;
+            this.path = StringUtils.hasText(path) ? path : null;
+            this.methods = methods;
+            this.authorities = authorities;
+            this.configSupplier = () -> configuration;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        Supplier<BucketConfiguration> getConfigSupplier() {
+            return configSupplier;
+        }
+
+        /**
+         * Get the id of the bucket of a client for this policy. The default policy keeps the client id, so that
+         * its buckets are the ones used before policies were introduced.
+         *
+         * @param clientId the user login or the IP address of the client
+         * @return the bucket id
+         */
+        String getBucketId(String clientId) {
+            return DEFAULT_POLICY_NAME.equals(name) ? clientId : name + ":" + clientId;
+        }
+
+        private boolean matches(String method, String requestPath, Collection<? extends GrantedAuthority> userAuthorities) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            if (path != null && (requestPath == null || !PATH_MATCHER.match(path, requestPath))) {
+                return false;
+            }
+            if (!authorities.isEmpty()) {
+                for (GrantedAuthority authority : userAuthorities) {
+                    if (authorities.contains(authority.getAuthority())) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return true;
+        }
+    }
+}
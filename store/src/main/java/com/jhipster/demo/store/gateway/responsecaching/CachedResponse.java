@@ -0,0 +1,110 @@
+package com.jhipster.demo.store.gateway.responsecaching;
+
+import java.io.Serializable;
+import java.util.List;
+
+import com.netflix.util.Pair;
+
+/**
+ * A microservice response stored in the gateway response cache.
+ * <p>
+ * The body is stored as it was received from the microservice, so gzipped bodies are not decompressed.
+ */
+public class CachedResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int status;
+
+    private final String[] headerNames;
+
+    private final String[] headerValues;
+
+    private final byte[] body;
+
+    private final boolean gzipped;
+
+    private final String etag;
+
+    private final long storedTime;
+
+    private final long expirationTime;
+
+    CachedResponse(int status, List<Pair<String, String>> headers, byte[] body, boolean gzipped, String etag,
+            long storedTime, long expirationTime) {
+        this.status = status;
+        this.headerNames = new String[headers.size()];
+        this.headerValues = new String[headers.size()];
+        for (int i = 0; i < headers.size(); i++) {
+            headerNames[i] = headers.get(i).first();
+            headerValues[i] = headers.get(i).second();
+        }
+        this.body = body;
+        this.gzipped = gzipped;
+        this.etag = etag;
+        this.storedTime = storedTime;
+        this.expirationTime = expirationTime;
+    }
+
+    private CachedResponse(CachedResponse response, long storedTime, long expirationTime) {
+        this.status = response.status;
+        this.headerNames = response.headerNames;
+        this.headerValues = response.headerValues;
+        this.body = response.body;
+        this.gzipped = response.gzipped;
+        this.etag = response.etag;
+        this.storedTime = storedTime;
+        this.expirationTime = expirationTime;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public int getHeaderCount() {
+        return headerNames.length;
+    }
+
+    public String getHeaderName(int index) {
+        return headerNames[index];
+    }
+
+    public String getHeaderValue(int index) {
+        return headerValues[index];
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public boolean isGzipped() {
+        return gzipped;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public long getStoredTime() {
+        return storedTime;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public boolean isFresh(long now) {
+        return now < expirationTime;
+    }
+
+    /**
+     * Get a copy of this response, after it was revalidated by the microservice.
+     *
+     * @param storedTime the time of the revalidation
+     * @param expirationTime the new expiration time
+     * @return the revalidated response
+     */
+    CachedResponse revalidated(long storedTime, long expirationTime) {
+        return new CachedResponse(this, storedTime, expirationTime);
+    }
+}
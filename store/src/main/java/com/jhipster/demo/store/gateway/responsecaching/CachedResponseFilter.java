@@ -0,0 +1,102 @@
+package com.jhipster.demo.store.gateway.responsecaching;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import javax.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.netflix.zuul.filters.support.FilterConstants;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import com.netflix.zuul.ZuulFilter;
+import com.netflix.zuul.context.RequestContext;
+
+/**
+ * Zuul filter serving the GET requests to the microservices from the {@link GatewayResponseCache}.
+ * <p>
+ * On a cache miss, only one request per node is sent to the microservice: identical concurrent requests wait for its
+ * response, which is stored by the {@link ResponseCachingFilter}. Expired responses with an ETag are revalidated with
+ * an "If-None-Match" request.
+ */
+public class CachedResponseFilter extends ZuulFilter {
+
+    private final Logger log = LoggerFactory.getLogger(CachedResponseFilter.class);
+
+    private final GatewayResponseCache cache;
+
+    public CachedResponseFilter(GatewayResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public String filterType() {
+        return "pre";
+    }
+
+    /**
+     * Run after the access control and rate limiting filters, so cached responses are not served to
+     * unauthorized or rate-limited clients.
+     */
+    @Override
+    public int filterOrder() {
+        return 20;
+    }
+
+    @Override
+    public boolean shouldFilter() {
+        RequestContext ctx = RequestContext.getCurrentContext();
+        return ctx.sendZuulResponse() &&
+            ctx.get(FilterConstants.PROXY_KEY) != null &&
+            HttpMethod.GET.matches(ctx.getRequest().getMethod()) &&
+            !hasDirective(ctx.getRequest(), HttpHeaders.CACHE_CONTROL, "no-store");
+    }
+
+    @Override
+    public Object run() {
+        RequestContext ctx = RequestContext.getCurrentContext();
+        HttpServletRequest request = ctx.getRequest();
+        String key = cache.getKey((String) ctx.get(FilterConstants.PROXY_KEY), request);
+        ctx.set(GatewayResponseCache.CACHE_KEY, key);
+
+        boolean noCache = hasDirective(request, HttpHeaders.CACHE_CONTROL, "no-cache") ||
+            hasDirective(request, HttpHeaders.PRAGMA, "no-cache");
+        CachedResponse cachedResponse = noCache ? null : cache.get(key);
+        if (cachedResponse != null && cachedResponse.isFresh(System.currentTimeMillis())) {
+            log.debug("Gateway response cache hit for {}", key);
+            sendCachedResponse(ctx, cachedResponse);
+            return null;
+        }
+
+        CompletableFuture<CachedResponse> pendingRequest = cache.startRequest(key);
+        if (pendingRequest == null) {
+            CachedResponse coalescedResponse = cache.awaitPendingRequest(key);
+            if (coalescedResponse != null) {
+                log.debug("Gateway response cache hit for {}, after waiting for an identical request", key);
+                sendCachedResponse(ctx, coalescedResponse);
+                return null;
+            }
+        } else {
+            ctx.set(GatewayResponseCache.PENDING_REQUEST_KEY, pendingRequest);
+        }
+
+        if (cachedResponse != null && cachedResponse.getEtag() != null && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null) {
+            log.debug("Revalidating the gateway cached response for {}", key);
+            ctx.addZuulRequestHeader(HttpHeaders.IF_NONE_MATCH, cachedResponse.getEtag());
+            ctx.set(GatewayResponseCache.REVALIDATED_RESPONSE_KEY, cachedResponse);
+        }
+        return null;
+    }
+
+    private void sendCachedResponse(RequestContext ctx, CachedResponse cachedResponse) {
+        ctx.set(GatewayResponseCache.CACHE_HIT_KEY, true);
+        ctx.setSendZuulResponse(false);
+        GatewayResponseCache.sendResponse(ctx, cachedResponse, System.currentTimeMillis());
+    }
+
+    private static boolean hasDirective(HttpServletRequest request, String headerName, String directive) {
+        String header = request.getHeader(headerName);
+        return header != null && header.toLowerCase(Locale.ENGLISH).contains(directive);
+    }
+}
@@ -0,0 +1,296 @@
+package com.jhipster.demo.store.gateway.responsecaching;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+import com.jhipster.demo.store.security.SecurityUtils;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.http.HttpServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.query.Predicate;
+import com.netflix.util.Pair;
+import com.netflix.zuul.context.RequestContext;
+
+/**
+ * Gateway cache of the responses of the microservices, stored in Hazelcast, so it is shared by all gateway nodes.
+ * <p>
+ * The time to live of a response is given by the Cache-Control header of the microservice: "no-store" and "no-cache"
+ * responses are never cached, and "s-maxage" or "max-age" are used when set. The time to live of its route,
+ * configured in {@code application.response-caching.routes}, is used when the response sets no max age. Spring
+ * Security adds "no-cache, no-store, max-age=0, must-revalidate" to every response which doesn't set its own
+ * Cache-Control header, so the microservices set it on the responses which may be cached. The header is read from
+ * the origin response, as Zuul removes the security headers of the microservices from the response sent to the client.
+ * <p>
+ * Responses are cached by user, unless their route is shared by all users: "private" responses are only cached when
+ * their route is not shared. A request which may change the data of a
+ * route, such as a POST, PUT or DELETE, evicts the responses of the route cached for its user, or for all users if the
+ * route is shared. Responses fetched while such a request was in progress may still be cached until they expire.
+ */
+public class GatewayResponseCache {
+
+    public static final String CACHE_NAME = "gateway-response-cache";
+
+    static final String CACHE_KEY = "responseCacheKey";
+
+    static final String CACHE_HIT_KEY = "responseCacheHit";
+
+    static final String PENDING_REQUEST_KEY = "responseCachePendingRequest";
+
+    static final String REVALIDATED_RESPONSE_KEY = "responseCacheRevalidatedResponse";
+
+    private final Logger log = LoggerFactory.getLogger(GatewayResponseCache.class);
+
+    private final IMap<String, CachedResponse> responses;
+
+    private final ApplicationProperties.ResponseCaching properties;
+
+    private final ConcurrentMap<String, CompletableFuture<CachedResponse>> pendingRequests = new ConcurrentHashMap<>();
+
+    public GatewayResponseCache(IMap<String, CachedResponse> responses, ApplicationProperties.ResponseCaching properties) {
+        this.responses = responses;
+        this.properties = properties;
+    }
+
+    /**
+     * Get the cache key of a request.
+     *
+     * @param route the id of the route of the request
+     * @param request the request
+     * @return the cache key
+     */
+    public String getKey(String route, HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(getKeyPrefix(route)).append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept != null) {
+            key.append('|').append(accept);
+        }
+        return key.toString();
+    }
+
+    public CachedResponse get(String key) {
+        try {
+            return responses.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Could not read the gateway response cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store a response. Responses with an ETag are kept after they expire, so they can be revalidated.
+     *
+     * @param key the cache key
+     * @param response the response
+     */
+    public void put(String key, CachedResponse response) {
+        long timeToLive = response.getExpirationTime() - System.currentTimeMillis();
+        if (response.getEtag() != null) {
+            timeToLive += TimeUnit.SECONDS.toMillis(properties.getRevalidationSeconds());
+        }
+        if (timeToLive <= 0) {
+            return;
+        }
+        try {
+            responses.set(key, response, timeToLive, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            log.warn("Could not write to the gateway response cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Evict the responses of a route cached for the current user, or for all users if the route is shared.
+     *
+     * @param route the id of the route
+     */
+    public void evict(String route) {
+        String prefix = getKeyPrefix(route);
+        try {
+            Set<String> keys = responses.keySet(new KeyPrefixPredicate(prefix));
+            keys.forEach(responses::delete);
+            log.debug("Evicted {} gateway cached responses for {}", keys.size(), prefix);
+        } catch (RuntimeException e) {
+            log.warn("Could not evict from the gateway response cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Register a request to the microservice, so that identical concurrent requests wait for its response.
+     *
+     * @param key the cache key of the request
+     * @return the future of the response, or null if an identical request is already pending
+     */
+    public CompletableFuture<CachedResponse> startRequest(String key) {
+        CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+        return pendingRequests.putIfAbsent(key, future) == null ? future : null;
+    }
+
+    /**
+     * Complete a request registered with {@link #startRequest(String)}.
+     *
+     * @param key the cache key of the request
+     * @param future the future of the response
+     * @param response the cached response, or null if the response was not cacheable
+     */
+    public void endRequest(String key, CompletableFuture<CachedResponse> future, CachedResponse response) {
+        pendingRequests.remove(key, future);
+        future.complete(response);
+    }
+
+    /**
+     * Wait for the response of an identical pending request.
+     *
+     * @param key the cache key of the request
+     * @return the cached response, or null if there is no pending request, if its response was not cacheable,
+     * or if it did not complete in time
+     */
+    public CachedResponse awaitPendingRequest(String key) {
+        CompletableFuture<CachedResponse> future = pendingRequests.get(key);
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get(properties.getCoalescingTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            log.debug("Gave up waiting for the pending request {}: {}", key, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Get how long a response may be cached.
+     *
+     * @param route the id of the route of the request
+     * @param headers the headers of the origin response
+     * @return the time to live in seconds, or 0 if the response must not be cached
+     */
+    public long getTimeToLiveSeconds(String route, List<Pair<String, String>> headers) {
+        String cacheControl = null;
+        for (Pair<String, String> header : headers) {
+            if (HttpHeaders.SET_COOKIE.equalsIgnoreCase(header.first()) ||
+                (HttpHeaders.VARY.equalsIgnoreCase(header.first()) && "*".equals(header.second().trim()))) {
+                return 0;
+            }
+            if (HttpHeaders.CACHE_CONTROL.equalsIgnoreCase(header.first())) {
+                cacheControl = cacheControl == null ? header.second() : cacheControl + ", " + header.second();
+            }
+        }
+        if (cacheControl != null) {
+            long maxAge = -1;
+            long sharedMaxAge = -1;
+            boolean privateResponse = false;
+            for (String directive : cacheControl.toLowerCase(Locale.ENGLISH).split(",")) {
+                directive = directive.trim();
+                if (directive.equals("no-store") || directive.equals("no-cache")) {
+                    return 0;
+                } else if (directive.equals("private")) {
+                    privateResponse = true;
+                } else if (directive.startsWith("s-maxage=")) {
+                    sharedMaxAge = parseSeconds(directive.substring("s-maxage=".length()));
+                } else if (directive.startsWith("max-age=")) {
+                    maxAge = parseSeconds(directive.substring("max-age=".length()));
+                }
+            }
+            if (privateResponse && isShared(route)) {
+                return 0;
+            }
+            // A private response is cached for its user only, as in a private cache, which ignores s-maxage
+            if (sharedMaxAge >= 0 && !privateResponse) {
+                return sharedMaxAge;
+            }
+            if (maxAge >= 0) {
+                return maxAge;
+            }
+        }
+        ApplicationProperties.ResponseCaching.Route routeProperties = properties.getRoutes().get(route);
+        return routeProperties == null ? 0 : routeProperties.getTimeToLiveSeconds();
+    }
+
+    /**
+     * Send a cached response to the client, instead of the response of the microservice.
+     *
+     * @param context the Zuul request context
+     * @param response the cached response
+     * @param now the current time
+     */
+    static void sendResponse(RequestContext context, CachedResponse response, long now) {
+        context.getZuulResponseHeaders().clear();
+        for (int i = 0; i < response.getHeaderCount(); i++) {
+            context.addZuulResponseHeader(response.getHeaderName(i), response.getHeaderValue(i));
+        }
+        context.addZuulResponseHeader(HttpHeaders.AGE, String.valueOf(Math.max(0, (now - response.getStoredTime()) / 1000)));
+        String ifNoneMatch = context.getRequest().getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (response.getEtag() != null && response.getEtag().equals(ifNoneMatch)) {
+            context.setResponseStatusCode(HttpStatus.NOT_MODIFIED.value());
+            context.setResponseDataStream(null);
+            context.setOriginContentLength(0L);
+        } else {
+            context.setResponseStatusCode(response.getStatus());
+            context.setResponseDataStream(new ByteArrayInputStream(response.getBody()));
+            context.setResponseGZipped(response.isGzipped());
+            context.setOriginContentLength((long) response.getBody().length);
+        }
+    }
+
+    public int getMaxBodySize() {
+        return properties.getMaxBodySize();
+    }
+
+    private String getKeyPrefix(String route) {
+        StringBuilder prefix = new StringBuilder(route).append('|');
+        if (!isShared(route)) {
+            prefix.append(SecurityUtils.getCurrentUserLogin().orElse(""));
+        }
+        return prefix.append('|').toString();
+    }
+
+    private boolean isShared(String route) {
+        ApplicationProperties.ResponseCaching.Route routeProperties = properties.getRoutes().get(route);
+        return routeProperties != null && routeProperties.isShared();
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Hazelcast predicate selecting the cached responses whose key starts with a prefix.
+     */
+    static class KeyPrefixPredicate implements Predicate<String, CachedResponse> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String prefix;
+
+        KeyPrefixPredicate(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean apply(Map.Entry<String, CachedResponse> entry) {
+            return entry.getKey().startsWith(prefix);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.jhipster.demo.store.gateway.responsecaching;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.netflix.zuul.filters.support.FilterConstants;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import com.netflix.util.Pair;
+import com.netflix.zuul.ZuulFilter;
+import com.netflix.zuul.context.RequestContext;
+
+/**
+ * Zuul filter storing the cacheable responses of the microservices in the {@link GatewayResponseCache}, and
+ * giving them to the identical requests waiting in the {@link CachedResponseFilter}.
+ * <p>
+ * Requests which may change the data of a microservice evict the cached responses of their route, once the
+ * microservice has responded, whatever its response.
+ */
+public class ResponseCachingFilter extends ZuulFilter {
+
+    private final Logger log = LoggerFactory.getLogger(ResponseCachingFilter.class);
+
+    private final GatewayResponseCache cache;
+
+    public ResponseCachingFilter(GatewayResponseCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public String filterType() {
+        return "post";
+    }
+
+    /**
+     * Run before the SendResponseFilter, which writes the response to the client.
+     */
+    @Override
+    public int filterOrder() {
+        return 900;
+    }
+
+    @Override
+    public boolean shouldFilter() {
+        RequestContext ctx = RequestContext.getCurrentContext();
+        return (ctx.get(GatewayResponseCache.CACHE_KEY) != null && ctx.get(GatewayResponseCache.CACHE_HIT_KEY) == null) ||
+            isUnsafeRequest(ctx);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object run() {
+        RequestContext ctx = RequestContext.getCurrentContext();
+        if (isUnsafeRequest(ctx)) {
+            cache.evict((String) ctx.get(FilterConstants.PROXY_KEY));
+            return null;
+        }
+        String key = (String) ctx.get(GatewayResponseCache.CACHE_KEY);
+        CompletableFuture<CachedResponse> pendingRequest =
+            (CompletableFuture<CachedResponse>) ctx.get(GatewayResponseCache.PENDING_REQUEST_KEY);
+        CachedResponse cachedResponse = null;
+        try {
+            cachedResponse = cacheResponse(ctx, key);
+        } finally {
+            // Always release the identical requests waiting for this one, even if it failed
+            if (pendingRequest != null) {
+                cache.endRequest(key, pendingRequest, cachedResponse);
+            }
+        }
+        return null;
+    }
+
+    private CachedResponse cacheResponse(RequestContext ctx, String key) {
+        String route = (String) ctx.get(FilterConstants.PROXY_KEY);
+        List<Pair<String, String>> headers = ctx.getZuulResponseHeaders();
+        // The Cache-Control header of the microservice is not sent to the client, so it is only in the origin headers
+        List<Pair<String, String>> originHeaders = ctx.getOriginResponseHeaders();
+        long now = System.currentTimeMillis();
+
+        CachedResponse revalidatedResponse = (CachedResponse) ctx.get(GatewayResponseCache.REVALIDATED_RESPONSE_KEY);
+        if (revalidatedResponse != null && ctx.getResponseStatusCode() == HttpStatus.NOT_MODIFIED.value()) {
+            long timeToLiveSeconds = cache.getTimeToLiveSeconds(route, originHeaders);
+            CachedResponse cachedResponse = revalidatedResponse.revalidated(now, now + timeToLiveSeconds * 1000);
+            if (timeToLiveSeconds > 0) {
+                log.debug("Gateway cached response revalidated for {}", key);
+                cache.put(key, cachedResponse);
+            }
+            // The client did not send this conditional request, so it gets the full response
+            GatewayResponseCache.sendResponse(ctx, cachedResponse, now);
+            return cachedResponse;
+        }
+
+        if (ctx.getResponseStatusCode() != HttpStatus.OK.value() || ctx.getResponseBody() != null ||
+            ctx.getResponseDataStream() == null) {
+            return null;
+        }
+        long timeToLiveSeconds = cache.getTimeToLiveSeconds(route, originHeaders);
+        if (timeToLiveSeconds <= 0) {
+            return null;
+        }
+        byte[] body = readBody(ctx);
+        if (body == null) {
+            return null;
+        }
+        String etag = null;
+        for (Pair<String, String> header : headers) {
+            if (HttpHeaders.ETAG.equalsIgnoreCase(header.first())) {
+                etag = header.second();
+            }
+        }
+        CachedResponse cachedResponse = new CachedResponse(HttpStatus.OK.value(), headers, body, ctx.getResponseGZipped(),
+            etag, now, now + timeToLiveSeconds * 1000);
+        log.debug("Caching the gateway response for {} during {} seconds", key, timeToLiveSeconds);
+        cache.put(key, cachedResponse);
+        return cachedResponse;
+    }
+
+    /**
+     * Whether the request is routed to a microservice, and may change its data.
+     */
+    private static boolean isUnsafeRequest(RequestContext ctx) {
+        if (ctx.get(FilterConstants.PROXY_KEY) == null) {
+            return false;
+        }
+        HttpMethod method = HttpMethod.resolve(ctx.getRequest().getMethod());
+        return method != HttpMethod.GET && method != HttpMethod.HEAD && method != HttpMethod.OPTIONS &&
+            method != HttpMethod.TRACE;
+    }
+
+    /**
+     * Read the response body, and replace the response stream so it can still be sent to the client.
+     *
+     * @return the body, or null if it is too large to be cached or could not be read
+     */
+    private byte[] readBody(RequestContext ctx) {
+        InputStream in = ctx.getResponseDataStream();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+                if (out.size() > cache.getMaxBodySize()) {
+                    ctx.setResponseDataStream(new SequenceInputStream(new ByteArrayInputStream(out.toByteArray()), in));
+                    return null;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read the response to cache: {}", e.getMessage());
+            ctx.setResponseDataStream(new SequenceInputStream(new ByteArrayInputStream(out.toByteArray()), in));
+            return null;
+        }
+        byte[] body = out.toByteArray();
+        ctx.setResponseDataStream(new ByteArrayInputStream(body));
+        return body;
+    }
+}
@@ -0,0 +1,249 @@
+package com.jhipster.demo.store.repository;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+import com.jhipster.demo.store.domain.PersistentAuditEvent;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes the persistent audit events with JDBC batches, in their own transaction.
+ * <p>
+ * In write-behind mode, the events are buffered in a bounded queue and written by a background thread, by batches
+ * sent when the batch is full or when the flush interval has elapsed since its first event: the request which
+ * produced the event does not wait for the database. When the buffer is full, or when the writer is stopped, the
+ * events are written by the calling thread. The buffer is drained when the application stops, and the events written
+ * once it is stopped are written by the calling thread; events still buffered when it stops abruptly are lost.
+ * <p>
+ * The events have database generated ids, which disable the batching of Hibernate inserts: the events are inserted
+ * with plain JDBC, reading their generated ids to insert their data.
+ */
+@Repository
+public class AuditEventWriter {
+
+    private static final String INSERT_EVENT =
+        "insert into jhi_persistent_audit_event (principal, event_date, event_type) values (?, ?, ?)";
+
+    private static final String INSERT_EVENT_DATA =
+        "insert into jhi_persistent_audit_evt_data (event_id, name, value) values (?, ?, ?)";
+
+    private final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Audit properties;
+
+    private final BlockingQueue<PersistentAuditEvent> buffer;
+
+    private final Meter overflow;
+
+    private final Thread writer = new Thread(this::writeBatches, "audit-event-writer");
+
+    /**
+     * Guards the buffering of the events against the stop of the writer: events are only buffered while the writer
+     * runs, so none is buffered after its final drain.
+     */
+    private final ReadWriteLock stopLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+
+    public AuditEventWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties, MetricRegistry metricRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = applicationProperties.getAudit();
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferSize()));
+        this.overflow = metricRegistry.meter(MetricRegistry.name(AuditEventWriter.class, "overflow"));
+        metricRegistry.register(MetricRegistry.name(AuditEventWriter.class, "buffer-size"), (Gauge<Integer>) buffer::size);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (properties.isWriteBehind()) {
+            running = true;
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (markStopped()) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+            // Write the events the writer did not drain in time
+            drainBuffer();
+        }
+    }
+
+    /**
+     * Write an audit event, in the background in write-behind mode.
+     *
+     * @param event the event to write
+     */
+    public void write(PersistentAuditEvent event) {
+        boolean writeBehind;
+        stopLock.readLock().lock();
+        try {
+            writeBehind = running;
+            if (writeBehind && buffer.offer(event)) {
+                return;
+            }
+        } finally {
+            stopLock.readLock().unlock();
+        }
+        if (writeBehind) {
+            overflow.mark();
+            log.debug("The audit event buffer is full, writing the event of {}", event.getPrincipal());
+        }
+        writeBatch(Collections.singletonList(event));
+    }
+
+    /**
+     * Stop buffering the events.
+     *
+     * @return true if the writer was running
+     */
+    private boolean markStopped() {
+        stopLock.writeLock().lock();
+        try {
+            boolean wasRunning = running;
+            running = false;
+            return wasRunning;
+        } finally {
+            stopLock.writeLock().unlock();
+        }
+    }
+
+    private void drainBuffer() {
+        List<PersistentAuditEvent> batch = new ArrayList<>();
+        while (buffer.drainTo(batch, Math.max(1, properties.getBatchSize())) > 0) {
+            writeBatchOrEvents(batch);
+            batch.clear();
+        }
+    }
+
+    private void writeBatches() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<PersistentAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PersistentAuditEvent first = buffer.poll(properties.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMillis());
+                while (batch.size() < batchSize) {
+                    if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    PersistentAuditEvent next = buffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                markStopped();
+            }
+            if (!batch.isEmpty()) {
+                writeBatchOrEvents(batch);
+                batch.clear();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                drainBuffer();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Write a batch, or its events one at a time if it fails, so that an invalid event does not lose the whole batch.
+     */
+    private void writeBatchOrEvents(List<PersistentAuditEvent> batch) {
+        try {
+            writeBatch(batch);
+        } catch (RuntimeException e) {
+            log.warn("Could not write a batch of {} audit events, writing them one at a time: {}", batch.size(), e.getMessage());
+            for (PersistentAuditEvent event : batch) {
+                try {
+                    writeBatch(Collections.singletonList(event));
+                } catch (RuntimeException eventException) {
+                    log.error("Could not write the audit event {} of {}: {}", event.getAuditEventType(),
+                        event.getPrincipal(), eventException.getMessage());
+                }
+            }
+        }
+    }
+
+    private void writeBatch(List<PersistentAuditEvent> batch) {
+        transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            long[] ids = new long[batch.size()];
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT, Statement.RETURN_GENERATED_KEYS)) {
+                for (PersistentAuditEvent event : batch) {
+                    statement.setString(1, event.getPrincipal());
+                    statement.setTimestamp(2, event.getAuditEventDate() == null ? null : Timestamp.from(event.getAuditEventDate()));
+                    statement.setString(3, event.getAuditEventType());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                int count = 0;
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next() && count < ids.length) {
+                        ids[count++] = keys.getLong(1);
+                    }
+                }
+                if (count != ids.length) {
+                    throw new IllegalStateException("Expected " + ids.length + " generated audit event ids, got " + count);
+                }
+            }
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_EVENT_DATA)) {
+                boolean hasData = false;
+                for (int i = 0; i < ids.length; i++) {
+                    PersistentAuditEvent event = batch.get(i);
+                    event.setId(ids[i]);
+                    for (Map.Entry<String, String> entry : event.getData().entrySet()) {
+                        statement.setLong(1, ids[i]);
+                        statement.setString(2, entry.getKey());
+                        statement.setString(3, entry.getValue());
+                        statement.addBatch();
+                        hasData = true;
+                    }
+                }
+                if (hasData) {
+                    statement.executeBatch();
+                }
+            }
+            return null;
+        }));
+    }
+}
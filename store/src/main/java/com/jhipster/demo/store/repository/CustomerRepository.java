@@ -1,6 +1,9 @@
 package com.jhipster.demo.store.repository;
 
 import com.jhipster.demo.store.domain.Customer;
+import com.jhipster.demo.store.service.dto.CustomerDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +13,16 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, Long> {
+public interface CustomerRepository extends JpaRepository<Customer, Long>, JpaSpecificationExecutor<Customer> {
 
+    /**
+     * Select the columns of a {@link CustomerDTO}, with the login of the user.
+     */
+    String SELECT_DTO = "select new com.jhipster.demo.store.service.dto.CustomerDTO(customer.id, customer.firstName," +
+        " customer.lastName, customer.gender, customer.email, customer.phone, customer.addressLine1," +
+        " customer.addressLine2, customer.city, customer.country, user.id, user.login)" +
+        " from Customer customer join customer.user user";
+
+    @Query(SELECT_DTO)
+    Slice<CustomerDTO> findAllProjectedBy(Pageable pageable);
 }
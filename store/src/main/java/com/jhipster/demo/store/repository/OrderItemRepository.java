@@ -1,6 +1,9 @@
 package com.jhipster.demo.store.repository;
 
 import com.jhipster.demo.store.domain.OrderItem;
+import com.jhipster.demo.store.service.dto.OrderItemDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -10,6 +13,15 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+public interface OrderItemRepository extends JpaRepository<OrderItem, Long>, JpaSpecificationExecutor<OrderItem> {
 
+    /**
+     * Select the columns of an {@link OrderItemDTO}, with the name of the product and the code of the order.
+     */
+    String SELECT_DTO = "select new com.jhipster.demo.store.service.dto.OrderItemDTO(orderItem.id, orderItem.quantity," +
+        " orderItem.totalPrice, orderItem.status, product.id, product.name, productOrder.id, productOrder.code)" +
+        " from OrderItem orderItem join orderItem.product product join orderItem.order productOrder";
+
+    @Query(SELECT_DTO)
+    Slice<OrderItemDTO> findAllProjectedBy(Pageable pageable);
 }
@@ -1,9 +1,12 @@
 package com.jhipster.demo.store.repository;
 
 import com.jhipster.demo.store.domain.ProductCategory;
+import com.jhipster.demo.store.service.dto.ProductCategoryDTO;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 
 /**
  * Spring Data  repository for the ProductCategory entity.
@@ -12,4 +15,7 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ProductCategoryRepository extends JpaRepository<ProductCategory, Long> {
 
+    @Query("select new com.jhipster.demo.store.service.dto.ProductCategoryDTO(productCategory.id, productCategory.name," +
+        " productCategory.description) from ProductCategory productCategory")
+    List<ProductCategoryDTO> findAllProjectedBy();
 }
@@ -1,15 +1,42 @@
 package com.jhipster.demo.store.repository;
 
 import com.jhipster.demo.store.domain.ProductOrder;
+import com.jhipster.demo.store.service.dto.ProductOrderDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 /**
  * Spring Data  repository for the ProductOrder entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ProductOrderRepository extends JpaRepository<ProductOrder, Long> {
+public interface ProductOrderRepository extends JpaRepository<ProductOrder, Long>, JpaSpecificationExecutor<ProductOrder> {
+
+    /**
+     * Select the columns of a {@link ProductOrderDTO}, with the email of the customer.
+     */
+    String SELECT_DTO = "select new com.jhipster.demo.store.service.dto.ProductOrderDTO(productOrder.id," +
+        " productOrder.placedDate, productOrder.status, productOrder.code, productOrder.invoiceId," +
+        " customer.id, customer.email)" +
+        " from ProductOrder productOrder join productOrder.customer customer";
+
+    @Query(SELECT_DTO)
+    Slice<ProductOrderDTO> findAllProjectedBy(Pageable pageable);
 
+    /**
+     * Stream the columns of all the productOrders, ordered by id, with a database cursor. On MySQL, the cursor is only
+     * used when "useCursorFetch=true" is set on the JDBC URL, otherwise the driver reads all the rows at once.
+     * <p>
+     * The stream must be closed, and read in a transaction.
+     */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_DTO + " order by productOrder.id")
+    Stream<ProductOrderDTO> streamAllProjectedBy();
 }
@@ -1,15 +1,38 @@
 package com.jhipster.demo.store.repository;
 
 import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.service.dto.ProductDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 
 /**
  * Spring Data  repository for the Product entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+
+    /**
+     * Select the columns of a {@link ProductDTO}, with the name of the productCategory.
+     */
+    String SELECT_DTO = "select new com.jhipster.demo.store.service.dto.ProductDTO(product.id, product.name," +
+        " product.description, product.price, product.size, product.imageContentType, product.imageSha256," +
+        " productCategory.id, productCategory.name)" +
+        " from Product product left join product.productCategory productCategory";
+
+    @Query(SELECT_DTO)
+    Slice<ProductDTO> findAllProjectedBy(Pageable pageable);
+
+    @Query(SELECT_DTO + " where product.id > :id")
+    Slice<ProductDTO> findAllProjectedByIdGreaterThan(@Param("id") Long id, Pageable pageable);
 
+    @Query(SELECT_DTO + " where product.id in :ids")
+    List<ProductDTO> findAllProjectedByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,134 @@
+package com.jhipster.demo.store.security.jwt;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of the authentications of already verified JWT tokens.
+ *
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the token, and are evicted when the token expires.
+ * When the cache is full, expired entries are purged first, then arbitrary entries.
+ */
+class JWTAuthenticationCache {
+
+    private final int maxSize;
+
+    private final Map<String, CachedAuthentication> authentications = new ConcurrentHashMap<>();
+
+    private final Meter hits = new Meter();
+
+    private final Meter misses = new Meter();
+
+    JWTAuthenticationCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the authentication of a token, if it is cached and the token has not expired.
+     *
+     * @param token the JWT token
+     * @return the cached authentication, or null
+     */
+    Authentication get(String token) {
+        String key = digest(token);
+        CachedAuthentication cachedAuthentication = authentications.get(key);
+        if (cachedAuthentication == null) {
+            misses.mark();
+            return null;
+        }
+        if (cachedAuthentication.isExpired(System.currentTimeMillis())) {
+            authentications.remove(key, cachedAuthentication);
+            misses.mark();
+            return null;
+        }
+        hits.mark();
+        return cachedAuthentication.authentication;
+    }
+
+    /**
+     * Cache the authentication of a verified token, until the token expires.
+     *
+     * @param token the JWT token
+     * @param authentication the authentication of the token
+     * @param expiration the expiration of the token, tokens without expiration are not cached
+     */
+    void put(String token, Authentication authentication, Date expiration) {
+        if (expiration == null) {
+            return;
+        }
+        if (authentications.size() >= maxSize) {
+            evict();
+        }
+        authentications.put(digest(token), new CachedAuthentication(authentication, expiration.getTime()));
+    }
+
+    int size() {
+        return authentications.size();
+    }
+
+    /**
+     * Register the hit and miss rates of the cache, its hit ratio and its size.
+     *
+     * @param metricRegistry the registry
+     * @param prefix the prefix of the metric names
+     */
+    void registerMetrics(MetricRegistry metricRegistry, String prefix) {
+        metricRegistry.register(MetricRegistry.name(prefix, "hits"), hits);
+        metricRegistry.register(MetricRegistry.name(prefix, "misses"), misses);
+        metricRegistry.register(MetricRegistry.name(prefix, "hit-ratio"), new RatioGauge() {
+            @Override
+            protected Ratio getRatio() {
+                return Ratio.of(hits.getOneMinuteRate(), hits.getOneMinuteRate() + misses.getOneMinuteRate());
+            }
+        });
+        metricRegistry.register(MetricRegistry.name(prefix, "size"), (Gauge<Integer>) this::size);
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        authentications.values().removeIf(cachedAuthentication -> cachedAuthentication.isExpired(now));
+        Iterator<String> keys = authentications.keySet().iterator();
+        while (authentications.size() >= maxSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class CachedAuthentication {
+
+        private final Authentication authentication;
+
+        private final long expiresAt;
+
+        private CachedAuthentication(Authentication authentication, long expiresAt) {
+            this.authentication = authentication;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
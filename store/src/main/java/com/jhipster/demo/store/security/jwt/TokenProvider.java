@@ -6,8 +6,10 @@ import java.util.*;
 import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
 
+import com.codahale.metrics.MetricRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -28,6 +30,8 @@ public class TokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
 
+    private static final int AUTHENTICATION_CACHE_MAX_SIZE = 10_000;
+
     private Key key;
 
     private long tokenValidityInMilliseconds;
@@ -36,6 +40,8 @@ public class TokenProvider {
 
     private final JHipsterProperties jHipsterProperties;
 
+    private final JWTAuthenticationCache authenticationCache = new JWTAuthenticationCache(AUTHENTICATION_CACHE_MAX_SIZE);
+
     public TokenProvider(JHipsterProperties jHipsterProperties) {
         this.jHipsterProperties = jHipsterProperties;
     }
@@ -87,6 +93,41 @@ public class TokenProvider {
             .parseClaimsJws(token)
             .getBody();
 
+        return createAuthentication(claims, token);
+    }
+
+    /**
+     * Validate the token and get its authentication, parsing the token only once.
+     *
+     * <p>
+     * Authentications of valid tokens are cached until the tokens expire, so a token sent with every request
+     * is only verified on its first use.
+     *
+     * @param token the JWT token
+     * @return the authentication, or an empty Optional if the token is not valid
+     */
+    public Optional<Authentication> validateAndGetAuthentication(String token) {
+        Authentication authentication = authenticationCache.get(token);
+        if (authentication != null) {
+            return Optional.of(authentication);
+        }
+        return parseClaims(token).map(claims -> {
+            Authentication parsedAuthentication = createAuthentication(claims, token);
+            authenticationCache.put(token, parsedAuthentication, claims.getExpiration());
+            return parsedAuthentication;
+        });
+    }
+
+    public boolean validateToken(String authToken) {
+        return parseClaims(authToken).isPresent();
+    }
+
+    @Autowired(required = false)
+    public void setMetricRegistry(MetricRegistry metricRegistry) {
+        authenticationCache.registerMetrics(metricRegistry, MetricRegistry.name(TokenProvider.class, "authentication-cache"));
+    }
+
+    private Authentication createAuthentication(Claims claims, String token) {
         Collection<? extends GrantedAuthority> authorities =
             Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
                 .map(SimpleGrantedAuthority::new)
@@ -97,10 +138,9 @@ public class TokenProvider {
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
-    public boolean validateToken(String authToken) {
+    private Optional<Claims> parseClaims(String authToken) {
         try {
-            Jwts.parser().setSigningKey(key).parseClaimsJws(authToken);
-            return true;
+            return Optional.of(Jwts.parser().setSigningKey(key).parseClaimsJws(authToken).getBody());
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("Invalid JWT signature.");
             log.trace("Invalid JWT signature trace: {}", e);
@@ -114,6 +154,6 @@ public class TokenProvider {
             log.info("JWT token compact of handler are invalid.");
             log.trace("JWT token compact of handler are invalid trace: {}", e);
         }
-        return false;
+        return Optional.empty();
     }
 }
@@ -0,0 +1,202 @@
+package com.jhipster.demo.store.service;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service removing the expired audit events, kept for the configured number of full months.
+ * <p>
+ * On MySQL, the audit events are partitioned by month, in partitions named after their month (see the
+ * "20181008100000_partitioned_PersistentAuditEvent" changelog): the expired events are removed by dropping their
+ * partitions, after deleting their data, and the partitions of the next months are created ahead, so the events are
+ * never written to the catch-all last partition. On the other databases, the expired events are deleted by chunks,
+ * each in its own transaction.
+ * <p>
+ * Months are in UTC. When several instances run the retention at the same time, the partition changes of all but one
+ * fail, and are logged.
+ */
+@Service
+public class AuditEventRetentionService {
+
+    private final Logger log = LoggerFactory.getLogger(AuditEventRetentionService.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String SELECT_PARTITIONS =
+        "select partition_name, partition_description from information_schema.partitions" +
+        " where table_schema = database() and table_name = 'jhi_persistent_audit_event' and partition_name is not null" +
+        " order by partition_ordinal_position";
+
+    private static final String DELETE_EVENT_DATA = "delete from jhi_persistent_audit_evt_data where event_id = ?";
+
+    private static final String DELETE_EVENT = "delete from jhi_persistent_audit_event where event_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Audit properties;
+
+    public AuditEventRetentionService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getAudit();
+    }
+
+    /**
+     * Remove the audit events dated before the start of the first retained month and, on MySQL, create the partitions
+     * of the next months.
+     */
+    @Scheduled(cron = "${application.audit.retention-cron:0 0 3 * * ?}")
+    public void applyRetention() {
+        YearMonth currentMonth = YearMonth.now(ZoneOffset.UTC);
+        Instant cutoff = startOf(currentMonth.minusMonths(properties.getRetentionMonths()));
+        long start = System.currentTimeMillis();
+        Map<String, Long> partitions = findPartitions();
+        if (partitions.isEmpty()) {
+            long deleted = deleteEventsBefore(cutoff);
+            log.info("Deleted {} audit events dated before {} in {} ms", deleted, cutoff, System.currentTimeMillis() - start);
+        } else {
+            createPartitions(partitions, currentMonth);
+            dropPartitionsBefore(partitions, cutoff);
+            log.info("Applied the audit event retention to the partitions in {} ms", System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Find the partitions of the audit events.
+     *
+     * @return the upper bound of each partition in epoch seconds, or null for the last partition, in order; empty if
+     * the audit events are not partitioned
+     */
+    private Map<String, Long> findPartitions() {
+        Map<String, Long> partitions = new LinkedHashMap<>();
+        String databaseProductName = jdbcTemplate.execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("MySQL".equalsIgnoreCase(databaseProductName)) {
+            jdbcTemplate.query(SELECT_PARTITIONS, resultSet -> {
+                String description = resultSet.getString("partition_description");
+                partitions.put(resultSet.getString("partition_name"),
+                    "MAXVALUE".equalsIgnoreCase(description) ? null : Long.valueOf(description));
+            });
+        }
+        return partitions;
+    }
+
+    private void createPartitions(Map<String, Long> partitions, YearMonth currentMonth) {
+        if (!partitions.containsKey(FUTURE_PARTITION)) {
+            log.warn("The audit events have no {} partition, no partition is created", FUTURE_PARTITION);
+            return;
+        }
+        long highestBound = partitions.values().stream().filter(bound -> bound != null).mapToLong(Long::longValue).max().orElse(0);
+        StringBuilder definitions = new StringBuilder();
+        for (int i = 0; i <= properties.getPartitionsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            long bound = startOf(month.plusMonths(1)).getEpochSecond();
+            if (bound > highestBound) {
+                definitions.append("partition ").append(month.format(PARTITION_NAME))
+                    .append(" values less than (").append(bound).append("), ");
+            }
+        }
+        if (definitions.length() == 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("alter table jhi_persistent_audit_event reorganize partition " + FUTURE_PARTITION + " into (" +
+                definitions + "partition " + FUTURE_PARTITION + " values less than maxvalue)");
+        } catch (DataAccessException e) {
+            log.warn("Could not create the audit event partitions: {}", e.getMessage());
+        }
+    }
+
+    private void dropPartitionsBefore(Map<String, Long> partitions, Instant cutoff) {
+        for (Map.Entry<String, Long> partition : partitions.entrySet()) {
+            if (partition.getValue() == null || partition.getValue() > cutoff.getEpochSecond()) {
+                continue;
+            }
+            String name = partition.getKey();
+            try {
+                long deleted = deleteEventData("select event_id from jhi_persistent_audit_event partition (" + name + ")" +
+                    " where event_id > ? order by event_id limit " + CHUNK_SIZE);
+                jdbcTemplate.execute("alter table jhi_persistent_audit_event drop partition " + name);
+                log.info("Dropped the audit event partition {}, and the data of its {} events", name, deleted);
+            } catch (DataAccessException e) {
+                log.warn("Could not drop the audit event partition {}: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delete the data of the events selected by chunks.
+     *
+     * @param selectChunk the query selecting the ids of the next chunk of events, greater than its parameter
+     * @return the number of events whose data have been deleted
+     */
+    private long deleteEventData(String selectChunk) {
+        long deleted = 0;
+        long lastId = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(selectChunk, Long.class, lastId);
+            if (!ids.isEmpty()) {
+                List<Long> chunk = ids;
+                transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(DELETE_EVENT_DATA, toBatchArgs(chunk)));
+                lastId = ids.get(ids.size() - 1);
+                deleted += ids.size();
+            }
+        } while (ids.size() == CHUNK_SIZE);
+        return deleted;
+    }
+
+    private long deleteEventsBefore(Instant cutoff) {
+        long deleted = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList("select event_id from jhi_persistent_audit_event where event_date < ? limit " + CHUNK_SIZE,
+                Long.class, Timestamp.from(cutoff));
+            if (!ids.isEmpty()) {
+                List<Object[]> chunk = toBatchArgs(ids);
+                transactionTemplate.execute(status -> {
+                    jdbcTemplate.batchUpdate(DELETE_EVENT_DATA, chunk);
+                    return jdbcTemplate.batchUpdate(DELETE_EVENT, chunk);
+                });
+                deleted += ids.size();
+            }
+        } while (ids.size() == CHUNK_SIZE);
+        return deleted;
+    }
+
+    private static List<Object[]> toBatchArgs(List<Long> ids) {
+        List<Object[]> args = new ArrayList<>(ids.size());
+        ids.forEach(id -> args.add(new Object[] { id }));
+        return args;
+    }
+
+    private static Instant startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
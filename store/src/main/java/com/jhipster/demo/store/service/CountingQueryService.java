@@ -0,0 +1,168 @@
+package com.jhipster.demo.store.service;
+
+import com.jhipster.demo.store.service.count.CountStrategy;
+import io.github.jhipster.service.QueryService;
+import io.github.jhipster.service.filter.LongFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CompoundSelection;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+import java.util.List;
+
+/**
+ * Base service for executing criteria queries, returning pages whose total is computed by the {@link CountStrategy}.
+ * <p>
+ * A page is fetched with one more entity than requested, so no count query is needed to know whether it is the last
+ * one, and the criteria are used as the filter key of the count, so cached counts are kept per filter. Only the
+ * columns of the DTO are selected, see {@link #select(Root, CriteriaBuilder)}. Keyset slices apply the same criteria,
+ * and are never counted.
+ *
+ * @param <ENTITY> the type of the entity which is queried
+ * @param <DTO> the type of the DTO which is returned
+ */
+public abstract class CountingQueryService<ENTITY, DTO> extends QueryService<ENTITY> {
+
+    private final Class<ENTITY> entityClass;
+
+    private final Class<DTO> dtoClass;
+
+    private final String table;
+
+    private final JpaSpecificationExecutor<ENTITY> repository;
+
+    private final CountStrategy countStrategy;
+
+    private final EntityManager entityManager;
+
+    protected CountingQueryService(Class<ENTITY> entityClass, Class<DTO> dtoClass, String table,
+            JpaSpecificationExecutor<ENTITY> repository, CountStrategy countStrategy, EntityManager entityManager) {
+        this.entityClass = entityClass;
+        this.dtoClass = dtoClass;
+        this.table = table;
+        this.repository = repository;
+        this.countStrategy = countStrategy;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Build the selection of the columns of the DTO, joining the referenced entities it needs.
+     *
+     * @param root the root of the query
+     * @param builder the criteria builder
+     * @return the selection, constructing the DTO
+     */
+    protected abstract CompoundSelection<DTO> select(Root<ENTITY> root, CriteriaBuilder builder);
+
+    /**
+     * Find a page of the entities matching a specification.
+     *
+     * @param specification the specification the entities must match
+     * @param criteria the criteria the specification was built from, used as the filter key of the count
+     * @param pageable the pagination information
+     * @return the page of DTOs
+     */
+    protected Page<DTO> findPage(Specification<ENTITY> specification, Object criteria, Pageable pageable) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DTO> query = builder.createQuery(dtoClass);
+        Root<ENTITY> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(select(root, builder)).orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        TypedQuery<DTO> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(typedQuery.getResultList());
+        }
+        Slice<DTO> slice = toSlice(typedQuery.setFirstResult((int) pageable.getOffset()), pageable);
+        String filter = predicate == null ? "" : String.valueOf(criteria);
+        return countStrategy.toPage(slice, table, filter, () -> repository.count(specification));
+    }
+
+    /**
+     * Find the first slice of the entities matching a specification, without counting them.
+     * <p>
+     * Used for keyset pagination: the specification includes the predicate starting the slice after the last entity
+     * of the previous one, in the given sort order.
+     *
+     * @param specification the specification the entities must match
+     * @param sort the sort order of the keyset
+     * @param size the maximum number of entities to return
+     * @return the slice of DTOs
+     */
+    protected Slice<DTO> findSlice(Specification<ENTITY> specification, Sort sort, int size) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<DTO> query = builder.createQuery(dtoClass);
+        Root<ENTITY> root = query.from(entityClass);
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(select(root, builder)).orderBy(QueryUtils.toOrders(sort, root, builder));
+        return toSlice(entityManager.createQuery(query), PageRequest.of(0, size, sort));
+    }
+
+    /**
+     * Find a slice of the entities matching a specification, using keyset pagination on the id.
+     *
+     * @param specification the specification the entities must match
+     * @param idField the id attribute of the entity
+     * @param afterId the id of the last entity of the previous slice, or null for the first slice
+     * @param size the maximum number of entities to return
+     * @return the slice of DTOs
+     */
+    protected Slice<DTO> findSliceAfterId(Specification<ENTITY> specification, SingularAttribute<? super ENTITY, Long> idField,
+            Long afterId, int size) {
+        if (afterId != null) {
+            specification = specification.and((root, query, builder) -> builder.greaterThan(root.get(idField), afterId));
+        }
+        return findSlice(specification, Sort.by(Sort.Direction.ASC, idField.getName()), size);
+    }
+
+    private Slice<DTO> toSlice(TypedQuery<DTO> typedQuery, Pageable pageable) {
+        List<DTO> content = typedQuery.setMaxResults(pageable.getPageSize() + 1).getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    /**
+     * Build a specification on the id of a referenced entity.
+     * <p>
+     * Unlike {@link #buildReferringEntitySpecification(io.github.jhipster.service.filter.RangeFilter, SingularAttribute, SingularAttribute)},
+     * equality, "in" and "specified" filters use the foreign key column without joining the referenced table,
+     * so they can be served by the indexes of the queried table.
+     *
+     * @param filter the filter on the id of the referenced entity
+     * @param reference the attribute referencing the entity
+     * @param idField the id attribute of the referenced entity
+     * @param <OTHER> the type of the referenced entity
+     * @return the specification
+     */
+    protected <OTHER> Specification<ENTITY> buildReferenceIdSpecification(LongFilter filter,
+            SingularAttribute<? super ENTITY, OTHER> reference, SingularAttribute<OTHER, Long> idField) {
+        if (filter.getEquals() != null) {
+            return (root, query, builder) -> builder.equal(root.get(reference).get(idField), filter.getEquals());
+        } else if (filter.getIn() != null) {
+            return (root, query, builder) -> root.get(reference).get(idField).in(filter.getIn());
+        } else if (filter.getSpecified() != null) {
+            return (root, query, builder) -> filter.getSpecified() ?
+                builder.isNotNull(root.get(reference)) : builder.isNull(root.get(reference));
+        }
+        return buildReferringEntitySpecification(filter, reference, idField);
+    }
+}
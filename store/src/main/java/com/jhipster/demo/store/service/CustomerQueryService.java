@@ -0,0 +1,113 @@
+package com.jhipster.demo.store.service;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jhipster.demo.store.domain.Customer;
+import com.jhipster.demo.store.domain.*; // for static metamodels
+import com.jhipster.demo.store.repository.CustomerRepository;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.CustomerCriteria;
+import com.jhipster.demo.store.service.dto.CustomerDTO;
+
+/**
+ * Service for executing complex queries for Customer entities in the database.
+ * The main input is a {@link CustomerCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link CustomerDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CustomerQueryService extends CountingQueryService<Customer, CustomerDTO> {
+
+    private final Logger log = LoggerFactory.getLogger(CustomerQueryService.class);
+
+    public CustomerQueryService(CustomerRepository customerRepository, CountStrategy countStrategy, EntityManager entityManager) {
+        super(Customer.class, CustomerDTO.class, "customer", customerRepository, countStrategy, entityManager);
+    }
+
+    /**
+     * Return a {@link Page} of {@link CustomerDTO} which matches the criteria from the database
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<CustomerDTO> findByCriteria(CustomerCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Customer> specification = createSpecification(criteria);
+        return findPage(specification, criteria, page);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link CustomerDTO} which matches the criteria from the database, using keyset pagination on the id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id of the last entity of the previous slice, or null for the first slice.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public Slice<CustomerDTO> findByCriteriaAfter(CustomerCriteria criteria, Long afterId, int size) {
+        log.debug("find by criteria : {}, after : {}", criteria, afterId);
+        return findSliceAfterId(createSpecification(criteria), Customer_.id, afterId, size);
+    }
+
+    @Override
+    protected CompoundSelection<CustomerDTO> select(Root<Customer> root, CriteriaBuilder builder) {
+        Join<Customer, User> user = root.join(Customer_.user);
+        return builder.construct(CustomerDTO.class, root.get(Customer_.id), root.get(Customer_.firstName),
+            root.get(Customer_.lastName), root.get(Customer_.gender), root.get(Customer_.email), root.get(Customer_.phone),
+            root.get(Customer_.addressLine1), root.get(Customer_.addressLine2), root.get(Customer_.city),
+            root.get(Customer_.country), user.get(User_.id), user.get(User_.login));
+    }
+
+    /**
+     * Function to convert CustomerCriteria to a {@link Specification}
+     */
+    private Specification<Customer> createSpecification(CustomerCriteria criteria) {
+        Specification<Customer> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), Customer_.id));
+            }
+            if (criteria.getFirstName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getFirstName(), Customer_.firstName));
+            }
+            if (criteria.getLastName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getLastName(), Customer_.lastName));
+            }
+            if (criteria.getGender() != null) {
+                specification = specification.and(buildSpecification(criteria.getGender(), Customer_.gender));
+            }
+            if (criteria.getEmail() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getEmail(), Customer_.email));
+            }
+            if (criteria.getPhone() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getPhone(), Customer_.phone));
+            }
+            if (criteria.getAddressLine1() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getAddressLine1(), Customer_.addressLine1));
+            }
+            if (criteria.getAddressLine2() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getAddressLine2(), Customer_.addressLine2));
+            }
+            if (criteria.getCity() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCity(), Customer_.city));
+            }
+            if (criteria.getCountry() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCountry(), Customer_.country));
+            }
+            if (criteria.getUserId() != null) {
+                specification = specification.and(buildReferenceIdSpecification(criteria.getUserId(), Customer_.user, User_.id));
+            }
+        }
+        return specification;
+    }
+}
@@ -2,11 +2,15 @@ package com.jhipster.demo.store.service;
 
 import com.jhipster.demo.store.domain.Customer;
 import com.jhipster.demo.store.repository.CustomerRepository;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.CustomerDTO;
+import com.jhipster.demo.store.service.mapper.CustomerMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,33 +27,46 @@ public class CustomerService {
 
     private final CustomerRepository customerRepository;
 
-    public CustomerService(CustomerRepository customerRepository) {
+    private final CustomerMapper customerMapper;
+
+    private final CountStrategy countStrategy;
+
+    public CustomerService(CustomerRepository customerRepository, CustomerMapper customerMapper, CountStrategy countStrategy) {
         this.customerRepository = customerRepository;
+        this.customerMapper = customerMapper;
+        this.countStrategy = countStrategy;
     }
 
     /**
      * Save a customer.
      *
-     * @param customer the entity to save
+     * @param customerDTO the entity to save
      * @return the persisted entity
      */
-    public Customer save(Customer customer) {
-        log.debug("Request to save Customer : {}", customer);        return customerRepository.save(customer);
+    public CustomerDTO save(CustomerDTO customerDTO) {
+        log.debug("Request to save Customer : {}", customerDTO);
+
+        Customer customer = customerMapper.toEntity(customerDTO);
+        customer = customerRepository.save(customer);
+        return customerMapper.toDto(customer);
     }
 
     /**
      * Get all the customers.
      *
+     * <p>
+     * The total number of entities is computed by the configured {@link CountStrategy}.
+     *
      * @param pageable the pagination information
      * @return the list of entities
      */
     @Transactional(readOnly = true)
-    public Page<Customer> findAll(Pageable pageable) {
+    public Page<CustomerDTO> findAll(Pageable pageable) {
         log.debug("Request to get all Customers");
-        return customerRepository.findAll(pageable);
+        Slice<CustomerDTO> slice = customerRepository.findAllProjectedBy(pageable);
+        return countStrategy.toPage(slice, "customer", "", customerRepository::count);
     }
 
-
     /**
      * Get one customer by id.
      *
@@ -57,9 +74,10 @@ public class CustomerService {
      * @return the entity
      */
     @Transactional(readOnly = true)
-    public Optional<Customer> findOne(Long id) {
+    public Optional<CustomerDTO> findOne(Long id) {
         log.debug("Request to get Customer : {}", id);
-        return customerRepository.findById(id);
+        return customerRepository.findById(id)
+            .map(customerMapper::toDto);
     }
 
     /**
@@ -0,0 +1,92 @@
+package com.jhipster.demo.store.service;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+
+import io.github.jhipster.config.JHipsterConstants;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Service storing images on the local filesystem, addressed by the SHA-256 of their content.
+ * <p>
+ * As an image is never modified once stored, identical images are only stored once, and the hash
+ * can be used as an ETag.
+ * <p>
+ * The storage directory must be persistent and shared by all the instances. In production, it must therefore be
+ * configured as an absolute path, where a volume is mounted, instead of the default directory inside the application.
+ */
+@Service
+public class ImageStorageService {
+
+    private final Logger log = LoggerFactory.getLogger(ImageStorageService.class);
+
+    private final Path storageDirectory;
+
+    public ImageStorageService(ApplicationProperties applicationProperties, Environment env) {
+        Path configuredDirectory = Paths.get(applicationProperties.getImages().getStorageDirectory());
+        if (env.acceptsProfiles(JHipsterConstants.SPRING_PROFILE_PRODUCTION) && !configuredDirectory.isAbsolute()) {
+            throw new IllegalStateException("The image storage directory must be an absolute path to a persistent " +
+                "directory shared by all the instances, check application.images.storage-directory: " + configuredDirectory);
+        }
+        this.storageDirectory = configuredDirectory.toAbsolutePath();
+    }
+
+    /**
+     * Store an image.
+     *
+     * @param content the content of the image
+     * @return the SHA-256 of the image, used to load it
+     */
+    public String store(byte[] content) {
+        String sha256 = DigestUtils.sha256Hex(content);
+        Path path = resolve(sha256);
+        if (Files.exists(path)) {
+            log.debug("Image {} is already stored", sha256);
+            return sha256;
+        }
+        log.debug("Storing image {} in {}", sha256, path);
+        try {
+            Files.createDirectories(path.getParent());
+            // Write to a temporary file first, so that a partially written image is never served
+            Path temporaryFile = Files.createTempFile(path.getParent(), sha256, ".tmp");
+            Files.write(temporaryFile, content);
+            Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store image " + sha256, e);
+        }
+        return sha256;
+    }
+
+    /**
+     * Load an image.
+     *
+     * @param sha256 the SHA-256 of the image
+     * @return the image, or empty if it is not stored
+     */
+    public Optional<Resource> load(String sha256) {
+        Path path = resolve(sha256);
+        if (!Files.isReadable(path)) {
+            log.warn("Image {} is not stored in {}", sha256, storageDirectory);
+            return Optional.empty();
+        }
+        return Optional.of(new FileSystemResource(path.toFile()));
+    }
+
+    private Path resolve(String sha256) {
+        // Spread the images over two levels of directories, to keep each directory small
+        return storageDirectory.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+}
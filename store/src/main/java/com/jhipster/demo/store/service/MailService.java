@@ -1,16 +1,30 @@
 package com.jhipster.demo.store.service;
 
+import com.jhipster.demo.store.config.ApplicationProperties;
+import com.jhipster.demo.store.config.Constants;
 import com.jhipster.demo.store.domain.User;
+import com.jhipster.demo.store.service.mail.MailTemplate;
 
 import io.github.jhipster.config.JHipsterProperties;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import javax.mail.MessagingException;
 import javax.mail.internet.MimeMessage;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.MessageSource;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
@@ -22,6 +36,9 @@ import org.thymeleaf.spring5.SpringTemplateEngine;
  * Service for sending emails.
  * <p>
  * We use the @Async annotation to send emails asynchronously.
+ * <p>
+ * Bulk emails are sent with {@link #sendEmailsFromTemplate(Collection, String, String)}, which renders the template
+ * once per language and sends the emails by batches over a single SMTP connection, with the dedicated mail executor.
  */
 @Service
 public class MailService {
@@ -40,13 +57,20 @@ public class MailService {
 
     private final SpringTemplateEngine templateEngine;
 
+    private final ApplicationProperties applicationProperties;
+
+    private final Executor mailExecutor;
+
     public MailService(JHipsterProperties jHipsterProperties, JavaMailSender javaMailSender,
-            MessageSource messageSource, SpringTemplateEngine templateEngine) {
+            MessageSource messageSource, SpringTemplateEngine templateEngine,
+            ApplicationProperties applicationProperties, @Qualifier("mailExecutor") Executor mailExecutor) {
 
         this.jHipsterProperties = jHipsterProperties;
         this.javaMailSender = javaMailSender;
         this.messageSource = messageSource;
         this.templateEngine = templateEngine;
+        this.applicationProperties = applicationProperties;
+        this.mailExecutor = mailExecutor;
     }
 
     @Async
@@ -54,15 +78,8 @@ public class MailService {
         log.debug("Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
             isMultipart, isHtml, to, subject, content);
 
-        // Prepare message using a Spring helper
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
         try {
-            MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
-            message.setTo(to);
-            message.setFrom(jHipsterProperties.getMail().getFrom());
-            message.setSubject(subject);
-            message.setText(content, isHtml);
-            javaMailSender.send(mimeMessage);
+            javaMailSender.send(createMimeMessage(to, subject, content, isMultipart, isHtml));
             log.debug("Sent email to User '{}'", to);
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
@@ -85,6 +102,92 @@ public class MailService {
 
     }
 
+    /**
+     * Send an email built from a template to each user.
+     * <p>
+     * The template is rendered once per language, then merged with the fields of each user: see {@link MailTemplate}
+     * for the restrictions on the template. The emails are sent by batches, each over a single SMTP connection, by
+     * the mail executor. The users without an email address, or whose email cannot be prepared, are skipped.
+     *
+     * @param users the recipients
+     * @param templateName the name of the template
+     * @param titleKey the message key of the subject
+     * @return the future of the number of emails sent, completed once all the batches have been sent
+     */
+    public CompletableFuture<Integer> sendEmailsFromTemplate(Collection<User> users, String templateName, String titleKey) {
+        log.debug("Sending {} emails from template '{}'", users.size(), templateName);
+        Map<String, List<User>> usersByLangKey = new LinkedHashMap<>();
+        for (User user : users) {
+            String langKey = user.getLangKey() == null ? Constants.DEFAULT_LANGUAGE : user.getLangKey();
+            usersByLangKey.computeIfAbsent(langKey, key -> new ArrayList<>()).add(user);
+        }
+        int batchSize = Math.max(1, applicationProperties.getMail().getBatchSize());
+        List<CompletableFuture<Integer>> batches = new ArrayList<>();
+        for (Map.Entry<String, List<User>> entry : usersByLangKey.entrySet()) {
+            MailTemplate template = renderTemplate(Locale.forLanguageTag(entry.getKey()), templateName, titleKey);
+            List<User> recipients = entry.getValue();
+            for (int from = 0; from < recipients.size(); from += batchSize) {
+                List<User> batch = recipients.subList(from, Math.min(from + batchSize, recipients.size()));
+                batches.add(CompletableFuture.supplyAsync(() -> sendBatch(template, batch), mailExecutor));
+            }
+        }
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]))
+            .thenApply(done -> batches.stream().mapToInt(CompletableFuture::join).sum());
+    }
+
+    public CompletableFuture<Integer> sendActivationEmails(Collection<User> users) {
+        return sendEmailsFromTemplate(users, "mail/activationEmail", "email.activation.title");
+    }
+
+    private MailTemplate renderTemplate(Locale locale, String templateName, String titleKey) {
+        Context context = new Context(locale);
+        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
+        String subject = messageSource.getMessage(titleKey, null, locale);
+        return MailTemplate.render(templateEngine, templateName, context, USER, subject);
+    }
+
+    private int sendBatch(MailTemplate template, List<User> batch) {
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (User user : batch) {
+            if (user.getEmail() == null) {
+                log.warn("Email not sent to user '{}', who has no email address", user.getLogin());
+                continue;
+            }
+            try {
+                messages.add(createMimeMessage(user.getEmail(), template.getSubject(), template.merge(user), false, true));
+            } catch (MessagingException | RuntimeException e) {
+                // An invalid recipient must not fail the whole batch
+                log.warn("Email could not be prepared for user '{}': {}", user.getEmail(), e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        try {
+            javaMailSender.send(messages.toArray(new MimeMessage[0]));
+            log.debug("Sent {} emails", messages.size());
+            return messages.size();
+        } catch (MailSendException e) {
+            log.warn("{} of {} emails could not be sent: {}", e.getFailedMessages().size(), messages.size(), e.getMessage());
+            return messages.size() - e.getFailedMessages().size();
+        } catch (MailException e) {
+            log.warn("{} emails could not be sent: {}", messages.size(), e.getMessage());
+            return 0;
+        }
+    }
+
+    private MimeMessage createMimeMessage(String to, String subject, String content, boolean isMultipart, boolean isHtml)
+            throws MessagingException {
+        // Prepare message using a Spring helper
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, isMultipart, StandardCharsets.UTF_8.name());
+        message.setTo(to);
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(subject);
+        message.setText(content, isHtml);
+        return mimeMessage;
+    }
+
     @Async
     public void sendActivationEmail(User user) {
         log.debug("Sending activation email to '{}'", user.getEmail());
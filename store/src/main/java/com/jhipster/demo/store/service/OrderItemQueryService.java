@@ -0,0 +1,98 @@
+package com.jhipster.demo.store.service;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jhipster.demo.store.domain.OrderItem;
+import com.jhipster.demo.store.domain.*; // for static metamodels
+import com.jhipster.demo.store.repository.OrderItemRepository;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.OrderItemCriteria;
+import com.jhipster.demo.store.service.dto.OrderItemDTO;
+
+/**
+ * Service for executing complex queries for OrderItem entities in the database.
+ * The main input is a {@link OrderItemCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link OrderItemDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderItemQueryService extends CountingQueryService<OrderItem, OrderItemDTO> {
+
+    private final Logger log = LoggerFactory.getLogger(OrderItemQueryService.class);
+
+    public OrderItemQueryService(OrderItemRepository orderItemRepository, CountStrategy countStrategy, EntityManager entityManager) {
+        super(OrderItem.class, OrderItemDTO.class, "order_item", orderItemRepository, countStrategy, entityManager);
+    }
+
+    /**
+     * Return a {@link Page} of {@link OrderItemDTO} which matches the criteria from the database
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<OrderItemDTO> findByCriteria(OrderItemCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<OrderItem> specification = createSpecification(criteria);
+        return findPage(specification, criteria, page);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link OrderItemDTO} which matches the criteria from the database, using keyset pagination on the id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id of the last entity of the previous slice, or null for the first slice.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public Slice<OrderItemDTO> findByCriteriaAfter(OrderItemCriteria criteria, Long afterId, int size) {
+        log.debug("find by criteria : {}, after : {}", criteria, afterId);
+        return findSliceAfterId(createSpecification(criteria), OrderItem_.id, afterId, size);
+    }
+
+    @Override
+    protected CompoundSelection<OrderItemDTO> select(Root<OrderItem> root, CriteriaBuilder builder) {
+        Join<OrderItem, Product> product = root.join(OrderItem_.product);
+        Join<OrderItem, ProductOrder> order = root.join(OrderItem_.order);
+        return builder.construct(OrderItemDTO.class, root.get(OrderItem_.id), root.get(OrderItem_.quantity),
+            root.get(OrderItem_.totalPrice), root.get(OrderItem_.status), product.get(Product_.id),
+            product.get(Product_.name), order.get(ProductOrder_.id), order.get(ProductOrder_.code));
+    }
+
+    /**
+     * Function to convert OrderItemCriteria to a {@link Specification}
+     */
+    private Specification<OrderItem> createSpecification(OrderItemCriteria criteria) {
+        Specification<OrderItem> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), OrderItem_.id));
+            }
+            if (criteria.getQuantity() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getQuantity(), OrderItem_.quantity));
+            }
+            if (criteria.getTotalPrice() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getTotalPrice(), OrderItem_.totalPrice));
+            }
+            if (criteria.getStatus() != null) {
+                specification = specification.and(buildSpecification(criteria.getStatus(), OrderItem_.status));
+            }
+            if (criteria.getProductId() != null) {
+                specification = specification.and(buildReferenceIdSpecification(criteria.getProductId(), OrderItem_.product, Product_.id));
+            }
+            if (criteria.getOrderId() != null) {
+                specification = specification.and(buildReferenceIdSpecification(criteria.getOrderId(), OrderItem_.order, ProductOrder_.id));
+            }
+        }
+        return specification;
+    }
+}
@@ -2,11 +2,17 @@ package com.jhipster.demo.store.service;
 
 import com.jhipster.demo.store.domain.OrderItem;
 import com.jhipster.demo.store.repository.OrderItemRepository;
+import com.jhipster.demo.store.service.analytics.OrderAnalyticsService;
+import com.jhipster.demo.store.service.analytics.RevenueRollup;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.OrderItemDTO;
+import com.jhipster.demo.store.service.mapper.OrderItemMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,33 +29,51 @@ public class OrderItemService {
 
     private final OrderItemRepository orderItemRepository;
 
-    public OrderItemService(OrderItemRepository orderItemRepository) {
+    private final OrderItemMapper orderItemMapper;
+
+    private final CountStrategy countStrategy;
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    public OrderItemService(OrderItemRepository orderItemRepository, OrderItemMapper orderItemMapper, CountStrategy countStrategy,
+            OrderAnalyticsService orderAnalyticsService) {
         this.orderItemRepository = orderItemRepository;
+        this.orderItemMapper = orderItemMapper;
+        this.countStrategy = countStrategy;
+        this.orderAnalyticsService = orderAnalyticsService;
     }
 
     /**
-     * Save a orderItem.
+     * Save a orderItem, and update the order revenue rollup.
      *
-     * @param orderItem the entity to save
+     * @param orderItemDTO the entity to save
      * @return the persisted entity
      */
-    public OrderItem save(OrderItem orderItem) {
-        log.debug("Request to save OrderItem : {}", orderItem);        return orderItemRepository.save(orderItem);
+    public OrderItemDTO save(OrderItemDTO orderItemDTO) {
+        log.debug("Request to save OrderItem : {}", orderItemDTO);
+        RevenueRollup previousRevenue = orderAnalyticsService.findOrderItemRevenue(orderItemDTO.getId());
+        OrderItem orderItem = orderItemMapper.toEntity(orderItemDTO);
+        orderItem = orderItemRepository.saveAndFlush(orderItem);
+        orderAnalyticsService.update(previousRevenue, orderAnalyticsService.findOrderItemRevenue(orderItem.getId()));
+        return orderItemMapper.toDto(orderItem);
     }
 
     /**
      * Get all the orderItems.
      *
+     * <p>
+     * The total number of entities is computed by the configured {@link CountStrategy}.
+     *
      * @param pageable the pagination information
      * @return the list of entities
      */
     @Transactional(readOnly = true)
-    public Page<OrderItem> findAll(Pageable pageable) {
+    public Page<OrderItemDTO> findAll(Pageable pageable) {
         log.debug("Request to get all OrderItems");
-        return orderItemRepository.findAll(pageable);
+        Slice<OrderItemDTO> slice = orderItemRepository.findAllProjectedBy(pageable);
+        return countStrategy.toPage(slice, "order_item", "", orderItemRepository::count);
     }
 
-
     /**
      * Get one orderItem by id.
      *
@@ -57,18 +81,21 @@ public class OrderItemService {
      * @return the entity
      */
     @Transactional(readOnly = true)
-    public Optional<OrderItem> findOne(Long id) {
+    public Optional<OrderItemDTO> findOne(Long id) {
         log.debug("Request to get OrderItem : {}", id);
-        return orderItemRepository.findById(id);
+        return orderItemRepository.findById(id)
+            .map(orderItemMapper::toDto);
     }
 
     /**
-     * Delete the orderItem by id.
+     * Delete the orderItem by id, and update the order revenue rollup.
      *
      * @param id the id of the entity
      */
     public void delete(Long id) {
         log.debug("Request to delete OrderItem : {}", id);
+        RevenueRollup previousRevenue = orderAnalyticsService.findOrderItemRevenue(id);
         orderItemRepository.deleteById(id);
+        orderAnalyticsService.update(previousRevenue, new RevenueRollup());
     }
 }
@@ -2,12 +2,17 @@ package com.jhipster.demo.store.service;
 
 import com.jhipster.demo.store.domain.ProductCategory;
 import com.jhipster.demo.store.repository.ProductCategoryRepository;
+import com.jhipster.demo.store.service.dto.ProductCategoryDTO;
+import com.jhipster.demo.store.service.mapper.ProductCategoryMapper;
+import com.jhipster.demo.store.service.util.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,18 +27,32 @@ public class ProductCategoryService {
 
     private final ProductCategoryRepository productCategoryRepository;
 
-    public ProductCategoryService(ProductCategoryRepository productCategoryRepository) {
+    private final ProductCategoryMapper productCategoryMapper;
+
+    private final SingleFlight singleFlight;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public ProductCategoryService(ProductCategoryRepository productCategoryRepository,
+            ProductCategoryMapper productCategoryMapper, SingleFlight singleFlight, EntityManagerFactory entityManagerFactory) {
         this.productCategoryRepository = productCategoryRepository;
+        this.productCategoryMapper = productCategoryMapper;
+        this.singleFlight = singleFlight;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     /**
      * Save a productCategory.
      *
-     * @param productCategory the entity to save
+     * @param productCategoryDTO the entity to save
      * @return the persisted entity
      */
-    public ProductCategory save(ProductCategory productCategory) {
-        log.debug("Request to save ProductCategory : {}", productCategory);        return productCategoryRepository.save(productCategory);
+    public ProductCategoryDTO save(ProductCategoryDTO productCategoryDTO) {
+        log.debug("Request to save ProductCategory : {}", productCategoryDTO);
+
+        ProductCategory productCategory = productCategoryMapper.toEntity(productCategoryDTO);
+        productCategory = productCategoryRepository.save(productCategory);
+        return productCategoryMapper.toDto(productCategory);
     }
 
     /**
@@ -42,22 +61,27 @@ public class ProductCategoryService {
      * @return the list of entities
      */
     @Transactional(readOnly = true)
-    public List<ProductCategory> findAll() {
+    public List<ProductCategoryDTO> findAll() {
         log.debug("Request to get all ProductCategories");
-        return productCategoryRepository.findAll();
+        return productCategoryRepository.findAllProjectedBy();
     }
 
 
     /**
      * Get one productCategory by id.
+     * <p>
+     * Not transactional, so that concurrent calls for the same id share a single load, see {@link SingleFlight}.
+     * The returned DTO may be shared with other threads, and must not be modified.
      *
      * @param id the id of the entity
      * @return the entity
      */
-    @Transactional(readOnly = true)
-    public Optional<ProductCategory> findOne(Long id) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<ProductCategoryDTO> findOne(Long id) {
         log.debug("Request to get ProductCategory : {}", id);
-        return productCategoryRepository.findById(id);
+        return singleFlight.load("ProductCategory", id,
+            () -> entityManagerFactory.getCache().contains(ProductCategory.class, id),
+            () -> productCategoryRepository.findById(id).map(productCategoryMapper::toDto));
     }
 
     /**
@@ -0,0 +1,120 @@
+package com.jhipster.demo.store.service;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+import com.jhipster.demo.store.domain.Product;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service copying the product images still stored in the legacy "product.image" column to the image storage.
+ * <p>
+ * This is run once the application has started, and does nothing when all the images are already copied. A failed
+ * copy does not stop the application: it is logged, and retried later.
+ * <p>
+ * The legacy column is only cleared when "application.images.clear-legacy-images" is enabled, once the image
+ * storage is known to be persistent and shared by all the instances: until then, the images can be copied again
+ * from the database. Clearing the column stores the images again first, so that a lost image is restored.
+ */
+@Service
+public class ProductImageMigrationService {
+
+    private final Logger log = LoggerFactory.getLogger(ProductImageMigrationService.class);
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ImageStorageService imageStorageService;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final ApplicationProperties.Images properties;
+
+    private volatile boolean migrated;
+
+    public ProductImageMigrationService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ImageStorageService imageStorageService, EntityManagerFactory entityManagerFactory,
+            ApplicationProperties applicationProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.imageStorageService = imageStorageService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.properties = applicationProperties.getImages();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyImages() {
+        tryMigrateLegacyImages();
+    }
+
+    @Scheduled(fixedDelayString = "${application.images.migration-retry-millis:600000}",
+        initialDelayString = "${application.images.migration-retry-millis:600000}")
+    public void retryMigrateLegacyImages() {
+        if (!migrated) {
+            tryMigrateLegacyImages();
+        }
+    }
+
+    /**
+     * Copy the legacy images to the image storage.
+     *
+     * @return true if all the legacy images have been copied, false if the copy failed and will be retried
+     */
+    public synchronized boolean tryMigrateLegacyImages() {
+        try {
+            migrate();
+            migrated = true;
+        } catch (RuntimeException e) {
+            log.error("Could not move the product images to the image storage, retrying in {} ms: {}",
+                properties.getMigrationRetryMillis(), e.getMessage());
+        }
+        return migrated;
+    }
+
+    private void migrate() {
+        boolean clear = properties.isClearLegacyImages();
+        String select = "select id, image from product where image is not null" +
+            (clear ? "" : " and image_sha256 is null") + " limit " + BATCH_SIZE;
+        String update = "update product set image_sha256 = ?" + (clear ? ", image = null" : "") + " where id = ?";
+        int migrated = 0;
+        int batch;
+        try {
+            do {
+                batch = transactionTemplate.execute(status -> migrateBatch(select, update));
+                migrated += batch;
+            } while (batch == BATCH_SIZE);
+        } finally {
+            if (migrated > 0) {
+                log.info("{} {} product images to the image storage", clear ? "Moved" : "Copied", migrated);
+                // The rows were updated with JDBC, so the cached products are stale
+                entityManagerFactory.getCache().evict(Product.class);
+            }
+        }
+    }
+
+    private int migrateBatch(String select, String update) {
+        List<Object[]> updates = new ArrayList<>();
+        jdbcTemplate.query(select, resultSet -> {
+            String sha256 = imageStorageService.store(resultSet.getBytes("image"));
+            updates.add(new Object[] { sha256, resultSet.getLong("id") });
+        });
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(update, updates);
+        }
+        return updates.size();
+    }
+}
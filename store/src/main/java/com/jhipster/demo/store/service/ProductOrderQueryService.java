@@ -0,0 +1,108 @@
+package com.jhipster.demo.store.service;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jhipster.demo.store.domain.ProductOrder;
+import com.jhipster.demo.store.domain.*; // for static metamodels
+import com.jhipster.demo.store.repository.ProductOrderRepository;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.ProductOrderCriteria;
+import com.jhipster.demo.store.service.dto.ProductOrderDTO;
+
+/**
+ * Service for executing complex queries for ProductOrder entities in the database.
+ * The main input is a {@link ProductOrderCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link ProductOrderDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProductOrderQueryService extends CountingQueryService<ProductOrder, ProductOrderDTO> {
+
+    private final Logger log = LoggerFactory.getLogger(ProductOrderQueryService.class);
+
+    public ProductOrderQueryService(ProductOrderRepository productOrderRepository, CountStrategy countStrategy, EntityManager entityManager) {
+        super(ProductOrder.class, ProductOrderDTO.class, "product_order", productOrderRepository, countStrategy, entityManager);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ProductOrderDTO} which matches the criteria from the database
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<ProductOrderDTO> findByCriteria(ProductOrderCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<ProductOrder> specification = createSpecification(criteria);
+        return findPage(specification, criteria, page);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link ProductOrderDTO} which matches the criteria from the database, most recent first,
+     * using keyset pagination on (placedDate, id).
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param placedDate The placed date of the last entity of the previous slice, or null for the first slice.
+     * @param id The id of the last entity of the previous slice, or null for the first slice.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public Slice<ProductOrderDTO> findByCriteriaBefore(ProductOrderCriteria criteria, Instant placedDate, Long id, int size) {
+        log.debug("find by criteria : {}, before : {}, {}", criteria, placedDate, id);
+        Specification<ProductOrder> specification = createSpecification(criteria);
+        if (placedDate != null && id != null) {
+            specification = specification.and((root, query, builder) -> builder.or(
+                builder.lessThan(root.get(ProductOrder_.placedDate), placedDate),
+                builder.and(builder.equal(root.get(ProductOrder_.placedDate), placedDate),
+                    builder.lessThan(root.get(ProductOrder_.id), id))));
+        }
+        return findSlice(specification, Sort.by(Sort.Direction.DESC, "placedDate", "id"), size);
+    }
+
+    @Override
+    protected CompoundSelection<ProductOrderDTO> select(Root<ProductOrder> root, CriteriaBuilder builder) {
+        Join<ProductOrder, Customer> customer = root.join(ProductOrder_.customer);
+        return builder.construct(ProductOrderDTO.class, root.get(ProductOrder_.id), root.get(ProductOrder_.placedDate),
+            root.get(ProductOrder_.status), root.get(ProductOrder_.code), root.get(ProductOrder_.invoiceId),
+            customer.get(Customer_.id), customer.get(Customer_.email));
+    }
+
+    /**
+     * Function to convert ProductOrderCriteria to a {@link Specification}
+     */
+    private Specification<ProductOrder> createSpecification(ProductOrderCriteria criteria) {
+        Specification<ProductOrder> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), ProductOrder_.id));
+            }
+            if (criteria.getPlacedDate() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPlacedDate(), ProductOrder_.placedDate));
+            }
+            if (criteria.getStatus() != null) {
+                specification = specification.and(buildSpecification(criteria.getStatus(), ProductOrder_.status));
+            }
+            if (criteria.getCode() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getCode(), ProductOrder_.code));
+            }
+            if (criteria.getInvoiceId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getInvoiceId(), ProductOrder_.invoiceId));
+            }
+            if (criteria.getCustomerId() != null) {
+                specification = specification.and(buildReferenceIdSpecification(criteria.getCustomerId(), ProductOrder_.customer, Customer_.id));
+            }
+        }
+        return specification;
+    }
+}
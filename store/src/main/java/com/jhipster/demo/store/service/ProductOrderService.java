@@ -1,16 +1,32 @@
 package com.jhipster.demo.store.service;
 
+import com.jhipster.demo.store.domain.OrderItem;
 import com.jhipster.demo.store.domain.ProductOrder;
+import com.jhipster.demo.store.repository.OrderItemRepository;
 import com.jhipster.demo.store.repository.ProductOrderRepository;
+import com.jhipster.demo.store.service.analytics.OrderAnalyticsService;
+import com.jhipster.demo.store.service.analytics.RevenueRollup;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.ProductOrderDTO;
+import com.jhipster.demo.store.service.mapper.OrderItemMapper;
+import com.jhipster.demo.store.service.mapper.ProductOrderMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Validator;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service Implementation for managing ProductOrder.
@@ -23,32 +39,104 @@ public class ProductOrderService {
 
     private final ProductOrderRepository productOrderRepository;
 
-    public ProductOrderService(ProductOrderRepository productOrderRepository) {
+    private final OrderItemRepository orderItemRepository;
+
+    private final ProductOrderMapper productOrderMapper;
+
+    private final OrderItemMapper orderItemMapper;
+
+    private final CountStrategy countStrategy;
+
+    private final Validator validator;
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    public ProductOrderService(ProductOrderRepository productOrderRepository, OrderItemRepository orderItemRepository,
+            ProductOrderMapper productOrderMapper, OrderItemMapper orderItemMapper, CountStrategy countStrategy,
+            Validator validator, OrderAnalyticsService orderAnalyticsService) {
         this.productOrderRepository = productOrderRepository;
+        this.orderItemRepository = orderItemRepository;
+        this.productOrderMapper = productOrderMapper;
+        this.orderItemMapper = orderItemMapper;
+        this.countStrategy = countStrategy;
+        this.validator = validator;
+        this.orderAnalyticsService = orderAnalyticsService;
     }
 
     /**
-     * Save a productOrder.
+     * Save a productOrder, and update the order revenue rollup when its placed date or status has changed.
      *
-     * @param productOrder the entity to save
+     * @param productOrderDTO the entity to save
      * @return the persisted entity
      */
-    public ProductOrder save(ProductOrder productOrder) {
-        log.debug("Request to save ProductOrder : {}", productOrder);        return productOrderRepository.save(productOrder);
+    public ProductOrderDTO save(ProductOrderDTO productOrderDTO) {
+        log.debug("Request to save ProductOrder : {}", productOrderDTO);
+        RevenueRollup previousRevenue = orderAnalyticsService.findOrderRevenue(productOrderDTO.getId());
+        ProductOrder productOrder = productOrderMapper.toEntity(productOrderDTO);
+        productOrder = productOrderRepository.saveAndFlush(productOrder);
+        orderAnalyticsService.update(previousRevenue, orderAnalyticsService.findOrderRevenue(productOrder.getId()));
+        return productOrderMapper.toDto(productOrder);
+    }
+
+    /**
+     * Place a productOrder: save it with all its orderItems in a single transaction, and update the order revenue rollup.
+     *
+     * <p>
+     * Ids come from pooled sequences, so the inserts of the orderItems are sent as one JDBC batch.
+     *
+     * @param productOrderDTO the entity to place, with its orderItems
+     * @return the persisted entity, with its orderItems
+     * @throws ConstraintViolationException if an orderItem is not valid
+     */
+    public ProductOrderDTO place(ProductOrderDTO productOrderDTO) {
+        log.debug("Request to place ProductOrder : {}", productOrderDTO);
+        ProductOrder productOrder = productOrderMapper.toEntity(productOrderDTO);
+        Set<ConstraintViolation<OrderItem>> violations = new HashSet<>();
+        for (OrderItem orderItem : productOrder.getOrderItems()) {
+            orderItem.setOrder(productOrder);
+            violations.addAll(validator.validate(orderItem));
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        ProductOrderDTO result = productOrderMapper.toDto(productOrderRepository.save(productOrder));
+        result.setOrderItems(new HashSet<>(orderItemMapper.toDto(orderItemRepository.saveAll(productOrder.getOrderItems()))));
+        orderItemRepository.flush();
+        orderAnalyticsService.update(new RevenueRollup(), orderAnalyticsService.findOrderRevenue(result.getId()));
+        return result;
     }
 
     /**
      * Get all the productOrders.
      *
+     * <p>
+     * The total number of entities is computed by the configured {@link CountStrategy}.
+     *
      * @param pageable the pagination information
      * @return the list of entities
      */
     @Transactional(readOnly = true)
-    public Page<ProductOrder> findAll(Pageable pageable) {
+    public Page<ProductOrderDTO> findAll(Pageable pageable) {
         log.debug("Request to get all ProductOrders");
-        return productOrderRepository.findAll(pageable);
+        Slice<ProductOrderDTO> slice = productOrderRepository.findAllProjectedBy(pageable);
+        return countStrategy.toPage(slice, "product_order", "", productOrderRepository::count);
     }
 
+    /**
+     * Export all the productOrders, ordered by id.
+     * <p>
+     * The DTOs are read with a database cursor and are not managed, so the memory used does not depend
+     * on the number of productOrders.
+     *
+     * @param consumer the consumer of the productOrders
+     */
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<ProductOrderDTO> consumer) {
+        log.debug("Request to export all ProductOrders");
+        try (Stream<ProductOrderDTO> productOrders = productOrderRepository.streamAllProjectedBy()) {
+            productOrders.forEach(consumer);
+        }
+    }
 
     /**
      * Get one productOrder by id.
@@ -57,9 +145,10 @@ public class ProductOrderService {
      * @return the entity
      */
     @Transactional(readOnly = true)
-    public Optional<ProductOrder> findOne(Long id) {
+    public Optional<ProductOrderDTO> findOne(Long id) {
         log.debug("Request to get ProductOrder : {}", id);
-        return productOrderRepository.findById(id);
+        return productOrderRepository.findById(id)
+            .map(productOrderMapper::toDto);
     }
 
     /**
@@ -0,0 +1,98 @@
+package com.jhipster.demo.store.service;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.*; // for static metamodels
+import com.jhipster.demo.store.repository.ProductRepository;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.ProductCriteria;
+import com.jhipster.demo.store.service.dto.ProductDTO;
+
+/**
+ * Service for executing complex queries for Product entities in the database.
+ * The main input is a {@link ProductCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link Page} of {@link ProductDTO} which fulfills the criteria.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ProductQueryService extends CountingQueryService<Product, ProductDTO> {
+
+    private final Logger log = LoggerFactory.getLogger(ProductQueryService.class);
+
+    public ProductQueryService(ProductRepository productRepository, CountStrategy countStrategy, EntityManager entityManager) {
+        super(Product.class, ProductDTO.class, "product", productRepository, countStrategy, entityManager);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ProductDTO} which matches the criteria from the database
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    public Page<ProductDTO> findByCriteria(ProductCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Product> specification = createSpecification(criteria);
+        return findPage(specification, criteria, page);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link ProductDTO} which matches the criteria from the database, using keyset pagination on the id.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param afterId The id of the last entity of the previous slice, or null for the first slice.
+     * @param size The maximum number of entities to return.
+     * @return the matching entities.
+     */
+    public Slice<ProductDTO> findByCriteriaAfter(ProductCriteria criteria, Long afterId, int size) {
+        log.debug("find by criteria : {}, after : {}", criteria, afterId);
+        return findSliceAfterId(createSpecification(criteria), Product_.id, afterId, size);
+    }
+
+    @Override
+    protected CompoundSelection<ProductDTO> select(Root<Product> root, CriteriaBuilder builder) {
+        Join<Product, ProductCategory> productCategory = root.join(Product_.productCategory, JoinType.LEFT);
+        return builder.construct(ProductDTO.class, root.get(Product_.id), root.get(Product_.name),
+            root.get(Product_.description), root.get(Product_.price), root.get(Product_.size),
+            root.get(Product_.imageContentType), root.get(Product_.imageSha256),
+            productCategory.get(ProductCategory_.id), productCategory.get(ProductCategory_.name));
+    }
+
+    /**
+     * Function to convert ProductCriteria to a {@link Specification}
+     */
+    private Specification<Product> createSpecification(ProductCriteria criteria) {
+        Specification<Product> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildSpecification(criteria.getId(), Product_.id));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Product_.name));
+            }
+            if (criteria.getDescription() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getDescription(), Product_.description));
+            }
+            if (criteria.getPrice() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getPrice(), Product_.price));
+            }
+            if (criteria.getProductSize() != null) {
+                specification = specification.and(buildSpecification(criteria.getProductSize(), Product_.size));
+            }
+            if (criteria.getProductCategoryId() != null) {
+                specification = specification.and(buildReferenceIdSpecification(criteria.getProductCategoryId(), Product_.productCategory, ProductCategory_.id));
+            }
+        }
+        return specification;
+    }
+}
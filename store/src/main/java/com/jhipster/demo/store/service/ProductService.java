@@ -1,15 +1,25 @@
 package com.jhipster.demo.store.service;
 
 import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.ProductCategory;
 import com.jhipster.demo.store.repository.ProductRepository;
+import com.jhipster.demo.store.service.analytics.OrderAnalyticsService;
+import com.jhipster.demo.store.service.count.CountStrategy;
+import com.jhipster.demo.store.service.dto.ProductDTO;
+import com.jhipster.demo.store.service.mapper.ProductMapper;
+import com.jhipster.demo.store.service.util.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.Optional;
 
 /**
@@ -23,43 +33,106 @@ public class ProductService {
 
     private final ProductRepository productRepository;
 
-    public ProductService(ProductRepository productRepository) {
+    private final ProductMapper productMapper;
+
+    private final CountStrategy countStrategy;
+
+    private final ImageStorageService imageStorageService;
+
+    private final SingleFlight singleFlight;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    public ProductService(ProductRepository productRepository, ProductMapper productMapper, CountStrategy countStrategy,
+            ImageStorageService imageStorageService, SingleFlight singleFlight, EntityManagerFactory entityManagerFactory,
+            OrderAnalyticsService orderAnalyticsService) {
         this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.countStrategy = countStrategy;
+        this.imageStorageService = imageStorageService;
+        this.singleFlight = singleFlight;
+        this.entityManagerFactory = entityManagerFactory;
+        this.orderAnalyticsService = orderAnalyticsService;
     }
 
     /**
      * Save a product.
+     * <p>
+     * A new image is moved to the image storage. Without a new image, the current image is kept,
+     * unless its content type was removed.
+     * <p>
+     * When the category changes, the revenue of the product is moved to the new category in the order revenue rollup.
      *
-     * @param product the entity to save
+     * @param productDTO the entity to save
      * @return the persisted entity
      */
-    public Product save(Product product) {
-        log.debug("Request to save Product : {}", product);        return productRepository.save(product);
+    public ProductDTO save(ProductDTO productDTO) {
+        log.debug("Request to save Product : {}", productDTO);
+        Product product = productMapper.toEntity(productDTO);
+        Optional<Product> previous = product.getId() == null ? Optional.empty() : productRepository.findById(product.getId());
+        Long previousCategoryId = previous.map(Product::getProductCategory).map(ProductCategory::getId).orElse(null);
+        if (product.getImage() != null) {
+            product.setImageSha256(imageStorageService.store(product.getImage()));
+            product.setImage(null);
+        } else if (product.getImageContentType() == null) {
+            product.setImageSha256(null);
+        } else {
+            product.setImageSha256(previous.map(Product::getImageSha256).orElse(null));
+        }
+        product = productRepository.save(product);
+        if (previous.isPresent()) {
+            orderAnalyticsService.moveProductRevenue(product.getId(), previousCategoryId, productDTO.getProductCategoryId());
+        }
+        return productMapper.toDto(product);
     }
 
     /**
      * Get all the products.
      *
+     * <p>
+     * The total number of entities is computed by the configured {@link CountStrategy}.
+     *
      * @param pageable the pagination information
      * @return the list of entities
      */
     @Transactional(readOnly = true)
-    public Page<Product> findAll(Pageable pageable) {
+    public Page<ProductDTO> findAll(Pageable pageable) {
         log.debug("Request to get all Products");
-        return productRepository.findAll(pageable);
+        Slice<ProductDTO> slice = productRepository.findAllProjectedBy(pageable);
+        return countStrategy.toPage(slice, "product", "", productRepository::count);
     }
 
-
     /**
      * Get one product by id.
+     * <p>
+     * Not transactional, so that concurrent calls for the same id share a single load, see {@link SingleFlight}.
+     * The returned DTO may be shared with other threads, and must not be modified.
      *
      * @param id the id of the entity
      * @return the entity
      */
-    @Transactional(readOnly = true)
-    public Optional<Product> findOne(Long id) {
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<ProductDTO> findOne(Long id) {
         log.debug("Request to get Product : {}", id);
-        return productRepository.findById(id);
+        return singleFlight.load("Product", id,
+            () -> entityManagerFactory.getCache().contains(Product.class, id),
+            () -> productRepository.findById(id).map(productMapper::toDto));
+    }
+
+    /**
+     * Get the image of a product.
+     *
+     * @param product the product
+     * @return the image, or empty if the product has no image
+     */
+    @Transactional(readOnly = true)
+    public Optional<Resource> findImage(ProductDTO product) {
+        if (product.getImageSha256() == null) {
+            return Optional.empty();
+        }
+        return imageStorageService.load(product.getImageSha256());
     }
 
     /**
@@ -0,0 +1,262 @@
+package com.jhipster.demo.store.service.analytics;
+
+import com.jhipster.demo.store.domain.enumeration.OrderStatus;
+import com.jhipster.demo.store.repository.ProductCategoryRepository;
+import com.jhipster.demo.store.service.dto.ProductCategoryDTO;
+import com.jhipster.demo.store.service.dto.RevenueDTO;
+import com.jhipster.demo.store.service.analytics.RevenueRollup.Dimension;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ILock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Service maintaining the rollup of the order revenue, stored in the "order_revenue" table.
+ * <p>
+ * The rollup is updated in the transactions changing the orders and order items, from the revenue of the changed
+ * rows before and after the change, so reading it never scans the orders. It is rebuilt from the order items every
+ * night, to correct any drift, and on startup when it is empty. Only one node rebuilds it at a time: the rebuild holds
+ * a cluster-wide lock until it is committed, and is skipped by the other nodes while the lock is held.
+ */
+@Service
+@Transactional
+public class OrderAnalyticsService {
+
+    private final Logger log = LoggerFactory.getLogger(OrderAnalyticsService.class);
+
+    private static final String REBUILD_LOCK_NAME = "order-revenue-rebuild";
+
+    private static final String REVENUE_QUERY =
+        "select po.placed_date, po.status, p.product_category_id, sum(oi.total_price), sum(oi.quantity) from order_item oi" +
+        " join product_order po on po.id = oi.order_id join product p on p.id = oi.product_id";
+
+    private static final String REVENUE_GROUP_BY = " group by po.placed_date, po.status, p.product_category_id";
+
+    private static final String UPDATE_BUCKET =
+        "update order_revenue set revenue = revenue + ?, quantity = quantity + ? where dimension = ? and bucket = ?";
+
+    private static final String INSERT_BUCKET = "insert into order_revenue (dimension, bucket, revenue, quantity) values (?, ?, ?, ?)";
+
+    private static final String SELECT_BUCKETS = "select bucket, revenue, quantity from order_revenue where dimension = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ProductCategoryRepository productCategoryRepository;
+
+    private final HazelcastInstance hazelcastInstance;
+
+    public OrderAnalyticsService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            ProductCategoryRepository productCategoryRepository, HazelcastInstance hazelcastInstance) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.productCategoryRepository = productCategoryRepository;
+        this.hazelcastInstance = hazelcastInstance;
+    }
+
+    /**
+     * Get the revenue of an orderItem, as stored in the database.
+     *
+     * @param id the id of the orderItem, or null
+     * @return the revenue, empty if the orderItem does not exist
+     */
+    public RevenueRollup findOrderItemRevenue(Long id) {
+        return findRevenue(" where oi.id = ?", id);
+    }
+
+    /**
+     * Get the revenue of the orderItems of a productOrder, as stored in the database.
+     *
+     * @param id the id of the productOrder, or null
+     * @return the revenue, empty if the productOrder does not exist or has no orderItems
+     */
+    public RevenueRollup findOrderRevenue(Long id) {
+        return findRevenue(" where oi.order_id = ?", id);
+    }
+
+    /**
+     * Update the rollup after a change of the orders or orderItems.
+     * <p>
+     * Changes made with JPA must be flushed before the current revenue is read.
+     *
+     * @param previous the revenue of the changed rows before the change
+     * @param current the revenue of the changed rows after the change
+     */
+    public void update(RevenueRollup previous, RevenueRollup current) {
+        current.minus(previous).forEach(this::addToBucket);
+    }
+
+    /**
+     * Update the rollup after the category of a product has changed, moving the revenue of its orderItems.
+     *
+     * @param productId the id of the product
+     * @param previousCategoryId the id of its previous category, or null
+     * @param categoryId the id of its new category, or null
+     */
+    public void moveProductRevenue(Long productId, Long previousCategoryId, Long categoryId) {
+        if (Objects.equals(previousCategoryId, categoryId)) {
+            return;
+        }
+        jdbcTemplate.query("select sum(total_price), sum(quantity) from order_item where product_id = ?", resultSet -> {
+            BigDecimal revenue = resultSet.getBigDecimal(1);
+            if (revenue != null) {
+                long quantity = resultSet.getLong(2);
+                addToBucket(Dimension.CATEGORY, RevenueRollup.category(previousCategoryId), revenue.negate(), -quantity);
+                addToBucket(Dimension.CATEGORY, RevenueRollup.category(categoryId), revenue, quantity);
+            }
+        }, productId);
+    }
+
+    /**
+     * Rebuild the rollup from all the orderItems.
+     * <p>
+     * The rollup is deleted before the orderItems are read, so the transactions changing the orders during the rebuild
+     * either wait for it, or have committed their changes before it reads them.
+     *
+     * @return true if the rollup was rebuilt, false if another node is rebuilding it
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean rebuild() {
+        return rebuild(false);
+    }
+
+    @Scheduled(cron = "${application.analytics.rebuild-cron:0 30 2 * * ?}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void scheduledRebuild() {
+        rebuild(false);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void rebuildIfEmpty() {
+        try {
+            rebuild(true);
+        } catch (RuntimeException e) {
+            log.error("Could not build the order revenue rollup, it is rebuilt by the next scheduled rebuild", e);
+        }
+    }
+
+    private boolean rebuild(boolean onlyIfEmpty) {
+        ILock lock = hazelcastInstance.getLock(REBUILD_LOCK_NAME);
+        if (!lock.tryLock()) {
+            log.info("The order revenue rollup is being rebuilt by another node");
+            return false;
+        }
+        try {
+            // The lock is released once the rebuild is committed, so the other nodes see the rebuilt rollup
+            transactionTemplate.execute(status -> {
+                if (!onlyIfEmpty || jdbcTemplate.queryForObject("select count(*) from order_revenue", Long.class) == 0) {
+                    rebuildRollup();
+                }
+                return null;
+            });
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rebuildRollup() {
+        long start = System.currentTimeMillis();
+        jdbcTemplate.update("delete from order_revenue");
+        RevenueRollup rollup = findRevenue("", null);
+        List<Object[]> rows = new ArrayList<>();
+        rollup.forEach((dimension, bucket, revenue, quantity) -> rows.add(new Object[] { dimension.name(), bucket, revenue, quantity }));
+        jdbcTemplate.batchUpdate(INSERT_BUCKET, rows);
+        log.info("Order revenue rollup rebuilt with {} buckets in {} ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Get the revenue by day.
+     *
+     * @param from the first day, inclusive
+     * @param to the last day, inclusive
+     * @return the revenue of the days having orders, in chronological order
+     */
+    @Transactional(readOnly = true)
+    public List<RevenueDTO> findRevenueByDay(LocalDate from, LocalDate to) {
+        log.debug("Request to get the revenue by day from {} to {}", from, to);
+        return jdbcTemplate.query(SELECT_BUCKETS + " and bucket between ? and ? order by bucket", revenueMapper(null),
+            Dimension.DAY.name(), RevenueRollup.day(from), RevenueRollup.day(to));
+    }
+
+    /**
+     * Get the revenue by product category.
+     *
+     * @return the revenue of the categories having orders, highest first
+     */
+    @Transactional(readOnly = true)
+    public List<RevenueDTO> findRevenueByCategory() {
+        log.debug("Request to get the revenue by category");
+        Map<String, String> names = productCategoryRepository.findAllProjectedBy().stream()
+            .collect(Collectors.toMap(category -> RevenueRollup.category(category.getId()), ProductCategoryDTO::getName));
+        return jdbcTemplate.query(SELECT_BUCKETS + " order by revenue desc", revenueMapper(names), Dimension.CATEGORY.name());
+    }
+
+    /**
+     * Get the revenue by order status.
+     *
+     * @return the revenue of the statuses having orders, highest first
+     */
+    @Transactional(readOnly = true)
+    public List<RevenueDTO> findRevenueByStatus() {
+        log.debug("Request to get the revenue by status");
+        return jdbcTemplate.query(SELECT_BUCKETS + " order by revenue desc", revenueMapper(null), Dimension.STATUS.name());
+    }
+
+    private RevenueRollup findRevenue(String where, Long id) {
+        RevenueRollup rollup = new RevenueRollup();
+        if (!where.isEmpty() && id == null) {
+            return rollup;
+        }
+        Object[] args = where.isEmpty() ? new Object[0] : new Object[] { id };
+        jdbcTemplate.query(REVENUE_QUERY + where + REVENUE_GROUP_BY, resultSet -> {
+            long categoryId = resultSet.getLong(3);
+            Long nullableCategoryId = resultSet.wasNull() ? null : categoryId;
+            rollup.add(resultSet.getTimestamp(1).toInstant(), OrderStatus.valueOf(resultSet.getString(2)),
+                nullableCategoryId, resultSet.getBigDecimal(4), resultSet.getLong(5));
+        }, args);
+        return rollup;
+    }
+
+    private void addToBucket(Dimension dimension, String bucket, BigDecimal revenue, long quantity) {
+        if (jdbcTemplate.update(UPDATE_BUCKET, revenue, quantity, dimension.name(), bucket) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_BUCKET, dimension.name(), bucket, revenue, quantity);
+            } catch (DuplicateKeyException e) {
+                // Inserted by a concurrent transaction
+                jdbcTemplate.update(UPDATE_BUCKET, revenue, quantity, dimension.name(), bucket);
+            }
+        }
+    }
+
+    private static RowMapper<RevenueDTO> revenueMapper(Map<String, String> names) {
+        return (ResultSet resultSet, int rowNum) -> {
+            String bucket = resultSet.getString("bucket");
+            return new RevenueDTO(bucket, names == null ? null : names.get(bucket),
+                resultSet.getBigDecimal("revenue"), resultSet.getLong("quantity"));
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.jhipster.demo.store.service.analytics;
+
+import com.jhipster.demo.store.domain.enumeration.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The revenue and quantity of order items, summed by day, product category and order status.
+ * <p>
+ * Each order item adds to one bucket of each {@link Dimension}, so the totals of the buckets of each dimension are the same.
+ * This class is not thread-safe.
+ */
+public class RevenueRollup {
+
+    /**
+     * The bucket of the order items without a product category.
+     */
+    public static final String NO_CATEGORY = "none";
+
+    /**
+     * The dimensions of the rollup.
+     */
+    public enum Dimension {
+        DAY, CATEGORY, STATUS
+    }
+
+    /**
+     * Receives the totals of a bucket.
+     */
+    @FunctionalInterface
+    public interface BucketConsumer {
+
+        void accept(Dimension dimension, String bucket, BigDecimal revenue, long quantity);
+    }
+
+    private final Map<Dimension, Map<String, Totals>> dimensions = new EnumMap<>(Dimension.class);
+
+    /**
+     * Add order items to the rollup.
+     *
+     * @param placedDate the placed date of their order
+     * @param status the status of their order
+     * @param categoryId the id of the category of their product, or null
+     * @param revenue their total price
+     * @param quantity their quantity
+     */
+    public void add(Instant placedDate, OrderStatus status, Long categoryId, BigDecimal revenue, long quantity) {
+        add(Dimension.DAY, day(placedDate), revenue, quantity);
+        add(Dimension.CATEGORY, category(categoryId), revenue, quantity);
+        add(Dimension.STATUS, status.name(), revenue, quantity);
+    }
+
+    /**
+     * Add to the totals of a single bucket.
+     *
+     * @param dimension the dimension of the bucket
+     * @param bucket the bucket
+     * @param revenue the revenue to add, negative to subtract
+     * @param quantity the quantity to add, negative to subtract
+     */
+    public void add(Dimension dimension, String bucket, BigDecimal revenue, long quantity) {
+        Totals totals = dimensions.computeIfAbsent(dimension, d -> new HashMap<>()).computeIfAbsent(bucket, b -> new Totals());
+        totals.revenue = totals.revenue.add(revenue);
+        totals.quantity += quantity;
+    }
+
+    /**
+     * Compute the changes from another rollup to this one.
+     *
+     * @param previous the other rollup
+     * @return the differences, without the buckets left unchanged
+     */
+    public RevenueRollup minus(RevenueRollup previous) {
+        RevenueRollup delta = new RevenueRollup();
+        forEach(delta::add);
+        previous.forEach((dimension, bucket, revenue, quantity) -> delta.add(dimension, bucket, revenue.negate(), -quantity));
+        delta.dimensions.values().forEach(buckets -> buckets.values().removeIf(Totals::isZero));
+        return delta;
+    }
+
+    /**
+     * Call a consumer with the totals of each bucket.
+     *
+     * @param consumer the consumer
+     */
+    public void forEach(BucketConsumer consumer) {
+        dimensions.forEach((dimension, buckets) ->
+            buckets.forEach((bucket, totals) -> consumer.accept(dimension, bucket, totals.revenue, totals.quantity)));
+    }
+
+    /**
+     * Get the bucket of a day.
+     *
+     * @param placedDate the placed date of an order
+     * @return its UTC day, in ISO format
+     */
+    public static String day(Instant placedDate) {
+        return day(placedDate.atOffset(ZoneOffset.UTC).toLocalDate());
+    }
+
+    /**
+     * Get the bucket of a day.
+     *
+     * @param day the day
+     * @return the day, in ISO format
+     */
+    public static String day(LocalDate day) {
+        return day.toString();
+    }
+
+    /**
+     * Get the bucket of a product category.
+     *
+     * @param categoryId the id of the category, or null
+     * @return the bucket
+     */
+    public static String category(Long categoryId) {
+        return categoryId == null ? NO_CATEGORY : categoryId.toString();
+    }
+
+    private static class Totals {
+
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private long quantity;
+
+        private boolean isZero() {
+            return revenue.signum() == 0 && quantity == 0;
+        }
+    }
+}
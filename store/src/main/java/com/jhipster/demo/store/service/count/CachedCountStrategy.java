@@ -0,0 +1,37 @@
+package com.jhipster.demo.store.service.count;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Count strategy caching exact counts in Hazelcast, per table and filter.
+ * <p>
+ * The cached value is shared by all the nodes of the cluster, and expires after the configured time to live.
+ */
+public class CachedCountStrategy implements CountStrategy {
+
+    public static final String COUNTS_MAP = "paginationCounts";
+
+    private final IMap<String, Long> counts;
+
+    private final int timeToLiveSeconds;
+
+    public CachedCountStrategy(HazelcastInstance hazelcastInstance, int timeToLiveSeconds) {
+        this.counts = hazelcastInstance.getMap(COUNTS_MAP);
+        this.timeToLiveSeconds = timeToLiveSeconds;
+    }
+
+    @Override
+    public long count(String table, String filter, LongSupplier exactCount) {
+        String key = table + "|" + filter;
+        Long count = counts.get(key);
+        if (count == null) {
+            count = exactCount.getAsLong();
+            counts.set(key, count, timeToLiveSeconds, TimeUnit.SECONDS);
+        }
+        return count;
+    }
+}
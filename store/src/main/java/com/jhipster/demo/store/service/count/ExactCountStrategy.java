@@ -0,0 +1,14 @@
+package com.jhipster.demo.store.service.count;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Count strategy running an exact {@code count(*)} query.
+ */
+public class ExactCountStrategy implements CountStrategy {
+
+    @Override
+    public long count(String table, String filter, LongSupplier exactCount) {
+        return exactCount.getAsLong();
+    }
+}
@@ -0,0 +1,198 @@
+package com.jhipster.demo.store.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import com.jhipster.demo.store.domain.enumeration.Gender;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the Customer entity. This class is used in CustomerResource to
+ * receive all the possible filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * <code>/customers?lastName.contains=smith&amp;country.equals=France</code>
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class CustomerCriteria implements Serializable {
+    /**
+     * Class for filtering Gender
+     */
+    public static class GenderFilter extends Filter<Gender> {
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter firstName;
+
+    private StringFilter lastName;
+
+    private GenderFilter gender;
+
+    private StringFilter email;
+
+    private StringFilter phone;
+
+    private StringFilter addressLine1;
+
+    private StringFilter addressLine2;
+
+    private StringFilter city;
+
+    private StringFilter country;
+
+    private LongFilter userId;
+
+    public CustomerCriteria() {
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(StringFilter firstName) {
+        this.firstName = firstName;
+    }
+
+    public StringFilter getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(StringFilter lastName) {
+        this.lastName = lastName;
+    }
+
+    public GenderFilter getGender() {
+        return gender;
+    }
+
+    public void setGender(GenderFilter gender) {
+        this.gender = gender;
+    }
+
+    public StringFilter getEmail() {
+        return email;
+    }
+
+    public void setEmail(StringFilter email) {
+        this.email = email;
+    }
+
+    public StringFilter getPhone() {
+        return phone;
+    }
+
+    public void setPhone(StringFilter phone) {
+        this.phone = phone;
+    }
+
+    public StringFilter getAddressLine1() {
+        return addressLine1;
+    }
+
+    public void setAddressLine1(StringFilter addressLine1) {
+        this.addressLine1 = addressLine1;
+    }
+
+    public StringFilter getAddressLine2() {
+        return addressLine2;
+    }
+
+    public void setAddressLine2(StringFilter addressLine2) {
+        this.addressLine2 = addressLine2;
+    }
+
+    public StringFilter getCity() {
+        return city;
+    }
+
+    public void setCity(StringFilter city) {
+        this.city = city;
+    }
+
+    public StringFilter getCountry() {
+        return country;
+    }
+
+    public void setCountry(StringFilter country) {
+        this.country = country;
+    }
+
+    public LongFilter getUserId() {
+        return userId;
+    }
+
+    public void setUserId(LongFilter userId) {
+        this.userId = userId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CustomerCriteria that = (CustomerCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(firstName, that.firstName) &&
+            Objects.equals(lastName, that.lastName) &&
+            Objects.equals(gender, that.gender) &&
+            Objects.equals(email, that.email) &&
+            Objects.equals(phone, that.phone) &&
+            Objects.equals(addressLine1, that.addressLine1) &&
+            Objects.equals(addressLine2, that.addressLine2) &&
+            Objects.equals(city, that.city) &&
+            Objects.equals(country, that.country) &&
+            Objects.equals(userId, that.userId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        firstName,
+        lastName,
+        gender,
+        email,
+        phone,
+        addressLine1,
+        addressLine2,
+        city,
+        country,
+        userId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "CustomerCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (firstName != null ? "firstName=" + firstName + ", " : "") +
+                (lastName != null ? "lastName=" + lastName + ", " : "") +
+                (gender != null ? "gender=" + gender + ", " : "") +
+                (email != null ? "email=" + email + ", " : "") +
+                (phone != null ? "phone=" + phone + ", " : "") +
+                (addressLine1 != null ? "addressLine1=" + addressLine1 + ", " : "") +
+                (addressLine2 != null ? "addressLine2=" + addressLine2 + ", " : "") +
+                (city != null ? "city=" + city + ", " : "") +
+                (country != null ? "country=" + country + ", " : "") +
+                (userId != null ? "userId=" + userId + ", " : "") +
+            "}";
+    }
+
+}
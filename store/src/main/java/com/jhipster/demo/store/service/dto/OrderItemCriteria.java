@@ -0,0 +1,134 @@
+package com.jhipster.demo.store.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import com.jhipster.demo.store.domain.enumeration.OrderItemStatus;
+import io.github.jhipster.service.filter.BigDecimalFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.IntegerFilter;
+import io.github.jhipster.service.filter.LongFilter;
+
+/**
+ * Criteria class for the OrderItem entity. This class is used in OrderItemResource to
+ * receive all the possible filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * <code>/order-items?orderId.equals=12&amp;status.equals=BACK_ORDER</code>
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class OrderItemCriteria implements Serializable {
+    /**
+     * Class for filtering OrderItemStatus
+     */
+    public static class OrderItemStatusFilter extends Filter<OrderItemStatus> {
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private IntegerFilter quantity;
+
+    private BigDecimalFilter totalPrice;
+
+    private OrderItemStatusFilter status;
+
+    private LongFilter productId;
+
+    private LongFilter orderId;
+
+    public OrderItemCriteria() {
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public IntegerFilter getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(IntegerFilter quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimalFilter getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(BigDecimalFilter totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public OrderItemStatusFilter getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderItemStatusFilter status) {
+        this.status = status;
+    }
+
+    public LongFilter getProductId() {
+        return productId;
+    }
+
+    public void setProductId(LongFilter productId) {
+        this.productId = productId;
+    }
+
+    public LongFilter getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(LongFilter orderId) {
+        this.orderId = orderId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final OrderItemCriteria that = (OrderItemCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(quantity, that.quantity) &&
+            Objects.equals(totalPrice, that.totalPrice) &&
+            Objects.equals(status, that.status) &&
+            Objects.equals(productId, that.productId) &&
+            Objects.equals(orderId, that.orderId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        quantity,
+        totalPrice,
+        status,
+        productId,
+        orderId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "OrderItemCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (quantity != null ? "quantity=" + quantity + ", " : "") +
+                (totalPrice != null ? "totalPrice=" + totalPrice + ", " : "") +
+                (status != null ? "status=" + status + ", " : "") +
+                (productId != null ? "productId=" + productId + ", " : "") +
+                (orderId != null ? "orderId=" + orderId + ", " : "") +
+            "}";
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.jhipster.demo.store.service.dto;
+
+import javax.validation.constraints.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import com.jhipster.demo.store.domain.enumeration.OrderItemStatus;
+
+/**
+ * A DTO for the OrderItem entity.
+ */
+public class OrderItemDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    @Min(value = 0)
+    private Integer quantity;
+
+    @NotNull
+    @DecimalMin(value = "0")
+    private BigDecimal totalPrice;
+
+    @NotNull
+    private OrderItemStatus status;
+
+    private Long productId;
+
+    private String productName;
+
+    private Long orderId;
+
+    private String orderCode;
+
+    public OrderItemDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    /**
+     * Projection constructor, used by the repository to select only the columns of the DTO.
+     */
+    public OrderItemDTO(Long id, Integer quantity, BigDecimal totalPrice, OrderItemStatus status, Long productId,
+            String productName, Long orderId, String orderCode) {
+        this.id = id;
+        this.quantity = quantity;
+        this.totalPrice = totalPrice;
+        this.status = status;
+        this.productId = productId;
+        this.productName = productName;
+        this.orderId = orderId;
+        this.orderCode = orderCode;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public OrderItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderItemStatus status) {
+        this.status = status;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getOrderCode() {
+        return orderCode;
+    }
+
+    public void setOrderCode(String orderCode) {
+        this.orderCode = orderCode;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        OrderItemDTO orderItemDTO = (OrderItemDTO) o;
+        if (orderItemDTO.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), orderItemDTO.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "OrderItemDTO{" +
+            "id=" + getId() +
+            ", quantity=" + getQuantity() +
+            ", totalPrice=" + getTotalPrice() +
+            ", status='" + getStatus() + "'" +
+            ", product=" + getProductId() +
+            ", product='" + getProductName() + "'" +
+            ", order=" + getOrderId() +
+            ", order='" + getOrderCode() + "'" +
+            "}";
+    }
+}
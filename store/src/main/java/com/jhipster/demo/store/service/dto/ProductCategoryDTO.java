@@ -0,0 +1,85 @@
+package com.jhipster.demo.store.service.dto;
+
+import javax.validation.constraints.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the ProductCategory entity.
+ */
+public class ProductCategoryDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    private String name;
+
+    private String description;
+
+    public ProductCategoryDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    /**
+     * Projection constructor, used by the repository to select only the columns of the DTO.
+     */
+    public ProductCategoryDTO(Long id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ProductCategoryDTO productCategoryDTO = (ProductCategoryDTO) o;
+        if (productCategoryDTO.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), productCategoryDTO.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "ProductCategoryDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", description='" + getDescription() + "'" +
+            "}";
+    }
+}
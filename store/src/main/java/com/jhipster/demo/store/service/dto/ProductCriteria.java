@@ -0,0 +1,136 @@
+package com.jhipster.demo.store.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import com.jhipster.demo.store.domain.enumeration.Size;
+import io.github.jhipster.service.filter.BigDecimalFilter;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the Product entity. This class is used in ProductResource to
+ * receive all the possible filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * <code>/products?price.greaterOrEqualThan=10&amp;productCategoryId.equals=2&amp;productSize.in=M,L</code>
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ * <p>
+ * The size filter is named {@code productSize}, so it does not clash with the {@code size} parameter of the pagination.
+ */
+public class ProductCriteria implements Serializable {
+    /**
+     * Class for filtering Size
+     */
+    public static class SizeFilter extends Filter<Size> {
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private StringFilter name;
+
+    private StringFilter description;
+
+    private BigDecimalFilter price;
+
+    private SizeFilter productSize;
+
+    private LongFilter productCategoryId;
+
+    public ProductCriteria() {
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public StringFilter getDescription() {
+        return description;
+    }
+
+    public void setDescription(StringFilter description) {
+        this.description = description;
+    }
+
+    public BigDecimalFilter getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimalFilter price) {
+        this.price = price;
+    }
+
+    public SizeFilter getProductSize() {
+        return productSize;
+    }
+
+    public void setProductSize(SizeFilter productSize) {
+        this.productSize = productSize;
+    }
+
+    public LongFilter getProductCategoryId() {
+        return productCategoryId;
+    }
+
+    public void setProductCategoryId(LongFilter productCategoryId) {
+        this.productCategoryId = productCategoryId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ProductCriteria that = (ProductCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(description, that.description) &&
+            Objects.equals(price, that.price) &&
+            Objects.equals(productSize, that.productSize) &&
+            Objects.equals(productCategoryId, that.productCategoryId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        name,
+        description,
+        price,
+        productSize,
+        productCategoryId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ProductCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (name != null ? "name=" + name + ", " : "") +
+                (description != null ? "description=" + description + ", " : "") +
+                (price != null ? "price=" + price + ", " : "") +
+                (productSize != null ? "productSize=" + productSize + ", " : "") +
+                (productCategoryId != null ? "productCategoryId=" + productCategoryId + ", " : "") +
+            "}";
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.jhipster.demo.store.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.annotations.ApiModel;
+import javax.validation.constraints.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import com.jhipster.demo.store.domain.enumeration.Size;
+
+/**
+ * A DTO for the Product entity.
+ */
+@ApiModel(description = "Product sold by the Online store")
+public class ProductDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    private String name;
+
+    private String description;
+
+    @NotNull
+    @DecimalMin(value = "0")
+    private BigDecimal price;
+
+    @NotNull
+    private Size size;
+
+    /**
+     * Content of a new image, only used on creation and update: images are served from {@link #getImageUrl()}.
+     */
+    private byte[] image;
+
+    private String imageContentType;
+
+    @JsonIgnore
+    private String imageSha256;
+
+    private Long productCategoryId;
+
+    private String productCategoryName;
+
+    public ProductDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    /**
+     * Projection constructor, used by the repository to select only the columns of the DTO.
+     */
+    public ProductDTO(Long id, String name, String description, BigDecimal price, Size size, String imageContentType,
+            String imageSha256, Long productCategoryId, String productCategoryName) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.size = size;
+        this.imageContentType = imageContentType;
+        this.imageSha256 = imageSha256;
+        this.productCategoryId = productCategoryId;
+        this.productCategoryName = productCategoryName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+
+    public Size getSize() {
+        return size;
+    }
+
+    public void setSize(Size size) {
+        this.size = size;
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public byte[] getImage() {
+        return image;
+    }
+
+    public void setImage(byte[] image) {
+        this.image = image;
+    }
+
+    public String getImageContentType() {
+        return imageContentType;
+    }
+
+    public void setImageContentType(String imageContentType) {
+        this.imageContentType = imageContentType;
+    }
+
+    public String getImageSha256() {
+        return imageSha256;
+    }
+
+    public void setImageSha256(String imageSha256) {
+        this.imageSha256 = imageSha256;
+    }
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public String getImageUrl() {
+        if (getId() == null || getImageSha256() == null) {
+            return null;
+        }
+        return "/api/products/" + getId() + "/image";
+    }
+
+    public Long getProductCategoryId() {
+        return productCategoryId;
+    }
+
+    public void setProductCategoryId(Long productCategoryId) {
+        this.productCategoryId = productCategoryId;
+    }
+
+    public String getProductCategoryName() {
+        return productCategoryName;
+    }
+
+    public void setProductCategoryName(String productCategoryName) {
+        this.productCategoryName = productCategoryName;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ProductDTO productDTO = (ProductDTO) o;
+        if (productDTO.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), productDTO.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "ProductDTO{" +
+            "id=" + getId() +
+            ", name='" + getName() + "'" +
+            ", description='" + getDescription() + "'" +
+            ", price=" + getPrice() +
+            ", size='" + getSize() + "'" +
+            ", imageContentType='" + getImageContentType() + "'" +
+            ", imageSha256='" + getImageSha256() + "'" +
+            ", productCategory=" + getProductCategoryId() +
+            ", productCategory='" + getProductCategoryName() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,134 @@
+package com.jhipster.demo.store.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import com.jhipster.demo.store.domain.enumeration.OrderStatus;
+import io.github.jhipster.service.filter.Filter;
+import io.github.jhipster.service.filter.InstantFilter;
+import io.github.jhipster.service.filter.LongFilter;
+import io.github.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the ProductOrder entity. This class is used in ProductOrderResource to
+ * receive all the possible filtering options from the Http GET request parameters.
+ * For example the following could be a valid request:
+ * <code>/product-orders?customerId.equals=5&amp;placedDate.greaterOrEqualThan=2018-10-01T00:00:00Z&amp;status.in=PENDING,CANCELLED</code>
+ * As Spring is unable to properly convert the types, unless specific {@link Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+public class ProductOrderCriteria implements Serializable {
+    /**
+     * Class for filtering OrderStatus
+     */
+    public static class OrderStatusFilter extends Filter<OrderStatus> {
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private InstantFilter placedDate;
+
+    private OrderStatusFilter status;
+
+    private StringFilter code;
+
+    private LongFilter invoiceId;
+
+    private LongFilter customerId;
+
+    public ProductOrderCriteria() {
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public InstantFilter getPlacedDate() {
+        return placedDate;
+    }
+
+    public void setPlacedDate(InstantFilter placedDate) {
+        this.placedDate = placedDate;
+    }
+
+    public OrderStatusFilter getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatusFilter status) {
+        this.status = status;
+    }
+
+    public StringFilter getCode() {
+        return code;
+    }
+
+    public void setCode(StringFilter code) {
+        this.code = code;
+    }
+
+    public LongFilter getInvoiceId() {
+        return invoiceId;
+    }
+
+    public void setInvoiceId(LongFilter invoiceId) {
+        this.invoiceId = invoiceId;
+    }
+
+    public LongFilter getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(LongFilter customerId) {
+        this.customerId = customerId;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ProductOrderCriteria that = (ProductOrderCriteria) o;
+        return
+            Objects.equals(id, that.id) &&
+            Objects.equals(placedDate, that.placedDate) &&
+            Objects.equals(status, that.status) &&
+            Objects.equals(code, that.code) &&
+            Objects.equals(invoiceId, that.invoiceId) &&
+            Objects.equals(customerId, that.customerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+        id,
+        placedDate,
+        status,
+        code,
+        invoiceId,
+        customerId
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ProductOrderCriteria{" +
+                (id != null ? "id=" + id + ", " : "") +
+                (placedDate != null ? "placedDate=" + placedDate + ", " : "") +
+                (status != null ? "status=" + status + ", " : "") +
+                (code != null ? "code=" + code + ", " : "") +
+                (invoiceId != null ? "invoiceId=" + invoiceId + ", " : "") +
+                (customerId != null ? "customerId=" + customerId + ", " : "") +
+            "}";
+    }
+
+}
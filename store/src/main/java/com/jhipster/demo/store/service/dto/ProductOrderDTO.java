@@ -0,0 +1,155 @@
+package com.jhipster.demo.store.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import javax.validation.constraints.*;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Objects;
+import com.jhipster.demo.store.domain.enumeration.OrderStatus;
+
+/**
+ * A DTO for the ProductOrder entity.
+ */
+public class ProductOrderDTO implements Serializable {
+
+    private Long id;
+
+    @NotNull
+    private Instant placedDate;
+
+    @NotNull
+    private OrderStatus status;
+
+    @NotNull
+    private String code;
+
+    private Long invoiceId;
+
+    private Long customerId;
+
+    private String customerEmail;
+
+    /**
+     * The orderItems of the productOrder, only used when placing it: they are not loaded with the productOrder.
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Set<OrderItemDTO> orderItems = new HashSet<>();
+
+    public ProductOrderDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    /**
+     * Projection constructor, used by the repository to select only the columns of the DTO.
+     */
+    public ProductOrderDTO(Long id, Instant placedDate, OrderStatus status, String code, Long invoiceId,
+            Long customerId, String customerEmail) {
+        this.id = id;
+        this.placedDate = placedDate;
+        this.status = status;
+        this.code = code;
+        this.invoiceId = invoiceId;
+        this.customerId = customerId;
+        this.customerEmail = customerEmail;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Instant getPlacedDate() {
+        return placedDate;
+    }
+
+    public void setPlacedDate(Instant placedDate) {
+        this.placedDate = placedDate;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OrderStatus status) {
+        this.status = status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public Long getInvoiceId() {
+        return invoiceId;
+    }
+
+    public void setInvoiceId(Long invoiceId) {
+        this.invoiceId = invoiceId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public String getCustomerEmail() {
+        return customerEmail;
+    }
+
+    public void setCustomerEmail(String customerEmail) {
+        this.customerEmail = customerEmail;
+    }
+
+    public Set<OrderItemDTO> getOrderItems() {
+        return orderItems;
+    }
+
+    public void setOrderItems(Set<OrderItemDTO> orderItems) {
+        this.orderItems = orderItems;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ProductOrderDTO productOrderDTO = (ProductOrderDTO) o;
+        if (productOrderDTO.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), productOrderDTO.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "ProductOrderDTO{" +
+            "id=" + getId() +
+            ", placedDate='" + getPlacedDate() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", code='" + getCode() + "'" +
+            ", invoiceId=" + getInvoiceId() +
+            ", customer=" + getCustomerId() +
+            ", customer='" + getCustomerEmail() + "'" +
+            "}";
+    }
+}
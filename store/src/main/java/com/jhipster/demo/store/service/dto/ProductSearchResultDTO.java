@@ -0,0 +1,74 @@
+package com.jhipster.demo.store.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.jhipster.demo.store.domain.enumeration.Size;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A DTO representing a page of product search results, with the number of matching products by size and category.
+ */
+public class ProductSearchResultDTO {
+
+    private final Page<ProductDTO> page;
+
+    private final Map<Size, Long> sizes;
+
+    private final List<CategoryFacet> categories;
+
+    public ProductSearchResultDTO(Page<ProductDTO> page, Map<Size, Long> sizes, List<CategoryFacet> categories) {
+        this.page = page;
+        this.sizes = sizes;
+        this.categories = categories;
+    }
+
+    @JsonIgnore
+    public Page<ProductDTO> getPage() {
+        return page;
+    }
+
+    public List<ProductDTO> getProducts() {
+        return page.getContent();
+    }
+
+    public Map<Size, Long> getSizes() {
+        return sizes;
+    }
+
+    public List<CategoryFacet> getCategories() {
+        return categories;
+    }
+
+    /**
+     * The number of matching products of a category.
+     */
+    public static class CategoryFacet {
+
+        private final Long id;
+
+        private final String name;
+
+        private final long count;
+
+        public CategoryFacet(Long id, String name, long count) {
+            this.id = id;
+            this.name = name;
+            this.count = count;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jhipster.demo.store.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+
+/**
+ * A DTO representing the revenue and quantity of the order items of a day, a product category or an order status.
+ */
+public class RevenueDTO {
+
+    private final String key;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String name;
+
+    private final BigDecimal revenue;
+
+    private final long quantity;
+
+    public RevenueDTO(String key, String name, BigDecimal revenue, long quantity) {
+        this.key = key;
+        this.name = name;
+        this.revenue = revenue;
+        this.quantity = quantity;
+    }
+
+    /**
+     * @return the day (ISO format), the id of the product category, or the order status
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the name of the product category, null for the other dimensions
+     */
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "RevenueDTO{" +
+            "key='" + key + "'" +
+            ", name='" + name + "'" +
+            ", revenue=" + revenue +
+            ", quantity=" + quantity +
+            "}";
+    }
+}
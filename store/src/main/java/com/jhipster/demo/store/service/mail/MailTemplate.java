@@ -0,0 +1,124 @@
+package com.jhipster.demo.store.service.mail;
+
+import com.jhipster.demo.store.domain.User;
+
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * An email template rendered once, for a language, then merged with the fields of each recipient.
+ * <p>
+ * The template is rendered for a placeholder user, whose fields hold unique tokens: the rendered content is split on
+ * these tokens, and the email of a recipient is the concatenation of the parts of the content with the HTML-escaped
+ * fields of the recipient, without rendering the template again. The fields of the user must therefore only be
+ * printed by the template, as escaped text or attribute values: they cannot be tested by conditions, or printed
+ * unescaped.
+ * <p>
+ * Instances are immutable, and can be merged concurrently.
+ */
+public final class MailTemplate {
+
+    private static final List<Field> FIELDS = Arrays.asList(
+        new Field(User::getLogin, User::setLogin),
+        new Field(User::getFirstName, User::setFirstName),
+        new Field(User::getLastName, User::setLastName),
+        new Field(User::getEmail, User::setEmail),
+        new Field(User::getActivationKey, User::setActivationKey),
+        new Field(User::getResetKey, User::setResetKey));
+
+    private final String subject;
+
+    private final List<String> parts;
+
+    private final List<Field> fields;
+
+    private final int length;
+
+    private MailTemplate(String subject, List<String> parts, List<Field> fields) {
+        this.subject = subject;
+        this.parts = parts;
+        this.fields = fields;
+        this.length = parts.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * Render a template for a placeholder user.
+     *
+     * @param templateEngine the template engine
+     * @param templateName the name of the template
+     * @param context the context of the template, with all its variables but the user
+     * @param userVariable the name of the user variable of the template
+     * @param subject the subject of the emails
+     * @return the rendered template
+     */
+    public static MailTemplate render(ITemplateEngine templateEngine, String templateName, Context context,
+            String userVariable, String subject) {
+        // Lower case letters and digits, which are neither escaped nor changed by the setters of the user
+        String prefix = "mail" + UUID.randomUUID().toString().replace("-", "");
+        User placeholder = new User();
+        for (int i = 0; i < FIELDS.size(); i++) {
+            FIELDS.get(i).setter.accept(placeholder, prefix + (char) ('a' + i));
+        }
+        context.setVariable(userVariable, placeholder);
+        String content = templateEngine.process(templateName, context);
+
+        List<String> parts = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        int start = 0;
+        int token = content.indexOf(prefix);
+        while (token >= 0 && token + prefix.length() < content.length()) {
+            int field = content.charAt(token + prefix.length()) - 'a';
+            if (field >= 0 && field < FIELDS.size()) {
+                parts.add(content.substring(start, token));
+                fields.add(FIELDS.get(field));
+                start = token + prefix.length() + 1;
+            }
+            token = content.indexOf(prefix, token + prefix.length());
+        }
+        parts.add(content.substring(start));
+        return new MailTemplate(subject, parts, fields);
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Merge the template with the fields of a recipient.
+     *
+     * @param user the recipient
+     * @return the content of the email of the recipient
+     */
+    public String merge(User user) {
+        StringBuilder content = new StringBuilder(length + 64 * fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            content.append(parts.get(i));
+            String value = fields.get(i).getter.apply(user);
+            if (value != null) {
+                content.append(HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name()));
+            }
+        }
+        return content.append(parts.get(fields.size())).toString();
+    }
+
+    private static final class Field {
+
+        private final Function<User, String> getter;
+
+        private final BiConsumer<User, String> setter;
+
+        private Field(Function<User, String> getter, BiConsumer<User, String> setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
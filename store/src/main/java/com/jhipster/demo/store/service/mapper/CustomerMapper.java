@@ -0,0 +1,30 @@
+package com.jhipster.demo.store.service.mapper;
+
+import com.jhipster.demo.store.domain.*;
+import com.jhipster.demo.store.service.dto.CustomerDTO;
+
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity Customer and its DTO CustomerDTO.
+ */
+@Mapper(componentModel = "spring", uses = {UserMapper.class})
+public interface CustomerMapper extends EntityMapper<CustomerDTO, Customer> {
+
+    @Mapping(source = "user.id", target = "userId")
+    @Mapping(source = "user.login", target = "userLogin")
+    CustomerDTO toDto(Customer customer);
+
+    @Mapping(source = "userId", target = "user")
+    @Mapping(target = "orders", ignore = true)
+    Customer toEntity(CustomerDTO customerDTO);
+
+    default Customer fromId(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Customer customer = new Customer();
+        customer.setId(id);
+        return customer;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jhipster.demo.store.service.mapper;
+
+import com.jhipster.demo.store.domain.*;
+import com.jhipster.demo.store.service.dto.ProductCategoryDTO;
+
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity ProductCategory and its DTO ProductCategoryDTO.
+ */
+@Mapper(componentModel = "spring", uses = {})
+public interface ProductCategoryMapper extends EntityMapper<ProductCategoryDTO, ProductCategory> {
+
+    @Mapping(target = "products", ignore = true)
+    ProductCategory toEntity(ProductCategoryDTO productCategoryDTO);
+
+    default ProductCategory fromId(Long id) {
+        if (id == null) {
+            return null;
+        }
+        ProductCategory productCategory = new ProductCategory();
+        productCategory.setId(id);
+        return productCategory;
+    }
+}
@@ -0,0 +1,29 @@
+package com.jhipster.demo.store.service.mapper;
+
+import com.jhipster.demo.store.domain.*;
+import com.jhipster.demo.store.service.dto.ProductDTO;
+
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity Product and its DTO ProductDTO.
+ */
+@Mapper(componentModel = "spring", uses = {ProductCategoryMapper.class})
+public interface ProductMapper extends EntityMapper<ProductDTO, Product> {
+
+    @Mapping(source = "productCategory.id", target = "productCategoryId")
+    @Mapping(source = "productCategory.name", target = "productCategoryName")
+    ProductDTO toDto(Product product);
+
+    @Mapping(source = "productCategoryId", target = "productCategory")
+    Product toEntity(ProductDTO productDTO);
+
+    default Product fromId(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Product product = new Product();
+        product.setId(id);
+        return product;
+    }
+}
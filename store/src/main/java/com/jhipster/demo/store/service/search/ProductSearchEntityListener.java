@@ -0,0 +1,68 @@
+package com.jhipster.demo.store.service.search;
+
+import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.ProductCategory;
+
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * JPA entity listener keeping the product search index up to date.
+ * <p>
+ * The index is only updated once the transaction is committed, so rolled back changes are never searchable.
+ * Entity listeners are created by Hibernate, so the {@link ProductSearchService} registers itself here.
+ */
+public class ProductSearchEntityListener {
+
+    private static volatile ProductSearchService productSearchService;
+
+    static void setProductSearchService(ProductSearchService service) {
+        productSearchService = service;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        afterCommit(() -> {
+            ProductSearchService service = productSearchService;
+            if (service == null) {
+                return;
+            }
+            if (entity instanceof Product) {
+                service.onProductSaved((Product) entity);
+            } else if (entity instanceof ProductCategory) {
+                service.onCategorySaved((ProductCategory) entity);
+            }
+        });
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Product) {
+            Long id = ((Product) entity).getId();
+            afterCommit(() -> {
+                ProductSearchService service = productSearchService;
+                if (service != null) {
+                    service.onProductDeleted(id);
+                }
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable runnable) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    runnable.run();
+                }
+            });
+        } else {
+            runnable.run();
+        }
+    }
+}
@@ -0,0 +1,604 @@
+package com.jhipster.demo.store.service.search;
+
+import com.jhipster.demo.store.domain.enumeration.Size;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index of the products, used for full-text search with facets.
+ * <p>
+ * Each indexed product gets an internal document number, which always increases, so the posting lists of the terms
+ * are appended to in order, and stay sorted without any re-sorting. Updating a product deletes its previous document
+ * and adds a new one; deleted documents are skipped at search time, and purged when they become too numerous.
+ * <p>
+ * The category names are not indexed in the documents, but matched against the categories at search time, so
+ * renaming a category does not require re-indexing its products.
+ * <p>
+ * Searching is thread-safe, and can run concurrently with other searches, but not with updates.
+ */
+public class ProductSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private static final int MAX_MERGED_POSTINGS = 4;
+
+    private static final int[] NO_DOCS = new int[0];
+
+    private static final Size[] SIZES = Size.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+    private final TreeMap<String, Postings> nameTerms = new TreeMap<>();
+
+    private final Map<Long, Integer> documentsByProductId = new HashMap<>();
+
+    private final Map<Long, Integer> categoryOrdinals = new HashMap<>();
+
+    private final List<Category> categories = new ArrayList<>();
+
+    private final List<Postings> categoryPostings = new ArrayList<>();
+
+    private long[] productIds = new long[1024];
+
+    private byte[] sizes = new byte[1024];
+
+    private int[] documentCategories = new int[1024];
+
+    private BitSet deleted = new BitSet();
+
+    private int documentCount;
+
+    private int deletedCount;
+
+    /**
+     * Add or replace a product in the index.
+     *
+     * @param productId the id of the product
+     * @param name the name of the product
+     * @param description the description of the product, or null
+     * @param size the size of the product, or null
+     * @param categoryId the id of the category of the product, or null
+     * @param categoryName the name of the category of the product, or null if it is not known: the name already
+     * indexed for the category is then kept
+     */
+    public void index(long productId, String name, String description, Size size, Long categoryId, String categoryName) {
+        lock.writeLock().lock();
+        try {
+            deleteDocument(productId);
+            int document = documentCount++;
+            ensureCapacity(documentCount);
+            productIds[document] = productId;
+            sizes[document] = (byte) (size == null ? -1 : size.ordinal());
+            documentCategories[document] = categoryId == null ? -1 : categoryOrdinal(categoryId, categoryName);
+            if (categoryId != null) {
+                categoryPostings.get(documentCategories[document]).add(document);
+            }
+            documentsByProductId.put(productId, document);
+
+            Set<String> nameTokens = tokenize(name);
+            Set<String> tokens = new HashSet<>(nameTokens);
+            tokens.addAll(tokenize(description));
+            if (size != null) {
+                tokens.add(size.name().toLowerCase(Locale.ROOT));
+            }
+            for (String token : nameTokens) {
+                nameTerms.computeIfAbsent(token, t -> new Postings()).add(document);
+            }
+            for (String token : tokens) {
+                terms.computeIfAbsent(token, t -> new Postings()).add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a product from the index.
+     *
+     * @param productId the id of the product
+     */
+    public void delete(long productId) {
+        lock.writeLock().lock();
+        try {
+            deleteDocument(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Update the name of a category.
+     *
+     * @param categoryId the id of the category
+     * @param name the new name
+     */
+    public void updateCategory(long categoryId, String name) {
+        lock.writeLock().lock();
+        try {
+            categoryOrdinal(categoryId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove all the products and categories from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            terms.clear();
+            nameTerms.clear();
+            documentsByProductId.clear();
+            categoryOrdinals.clear();
+            categories.clear();
+            categoryPostings.clear();
+            deleted = new BitSet();
+            documentCount = 0;
+            deletedCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of products in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Search the products.
+     * <p>
+     * All the words of the query must match the name, the description, the size or the category name of a product.
+     * The last word also matches the words it is a prefix of, so the search can be used while typing. Products whose
+     * name matches all the words come first, and the most recently indexed products come first in each group.
+     * <p>
+     * The size facet counts ignore the size filter, and the category facet counts ignore the category filter, so they
+     * can be used to change a filter.
+     *
+     * @param query the words to search, or blank to match all products
+     * @param size the size of the products, or null for all sizes
+     * @param categoryId the id of the category of the products, or null for all categories
+     * @param offset the index of the first result to return
+     * @param limit the maximum number of results to return
+     * @return the results
+     */
+    public Hits search(String query, Size size, Long categoryId, int offset, int limit) {
+        List<String> words = new ArrayList<>(tokenize(query));
+        lock.readLock().lock();
+        try {
+            int sizeFilter = size == null ? Integer.MIN_VALUE : size.ordinal();
+            int categoryFilter = Integer.MIN_VALUE;
+            if (categoryId != null) {
+                Integer ordinal = categoryOrdinals.get(categoryId);
+                categoryFilter = ordinal == null ? Integer.MAX_VALUE : ordinal;
+            }
+
+            int[] matches = null;
+            int[] nameMatches = NO_DOCS;
+            if (!words.isEmpty()) {
+                matches = match(terms, words, true);
+                nameMatches = match(nameTerms, words, false);
+            }
+
+            long[] sizeCounts = new long[SIZES.length];
+            long[] categoryCounts = new long[categories.size()];
+            int window = offset + limit;
+            int[] nameHits = new int[Math.min(window, nameMatches.length)];
+            int nameHitCount = 0;
+            int[] otherHits = new int[Math.min(window, matches == null ? documentCount : matches.length)];
+            int otherHitCount = 0;
+            long total = 0;
+
+            int nameIndex = nameMatches.length - 1;
+            int count = matches == null ? documentCount : matches.length;
+            for (int i = count - 1; i >= 0; i--) {
+                int document = matches == null ? i : matches[i];
+                if (deleted.get(document)) {
+                    continue;
+                }
+                int documentSize = sizes[document];
+                int documentCategory = documentCategories[document];
+                boolean sizeMatches = sizeFilter == Integer.MIN_VALUE || documentSize == sizeFilter;
+                boolean categoryMatches = categoryFilter == Integer.MIN_VALUE || documentCategory == categoryFilter;
+                if (categoryMatches && documentSize >= 0) {
+                    sizeCounts[documentSize]++;
+                }
+                if (sizeMatches && documentCategory >= 0) {
+                    categoryCounts[documentCategory]++;
+                }
+                if (!sizeMatches || !categoryMatches) {
+                    continue;
+                }
+                total++;
+                while (nameIndex >= 0 && nameMatches[nameIndex] > document) {
+                    nameIndex--;
+                }
+                if (nameIndex >= 0 && nameMatches[nameIndex] == document) {
+                    if (nameHitCount < nameHits.length) {
+                        nameHits[nameHitCount++] = document;
+                    }
+                } else if (otherHitCount < otherHits.length) {
+                    otherHits[otherHitCount++] = document;
+                }
+            }
+
+            List<Long> page = new ArrayList<>(limit);
+            for (int i = offset; i < window; i++) {
+                if (i < nameHitCount) {
+                    page.add(productIds[nameHits[i]]);
+                } else if (i - nameHitCount < otherHitCount) {
+                    page.add(productIds[otherHits[i - nameHitCount]]);
+                } else {
+                    break;
+                }
+            }
+            Map<Size, Long> sizeFacets = new EnumMap<>(Size.class);
+            for (int i = 0; i < sizeCounts.length; i++) {
+                if (sizeCounts[i] > 0) {
+                    sizeFacets.put(SIZES[i], sizeCounts[i]);
+                }
+            }
+            Map<Long, Long> categoryFacets = new LinkedHashMap<>();
+            for (int i = 0; i < categoryCounts.length; i++) {
+                if (categoryCounts[i] > 0) {
+                    categoryFacets.put(categories.get(i).id, categoryCounts[i]);
+                }
+            }
+            return new Hits(page, total, sizeFacets, categoryFacets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the name of an indexed category.
+     *
+     * @param categoryId the id of the category
+     * @return the name, or null if the category is not indexed
+     */
+    public String getCategoryName(long categoryId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = categoryOrdinals.get(categoryId);
+            return ordinal == null ? null : categories.get(ordinal).name;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split a text in lower case words, without diacritics.
+     *
+     * @param text the text
+     * @return the words
+     */
+    static Set<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+            .toLowerCase(Locale.ROOT);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : SEPARATORS.split(normalized)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Get the documents matching all the words, sorted by document number.
+     */
+    private int[] match(TreeMap<String, Postings> index, List<String> words, boolean matchCategories) {
+        List<int[]> documents = new ArrayList<>(words.size());
+        for (int i = 0; i < words.size(); i++) {
+            int[] wordDocuments = match(index, words.get(i), i == words.size() - 1, matchCategories);
+            if (wordDocuments.length == 0) {
+                return NO_DOCS;
+            }
+            documents.add(wordDocuments);
+        }
+        documents.sort(Comparator.comparingInt(d -> d.length));
+        int[] result = documents.get(0);
+        for (int i = 1; i < documents.size() && result.length > 0; i++) {
+            result = intersect(result, documents.get(i));
+        }
+        return result;
+    }
+
+    private int[] match(TreeMap<String, Postings> index, String word, boolean prefix, boolean matchCategories) {
+        List<Postings> postings = new ArrayList<>();
+        if (prefix && word.length() >= MIN_PREFIX_LENGTH) {
+            postings.addAll(index.subMap(word, true, word + Character.MAX_VALUE, false).values());
+        } else {
+            Postings exact = index.get(word);
+            if (exact != null) {
+                postings.add(exact);
+            }
+        }
+        if (matchCategories) {
+            for (int i = 0; i < categories.size(); i++) {
+                for (String token : categories.get(i).tokens) {
+                    if (token.equals(word) || (prefix && word.length() >= MIN_PREFIX_LENGTH && token.startsWith(word))) {
+                        postings.add(categoryPostings.get(i));
+                        break;
+                    }
+                }
+            }
+        }
+        if (postings.size() == 1) {
+            return postings.get(0).toArray();
+        }
+        if (postings.size() <= MAX_MERGED_POSTINGS) {
+            int[] result = NO_DOCS;
+            for (Postings p : postings) {
+                result = union(result, p.documents, p.size);
+            }
+            return result;
+        }
+        BitSet union = new BitSet(documentCount);
+        for (Postings p : postings) {
+            p.addTo(union);
+        }
+        int[] result = new int[union.cardinality()];
+        int i = 0;
+        for (int document = union.nextSetBit(0); document >= 0; document = union.nextSetBit(document + 1)) {
+            result[i++] = document;
+        }
+        return result;
+    }
+
+    private static int[] union(int[] documents, int[] other, int otherLength) {
+        int[] result = new int[documents.length + otherLength];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < documents.length && j < otherLength) {
+            if (documents[i] < other[j]) {
+                result[count++] = documents[i++];
+            } else if (documents[i] > other[j]) {
+                result[count++] = other[j++];
+            } else {
+                result[count++] = documents[i++];
+                j++;
+            }
+        }
+        while (i < documents.length) {
+            result[count++] = documents[i++];
+        }
+        while (j < otherLength) {
+            result[count++] = other[j++];
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Intersect two sorted arrays of document numbers, by merging them when they have similar lengths, or by binary
+     * searching the documents of the smaller one in the larger one otherwise.
+     */
+    private static int[] intersect(int[] smaller, int[] larger) {
+        int[] result = new int[smaller.length];
+        int count = 0;
+        if (larger.length / 8 <= smaller.length) {
+            int i = 0;
+            int j = 0;
+            while (i < smaller.length && j < larger.length) {
+                if (smaller[i] < larger[j]) {
+                    i++;
+                } else if (smaller[i] > larger[j]) {
+                    j++;
+                } else {
+                    result[count++] = smaller[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(result, count);
+        }
+        int from = 0;
+        for (int document : smaller) {
+            int index = Arrays.binarySearch(larger, from, larger.length, document);
+            if (index >= 0) {
+                result[count++] = document;
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from >= larger.length) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private int categoryOrdinal(long categoryId, String name) {
+        Integer ordinal = categoryOrdinals.get(categoryId);
+        if (ordinal == null) {
+            ordinal = categories.size();
+            categories.add(new Category(categoryId, name));
+            categoryPostings.add(new Postings());
+            categoryOrdinals.put(categoryId, ordinal);
+        } else if (name != null && !Objects.equals(categories.get(ordinal).name, name)) {
+            categories.set(ordinal, new Category(categoryId, name));
+        }
+        return ordinal;
+    }
+
+    private void deleteDocument(long productId) {
+        Integer document = documentsByProductId.remove(productId);
+        if (document != null) {
+            deleted.set(document);
+            deletedCount++;
+            if (deletedCount > 1024 && deletedCount > documentCount / 2) {
+                purgeDeletedDocuments();
+            }
+        }
+    }
+
+    /**
+     * Renumber the documents without the deleted ones. Document numbers keep their order, so postings stay sorted.
+     */
+    private void purgeDeletedDocuments() {
+        int[] newNumbers = new int[documentCount];
+        int count = 0;
+        for (int document = 0; document < documentCount; document++) {
+            if (deleted.get(document)) {
+                newNumbers[document] = -1;
+            } else {
+                newNumbers[document] = count;
+                productIds[count] = productIds[document];
+                sizes[count] = sizes[document];
+                documentCategories[count] = documentCategories[document];
+                documentsByProductId.put(productIds[count], count);
+                count++;
+            }
+        }
+        purge(terms, newNumbers);
+        purge(nameTerms, newNumbers);
+        categoryPostings.forEach(p -> p.renumber(newNumbers));
+        documentCount = count;
+        deletedCount = 0;
+        deleted = new BitSet();
+    }
+
+    private static void purge(Map<String, Postings> index, int[] newNumbers) {
+        Iterator<Postings> postings = index.values().iterator();
+        while (postings.hasNext()) {
+            Postings p = postings.next();
+            p.renumber(newNumbers);
+            if (p.size == 0) {
+                postings.remove();
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > productIds.length) {
+            int newLength = Math.max(capacity, productIds.length * 2);
+            productIds = Arrays.copyOf(productIds, newLength);
+            sizes = Arrays.copyOf(sizes, newLength);
+            documentCategories = Arrays.copyOf(documentCategories, newLength);
+        }
+    }
+
+    /**
+     * The sorted document numbers of a term.
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+
+        private int size;
+
+        private void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+            }
+            documents[size++] = document;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(documents, size);
+        }
+
+        private void addTo(BitSet bitSet) {
+            for (int i = 0; i < size; i++) {
+                bitSet.set(documents[i]);
+            }
+        }
+
+        private void renumber(int[] newNumbers) {
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                int document = newNumbers[documents[i]];
+                if (document >= 0) {
+                    documents[count++] = document;
+                }
+            }
+            size = count;
+        }
+    }
+
+    private static final class Category {
+
+        private final long id;
+
+        private final String name;
+
+        private final Set<String> tokens;
+
+        private Category(long id, String name) {
+            this.id = id;
+            this.name = name;
+            this.tokens = tokenize(name);
+        }
+    }
+
+    /**
+     * The results of a search.
+     */
+    public static final class Hits {
+
+        private final List<Long> productIds;
+
+        private final long total;
+
+        private final Map<Size, Long> sizeFacets;
+
+        private final Map<Long, Long> categoryFacets;
+
+        Hits(List<Long> productIds, long total, Map<Size, Long> sizeFacets, Map<Long, Long> categoryFacets) {
+            this.productIds = productIds;
+            this.total = total;
+            this.sizeFacets = sizeFacets;
+            this.categoryFacets = categoryFacets;
+        }
+
+        /**
+         * @return the ids of the products of the requested page, in order
+         */
+        public List<Long> getProductIds() {
+            return productIds;
+        }
+
+        /**
+         * @return the total number of matching products
+         */
+        public long getTotal() {
+            return total;
+        }
+
+        /**
+         * @return the number of matching products of each size
+         */
+        public Map<Size, Long> getSizeFacets() {
+            return sizeFacets;
+        }
+
+        /**
+         * @return the number of matching products of each category id
+         */
+        public Map<Long, Long> getCategoryFacets() {
+            return categoryFacets;
+        }
+    }
+}
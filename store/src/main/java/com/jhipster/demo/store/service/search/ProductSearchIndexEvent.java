@@ -0,0 +1,40 @@
+package com.jhipster.demo.store.service.search;
+
+import java.io.Serializable;
+
+/**
+ * A change of the product search index, sent to the other nodes of the cluster so they update their own index.
+ */
+public class ProductSearchIndexEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        PRODUCT_SAVED, PRODUCT_DELETED, CATEGORY_SAVED
+    }
+
+    private final Type type;
+
+    private final long id;
+
+    public ProductSearchIndexEvent(Type type, long id) {
+        this.type = type;
+        this.id = id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductSearchIndexEvent{" +
+            "type=" + type +
+            ", id=" + id +
+            "}";
+    }
+}
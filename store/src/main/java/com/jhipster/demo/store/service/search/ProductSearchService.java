@@ -0,0 +1,231 @@
+package com.jhipster.demo.store.service.search;
+
+import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.ProductCategory;
+import com.jhipster.demo.store.domain.enumeration.Size;
+import com.jhipster.demo.store.repository.ProductCategoryRepository;
+import com.jhipster.demo.store.repository.ProductRepository;
+import com.jhipster.demo.store.service.dto.ProductDTO;
+import com.jhipster.demo.store.service.dto.ProductSearchResultDTO;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ITopic;
+import com.hazelcast.core.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for the full-text search of the products.
+ * <p>
+ * Each node has its own {@link ProductSearchIndex}, built from the database once the application has started.
+ * It is then kept up to date by the {@link ProductSearchEntityListener}, and by the changes made on the other nodes,
+ * received through a Hazelcast topic.
+ */
+@Service
+public class ProductSearchService {
+
+    public static final String TOPIC_NAME = "product-search-index";
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final Logger log = LoggerFactory.getLogger(ProductSearchService.class);
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    private final ProductRepository productRepository;
+
+    private final ProductCategoryRepository productCategoryRepository;
+
+    private final ITopic<ProductSearchIndexEvent> topic;
+
+    private final Executor taskExecutor;
+
+    private final Set<Long> productsChangedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean rebuilding;
+
+    private String topicListenerId;
+
+    public ProductSearchService(ProductRepository productRepository, ProductCategoryRepository productCategoryRepository,
+            HazelcastInstance hazelcastInstance, @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.productRepository = productRepository;
+        this.productCategoryRepository = productCategoryRepository;
+        this.topic = hazelcastInstance.getTopic(TOPIC_NAME);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        ProductSearchEntityListener.setProductSearchService(this);
+        topicListenerId = topic.addMessageListener(this::onMessage);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        ProductSearchEntityListener.setProductSearchService(null);
+        try {
+            topic.removeMessageListener(topicListenerId);
+        } catch (RuntimeException e) {
+            log.debug("Could not remove the product search index listener: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        taskExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * Rebuild the index from the database. Products changed during the rebuild are indexed again afterwards,
+     * as the rebuild may have read them before their change.
+     */
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            index.clear();
+            productCategoryRepository.findAll().forEach(category -> index.updateCategory(category.getId(), category.getName()));
+            Pageable pageable = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.Direction.ASC, "id");
+            Slice<ProductDTO> slice = productRepository.findAllProjectedBy(pageable);
+            slice.forEach(this::index);
+            while (slice.hasNext()) {
+                Long lastId = slice.getContent().get(slice.getNumberOfElements() - 1).getId();
+                slice = productRepository.findAllProjectedByIdGreaterThan(lastId, pageable);
+                slice.forEach(this::index);
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not build the product search index", e);
+        } finally {
+            rebuilding = false;
+        }
+        for (Long id : productsChangedDuringRebuild) {
+            productsChangedDuringRebuild.remove(id);
+            reindex(id);
+        }
+        log.info("Product search index built with {} products in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Search the products, see {@link ProductSearchIndex#search(String, Size, Long, int, int)}.
+     *
+     * @param query the words to search
+     * @param size the size of the products, or null for all sizes
+     * @param categoryId the id of the category of the products, or null for all categories
+     * @param pageable the pagination information
+     * @return the page of products, with the facets
+     */
+    @Transactional(readOnly = true)
+    public ProductSearchResultDTO search(String query, Size size, Long categoryId, Pageable pageable) {
+        log.debug("Request to search for a page of Products for query {}", query);
+        ProductSearchIndex.Hits hits = index.search(query, size, categoryId, (int) pageable.getOffset(), pageable.getPageSize());
+        Map<Long, ProductDTO> productsById = hits.getProductIds().isEmpty() ? Collections.emptyMap() :
+            productRepository.findAllProjectedByIdIn(hits.getProductIds()).stream()
+                .collect(Collectors.toMap(ProductDTO::getId, Function.identity()));
+        List<ProductDTO> products = hits.getProductIds().stream()
+            .map(productsById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        List<ProductSearchResultDTO.CategoryFacet> categoryFacets = new ArrayList<>();
+        hits.getCategoryFacets().forEach((id, count) ->
+            categoryFacets.add(new ProductSearchResultDTO.CategoryFacet(id, index.getCategoryName(id), count)));
+        categoryFacets.sort(Comparator.comparing(ProductSearchResultDTO.CategoryFacet::getCount).reversed());
+        return new ProductSearchResultDTO(new PageImpl<>(products, pageable, hits.getTotal()), hits.getSizeFacets(), categoryFacets);
+    }
+
+    void onProductSaved(Product product) {
+        index(product);
+        productChanged(product.getId());
+        publish(new ProductSearchIndexEvent(ProductSearchIndexEvent.Type.PRODUCT_SAVED, product.getId()));
+    }
+
+    void onProductDeleted(Long id) {
+        index.delete(id);
+        productChanged(id);
+        publish(new ProductSearchIndexEvent(ProductSearchIndexEvent.Type.PRODUCT_DELETED, id));
+    }
+
+    void onCategorySaved(ProductCategory category) {
+        index.updateCategory(category.getId(), category.getName());
+        publish(new ProductSearchIndexEvent(ProductSearchIndexEvent.Type.CATEGORY_SAVED, category.getId()));
+    }
+
+    private void onMessage(Message<ProductSearchIndexEvent> message) {
+        if (message.getPublishingMember() != null && message.getPublishingMember().localMember()) {
+            return;
+        }
+        ProductSearchIndexEvent event = message.getMessageObject();
+        log.debug("Received {}", event);
+        taskExecutor.execute(() -> {
+            switch (event.getType()) {
+                case PRODUCT_SAVED:
+                case PRODUCT_DELETED:
+                    productChanged(event.getId());
+                    reindex(event.getId());
+                    break;
+                case CATEGORY_SAVED:
+                    productCategoryRepository.findById(event.getId())
+                        .ifPresent(category -> index.updateCategory(category.getId(), category.getName()));
+                    break;
+                default:
+                    break;
+            }
+        });
+    }
+
+    private void productChanged(Long id) {
+        if (rebuilding) {
+            productsChangedDuringRebuild.add(id);
+        }
+    }
+
+    private void reindex(Long id) {
+        Optional<Product> product = productRepository.findById(id);
+        if (product.isPresent()) {
+            index(product.get());
+        } else {
+            index.delete(id);
+        }
+    }
+
+    /**
+     * Index a saved product. Its category may only have its id, when it was set from a DTO: the name of the category
+     * is then the one already indexed.
+     */
+    private void index(Product product) {
+        ProductCategory category = product.getProductCategory();
+        index.index(product.getId(), product.getName(), product.getDescription(), product.getSize(),
+            category == null ? null : category.getId(), category == null ? null : category.getName());
+    }
+
+    private void index(ProductDTO product) {
+        index.index(product.getId(), product.getName(), product.getDescription(), product.getSize(),
+            product.getProductCategoryId(), product.getProductCategoryName());
+    }
+
+    private void publish(ProductSearchIndexEvent event) {
+        try {
+            topic.publish(event);
+        } catch (RuntimeException e) {
+            log.warn("Could not send {} to the other nodes: {}", event, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.jhipster.demo.store.service.util;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.hazelcast.core.IMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same value, so that a burst of requests for a hot entity results in a single
+ * database query.
+ * <p>
+ * On each node, concurrent calls for the same key wait for the first one, and share its result. Across the cluster,
+ * a value which is not already cached is loaded under a Hazelcast lock: the other nodes wait for it, and then find the
+ * value in the Hibernate second level cache instead of querying the database.
+ * <p>
+ * The loaded value is shared by all the waiting threads, so it must be treated as read-only. Calls made inside a
+ * transaction are never coalesced, as their entities must belong to their own persistence context.
+ * <p>
+ * For each name, the following metrics are available:
+ * <ul>
+ * <li>loads: the number of values loaded</li>
+ * <li>coalesced: the number of calls which waited for a concurrent load instead of loading the value</li>
+ * <li>cluster-waits: the number of loads which had to wait for another node</li>
+ * <li>lock-timeouts: the number of loads done without the cluster lock, as it could not be acquired in time</li>
+ * </ul>
+ */
+public class SingleFlight {
+
+    public static final String LOCKS_MAP_NAME = "single-flight-locks";
+
+    private static final long LOCK_WAIT_MILLIS = 2000;
+
+    private static final long LOCK_LEASE_MILLIS = 10000;
+
+    private final Logger log = LoggerFactory.getLogger(SingleFlight.class);
+
+    private final IMap<String, Boolean> locks;
+
+    private final MetricRegistry metricRegistry;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> pendingLoads = new ConcurrentHashMap<>();
+
+    public SingleFlight(IMap<String, Boolean> locks, MetricRegistry metricRegistry) {
+        this.locks = locks;
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * Load a value, sharing the load with the concurrent calls for the same key.
+     *
+     * @param name the name of the loaded values, such as the entity name
+     * @param id the key of the value
+     * @param isCached checks if the value can be loaded from a cache, without taking the cluster lock
+     * @param loader loads the value
+     * @param <T> the type of the value
+     * @return the value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, Object id, BooleanSupplier isCached, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        String key = name + ":" + id;
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> pendingLoad = pendingLoads.putIfAbsent(key, load);
+        if (pendingLoad != null) {
+            meter(name, "coalesced").mark();
+            try {
+                return (T) pendingLoad.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            T value = loadWithClusterLock(name, key, isCached, loader);
+            load.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(key, load);
+        }
+    }
+
+    private <T> T loadWithClusterLock(String name, String key, BooleanSupplier isCached, Supplier<T> loader) {
+        meter(name, "loads").mark();
+        if (isCached.getAsBoolean()) {
+            return loader.get();
+        }
+        boolean locked = false;
+        try {
+            locked = locks.tryLock(key, 0, TimeUnit.MILLISECONDS, LOCK_LEASE_MILLIS, TimeUnit.MILLISECONDS);
+            if (!locked) {
+                meter(name, "cluster-waits").mark();
+                locked = locks.tryLock(key, LOCK_WAIT_MILLIS, TimeUnit.MILLISECONDS, LOCK_LEASE_MILLIS, TimeUnit.MILLISECONDS);
+                if (!locked) {
+                    meter(name, "lock-timeouts").mark();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Could not lock {}, loading it without the cluster lock: {}", key, e.getMessage());
+        }
+        try {
+            return loader.get();
+        } finally {
+            if (locked) {
+                unlock(key);
+            }
+        }
+    }
+
+    private void unlock(String key) {
+        try {
+            locks.unlock(key);
+        } catch (RuntimeException e) {
+            // The lease may have expired
+            log.debug("Could not unlock {}: {}", key, e.getMessage());
+        }
+    }
+
+    private Meter meter(String name, String metric) {
+        return metricRegistry.meter(MetricRegistry.name(SingleFlight.class, name, metric));
+    }
+}
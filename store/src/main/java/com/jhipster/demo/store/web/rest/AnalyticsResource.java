@@ -0,0 +1,96 @@
+package com.jhipster.demo.store.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.jhipster.demo.store.security.AuthoritiesConstants;
+import com.jhipster.demo.store.service.analytics.OrderAnalyticsService;
+import com.jhipster.demo.store.service.dto.RevenueDTO;
+import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.annotation.Secured;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * REST controller for the order analytics, served from the order revenue rollup.
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsResource {
+
+    private final Logger log = LoggerFactory.getLogger(AnalyticsResource.class);
+
+    private static final int MAX_DAYS = 366;
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    public AnalyticsResource(OrderAnalyticsService orderAnalyticsService) {
+        this.orderAnalyticsService = orderAnalyticsService;
+    }
+
+    /**
+     * GET  /analytics/revenue/days : get the revenue by day, between the fromDate and toDate.
+     *
+     * @param fromDate the first day, inclusive (UTC)
+     * @param toDate the last day, inclusive (UTC)
+     * @return the ResponseEntity with status 200 (OK) and the revenue of the days having orders in body,
+     * or with status 400 (Bad Request) if the period is longer than a year
+     */
+    @GetMapping("/revenue/days")
+    @Timed
+    public ResponseEntity<List<RevenueDTO>> getRevenueByDay(@RequestParam("fromDate") LocalDate fromDate,
+            @RequestParam("toDate") LocalDate toDate) {
+        log.debug("REST request to get the revenue by day from {} to {}", fromDate, toDate);
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_DAYS) {
+            throw new BadRequestAlertException("The period cannot be longer than " + MAX_DAYS + " days", "revenue", "periodtoolong");
+        }
+        return ResponseEntity.ok(orderAnalyticsService.findRevenueByDay(fromDate, toDate));
+    }
+
+    /**
+     * GET  /analytics/revenue/categories : get the revenue by product category.
+     *
+     * @return the ResponseEntity with status 200 (OK) and the revenue of the categories having orders in body
+     */
+    @GetMapping("/revenue/categories")
+    @Timed
+    public ResponseEntity<List<RevenueDTO>> getRevenueByCategory() {
+        log.debug("REST request to get the revenue by category");
+        return ResponseEntity.ok(orderAnalyticsService.findRevenueByCategory());
+    }
+
+    /**
+     * GET  /analytics/revenue/statuses : get the revenue by order status.
+     *
+     * @return the ResponseEntity with status 200 (OK) and the revenue of the statuses having orders in body
+     */
+    @GetMapping("/revenue/statuses")
+    @Timed
+    public ResponseEntity<List<RevenueDTO>> getRevenueByStatus() {
+        log.debug("REST request to get the revenue by status");
+        return ResponseEntity.ok(orderAnalyticsService.findRevenueByStatus());
+    }
+
+    /**
+     * POST  /analytics/rebuild : rebuild the order revenue rollup from the order items.
+     *
+     * @return the ResponseEntity with status 204 (No Content),
+     * or with status 409 (Conflict) if the rollup is already being rebuilt
+     */
+    @PostMapping("/rebuild")
+    @Timed
+    @Secured(AuthoritiesConstants.ADMIN)
+    public ResponseEntity<Void> rebuild() {
+        log.debug("REST request to rebuild the order revenue rollup");
+        if (!orderAnalyticsService.rebuild()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+}
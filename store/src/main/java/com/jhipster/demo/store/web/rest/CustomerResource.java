@@ -1,21 +1,27 @@
 package com.jhipster.demo.store.web.rest;
 
 import com.codahale.metrics.annotation.Timed;
-import com.jhipster.demo.store.domain.Customer;
 import com.jhipster.demo.store.service.CustomerService;
+import com.jhipster.demo.store.service.CustomerQueryService;
+import com.jhipster.demo.store.service.dto.CustomerCriteria;
+import com.jhipster.demo.store.service.dto.CustomerDTO;
 import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
 import com.jhipster.demo.store.web.rest.util.HeaderUtil;
+import com.jhipster.demo.store.web.rest.util.KeysetCursor;
 import com.jhipster.demo.store.web.rest.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -36,25 +42,28 @@ public class CustomerResource {
 
     private final CustomerService customerService;
 
-    public CustomerResource(CustomerService customerService) {
+    private final CustomerQueryService customerQueryService;
+
+    public CustomerResource(CustomerService customerService, CustomerQueryService customerQueryService) {
         this.customerService = customerService;
+        this.customerQueryService = customerQueryService;
     }
 
     /**
      * POST  /customers : Create a new customer.
      *
-     * @param customer the customer to create
-     * @return the ResponseEntity with status 201 (Created) and with body the new customer, or with status 400 (Bad Request) if the customer has already an ID
+     * @param customerDTO the customerDTO to create
+     * @return the ResponseEntity with status 201 (Created) and with body the new customerDTO, or with status 400 (Bad Request) if the customer has already an ID
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PostMapping("/customers")
     @Timed
-    public ResponseEntity<Customer> createCustomer(@Valid @RequestBody Customer customer) throws URISyntaxException {
-        log.debug("REST request to save Customer : {}", customer);
-        if (customer.getId() != null) {
+    public ResponseEntity<CustomerDTO> createCustomer(@Valid @RequestBody CustomerDTO customerDTO) throws URISyntaxException {
+        log.debug("REST request to save Customer : {}", customerDTO);
+        if (customerDTO.getId() != null) {
             throw new BadRequestAlertException("A new customer cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Customer result = customerService.save(customer);
+        CustomerDTO result = customerService.save(customerDTO);
         return ResponseEntity.created(new URI("/api/customers/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, result.getId().toString()))
             .body(result);
@@ -63,52 +72,78 @@ public class CustomerResource {
     /**
      * PUT  /customers : Updates an existing customer.
      *
-     * @param customer the customer to update
-     * @return the ResponseEntity with status 200 (OK) and with body the updated customer,
-     * or with status 400 (Bad Request) if the customer is not valid,
-     * or with status 500 (Internal Server Error) if the customer couldn't be updated
+     * @param customerDTO the customerDTO to update
+     * @return the ResponseEntity with status 200 (OK) and with body the updated customerDTO,
+     * or with status 400 (Bad Request) if the customerDTO is not valid,
+     * or with status 500 (Internal Server Error) if the customerDTO couldn't be updated
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PutMapping("/customers")
     @Timed
-    public ResponseEntity<Customer> updateCustomer(@Valid @RequestBody Customer customer) throws URISyntaxException {
-        log.debug("REST request to update Customer : {}", customer);
-        if (customer.getId() == null) {
+    public ResponseEntity<CustomerDTO> updateCustomer(@Valid @RequestBody CustomerDTO customerDTO) throws URISyntaxException {
+        log.debug("REST request to update Customer : {}", customerDTO);
+        if (customerDTO.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
-        Customer result = customerService.save(customer);
+        CustomerDTO result = customerService.save(customerDTO);
         return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, customer.getId().toString()))
+            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, customerDTO.getId().toString()))
             .body(result);
     }
 
     /**
      * GET  /customers : get all the customers.
      *
+     * @param criteria the criteria which the requested entities should match
      * @param pageable the pagination information
      * @return the ResponseEntity with status 200 (OK) and the list of customers in body
      */
     @GetMapping("/customers")
     @Timed
-    public ResponseEntity<List<Customer>> getAllCustomers(Pageable pageable) {
-        log.debug("REST request to get a page of Customers");
-        Page<Customer> page = customerService.findAll(pageable);
+    public ResponseEntity<List<CustomerDTO>> getAllCustomers(CustomerCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Customers by criteria: {}", criteria);
+        Page<CustomerDTO> page = customerQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/customers");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * GET  /customers?after=:cursor : get a slice of the customers, using keyset pagination.
+     *
+     * @param after the cursor of the "next" link of the previous slice, or empty for the first slice
+     * @param criteria the criteria which the requested entities should match
+     * @param pageable the pagination information, only the page size is used
+     * @param request the request, whose filters are kept in the pagination links
+     * @return the ResponseEntity with status 200 (OK) and the list of customers in body
+     */
+    @GetMapping(value = "/customers", params = "after")
+    @Timed
+    public ResponseEntity<List<CustomerDTO>> getAllCustomersAfter(@RequestParam("after") String after, CustomerCriteria criteria,
+            Pageable pageable, HttpServletRequest request) {
+        log.debug("REST request to get a slice of Customers by criteria: {}, after : {}", criteria, after);
+        Long afterId = after.isEmpty() ? null : KeysetCursor.decode(after, ENTITY_NAME).getId();
+        Slice<CustomerDTO> slice = customerQueryService.findByCriteriaAfter(criteria, afterId, pageable.getPageSize());
+        KeysetCursor nextCursor = null;
+        if (slice.hasContent()) {
+            nextCursor = KeysetCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1).getId());
+        }
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, nextCursor,
+            UriComponentsBuilder.fromPath("/api/customers").query(request.getQueryString()).toUriString());
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
     /**
      * GET  /customers/:id : get the "id" customer.
      *
      * @param id the id of the customer to retrieve
-     * @return the ResponseEntity with status 200 (OK) and with body the customer, or with status 404 (Not Found)
+     * @return the ResponseEntity with status 200 (OK) and with body the customerDTO, or with status 404 (Not Found)
      */
     @GetMapping("/customers/{id}")
     @Timed
-    public ResponseEntity<Customer> getCustomer(@PathVariable Long id) {
+    public ResponseEntity<CustomerDTO> getCustomer(@PathVariable Long id) {
         log.debug("REST request to get Customer : {}", id);
-        Optional<Customer> customer = customerService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(customer);
+        Optional<CustomerDTO> customerDTO = customerService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(customerDTO);
     }
 
     /**
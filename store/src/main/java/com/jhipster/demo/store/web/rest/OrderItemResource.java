@@ -1,21 +1,27 @@
 package com.jhipster.demo.store.web.rest;
 
 import com.codahale.metrics.annotation.Timed;
-import com.jhipster.demo.store.domain.OrderItem;
 import com.jhipster.demo.store.service.OrderItemService;
+import com.jhipster.demo.store.service.OrderItemQueryService;
+import com.jhipster.demo.store.service.dto.OrderItemCriteria;
+import com.jhipster.demo.store.service.dto.OrderItemDTO;
 import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
 import com.jhipster.demo.store.web.rest.util.HeaderUtil;
+import com.jhipster.demo.store.web.rest.util.KeysetCursor;
 import com.jhipster.demo.store.web.rest.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -36,25 +42,28 @@ public class OrderItemResource {
 
     private final OrderItemService orderItemService;
 
-    public OrderItemResource(OrderItemService orderItemService) {
+    private final OrderItemQueryService orderItemQueryService;
+
+    public OrderItemResource(OrderItemService orderItemService, OrderItemQueryService orderItemQueryService) {
         this.orderItemService = orderItemService;
+        this.orderItemQueryService = orderItemQueryService;
     }
 
     /**
      * POST  /order-items : Create a new orderItem.
      *
-     * @param orderItem the orderItem to create
-     * @return the ResponseEntity with status 201 (Created) and with body the new orderItem, or with status 400 (Bad Request) if the orderItem has already an ID
+     * @param orderItemDTO the orderItemDTO to create
+     * @return the ResponseEntity with status 201 (Created) and with body the new orderItemDTO, or with status 400 (Bad Request) if the orderItem has already an ID
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PostMapping("/order-items")
     @Timed
-    public ResponseEntity<OrderItem> createOrderItem(@Valid @RequestBody OrderItem orderItem) throws URISyntaxException {
-        log.debug("REST request to save OrderItem : {}", orderItem);
-        if (orderItem.getId() != null) {
+    public ResponseEntity<OrderItemDTO> createOrderItem(@Valid @RequestBody OrderItemDTO orderItemDTO) throws URISyntaxException {
+        log.debug("REST request to save OrderItem : {}", orderItemDTO);
+        if (orderItemDTO.getId() != null) {
             throw new BadRequestAlertException("A new orderItem cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        OrderItem result = orderItemService.save(orderItem);
+        OrderItemDTO result = orderItemService.save(orderItemDTO);
         return ResponseEntity.created(new URI("/api/order-items/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, result.getId().toString()))
             .body(result);
@@ -63,52 +72,78 @@ public class OrderItemResource {
     /**
      * PUT  /order-items : Updates an existing orderItem.
      *
-     * @param orderItem the orderItem to update
-     * @return the ResponseEntity with status 200 (OK) and with body the updated orderItem,
-     * or with status 400 (Bad Request) if the orderItem is not valid,
-     * or with status 500 (Internal Server Error) if the orderItem couldn't be updated
+     * @param orderItemDTO the orderItemDTO to update
+     * @return the ResponseEntity with status 200 (OK) and with body the updated orderItemDTO,
+     * or with status 400 (Bad Request) if the orderItemDTO is not valid,
+     * or with status 500 (Internal Server Error) if the orderItemDTO couldn't be updated
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PutMapping("/order-items")
     @Timed
-    public ResponseEntity<OrderItem> updateOrderItem(@Valid @RequestBody OrderItem orderItem) throws URISyntaxException {
-        log.debug("REST request to update OrderItem : {}", orderItem);
-        if (orderItem.getId() == null) {
+    public ResponseEntity<OrderItemDTO> updateOrderItem(@Valid @RequestBody OrderItemDTO orderItemDTO) throws URISyntaxException {
+        log.debug("REST request to update OrderItem : {}", orderItemDTO);
+        if (orderItemDTO.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
-        OrderItem result = orderItemService.save(orderItem);
+        OrderItemDTO result = orderItemService.save(orderItemDTO);
         return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, orderItem.getId().toString()))
+            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, orderItemDTO.getId().toString()))
             .body(result);
     }
 
     /**
      * GET  /order-items : get all the orderItems.
      *
+     * @param criteria the criteria which the requested entities should match
      * @param pageable the pagination information
      * @return the ResponseEntity with status 200 (OK) and the list of orderItems in body
      */
     @GetMapping("/order-items")
     @Timed
-    public ResponseEntity<List<OrderItem>> getAllOrderItems(Pageable pageable) {
-        log.debug("REST request to get a page of OrderItems");
-        Page<OrderItem> page = orderItemService.findAll(pageable);
+    public ResponseEntity<List<OrderItemDTO>> getAllOrderItems(OrderItemCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get OrderItems by criteria: {}", criteria);
+        Page<OrderItemDTO> page = orderItemQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/order-items");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * GET  /order-items?after=:cursor : get a slice of the orderItems, using keyset pagination.
+     *
+     * @param after the cursor of the "next" link of the previous slice, or empty for the first slice
+     * @param criteria the criteria which the requested entities should match
+     * @param pageable the pagination information, only the page size is used
+     * @param request the request, whose filters are kept in the pagination links
+     * @return the ResponseEntity with status 200 (OK) and the list of orderItems in body
+     */
+    @GetMapping(value = "/order-items", params = "after")
+    @Timed
+    public ResponseEntity<List<OrderItemDTO>> getAllOrderItemsAfter(@RequestParam("after") String after, OrderItemCriteria criteria,
+            Pageable pageable, HttpServletRequest request) {
+        log.debug("REST request to get a slice of OrderItems by criteria: {}, after : {}", criteria, after);
+        Long afterId = after.isEmpty() ? null : KeysetCursor.decode(after, ENTITY_NAME).getId();
+        Slice<OrderItemDTO> slice = orderItemQueryService.findByCriteriaAfter(criteria, afterId, pageable.getPageSize());
+        KeysetCursor nextCursor = null;
+        if (slice.hasContent()) {
+            nextCursor = KeysetCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1).getId());
+        }
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, nextCursor,
+            UriComponentsBuilder.fromPath("/api/order-items").query(request.getQueryString()).toUriString());
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
     /**
      * GET  /order-items/:id : get the "id" orderItem.
      *
      * @param id the id of the orderItem to retrieve
-     * @return the ResponseEntity with status 200 (OK) and with body the orderItem, or with status 404 (Not Found)
+     * @return the ResponseEntity with status 200 (OK) and with body the orderItemDTO, or with status 404 (Not Found)
      */
     @GetMapping("/order-items/{id}")
     @Timed
-    public ResponseEntity<OrderItem> getOrderItem(@PathVariable Long id) {
+    public ResponseEntity<OrderItemDTO> getOrderItem(@PathVariable Long id) {
         log.debug("REST request to get OrderItem : {}", id);
-        Optional<OrderItem> orderItem = orderItemService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(orderItem);
+        Optional<OrderItemDTO> orderItemDTO = orderItemService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(orderItemDTO);
     }
 
     /**
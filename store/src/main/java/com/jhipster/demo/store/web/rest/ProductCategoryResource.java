@@ -1,8 +1,8 @@
 package com.jhipster.demo.store.web.rest;
 
 import com.codahale.metrics.annotation.Timed;
-import com.jhipster.demo.store.domain.ProductCategory;
 import com.jhipster.demo.store.service.ProductCategoryService;
+import com.jhipster.demo.store.service.dto.ProductCategoryDTO;
 import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
 import com.jhipster.demo.store.web.rest.util.HeaderUtil;
 import io.github.jhipster.web.util.ResponseUtil;
@@ -38,18 +38,18 @@ public class ProductCategoryResource {
     /**
      * POST  /product-categories : Create a new productCategory.
      *
-     * @param productCategory the productCategory to create
-     * @return the ResponseEntity with status 201 (Created) and with body the new productCategory, or with status 400 (Bad Request) if the productCategory has already an ID
+     * @param productCategoryDTO the productCategoryDTO to create
+     * @return the ResponseEntity with status 201 (Created) and with body the new productCategoryDTO, or with status 400 (Bad Request) if the productCategory has already an ID
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PostMapping("/product-categories")
     @Timed
-    public ResponseEntity<ProductCategory> createProductCategory(@Valid @RequestBody ProductCategory productCategory) throws URISyntaxException {
-        log.debug("REST request to save ProductCategory : {}", productCategory);
-        if (productCategory.getId() != null) {
+    public ResponseEntity<ProductCategoryDTO> createProductCategory(@Valid @RequestBody ProductCategoryDTO productCategoryDTO) throws URISyntaxException {
+        log.debug("REST request to save ProductCategory : {}", productCategoryDTO);
+        if (productCategoryDTO.getId() != null) {
             throw new BadRequestAlertException("A new productCategory cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        ProductCategory result = productCategoryService.save(productCategory);
+        ProductCategoryDTO result = productCategoryService.save(productCategoryDTO);
         return ResponseEntity.created(new URI("/api/product-categories/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, result.getId().toString()))
             .body(result);
@@ -58,22 +58,22 @@ public class ProductCategoryResource {
     /**
      * PUT  /product-categories : Updates an existing productCategory.
      *
-     * @param productCategory the productCategory to update
-     * @return the ResponseEntity with status 200 (OK) and with body the updated productCategory,
-     * or with status 400 (Bad Request) if the productCategory is not valid,
-     * or with status 500 (Internal Server Error) if the productCategory couldn't be updated
+     * @param productCategoryDTO the productCategoryDTO to update
+     * @return the ResponseEntity with status 200 (OK) and with body the updated productCategoryDTO,
+     * or with status 400 (Bad Request) if the productCategoryDTO is not valid,
+     * or with status 500 (Internal Server Error) if the productCategoryDTO couldn't be updated
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PutMapping("/product-categories")
     @Timed
-    public ResponseEntity<ProductCategory> updateProductCategory(@Valid @RequestBody ProductCategory productCategory) throws URISyntaxException {
-        log.debug("REST request to update ProductCategory : {}", productCategory);
-        if (productCategory.getId() == null) {
+    public ResponseEntity<ProductCategoryDTO> updateProductCategory(@Valid @RequestBody ProductCategoryDTO productCategoryDTO) throws URISyntaxException {
+        log.debug("REST request to update ProductCategory : {}", productCategoryDTO);
+        if (productCategoryDTO.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
-        ProductCategory result = productCategoryService.save(productCategory);
+        ProductCategoryDTO result = productCategoryService.save(productCategoryDTO);
         return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, productCategory.getId().toString()))
+            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, productCategoryDTO.getId().toString()))
             .body(result);
     }
 
@@ -84,7 +84,7 @@ public class ProductCategoryResource {
      */
     @GetMapping("/product-categories")
     @Timed
-    public List<ProductCategory> getAllProductCategories() {
+    public List<ProductCategoryDTO> getAllProductCategories() {
         log.debug("REST request to get all ProductCategories");
         return productCategoryService.findAll();
     }
@@ -93,14 +93,14 @@ public class ProductCategoryResource {
      * GET  /product-categories/:id : get the "id" productCategory.
      *
      * @param id the id of the productCategory to retrieve
-     * @return the ResponseEntity with status 200 (OK) and with body the productCategory, or with status 404 (Not Found)
+     * @return the ResponseEntity with status 200 (OK) and with body the productCategoryDTO, or with status 404 (Not Found)
      */
     @GetMapping("/product-categories/{id}")
     @Timed
-    public ResponseEntity<ProductCategory> getProductCategory(@PathVariable Long id) {
+    public ResponseEntity<ProductCategoryDTO> getProductCategory(@PathVariable Long id) {
         log.debug("REST request to get ProductCategory : {}", id);
-        Optional<ProductCategory> productCategory = productCategoryService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(productCategory);
+        Optional<ProductCategoryDTO> productCategoryDTO = productCategoryService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(productCategoryDTO);
     }
 
     /**
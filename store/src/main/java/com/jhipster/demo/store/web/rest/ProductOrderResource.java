@@ -1,21 +1,30 @@
 package com.jhipster.demo.store.web.rest;
 
 import com.codahale.metrics.annotation.Timed;
-import com.jhipster.demo.store.domain.ProductOrder;
 import com.jhipster.demo.store.service.ProductOrderService;
+import com.jhipster.demo.store.service.ProductOrderQueryService;
+import com.jhipster.demo.store.service.dto.ProductOrderCriteria;
+import com.jhipster.demo.store.service.dto.ProductOrderDTO;
 import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
 import com.jhipster.demo.store.web.rest.util.HeaderUtil;
+import com.jhipster.demo.store.web.rest.util.KeysetCursor;
 import com.jhipster.demo.store.web.rest.util.PaginationUtil;
+import com.jhipster.demo.store.web.rest.util.StreamingExport;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -34,27 +43,70 @@ public class ProductOrderResource {
 
     private static final String ENTITY_NAME = "productOrder";
 
+    private static final StreamingExport<ProductOrderDTO> EXPORT = new StreamingExport<ProductOrderDTO>("product-orders")
+        .column("id", ProductOrderDTO::getId)
+        .column("placedDate", ProductOrderDTO::getPlacedDate)
+        .column("status", ProductOrderDTO::getStatus)
+        .column("code", ProductOrderDTO::getCode)
+        .column("invoiceId", ProductOrderDTO::getInvoiceId)
+        .column("customerId", ProductOrderDTO::getCustomerId)
+        .column("customerEmail", ProductOrderDTO::getCustomerEmail);
+
     private final ProductOrderService productOrderService;
 
-    public ProductOrderResource(ProductOrderService productOrderService) {
+    private final ProductOrderQueryService productOrderQueryService;
+
+    private final ObjectMapper objectMapper;
+
+    public ProductOrderResource(ProductOrderService productOrderService, ProductOrderQueryService productOrderQueryService,
+            ObjectMapper objectMapper) {
         this.productOrderService = productOrderService;
+        this.productOrderQueryService = productOrderQueryService;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * POST  /product-orders : Create a new productOrder.
      *
-     * @param productOrder the productOrder to create
-     * @return the ResponseEntity with status 201 (Created) and with body the new productOrder, or with status 400 (Bad Request) if the productOrder has already an ID
+     * @param productOrderDTO the productOrderDTO to create
+     * @return the ResponseEntity with status 201 (Created) and with body the new productOrderDTO, or with status 400 (Bad Request) if the productOrder has already an ID
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PostMapping("/product-orders")
     @Timed
-    public ResponseEntity<ProductOrder> createProductOrder(@Valid @RequestBody ProductOrder productOrder) throws URISyntaxException {
-        log.debug("REST request to save ProductOrder : {}", productOrder);
-        if (productOrder.getId() != null) {
+    public ResponseEntity<ProductOrderDTO> createProductOrder(@Valid @RequestBody ProductOrderDTO productOrderDTO) throws URISyntaxException {
+        log.debug("REST request to save ProductOrder : {}", productOrderDTO);
+        if (productOrderDTO.getId() != null) {
+            throw new BadRequestAlertException("A new productOrder cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        ProductOrderDTO result = productOrderService.save(productOrderDTO);
+        return ResponseEntity.created(new URI("/api/product-orders/" + result.getId()))
+            .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, result.getId().toString()))
+            .body(result);
+    }
+
+    /**
+     * POST  /product-orders/place : Place a new productOrder with all its orderItems, in a single transaction.
+     *
+     * @param productOrderDTO the productOrderDTO to place, with its orderItems
+     * @return the ResponseEntity with status 201 (Created) and with body the new productOrderDTO,
+     * or with status 400 (Bad Request) if the productOrder or one of its orderItems has already an ID, is not valid, or if it has no orderItems
+     * @throws URISyntaxException if the Location URI syntax is incorrect
+     */
+    @PostMapping("/product-orders/place")
+    @Timed
+    public ResponseEntity<ProductOrderDTO> placeProductOrder(@Valid @RequestBody ProductOrderDTO productOrderDTO) throws URISyntaxException {
+        log.debug("REST request to place ProductOrder : {}", productOrderDTO);
+        if (productOrderDTO.getId() != null) {
             throw new BadRequestAlertException("A new productOrder cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        ProductOrder result = productOrderService.save(productOrder);
+        if (productOrderDTO.getOrderItems() == null || productOrderDTO.getOrderItems().isEmpty()) {
+            throw new BadRequestAlertException("A productOrder cannot be placed without orderItems", ENTITY_NAME, "orderitemsempty");
+        }
+        if (productOrderDTO.getOrderItems().stream().anyMatch(orderItem -> orderItem.getId() != null)) {
+            throw new BadRequestAlertException("A new orderItem cannot already have an ID", ENTITY_NAME, "idexists");
+        }
+        ProductOrderDTO result = productOrderService.place(productOrderDTO);
         return ResponseEntity.created(new URI("/api/product-orders/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, result.getId().toString()))
             .body(result);
@@ -63,52 +115,100 @@ public class ProductOrderResource {
     /**
      * PUT  /product-orders : Updates an existing productOrder.
      *
-     * @param productOrder the productOrder to update
-     * @return the ResponseEntity with status 200 (OK) and with body the updated productOrder,
-     * or with status 400 (Bad Request) if the productOrder is not valid,
-     * or with status 500 (Internal Server Error) if the productOrder couldn't be updated
+     * @param productOrderDTO the productOrderDTO to update
+     * @return the ResponseEntity with status 200 (OK) and with body the updated productOrderDTO,
+     * or with status 400 (Bad Request) if the productOrderDTO is not valid,
+     * or with status 500 (Internal Server Error) if the productOrderDTO couldn't be updated
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PutMapping("/product-orders")
     @Timed
-    public ResponseEntity<ProductOrder> updateProductOrder(@Valid @RequestBody ProductOrder productOrder) throws URISyntaxException {
-        log.debug("REST request to update ProductOrder : {}", productOrder);
-        if (productOrder.getId() == null) {
+    public ResponseEntity<ProductOrderDTO> updateProductOrder(@Valid @RequestBody ProductOrderDTO productOrderDTO) throws URISyntaxException {
+        log.debug("REST request to update ProductOrder : {}", productOrderDTO);
+        if (productOrderDTO.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
-        ProductOrder result = productOrderService.save(productOrder);
+        ProductOrderDTO result = productOrderService.save(productOrderDTO);
         return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, productOrder.getId().toString()))
+            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, productOrderDTO.getId().toString()))
             .body(result);
     }
 
     /**
      * GET  /product-orders : get all the productOrders.
      *
+     * @param criteria the criteria which the requested entities should match
      * @param pageable the pagination information
      * @return the ResponseEntity with status 200 (OK) and the list of productOrders in body
      */
     @GetMapping("/product-orders")
     @Timed
-    public ResponseEntity<List<ProductOrder>> getAllProductOrders(Pageable pageable) {
-        log.debug("REST request to get a page of ProductOrders");
-        Page<ProductOrder> page = productOrderService.findAll(pageable);
+    public ResponseEntity<List<ProductOrderDTO>> getAllProductOrders(ProductOrderCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get ProductOrders by criteria: {}", criteria);
+        Page<ProductOrderDTO> page = productOrderQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/product-orders");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * GET  /product-orders?after=:cursor : get a slice of the productOrders, most recent first, using keyset pagination.
+     *
+     * @param after the cursor of the "next" link of the previous slice, or empty for the first slice
+     * @param criteria the criteria which the requested entities should match
+     * @param pageable the pagination information, only the page size is used
+     * @param request the request, whose filters are kept in the pagination links
+     * @return the ResponseEntity with status 200 (OK) and the list of productOrders in body
+     */
+    @GetMapping(value = "/product-orders", params = "after")
+    @Timed
+    public ResponseEntity<List<ProductOrderDTO>> getAllProductOrdersAfter(@RequestParam("after") String after,
+            ProductOrderCriteria criteria, Pageable pageable, HttpServletRequest request) {
+        log.debug("REST request to get a slice of ProductOrders by criteria: {}, after : {}", criteria, after);
+        KeysetCursor cursor = after.isEmpty() ? KeysetCursor.of(null, null) : KeysetCursor.decode(after, ENTITY_NAME);
+        if (!after.isEmpty() && cursor.getInstant() == null) {
+            throw new BadRequestAlertException("Invalid pagination cursor", ENTITY_NAME, "invalidcursor");
+        }
+        Slice<ProductOrderDTO> slice = productOrderQueryService.findByCriteriaBefore(criteria, cursor.getInstant(), cursor.getId(),
+            pageable.getPageSize());
+        KeysetCursor nextCursor = null;
+        if (slice.hasContent()) {
+            ProductOrderDTO last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = KeysetCursor.of(last.getPlacedDate(), last.getId());
+        }
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, nextCursor,
+            UriComponentsBuilder.fromPath("/api/product-orders").query(request.getQueryString()).toUriString());
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * GET  /product-orders/export : export all the productOrders, ordered by id.
+     * <p>
+     * The productOrders are streamed as they are read from the database, so that any number of productOrders can be
+     * exported with a single request, without counting them.
+     *
+     * @param format the export format: "ndjson" (one productOrder per line) or "csv"
+     * @return the ResponseEntity with status 200 (OK) and the productOrders in body,
+     * or with status 400 (Bad Request) if the format is not supported
+     */
+    @GetMapping("/product-orders/export")
+    @Timed
+    public ResponseEntity<StreamingResponseBody> exportProductOrders(@RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        log.debug("REST request to export ProductOrders as {}", format);
+        return EXPORT.toResponse(format, objectMapper, productOrderService::exportAll);
+    }
+
     /**
      * GET  /product-orders/:id : get the "id" productOrder.
      *
      * @param id the id of the productOrder to retrieve
-     * @return the ResponseEntity with status 200 (OK) and with body the productOrder, or with status 404 (Not Found)
+     * @return the ResponseEntity with status 200 (OK) and with body the productOrderDTO, or with status 404 (Not Found)
      */
     @GetMapping("/product-orders/{id}")
     @Timed
-    public ResponseEntity<ProductOrder> getProductOrder(@PathVariable Long id) {
+    public ResponseEntity<ProductOrderDTO> getProductOrder(@PathVariable Long id) {
         log.debug("REST request to get ProductOrder : {}", id);
-        Optional<ProductOrder> productOrder = productOrderService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(productOrder);
+        Optional<ProductOrderDTO> productOrderDTO = productOrderService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(productOrderDTO);
     }
 
     /**
@@ -1,21 +1,33 @@
 package com.jhipster.demo.store.web.rest;
 
 import com.codahale.metrics.annotation.Timed;
-import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.enumeration.Size;
 import com.jhipster.demo.store.service.ProductService;
+import com.jhipster.demo.store.service.ProductQueryService;
+import com.jhipster.demo.store.service.dto.ProductSearchResultDTO;
+import com.jhipster.demo.store.service.search.ProductSearchService;
+import com.jhipster.demo.store.service.dto.ProductCriteria;
+import com.jhipster.demo.store.service.dto.ProductDTO;
 import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
 import com.jhipster.demo.store.web.rest.util.HeaderUtil;
+import com.jhipster.demo.store.web.rest.util.KeysetCursor;
 import com.jhipster.demo.store.web.rest.util.PaginationUtil;
 import io.github.jhipster.web.util.ResponseUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -36,25 +48,32 @@ public class ProductResource {
 
     private final ProductService productService;
 
-    public ProductResource(ProductService productService) {
+    private final ProductQueryService productQueryService;
+
+    private final ProductSearchService productSearchService;
+
+    public ProductResource(ProductService productService, ProductQueryService productQueryService,
+            ProductSearchService productSearchService) {
         this.productService = productService;
+        this.productQueryService = productQueryService;
+        this.productSearchService = productSearchService;
     }
 
     /**
      * POST  /products : Create a new product.
      *
-     * @param product the product to create
-     * @return the ResponseEntity with status 201 (Created) and with body the new product, or with status 400 (Bad Request) if the product has already an ID
+     * @param productDTO the productDTO to create
+     * @return the ResponseEntity with status 201 (Created) and with body the new productDTO, or with status 400 (Bad Request) if the product has already an ID
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PostMapping("/products")
     @Timed
-    public ResponseEntity<Product> createProduct(@Valid @RequestBody Product product) throws URISyntaxException {
-        log.debug("REST request to save Product : {}", product);
-        if (product.getId() != null) {
+    public ResponseEntity<ProductDTO> createProduct(@Valid @RequestBody ProductDTO productDTO) throws URISyntaxException {
+        log.debug("REST request to save Product : {}", productDTO);
+        if (productDTO.getId() != null) {
             throw new BadRequestAlertException("A new product cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Product result = productService.save(product);
+        ProductDTO result = productService.save(productDTO);
         return ResponseEntity.created(new URI("/api/products/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, result.getId().toString()))
             .body(result);
@@ -63,52 +82,103 @@ public class ProductResource {
     /**
      * PUT  /products : Updates an existing product.
      *
-     * @param product the product to update
-     * @return the ResponseEntity with status 200 (OK) and with body the updated product,
-     * or with status 400 (Bad Request) if the product is not valid,
-     * or with status 500 (Internal Server Error) if the product couldn't be updated
+     * @param productDTO the productDTO to update
+     * @return the ResponseEntity with status 200 (OK) and with body the updated productDTO,
+     * or with status 400 (Bad Request) if the productDTO is not valid,
+     * or with status 500 (Internal Server Error) if the productDTO couldn't be updated
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
     @PutMapping("/products")
     @Timed
-    public ResponseEntity<Product> updateProduct(@Valid @RequestBody Product product) throws URISyntaxException {
-        log.debug("REST request to update Product : {}", product);
-        if (product.getId() == null) {
+    public ResponseEntity<ProductDTO> updateProduct(@Valid @RequestBody ProductDTO productDTO) throws URISyntaxException {
+        log.debug("REST request to update Product : {}", productDTO);
+        if (productDTO.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
-        Product result = productService.save(product);
+        ProductDTO result = productService.save(productDTO);
         return ResponseEntity.ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, product.getId().toString()))
+            .headers(HeaderUtil.createEntityUpdateAlert(ENTITY_NAME, productDTO.getId().toString()))
             .body(result);
     }
 
     /**
      * GET  /products : get all the products.
      *
+     * @param criteria the criteria which the requested entities should match
      * @param pageable the pagination information
      * @return the ResponseEntity with status 200 (OK) and the list of products in body
      */
     @GetMapping("/products")
     @Timed
-    public ResponseEntity<List<Product>> getAllProducts(Pageable pageable) {
-        log.debug("REST request to get a page of Products");
-        Page<Product> page = productService.findAll(pageable);
+    public ResponseEntity<List<ProductDTO>> getAllProducts(ProductCriteria criteria, Pageable pageable) {
+        log.debug("REST request to get Products by criteria: {}", criteria);
+        Page<ProductDTO> page = productQueryService.findByCriteria(criteria, pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/products");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * GET  /products?after=:cursor : get a slice of the products, using keyset pagination.
+     *
+     * @param after the cursor of the "next" link of the previous slice, or empty for the first slice
+     * @param criteria the criteria which the requested entities should match
+     * @param pageable the pagination information, only the page size is used
+     * @param request the request, whose filters are kept in the pagination links
+     * @return the ResponseEntity with status 200 (OK) and the list of products in body
+     */
+    @GetMapping(value = "/products", params = "after")
+    @Timed
+    public ResponseEntity<List<ProductDTO>> getAllProductsAfter(@RequestParam("after") String after, ProductCriteria criteria,
+            Pageable pageable, HttpServletRequest request) {
+        log.debug("REST request to get a slice of Products by criteria: {}, after : {}", criteria, after);
+        Long afterId = after.isEmpty() ? null : KeysetCursor.decode(after, ENTITY_NAME).getId();
+        Slice<ProductDTO> slice = productQueryService.findByCriteriaAfter(criteria, afterId, pageable.getPageSize());
+        KeysetCursor nextCursor = null;
+        if (slice.hasContent()) {
+            nextCursor = KeysetCursor.of(slice.getContent().get(slice.getNumberOfElements() - 1).getId());
+        }
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, nextCursor,
+            UriComponentsBuilder.fromPath("/api/products").query(request.getQueryString()).toUriString());
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
     /**
      * GET  /products/:id : get the "id" product.
      *
      * @param id the id of the product to retrieve
-     * @return the ResponseEntity with status 200 (OK) and with body the product, or with status 404 (Not Found)
+     * @return the ResponseEntity with status 200 (OK) and with body the productDTO, or with status 404 (Not Found)
      */
     @GetMapping("/products/{id}")
     @Timed
-    public ResponseEntity<Product> getProduct(@PathVariable Long id) {
+    public ResponseEntity<ProductDTO> getProduct(@PathVariable Long id) {
         log.debug("REST request to get Product : {}", id);
-        Optional<Product> product = productService.findOne(id);
-        return ResponseUtil.wrapOrNotFound(product);
+        Optional<ProductDTO> productDTO = productService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(productDTO);
+    }
+
+    /**
+     * GET  /products/:id/image : get the image of the "id" productDTO.
+     * <p>
+     * The image is streamed from the image storage. Its SHA-256 is used as an ETag, and byte ranges are supported.
+     *
+     * @param id the id of the product whose image to retrieve
+     * @return the ResponseEntity with status 200 (OK) and with body the image, or with status 404 (Not Found)
+     */
+    @GetMapping("/products/{id}/image")
+    @Timed
+    public ResponseEntity<Resource> getProductImage(@PathVariable Long id) {
+        log.debug("REST request to get the image of Product : {}", id);
+        Optional<ProductDTO> productDTO = productService.findOne(id);
+        Optional<Resource> image = productDTO.flatMap(productService::findImage);
+        if (!image.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        String contentType = productDTO.get().getImageContentType();
+        return ResponseEntity.ok()
+            .eTag(productDTO.get().getImageSha256())
+            .cacheControl(CacheControl.noCache())
+            .contentType(contentType != null ? MediaType.parseMediaType(contentType) : MediaType.APPLICATION_OCTET_STREAM)
+            .body(image.get());
     }
 
     /**
@@ -124,4 +194,31 @@ public class ProductResource {
         productService.delete(id);
         return ResponseEntity.ok().headers(HeaderUtil.createEntityDeletionAlert(ENTITY_NAME, id.toString())).build();
     }
+
+    /**
+     * SEARCH  /_search/products?query=:query : search for the products corresponding to the query.
+     *
+     * @param query the words to search, matched against the name, description, size and category name of the products
+     * @param productSize the size of the products, or none for all sizes
+     * @param productCategoryId the id of the category of the products, or none for all categories
+     * @param pageable the pagination information
+     * @return the ResponseEntity with status 200 (OK) and the page of products with the size and category facets in body
+     */
+    @GetMapping("/_search/products")
+    @Timed
+    public ResponseEntity<ProductSearchResultDTO> searchProducts(@RequestParam(defaultValue = "") String query,
+            @RequestParam(required = false) Size productSize, @RequestParam(required = false) Long productCategoryId,
+            Pageable pageable) {
+        log.debug("REST request to search for a page of Products for query {}", query);
+        ProductSearchResultDTO result = productSearchService.search(query, productSize, productCategoryId, pageable);
+        UriComponentsBuilder baseUrl = UriComponentsBuilder.fromPath("/api/_search/products").queryParam("query", query);
+        if (productSize != null) {
+            baseUrl.queryParam("productSize", productSize);
+        }
+        if (productCategoryId != null) {
+            baseUrl.queryParam("productCategoryId", productCategoryId);
+        }
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(result.getPage(), baseUrl.toUriString());
+        return new ResponseEntity<>(result, headers, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,80 @@
+package com.jhipster.demo.store.web.rest.util;
+
+import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque cursor used by keyset ("seek") pagination.
+ *
+ * <p>
+ * A cursor holds the sort key of the last row of a page: either the id alone, or a timestamp and the id
+ * used as a tie-breaker. It is sent to clients as a URL-safe Base64 token in the {@code after} request parameter,
+ * so they never depend on its internal format.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = ',';
+
+    private final Instant instant;
+
+    private final Long id;
+
+    private KeysetCursor(Instant instant, Long id) {
+        this.instant = instant;
+        this.id = id;
+    }
+
+    public static KeysetCursor of(Long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor of(Instant instant, Long id) {
+        return new KeysetCursor(instant, id);
+    }
+
+    /**
+     * Decode a token previously produced by {@link #encode()}.
+     *
+     * @param token the token sent by the client
+     * @param entityName the entity being paginated, used in the error alert
+     * @return the decoded cursor
+     * @throws BadRequestAlertException if the token is malformed
+     */
+    public static KeysetCursor decode(String token, String entityName) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return of(Long.valueOf(value));
+            }
+            return of(Instant.parse(value.substring(0, separator)), Long.valueOf(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestAlertException("Invalid pagination cursor", entityName, "invalidcursor");
+        }
+    }
+
+    public Instant getInstant() {
+        return instant;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String value = instant == null ? id.toString() : instant.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetCursor{" +
+            "instant=" + instant +
+            ", id=" + id +
+            "}";
+    }
+}
@@ -0,0 +1,152 @@
+package com.jhipster.demo.store.web.rest.util;
+
+import com.jhipster.demo.store.web.rest.errors.BadRequestAlertException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Export of entities as NDJSON (one JSON document per line) or CSV, streamed to the response.
+ *
+ * <p>
+ * Each entity is written as soon as it is read, so the memory used does not depend on the number of entities.
+ * The response body is written by an asynchronous request thread: the source is called there, with the consumer
+ * writing each entity, and must open its own transaction or cursor.
+ *
+ * @param <T> the type of the exported entities
+ */
+public final class StreamingExport<T> {
+
+    /**
+     * The export formats.
+     */
+    public enum Format {
+        NDJSON(MediaType.valueOf("application/x-ndjson")), CSV(MediaType.valueOf("text/csv;charset=UTF-8"));
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+    }
+
+    private final String name;
+
+    private final Map<String, Function<T, ?>> columns = new LinkedHashMap<>();
+
+    /**
+     * @param name the name of the exported file, without extension
+     */
+    public StreamingExport(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Add a column to the CSV format.
+     *
+     * @param header the header of the column
+     * @param value the function giving the value of the column for an entity
+     * @return this export
+     */
+    public StreamingExport<T> column(String header, Function<T, ?> value) {
+        columns.put(header, value);
+        return this;
+    }
+
+    /**
+     * Build the response streaming the entities.
+     *
+     * @param format the export format, "ndjson" or "csv"
+     * @param objectMapper the mapper writing the NDJSON documents
+     * @param source the source of the entities, passing each of them to the given consumer
+     * @return the ResponseEntity with status 200 (OK) and the streamed entities in body
+     * @throws BadRequestAlertException if the format is not supported
+     */
+    public ResponseEntity<StreamingResponseBody> toResponse(String format, ObjectMapper objectMapper, Consumer<Consumer<T>> source) {
+        Format exportFormat;
+        try {
+            exportFormat = Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Unsupported export format: " + format, name, "exportformat");
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                if (exportFormat == Format.CSV) {
+                    writeCsv(out, source);
+                } else {
+                    writeNdjson(out, objectMapper, source);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType)
+            .cacheControl(CacheControl.noStore())
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + exportFormat.name().toLowerCase(Locale.ROOT) + "\"")
+            .body(body);
+    }
+
+    private static <T> void writeNdjson(OutputStream out, ObjectMapper objectMapper, Consumer<Consumer<T>> source) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        source.accept(entity -> {
+            try {
+                generator.writeObject(entity);
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.close();
+    }
+
+    private void writeCsv(OutputStream out, Consumer<Consumer<T>> source) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writeCsvRow(writer, columns.keySet().iterator());
+        source.accept(entity -> {
+            try {
+                writeCsvRow(writer, columns.values().stream().map(column -> column.apply(entity)).iterator());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, Iterator<?> values) throws IOException {
+        while (values.hasNext()) {
+            Object value = values.next();
+            String text = value == null ? "" : value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                text = '"' + text.replace("\"", "\"\"") + '"';
+            }
+            writer.write(text);
+            if (values.hasNext()) {
+                writer.write(',');
+            }
+        }
+        writer.write("\r\n");
+    }
+}
@@ -221,8 +221,8 @@ export class CustomerUpdate extends React.Component<ICustomerUpdateProps, ICusto
                     id="customer-user"
                     type="select"
                     className="form-control"
-                    name="user.id"
-                    value={isNew ? users[0] && users[0].id : customerEntity.user.id}
+                    name="userId"
+                    value={isNew ? users[0] && users[0].id : customerEntity.userId}
                   >
                     {users
                       ? users.map(otherEntity => (
@@ -118,7 +118,7 @@ export class Customer extends React.Component<ICustomerProps, ICustomerState> {
                   <td>{customer.addressLine2}</td>
                   <td>{customer.city}</td>
                   <td>{customer.country}</td>
-                  <td>{customer.user ? customer.user.login : ''}</td>
+                  <td>{customer.userLogin ? customer.userLogin : ''}</td>
                   <td className="text-right">
                     <div className="btn-group flex-btn-group-container">
                       <Button tag={Link} to={`${match.url}/${customer.id}`} color="info" size="sm">
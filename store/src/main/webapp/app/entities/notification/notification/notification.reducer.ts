@@ -21,6 +21,7 @@ const initialState = {
   entities: [] as ReadonlyArray<INotification>,
   entity: defaultValue,
   updating: false,
+  totalItems: 0,
   updateSuccess: false
 };
 
@@ -63,6 +64,7 @@ export default (state: NotificationState = initialState, action): NotificationSt
       return {
         ...state,
         loading: false,
+        totalItems: action.payload.headers['x-total-count'],
         entities: action.payload.data
       };
     case SUCCESS(ACTION_TYPES.FETCH_NOTIFICATION):
@@ -99,10 +101,13 @@ const apiUrl = 'notification/api/notifications';
 
 // Actions
 
-export const getEntities: ICrudGetAllAction<INotification> = (page, size, sort) => ({
-  type: ACTION_TYPES.FETCH_NOTIFICATION_LIST,
-  payload: axios.get<INotification>(`${apiUrl}?cacheBuster=${new Date().getTime()}`)
-});
+export const getEntities: ICrudGetAllAction<INotification> = (page, size, sort) => {
+  const requestUrl = `${apiUrl}${sort ? `?page=${page}&size=${size}&sort=${sort}` : ''}`;
+  return {
+    type: ACTION_TYPES.FETCH_NOTIFICATION_LIST,
+    payload: axios.get<INotification>(`${requestUrl}${sort ? '&' : '?'}cacheBuster=${new Date().getTime()}`)
+  };
+};
 
 export const getEntity: ICrudGetAction<INotification> = id => {
   const requestUrl = `${apiUrl}/${id}`;
@@ -3,7 +3,15 @@ import { connect } from 'react-redux';
 import { Link, RouteComponentProps } from 'react-router-dom';
 import { Button, Col, Row, Table } from 'reactstrap';
 // tslint:disable-next-line:no-unused-variable
-import { Translate, ICrudGetAllAction, TextFormat } from 'react-jhipster';
+import {
+  Translate,
+  ICrudGetAllAction,
+  TextFormat,
+  getSortState,
+  IPaginationBaseState,
+  getPaginationItemsNumber,
+  JhiPagination
+} from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
 import { IRootState } from 'app/shared/reducers';
@@ -11,16 +19,45 @@ import { getEntities } from './notification.reducer';
 import { INotification } from 'app/shared/model/notification/notification.model';
 // tslint:disable-next-line:no-unused-variable
 import { APP_DATE_FORMAT, APP_LOCAL_DATE_FORMAT } from 'app/config/constants';
+import { ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
 
 export interface INotificationProps extends StateProps, DispatchProps, RouteComponentProps<{ url: string }> {}
 
-export class Notification extends React.Component<INotificationProps> {
+export type INotificationState = IPaginationBaseState;
+
+export class Notification extends React.Component<INotificationProps, INotificationState> {
+  state: INotificationState = {
+    ...getSortState(this.props.location, ITEMS_PER_PAGE)
+  };
+
   componentDidMount() {
-    this.props.getEntities();
+    this.getEntities();
+  }
+
+  sort = prop => () => {
+    this.setState(
+      {
+        order: this.state.order === 'asc' ? 'desc' : 'asc',
+        sort: prop
+      },
+      () => this.sortEntities()
+    );
+  };
+
+  sortEntities() {
+    this.getEntities();
+    this.props.history.push(`${this.props.location.pathname}?page=${this.state.activePage}&sort=${this.state.sort},${this.state.order}`);
   }
 
+  handlePagination = activePage => this.setState({ activePage }, () => this.sortEntities());
+
+  getEntities = () => {
+    const { activePage, itemsPerPage, sort, order } = this.state;
+    this.props.getEntities(activePage - 1, itemsPerPage, `${sort},${order}`);
+  };
+
   render() {
-    const { notificationList, match } = this.props;
+    const { notificationList, match, totalItems } = this.props;
     return (
       <div>
         <h2 id="notification-heading">
@@ -34,26 +71,26 @@ export class Notification extends React.Component<INotificationProps> {
           <Table responsive>
             <thead>
               <tr>
-                <th>
-                  <Translate contentKey="global.field.id">ID</Translate>
+                <th className="hand" onClick={this.sort('id')}>
+                  <Translate contentKey="global.field.id">ID</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="storeApp.notificationNotification.date">Date</Translate>
+                <th className="hand" onClick={this.sort('date')}>
+                  <Translate contentKey="storeApp.notificationNotification.date">Date</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="storeApp.notificationNotification.details">Details</Translate>
+                <th className="hand" onClick={this.sort('details')}>
+                  <Translate contentKey="storeApp.notificationNotification.details">Details</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="storeApp.notificationNotification.sentDate">Sent Date</Translate>
+                <th className="hand" onClick={this.sort('sentDate')}>
+                  <Translate contentKey="storeApp.notificationNotification.sentDate">Sent Date</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="storeApp.notificationNotification.format">Format</Translate>
+                <th className="hand" onClick={this.sort('format')}>
+                  <Translate contentKey="storeApp.notificationNotification.format">Format</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="storeApp.notificationNotification.userId">User Id</Translate>
+                <th className="hand" onClick={this.sort('userId')}>
+                  <Translate contentKey="storeApp.notificationNotification.userId">User Id</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th>
-                  <Translate contentKey="storeApp.notificationNotification.productId">Product Id</Translate>
+                <th className="hand" onClick={this.sort('productId')}>
+                  <Translate contentKey="storeApp.notificationNotification.productId">Product Id</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
                 <th />
               </tr>
@@ -105,13 +142,22 @@ export class Notification extends React.Component<INotificationProps> {
             </tbody>
           </Table>
         </div>
+        <Row className="justify-content-center">
+          <JhiPagination
+            items={getPaginationItemsNumber(totalItems, this.state.itemsPerPage)}
+            activePage={this.state.activePage}
+            onSelect={this.handlePagination}
+            maxButtons={5}
+          />
+        </Row>
       </div>
     );
   }
 }
 
 const mapStateToProps = ({ notification }: IRootState) => ({
-  notificationList: notification.entities
+  notificationList: notification.entities,
+  totalItems: notification.totalItems
 });
 
 const mapDispatchToProps = {
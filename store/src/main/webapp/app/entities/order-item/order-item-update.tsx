@@ -156,8 +156,8 @@ export class OrderItemUpdate extends React.Component<IOrderItemUpdateProps, IOrd
                     id="order-item-product"
                     type="select"
                     className="form-control"
-                    name="product.id"
-                    value={isNew ? products[0] && products[0].id : orderItemEntity.product.id}
+                    name="productId"
+                    value={isNew ? products[0] && products[0].id : orderItemEntity.productId}
                   >
                     {products
                       ? products.map(otherEntity => (
@@ -176,8 +176,8 @@ export class OrderItemUpdate extends React.Component<IOrderItemUpdateProps, IOrd
                     id="order-item-order"
                     type="select"
                     className="form-control"
-                    name="order.id"
-                    value={isNew ? productOrders[0] && productOrders[0].id : orderItemEntity.order.id}
+                    name="orderId"
+                    value={isNew ? productOrders[0] && productOrders[0].id : orderItemEntity.orderId}
                   >
                     {productOrders
                       ? productOrders.map(otherEntity => (
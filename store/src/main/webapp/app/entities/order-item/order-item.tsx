@@ -97,8 +97,8 @@ export class OrderItem extends React.Component<IOrderItemProps, IOrderItemState>
                   <td>
                     <Translate contentKey={`storeApp.OrderItemStatus.${orderItem.status}`} />
                   </td>
-                  <td>{orderItem.product ? <Link to={`product/${orderItem.product.id}`}>{orderItem.product.name}</Link> : ''}</td>
-                  <td>{orderItem.order ? <Link to={`product-order/${orderItem.order.id}`}>{orderItem.order.code}</Link> : ''}</td>
+                  <td>{orderItem.productName ? <Link to={`product/${orderItem.productId}`}>{orderItem.productName}</Link> : ''}</td>
+                  <td>{orderItem.orderCode ? <Link to={`product-order/${orderItem.orderId}`}>{orderItem.orderCode}</Link> : ''}</td>
                   <td className="text-right">
                     <div className="btn-group flex-btn-group-container">
                       <Button tag={Link} to={`${match.url}/${orderItem.id}`} color="info" size="sm">
@@ -57,7 +57,7 @@ export class ProductOrderDetail extends React.Component<IProductOrderDetailProps
             <dt>
               <Translate contentKey="storeApp.productOrder.customer">Customer</Translate>
             </dt>
-            <dd>{productOrderEntity.customer ? productOrderEntity.customer.email : ''}</dd>
+            <dd>{productOrderEntity.customerEmail ? productOrderEntity.customerEmail : ''}</dd>
           </dl>
           <Button tag={Link} to="/entity/product-order" replace color="info">
             <FontAwesomeIcon icon="arrow-left" />{' '}
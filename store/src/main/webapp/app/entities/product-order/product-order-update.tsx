@@ -156,8 +156,8 @@ export class ProductOrderUpdate extends React.Component<IProductOrderUpdateProps
                     id="product-order-customer"
                     type="select"
                     className="form-control"
-                    name="customer.id"
-                    value={isNew ? customers[0] && customers[0].id : productOrderEntity.customer.id}
+                    name="customerId"
+                    value={isNew ? customers[0] && customers[0].id : productOrderEntity.customerId}
                   >
                     {customers
                       ? customers.map(otherEntity => (
@@ -109,7 +109,7 @@ export class ProductOrder extends React.Component<IProductOrderProps, IProductOr
                   <td>{productOrder.code}</td>
                   <td>{productOrder.invoiceId}</td>
                   <td>
-                    {productOrder.customer ? <Link to={`customer/${productOrder.customer.id}`}>{productOrder.customer.email}</Link> : ''}
+                    {productOrder.customerEmail ? <Link to={`customer/${productOrder.customerId}`}>{productOrder.customerEmail}</Link> : ''}
                   </td>
                   <td className="text-right">
                     <div className="btn-group flex-btn-group-container">
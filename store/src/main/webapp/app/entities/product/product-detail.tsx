@@ -3,7 +3,7 @@ import { connect } from 'react-redux';
 import { Link, RouteComponentProps } from 'react-router-dom';
 import { Button, Row, Col } from 'reactstrap';
 // tslint:disable-next-line:no-unused-variable
-import { Translate, ICrudGetAction, openFile, byteSize } from 'react-jhipster';
+import { Translate, ICrudGetAction } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 
 import { IRootState } from 'app/shared/reducers';
@@ -58,21 +58,19 @@ export class ProductDetail extends React.Component<IProductDetailProps> {
               </span>
             </dt>
             <dd>
-              {productEntity.image ? (
+              {productEntity.imageUrl ? (
                 <div>
-                  <a onClick={openFile(productEntity.imageContentType, productEntity.image)}>
-                    <img src={`data:${productEntity.imageContentType};base64,${productEntity.image}`} style={{ maxHeight: '30px' }} />
+                  <a href={productEntity.imageUrl} target="_blank">
+                    <img src={productEntity.imageUrl} style={{ maxHeight: '30px' }} />
                   </a>
-                  <span>
-                    {productEntity.imageContentType}, {byteSize(productEntity.image)}
-                  </span>
+                  <span>{productEntity.imageContentType}</span>
                 </div>
               ) : null}
             </dd>
             <dt>
               <Translate contentKey="storeApp.product.productCategory">Product Category</Translate>
             </dt>
-            <dd>{productEntity.productCategory ? productEntity.productCategory.name : ''}</dd>
+            <dd>{productEntity.productCategoryName ? productEntity.productCategoryName : ''}</dd>
           </dl>
           <Button tag={Link} to="/entity/product" replace color="info">
             <FontAwesomeIcon icon="arrow-left" />{' '}
@@ -75,7 +75,7 @@ export class ProductUpdate extends React.Component<IProductUpdateProps, IProduct
     const { productEntity, productCategories, loading, updating } = this.props;
     const { isNew } = this.state;
 
-    const { image, imageContentType } = productEntity;
+    const { image, imageContentType, imageUrl } = productEntity;
 
     return (
       <div>
@@ -188,6 +188,24 @@ export class ProductUpdate extends React.Component<IProductUpdateProps, IProduct
                         </Row>
                       </div>
                     ) : null}
+                    {!image && imageContentType && imageUrl ? (
+                      <div>
+                        <a href={imageUrl} target="_blank">
+                          <img src={imageUrl} style={{ maxHeight: '100px' }} />
+                        </a>
+                        <br />
+                        <Row>
+                          <Col md="11">
+                            <span>{imageContentType}</span>
+                          </Col>
+                          <Col md="1">
+                            <Button color="danger" onClick={this.clearBlob('image')}>
+                              <FontAwesomeIcon icon="times-circle" />
+                            </Button>
+                          </Col>
+                        </Row>
+                      </div>
+                    ) : null}
                     <input id="file_image" type="file" onChange={this.onBlobChange(true, 'image')} accept="image/*" />
                     <AvInput type="hidden" name="image" value={image} />
                   </AvGroup>
@@ -196,7 +214,7 @@ export class ProductUpdate extends React.Component<IProductUpdateProps, IProduct
                   <Label for="productCategory.name">
                     <Translate contentKey="storeApp.product.productCategory">Product Category</Translate>
                   </Label>
-                  <AvInput id="product-productCategory" type="select" className="form-control" name="productCategory.id">
+                  <AvInput id="product-productCategory" type="select" className="form-control" name="productCategoryId">
                     <option value="" key="0" />
                     {productCategories
                       ? productCategories.map(otherEntity => (
@@ -4,8 +4,6 @@ import { Link, RouteComponentProps } from 'react-router-dom';
 import { Button, Col, Row, Table } from 'reactstrap';
 // tslint:disable-next-line:no-unused-variable
 import {
-  openFile,
-  byteSize,
   Translate,
   ICrudGetAllAction,
   getSortState,
@@ -87,8 +85,8 @@ export class Product extends React.Component<IProductProps, IProductState> {
                 <th className="hand" onClick={this.sort('size')}>
                   <Translate contentKey="storeApp.product.size">Size</Translate> <FontAwesomeIcon icon="sort" />
                 </th>
-                <th className="hand" onClick={this.sort('image')}>
-                  <Translate contentKey="storeApp.product.image">Image</Translate> <FontAwesomeIcon icon="sort" />
+                <th>
+                  <Translate contentKey="storeApp.product.image">Image</Translate>
                 </th>
                 <th>
                   <Translate contentKey="storeApp.product.productCategory">Product Category</Translate> <FontAwesomeIcon icon="sort" />
@@ -111,21 +109,19 @@ export class Product extends React.Component<IProductProps, IProductState> {
                     <Translate contentKey={`storeApp.Size.${product.size}`} />
                   </td>
                   <td>
-                    {product.image ? (
+                    {product.imageUrl ? (
                       <div>
-                        <a onClick={openFile(product.imageContentType, product.image)}>
-                          <img src={`data:${product.imageContentType};base64,${product.image}`} style={{ maxHeight: '30px' }} />
+                        <a href={product.imageUrl} target="_blank">
+                          <img src={product.imageUrl} style={{ maxHeight: '30px' }} />
                           &nbsp;
                         </a>
-                        <span>
-                          {product.imageContentType}, {byteSize(product.image)}
-                        </span>
+                        <span>{product.imageContentType}</span>
                       </div>
                     ) : null}
                   </td>
                   <td>
-                    {product.productCategory ? (
-                      <Link to={`product-category/${product.productCategory.id}`}>{product.productCategory.name}</Link>
+                    {product.productCategoryName ? (
+                      <Link to={`product-category/${product.productCategoryId}`}>{product.productCategoryName}</Link>
                     ) : (
                       ''
                     )}
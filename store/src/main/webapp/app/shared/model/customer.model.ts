@@ -1,4 +1,3 @@
-import { IUser } from './user.model';
 import { IProductOrder } from 'app/shared/model//product-order.model';
 
 export const enum Gender {
@@ -18,7 +17,8 @@ export interface ICustomer {
   addressLine2?: string;
   city?: string;
   country?: string;
-  user?: IUser;
+  userLogin?: string;
+  userId?: number;
   orders?: IProductOrder[];
 }
 
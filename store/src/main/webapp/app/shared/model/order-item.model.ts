@@ -1,6 +1,3 @@
-import { IProduct } from 'app/shared/model//product.model';
-import { IProductOrder } from 'app/shared/model//product-order.model';
-
 export const enum OrderItemStatus {
   AVAILABLE = 'AVAILABLE',
   OUT_OF_STOCK = 'OUT_OF_STOCK',
@@ -12,8 +9,10 @@ export interface IOrderItem {
   quantity?: number;
   totalPrice?: number;
   status?: OrderItemStatus;
-  product?: IProduct;
-  order?: IProductOrder;
+  productName?: string;
+  productId?: number;
+  orderCode?: string;
+  orderId?: number;
 }
 
 export const defaultValue: Readonly<IOrderItem> = {};
@@ -1,6 +1,5 @@
 import { Moment } from 'moment';
 import { IOrderItem } from 'app/shared/model//order-item.model';
-import { ICustomer } from 'app/shared/model//customer.model';
 
 export const enum OrderStatus {
   COMPLETED = 'COMPLETED',
@@ -15,7 +14,8 @@ export interface IProductOrder {
   code?: string;
   invoiceId?: number;
   orderItems?: IOrderItem[];
-  customer?: ICustomer;
+  customerEmail?: string;
+  customerId?: number;
 }
 
 export const defaultValue: Readonly<IProductOrder> = {};
@@ -1,5 +1,3 @@
-import { IProductCategory } from 'app/shared/model//product-category.model';
-
 export const enum Size {
   S = 'S',
   M = 'M',
@@ -16,7 +14,9 @@ export interface IProduct {
   size?: Size;
   imageContentType?: string;
   image?: any;
-  productCategory?: IProductCategory;
+  imageUrl?: string;
+  productCategoryName?: string;
+  productCategoryId?: number;
 }
 
 export const defaultValue: Readonly<IProduct> = {};
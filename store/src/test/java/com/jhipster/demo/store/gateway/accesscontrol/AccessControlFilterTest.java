@@ -0,0 +1,116 @@
+package com.jhipster.demo.store.gateway.accesscontrol;
+
+import com.netflix.zuul.context.RequestContext;
+import io.github.jhipster.config.JHipsterProperties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cloud.netflix.zuul.filters.Route;
+import org.springframework.cloud.netflix.zuul.filters.RouteLocator;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests AccessControlFilter class.
+ */
+public class AccessControlFilterTest {
+
+    private List<Route> routes;
+
+    private JHipsterProperties jHipsterProperties;
+
+    private AccessControlFilter filter;
+
+    @Before
+    public void setup() {
+        routes = new ArrayList<>();
+        routes.add(new Route("invoice", "/**", "invoice", "/invoice", null, null));
+        routes.add(new Route("notification", "/**", "notification", "/notification", null, null));
+        routes.add(new Route("invoice-admin", "/**", "invoice", "/invoice/admin", null, null));
+        jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getGateway().getAuthorizedMicroservicesEndpoints()
+            .put("invoice", Arrays.asList("/api", "/management/health"));
+        filter = new AccessControlFilter(new RouteLocator() {
+
+            @Override
+            public Collection<String> getIgnoredPaths() {
+                return Collections.emptyList();
+            }
+
+            @Override
+            public List<Route> getRoutes() {
+                return new ArrayList<>(routes);
+            }
+
+            @Override
+            public Route getMatchingRoute(String path) {
+                return null;
+            }
+        }, jHipsterProperties);
+    }
+
+    @After
+    public void tearDown() {
+        RequestContext.getCurrentContext().unset();
+    }
+
+    @Test
+    public void shouldNotFilter_authorized_endpoint() {
+        assertFalse(shouldFilter("", "/invoice/api/invoices"));
+        assertFalse(shouldFilter("", "/invoice/management/health"));
+    }
+
+    @Test
+    public void shouldFilter_unauthorized_endpoint() {
+        assertTrue(shouldFilter("", "/invoice/management/env"));
+        assertTrue(shouldFilter("", "/invoice/ap"));
+    }
+
+    @Test
+    public void shouldNotFilter_service_without_access_control_policy() {
+        assertFalse(shouldFilter("", "/notification/management/env"));
+    }
+
+    @Test
+    public void shouldFilter_unknown_service() {
+        assertTrue(shouldFilter("", "/unknown/api/test"));
+        assertTrue(shouldFilter("", "/invoic"));
+    }
+
+    @Test
+    public void shouldFilter_with_policy_of_first_matching_route() {
+        assertTrue(shouldFilter("", "/invoice/admin/test"));
+    }
+
+    @Test
+    public void shouldFilter_with_context_path() {
+        assertFalse(shouldFilter("/gateway", "/gateway/invoice/api/invoices"));
+        assertTrue(shouldFilter("/gateway", "/gateway/invoice/management/env"));
+        assertTrue(shouldFilter("/gateway", "/invoice/api/invoices"));
+    }
+
+    @Test
+    public void shouldNotFilter_new_route_after_routes_changed() {
+        assertTrue(shouldFilter("", "/shipment/api/shipments"));
+
+        routes.add(new Route("shipment", "/**", "shipment", "/shipment", null, null));
+        assertTrue(shouldFilter("", "/shipment/api/shipments"));
+
+        filter.onRoutesChanged();
+        assertFalse(shouldFilter("", "/shipment/api/shipments"));
+    }
+
+    private boolean shouldFilter(String contextPath, String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        request.setContextPath(contextPath);
+        RequestContext.getCurrentContext().setRequest(request);
+        return filter.shouldFilter();
+    }
+}
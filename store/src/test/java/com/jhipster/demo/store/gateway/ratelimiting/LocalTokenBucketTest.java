@@ -0,0 +1,55 @@
+package com.jhipster.demo.store.gateway.ratelimiting;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests LocalTokenBucket class.
+ */
+public class LocalTokenBucketTest {
+
+    private LocalTokenBucket bucket = new LocalTokenBucket(() -> null);
+
+    @Test
+    public void tryConsume_fails_when_empty() {
+        assertFalse(bucket.tryConsume());
+    }
+
+    @Test
+    public void tryConsume_reserved_tokens() {
+        bucket.addTokens(2);
+
+        assertTrue(bucket.tryConsume());
+        assertTrue(bucket.tryConsume());
+        assertFalse(bucket.tryConsume());
+        assertEquals(0, bucket.getAvailableTokens());
+    }
+
+    @Test
+    public void drain_takes_remaining_tokens() {
+        bucket.addTokens(5);
+        bucket.tryConsume();
+
+        assertEquals(4, bucket.drain());
+        assertFalse(bucket.tryConsume());
+    }
+
+    @Test
+    public void only_one_reservation_at_a_time() {
+        assertTrue(bucket.startReservation());
+        assertFalse(bucket.startReservation());
+
+        bucket.endReservation();
+        assertTrue(bucket.startReservation());
+    }
+
+    @Test
+    public void isIdleSince_last_consumption() {
+        long before = System.currentTimeMillis() - 1;
+        bucket.tryConsume();
+
+        assertFalse(bucket.isIdleSince(before));
+        assertTrue(bucket.isIdleSince(System.currentTimeMillis() + 1));
+    }
+}
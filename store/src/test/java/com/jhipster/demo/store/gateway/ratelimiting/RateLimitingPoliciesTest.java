@@ -0,0 +1,151 @@
+package com.jhipster.demo.store.gateway.ratelimiting;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+import com.jhipster.demo.store.gateway.ratelimiting.RateLimitingPolicies.RateLimitingPolicy;
+import com.jhipster.demo.store.security.AuthoritiesConstants;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket4j;
+import io.github.jhipster.config.JHipsterProperties;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests RateLimitingPolicies class.
+ */
+public class RateLimitingPoliciesTest {
+
+    private static final List<GrantedAuthority> USER = Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.USER));
+
+    private static final List<GrantedAuthority> ADMIN = Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.ADMIN));
+
+    private List<ApplicationProperties.RateLimiting.Policy> policies;
+
+    private JHipsterProperties.Gateway.RateLimiting defaultRateLimiting;
+
+    @Before
+    public void setup() {
+        policies = new ArrayList<>();
+        defaultRateLimiting = new JHipsterProperties().getGateway().getRateLimiting();
+    }
+
+    @Test
+    public void find_default_policy_without_policies() {
+        RateLimitingPolicy policy = RateLimitingPolicies.build(policies, defaultRateLimiting).find("invoice", "GET", "/api/invoices", USER);
+
+        assertEquals(RateLimitingPolicies.DEFAULT_POLICY_NAME, policy.getName());
+        assertEquals("user", policy.getBucketId("user"));
+        assertTrue(policy.getConfigSupplier().get().isCompatible(Bucket4j.configurationBuilder()
+            .addLimit(Bandwidth.simple(defaultRateLimiting.getLimit(), Duration.ofSeconds(defaultRateLimiting.getDurationInSeconds())))
+            .build()));
+    }
+
+    @Test
+    public void find_matches_route_method_and_path() {
+        policies.add(policy("invoice-writes", "invoice", "/api/**", Arrays.asList("post", "PUT"), Collections.emptyList(), 100));
+        RateLimitingPolicies compiled = RateLimitingPolicies.build(policies, defaultRateLimiting);
+
+        assertEquals("invoice-writes", compiled.find("invoice", "POST", "/api/invoices", USER).getName());
+        assertEquals("invoice-writes", compiled.find("invoice", "PUT", "/api/invoices", USER).getName());
+        assertEquals(RateLimitingPolicies.DEFAULT_POLICY_NAME, compiled.find("invoice", "GET", "/api/invoices", USER).getName());
+        assertEquals(RateLimitingPolicies.DEFAULT_POLICY_NAME, compiled.find("invoice", "POST", "/management/info", USER).getName());
+        assertEquals(RateLimitingPolicies.DEFAULT_POLICY_NAME, compiled.find("notification", "POST", "/api/notifications", USER).getName());
+        assertEquals(RateLimitingPolicies.DEFAULT_POLICY_NAME, compiled.find(null, "POST", "/api/products", USER).getName());
+    }
+
+    @Test
+    public void find_matches_authorities() {
+        policies.add(policy("admin", null, null, Collections.emptyList(), Collections.singletonList(AuthoritiesConstants.ADMIN), 10));
+        RateLimitingPolicies compiled = RateLimitingPolicies.build(policies, defaultRateLimiting);
+
+        assertEquals("admin", compiled.find("invoice", "GET", "/api/invoices", ADMIN).getName());
+        assertEquals("admin", compiled.find(null, "GET", "/api/products", ADMIN).getName());
+        assertEquals(RateLimitingPolicies.DEFAULT_POLICY_NAME, compiled.find("invoice", "GET", "/api/invoices", USER).getName());
+        assertEquals(RateLimitingPolicies.DEFAULT_POLICY_NAME, compiled.find("invoice", "GET", "/api/invoices", Collections.emptyList()).getName());
+    }
+
+    @Test
+    public void find_first_matching_policy_in_order() {
+        policies.add(policy("admin", null, null, Collections.emptyList(), Collections.singletonList(AuthoritiesConstants.ADMIN), 10));
+        policies.add(policy("invoice", "invoice", null, Collections.emptyList(), Collections.emptyList(), 100));
+        RateLimitingPolicies compiled = RateLimitingPolicies.build(policies, defaultRateLimiting);
+
+        assertEquals("admin", compiled.find("invoice", "GET", "/api/invoices", ADMIN).getName());
+        assertEquals("invoice", compiled.find("invoice", "GET", "/api/invoices", USER).getName());
+    }
+
+    @Test
+    public void policy_has_its_own_buckets_and_limits() {
+        ApplicationProperties.RateLimiting.Policy admin = policy("admin", null, null, Collections.emptyList(),
+            Collections.singletonList(AuthoritiesConstants.ADMIN), 10);
+        admin.getLimits().add(limit(1000, 3600));
+        policies.add(admin);
+
+        RateLimitingPolicy policy = RateLimitingPolicies.build(policies, defaultRateLimiting).find(null, "GET", "/api/products", ADMIN);
+
+        assertEquals("admin:user", policy.getBucketId("user"));
+        assertTrue(policy.getConfigSupplier().get().isCompatible(Bucket4j.configurationBuilder()
+            .addLimit(Bandwidth.simple(10, Duration.ofSeconds(60)))
+            .addLimit(Bandwidth.simple(1000, Duration.ofSeconds(3600)))
+            .build()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_rejects_policy_without_name() {
+        policies.add(policy(null, "invoice", null, Collections.emptyList(), Collections.emptyList(), 10));
+        RateLimitingPolicies.build(policies, defaultRateLimiting);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_rejects_default_policy_name() {
+        policies.add(policy(RateLimitingPolicies.DEFAULT_POLICY_NAME, "invoice", null, Collections.emptyList(), Collections.emptyList(), 10));
+        RateLimitingPolicies.build(policies, defaultRateLimiting);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_rejects_duplicate_policies() {
+        policies.add(policy("invoice", "invoice", null, Collections.emptyList(), Collections.emptyList(), 10));
+        policies.add(policy("invoice", "invoice", null, Collections.emptyList(), Collections.emptyList(), 10));
+        RateLimitingPolicies.build(policies, defaultRateLimiting);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_rejects_policy_without_limits() {
+        ApplicationProperties.RateLimiting.Policy policy = policy("invoice", "invoice", null, Collections.emptyList(), Collections.emptyList(), 10);
+        policy.getLimits().clear();
+        policies.add(policy);
+        RateLimitingPolicies.build(policies, defaultRateLimiting);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void build_rejects_empty_limit() {
+        policies.add(policy("invoice", "invoice", null, Collections.emptyList(), Collections.emptyList(), 0));
+        RateLimitingPolicies.build(policies, defaultRateLimiting);
+    }
+
+    private static ApplicationProperties.RateLimiting.Policy policy(String name, String route, String path, List<String> methods,
+            List<String> authorities, long capacity) {
+        ApplicationProperties.RateLimiting.Policy policy = new ApplicationProperties.RateLimiting.Policy();
+        policy.setName(name);
+        policy.setRoute(route);
+        policy.setPath(path);
+        policy.setMethods(new ArrayList<>(methods));
+        policy.setAuthorities(new ArrayList<>(authorities));
+        policy.getLimits().add(limit(capacity, 60));
+        return policy;
+    }
+
+    private static ApplicationProperties.RateLimiting.Limit limit(long capacity, long durationInSeconds) {
+        ApplicationProperties.RateLimiting.Limit limit = new ApplicationProperties.RateLimiting.Limit();
+        limit.setCapacity(capacity);
+        limit.setDurationInSeconds(durationInSeconds);
+        return limit;
+    }
+}
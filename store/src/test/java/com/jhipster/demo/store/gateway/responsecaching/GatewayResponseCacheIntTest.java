@@ -0,0 +1,189 @@
+package com.jhipster.demo.store.gateway.responsecaching;
+
+import com.jhipster.demo.store.StoreApp;
+import com.jhipster.demo.store.config.ApplicationProperties;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.netflix.zuul.context.RequestContext;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.netflix.zuul.filters.ProxyRequestHelper;
+import org.springframework.cloud.netflix.zuul.filters.ZuulProperties;
+import org.springframework.cloud.netflix.zuul.filters.support.FilterConstants;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Integration tests of the {@link GatewayResponseCache}, caching the responses of a microservice sent through its
+ * Spring Security filter chain, as they are received by the Zuul routing filters.
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = StoreApp.class)
+public class GatewayResponseCacheIntTest {
+
+    @Autowired
+    private HazelcastInstance hazelcastInstance;
+
+    @Autowired
+    private ZuulProperties zuulProperties;
+
+    @Autowired
+    private FilterChainProxy springSecurityFilterChain;
+
+    private IMap<String, CachedResponse> responses;
+
+    private ApplicationProperties.ResponseCaching properties;
+
+    private CachedResponseFilter cachedResponseFilter;
+
+    private ResponseCachingFilter responseCachingFilter;
+
+    private MockMvc microserviceMockMvc;
+
+    @Before
+    public void setup() {
+        responses = hazelcastInstance.getMap(GatewayResponseCache.CACHE_NAME);
+        responses.clear();
+        properties = new ApplicationProperties.ResponseCaching();
+        GatewayResponseCache cache = new GatewayResponseCache(responses, properties);
+        cachedResponseFilter = new CachedResponseFilter(cache);
+        responseCachingFilter = new ResponseCachingFilter(cache);
+        microserviceMockMvc = MockMvcBuilders.standaloneSetup(new MicroserviceResource())
+            .apply(springSecurity(springSecurityFilterChain))
+            .build();
+    }
+
+    @After
+    public void tearDown() {
+        responses.clear();
+        RequestContext.getCurrentContext().unset();
+    }
+
+    @Test
+    @WithMockUser("user")
+    public void cachesPrivateResponseForItsUser() throws Exception {
+        gatewayRequest("/invoice/api/invoices/1");
+        assertThat(cachedResponseFilter.shouldFilter()).isTrue();
+        cachedResponseFilter.run();
+        assertThat(RequestContext.getCurrentContext().sendZuulResponse()).isTrue();
+        routeToMicroservice("/api/invoices/1");
+        assertThat(responseCachingFilter.shouldFilter()).isTrue();
+        responseCachingFilter.run();
+        assertThat(responseBody()).isEqualTo("{\"id\":1}");
+        assertThat(responses.keySet()).containsExactly("invoice|user|/invoice/api/invoices/1");
+
+        // The same user gets the cached response
+        gatewayRequest("/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        RequestContext ctx = RequestContext.getCurrentContext();
+        assertThat(ctx.sendZuulResponse()).isFalse();
+        assertThat(ctx.get(GatewayResponseCache.CACHE_HIT_KEY)).isEqualTo(true);
+        assertThat(ctx.getResponseStatusCode()).isEqualTo(200);
+        assertThat(responseBody()).isEqualTo("{\"id\":1}");
+
+        // Another user does not
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("other-user", "password", Collections.emptyList()));
+        gatewayRequest("/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        assertThat(RequestContext.getCurrentContext().sendZuulResponse()).isTrue();
+    }
+
+    @Test
+    @WithMockUser("user")
+    public void doesNotCacheResponseWithSpringSecurityCacheControl() throws Exception {
+        ApplicationProperties.ResponseCaching.Route route = new ApplicationProperties.ResponseCaching.Route();
+        route.setTimeToLiveSeconds(60);
+        properties.getRoutes().put("invoice", route);
+
+        gatewayRequest("/invoice/api/shipments/1");
+        cachedResponseFilter.run();
+        routeToMicroservice("/api/shipments/1");
+        responseCachingFilter.run();
+
+        assertThat(responseBody()).isEqualTo("{\"id\":1}");
+        assertThat(responses).isEmpty();
+    }
+
+    private void gatewayRequest(String uri) {
+        RequestContext.getCurrentContext().unset();
+        RequestContext ctx = RequestContext.getCurrentContext();
+        ctx.setRequest(new MockHttpServletRequest("GET", uri));
+        ctx.setResponse(new MockHttpServletResponse());
+        ctx.set(FilterConstants.PROXY_KEY, "invoice");
+    }
+
+    /**
+     * Send the request to the microservice, and set its response as the Zuul routing filters do.
+     */
+    private void routeToMicroservice(String uri) throws Exception {
+        // The microservice runs in its own process: its security filter chain must not clear the context of the gateway
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        MockHttpServletResponse response = microserviceMockMvc.perform(get(uri)).andReturn().getResponse();
+        SecurityContextHolder.setContext(securityContext);
+        MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+        for (String name : response.getHeaderNames()) {
+            headers.put(name, response.getHeaders(name));
+        }
+        ProxyRequestHelper helper = new ProxyRequestHelper();
+        helper.addIgnoredHeaders(zuulProperties.getIgnoredHeaders().toArray(new String[0]));
+        helper.setResponse(response.getStatus(), new ByteArrayInputStream(response.getContentAsByteArray()), headers);
+    }
+
+    private String responseBody() throws Exception {
+        return IOUtils.toString(RequestContext.getCurrentContext().getResponseDataStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Resources of a microservice, with and without their own Cache-Control header.
+     */
+    @RestController
+    static class MicroserviceResource {
+
+        @GetMapping("/api/invoices/{id}")
+        public ResponseEntity<String> getInvoice(@PathVariable Long id) {
+            return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate())
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body("{\"id\":" + id + "}");
+        }
+
+        @GetMapping("/api/shipments/{id}")
+        public ResponseEntity<String> getShipment(@PathVariable Long id) {
+            return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                .body("{\"id\":" + id + "}");
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.jhipster.demo.store.gateway.responsecaching;
+
+import com.jhipster.demo.store.config.ApplicationProperties;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.query.Predicate;
+import com.netflix.util.Pair;
+import com.netflix.zuul.context.RequestContext;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cloud.netflix.zuul.filters.support.FilterConstants;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests CachedResponseFilter and ResponseCachingFilter classes.
+ */
+public class ResponseCachingFilterTest {
+
+    private static final String SPRING_SECURITY_CACHE_CONTROL = "no-cache, no-store, max-age=0, must-revalidate";
+
+    private Map<String, CachedResponse> store;
+
+    private ApplicationProperties.ResponseCaching properties;
+
+    private CachedResponseFilter cachedResponseFilter;
+
+    private ResponseCachingFilter responseCachingFilter;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        store = new HashMap<>();
+        IMap<String, CachedResponse> responses = mock(IMap.class);
+        when(responses.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+            .when(responses).set(anyString(), any(CachedResponse.class), anyLong(), any(TimeUnit.class));
+        when(responses.keySet(any(Predicate.class))).thenAnswer(invocation -> store.entrySet().stream()
+            .filter(invocation.<Predicate<String, CachedResponse>>getArgument(0)::apply)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet()));
+        doAnswer(invocation -> store.remove(invocation.<String>getArgument(0))).when(responses).delete(anyString());
+
+        properties = new ApplicationProperties.ResponseCaching();
+        ApplicationProperties.ResponseCaching.Route route = new ApplicationProperties.ResponseCaching.Route();
+        route.setTimeToLiveSeconds(60);
+        properties.getRoutes().put("invoice", route);
+        ApplicationProperties.ResponseCaching.Route sharedRoute = new ApplicationProperties.ResponseCaching.Route();
+        sharedRoute.setTimeToLiveSeconds(60);
+        sharedRoute.setShared(true);
+        properties.getRoutes().put("catalog", sharedRoute);
+        properties.setCoalescingTimeoutMillis(100);
+
+        GatewayResponseCache cache = new GatewayResponseCache(responses, properties);
+        cachedResponseFilter = new CachedResponseFilter(cache);
+        responseCachingFilter = new ResponseCachingFilter(cache);
+    }
+
+    @After
+    public void tearDown() {
+        RequestContext.getCurrentContext().unset();
+    }
+
+    @Test
+    public void shouldFilter_only_routed_get_requests() {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        assertTrue(cachedResponseFilter.shouldFilter());
+
+        newRequest("POST", "invoice", "/invoice/api/invoices");
+        assertFalse(cachedResponseFilter.shouldFilter());
+
+        newRequest("GET", null, "/api/products/1");
+        assertFalse(cachedResponseFilter.shouldFilter());
+    }
+
+    @Test
+    public void caches_response_with_route_time_to_live() throws Exception {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        assertTrue(RequestContext.getCurrentContext().sendZuulResponse());
+        backendResponse(200, "{\"id\":1}", null);
+        responseCachingFilter.run();
+        assertEquals("{\"id\":1}", responseBody());
+        assertEquals(1, store.size());
+
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        RequestContext ctx = RequestContext.getCurrentContext();
+        assertFalse(ctx.sendZuulResponse());
+        assertFalse(responseCachingFilter.shouldFilter());
+        assertEquals(200, ctx.getResponseStatusCode());
+        assertEquals("{\"id\":1}", responseBody());
+    }
+
+    @Test
+    public void does_not_cache_routes_without_time_to_live() throws Exception {
+        newRequest("GET", "notification", "/notification/api/notifications/1");
+        cachedResponseFilter.run();
+        backendResponse(200, "{\"id\":1}", null);
+        responseCachingFilter.run();
+
+        assertTrue(store.isEmpty());
+        assertEquals("{\"id\":1}", responseBody());
+    }
+
+    @Test
+    public void honors_response_cache_control() throws Exception {
+        newRequest("GET", "notification", "/notification/api/notifications/1");
+        cachedResponseFilter.run();
+        backendResponse(200, "{\"id\":1}", "max-age=30");
+        responseCachingFilter.run();
+        assertEquals(1, store.size());
+
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        backendResponse(200, "{\"id\":1}", "no-store");
+        responseCachingFilter.run();
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void caches_private_responses_by_user_unless_the_route_is_shared() throws Exception {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        backendResponse(200, "{\"id\":1}", "max-age=30, private");
+        responseCachingFilter.run();
+        assertEquals(Collections.singleton("invoice||/invoice/api/invoices/1"), store.keySet());
+
+        newRequest("GET", "catalog", "/catalog/api/items");
+        cachedResponseFilter.run();
+        backendResponse(200, "[]", "max-age=30, private");
+        responseCachingFilter.run();
+        assertEquals(1, store.size());
+        assertEquals("[]", responseBody());
+    }
+
+    @Test
+    public void does_not_cache_spring_security_default_responses() throws Exception {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        backendResponse(200, "{\"id\":1}", SPRING_SECURITY_CACHE_CONTROL);
+        responseCachingFilter.run();
+
+        assertTrue(store.isEmpty());
+        assertEquals("{\"id\":1}", responseBody());
+    }
+
+    @Test
+    public void unsafe_requests_evict_the_cached_responses_of_their_route() throws Exception {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        backendResponse(200, "{\"id\":1}", null);
+        responseCachingFilter.run();
+        newRequest("GET", "catalog", "/catalog/api/items");
+        cachedResponseFilter.run();
+        backendResponse(200, "[]", null);
+        responseCachingFilter.run();
+        assertEquals(2, store.size());
+
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        assertFalse(responseCachingFilter.shouldFilter());
+
+        newRequest("PUT", "invoice", "/invoice/api/invoices");
+        assertFalse(cachedResponseFilter.shouldFilter());
+        assertTrue(responseCachingFilter.shouldFilter());
+        backendResponse(200, "{\"id\":1}", null);
+        responseCachingFilter.run();
+        assertEquals(Collections.singleton("catalog||/catalog/api/items"), store.keySet());
+
+        newRequest("DELETE", "catalog", "/catalog/api/items/1");
+        backendResponse(500, "{}", null);
+        responseCachingFilter.run();
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    public void does_not_cache_errors() throws Exception {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        backendResponse(404, "{}", null);
+        responseCachingFilter.run();
+
+        assertTrue(store.isEmpty());
+    }
+
+    @Test
+    public void returns_not_modified_on_matching_etag() throws Exception {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        backendResponse(200, "{\"id\":1}", null);
+        RequestContext.getCurrentContext().addZuulResponseHeader(HttpHeaders.ETAG, "\"v1\"");
+        responseCachingFilter.run();
+
+        MockHttpServletRequest request = newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+        cachedResponseFilter.run();
+
+        assertEquals(304, RequestContext.getCurrentContext().getResponseStatusCode());
+        assertNull(RequestContext.getCurrentContext().getResponseDataStream());
+    }
+
+    @Test
+    public void revalidates_expired_response_with_etag() throws Exception {
+        CachedResponse expired = new CachedResponse(200, Collections.singletonList(new Pair<>(HttpHeaders.ETAG, "\"v1\"")),
+            "{\"id\":1}".getBytes(StandardCharsets.UTF_8), false, "\"v1\"", 0, 0);
+        store.put("invoice||/invoice/api/invoices/1", expired);
+
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        RequestContext ctx = RequestContext.getCurrentContext();
+        assertTrue(ctx.sendZuulResponse());
+        assertEquals("\"v1\"", ctx.getZuulRequestHeaders().get(HttpHeaders.IF_NONE_MATCH.toLowerCase()));
+
+        backendResponse(304, null, "max-age=60");
+        responseCachingFilter.run();
+
+        assertEquals(200, ctx.getResponseStatusCode());
+        assertEquals("{\"id\":1}", responseBody());
+        assertTrue(store.values().iterator().next().isFresh(System.currentTimeMillis()));
+    }
+
+    @Test
+    public void identical_requests_wait_for_the_pending_one() throws Exception {
+        newRequest("GET", "invoice", "/invoice/api/invoices/1");
+        cachedResponseFilter.run();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<CachedResponse> pendingRequest =
+            (CompletableFuture<CachedResponse>) RequestContext.getCurrentContext().get(GatewayResponseCache.PENDING_REQUEST_KEY);
+        assertNotNull(pendingRequest);
+
+        CompletableFuture<Boolean> follower = CompletableFuture.supplyAsync(() -> {
+            newRequest("GET", "invoice", "/invoice/api/invoices/1");
+            cachedResponseFilter.run();
+            try {
+                return !RequestContext.getCurrentContext().sendZuulResponse() && "{\"id\":1}".equals(responseBody());
+            } catch (Exception e) {
+                return false;
+            }
+        });
+
+        backendResponse(200, "{\"id\":1}", null);
+        responseCachingFilter.run();
+
+        assertTrue(pendingRequest.isDone());
+        assertTrue(follower.get(1, TimeUnit.SECONDS));
+    }
+
+    private MockHttpServletRequest newRequest(String method, String route, String uri) {
+        RequestContext.getCurrentContext().unset();
+        RequestContext ctx = RequestContext.getCurrentContext();
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        ctx.setRequest(request);
+        ctx.setResponse(new MockHttpServletResponse());
+        if (route != null) {
+            ctx.set(FilterConstants.PROXY_KEY, route);
+        }
+        return request;
+    }
+
+    private void backendResponse(int status, String body, String cacheControl) {
+        RequestContext ctx = RequestContext.getCurrentContext();
+        ctx.setResponseStatusCode(status);
+        if (cacheControl != null) {
+            // Zuul only keeps the security headers of the microservice in the origin headers
+            ctx.addOriginResponseHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (body != null) {
+            ctx.setResponseDataStream(IOUtils.toInputStream(body, StandardCharsets.UTF_8));
+        }
+    }
+
+    private String responseBody() throws Exception {
+        InputStream in = RequestContext.getCurrentContext().getResponseDataStream();
+        return IOUtils.toString(in, StandardCharsets.UTF_8);
+    }
+}
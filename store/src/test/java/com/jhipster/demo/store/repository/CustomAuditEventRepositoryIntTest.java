@@ -1,26 +1,33 @@
 package com.jhipster.demo.store.repository;
 
 import com.jhipster.demo.store.StoreApp;
+import com.jhipster.demo.store.config.ApplicationProperties;
 import com.jhipster.demo.store.config.Constants;
 import com.jhipster.demo.store.config.audit.AuditEventConverter;
 import com.jhipster.demo.store.domain.PersistentAuditEvent;
+import com.codahale.metrics.MetricRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.audit.AuditEvent;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpSession;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static com.jhipster.demo.store.repository.CustomAuditEventRepository.EVENT_DATA_COLUMN_MAX_LENGTH;
@@ -41,6 +48,15 @@ public class CustomAuditEventRepositoryIntTest {
     @Autowired
     private AuditEventConverter auditEventConverter;
 
+    @Autowired
+    private AuditEventWriter auditEventWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private CustomAuditEventRepository customAuditEventRepository;
 
     private PersistentAuditEvent testUserEvent;
@@ -51,7 +67,8 @@ public class CustomAuditEventRepositoryIntTest {
 
     @Before
     public void setup() {
-        customAuditEventRepository = new CustomAuditEventRepository(persistenceAuditEventRepository, auditEventConverter);
+        customAuditEventRepository = new CustomAuditEventRepository(persistenceAuditEventRepository, auditEventConverter,
+            auditEventWriter);
         persistenceAuditEventRepository.deleteAll();
         Instant oneHourAgo = Instant.now().minusSeconds(3600);
 
@@ -162,4 +179,82 @@ public class CustomAuditEventRepositoryIntTest {
         assertThat(persistentAuditEvents).hasSize(0);
     }
 
+    @Test
+    public void addAuditEventsWriteBehind() throws Exception {
+        AuditEventWriter writeBehindWriter = createWriteBehindWriter();
+        CustomAuditEventRepository writeBehindRepository = new CustomAuditEventRepository(persistenceAuditEventRepository,
+            auditEventConverter, writeBehindWriter);
+        writeBehindWriter.start();
+        for (int i = 0; i < 25; i++) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("test-key", "test-value-" + i);
+            writeBehindRepository.add(new AuditEvent("test-user", "test-type", data));
+        }
+        // Stopping the writer drains the buffer
+        writeBehindWriter.stop();
+
+        List<PersistentAuditEvent> persistentAuditEvents = persistenceAuditEventRepository.findAll();
+        assertThat(persistentAuditEvents).hasSize(25);
+        assertThat(persistentAuditEvents).extracting(event -> event.getData().get("test-key")).contains("test-value-0", "test-value-24");
+        assertThat(persistentAuditEvents).extracting(PersistentAuditEvent::getPrincipal).containsOnly("test-user");
+    }
+
+    @Test
+    public void addAuditEventsWriteBehindWithInvalidEvent() throws Exception {
+        AuditEventWriter writeBehindWriter = createWriteBehindWriter();
+        CustomAuditEventRepository writeBehindRepository = new CustomAuditEventRepository(persistenceAuditEventRepository,
+            auditEventConverter, writeBehindWriter);
+        writeBehindWriter.start();
+        StringBuilder longPrincipal = new StringBuilder();
+        for (int i = 0; i < 60; i++) {
+            longPrincipal.append("a");
+        }
+        writeBehindRepository.add(new AuditEvent("test-user", "test-type", new HashMap<>()));
+        writeBehindRepository.add(new AuditEvent(longPrincipal.toString(), "test-type", new HashMap<>()));
+        writeBehindRepository.add(new AuditEvent("other-test-user", "test-type", new HashMap<>()));
+        writeBehindWriter.stop();
+
+        List<PersistentAuditEvent> persistentAuditEvents = persistenceAuditEventRepository.findAll();
+        assertThat(persistentAuditEvents).extracting(PersistentAuditEvent::getPrincipal)
+            .containsExactlyInAnyOrder("test-user", "other-test-user");
+    }
+
+    @Test
+    public void addAuditEventsWhileStoppingWriteBehind() throws Exception {
+        AuditEventWriter writeBehindWriter = createWriteBehindWriter();
+        CustomAuditEventRepository writeBehindRepository = new CustomAuditEventRepository(persistenceAuditEventRepository,
+            auditEventConverter, writeBehindWriter);
+        writeBehindWriter.start();
+        AtomicInteger written = new AtomicInteger();
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                while (writing.get()) {
+                    writeBehindRepository.add(new AuditEvent("test-user", "test-type", new HashMap<>()));
+                    written.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        Thread.sleep(100);
+        // The events added during and after the stop are written by their thread
+        writeBehindWriter.stop();
+        Thread.sleep(50);
+        writing.set(false);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(persistenceAuditEventRepository.count()).isEqualTo(written.get());
+    }
+
+    private AuditEventWriter createWriteBehindWriter() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getAudit().setWriteBehind(true);
+        applicationProperties.getAudit().setBatchSize(10);
+        applicationProperties.getAudit().setFlushIntervalMillis(50);
+        return new AuditEventWriter(jdbcTemplate, transactionManager, applicationProperties, new MetricRegistry());
+    }
 }
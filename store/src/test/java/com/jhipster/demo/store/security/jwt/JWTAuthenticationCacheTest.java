@@ -0,0 +1,78 @@
+package com.jhipster.demo.store.security.jwt;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Collections;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JWTAuthenticationCacheTest {
+
+    private final long ONE_MINUTE = 60000;
+
+    private JWTAuthenticationCache authenticationCache;
+
+    @Before
+    public void setup() {
+        authenticationCache = new JWTAuthenticationCache(2);
+    }
+
+    @Test
+    public void testGetCachedAuthentication() {
+        Authentication authentication = createAuthentication("token");
+        authenticationCache.put("token", authentication, new Date(System.currentTimeMillis() + ONE_MINUTE));
+
+        assertThat(authenticationCache.get("token")).isSameAs(authentication);
+        assertThat(authenticationCache.get("other-token")).isNull();
+    }
+
+    @Test
+    public void testExpiredAuthenticationIsEvicted() {
+        authenticationCache.put("token", createAuthentication("token"), new Date(System.currentTimeMillis() - 1));
+
+        assertThat(authenticationCache.get("token")).isNull();
+        assertThat(authenticationCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testAuthenticationWithoutExpirationIsNotCached() {
+        authenticationCache.put("token", createAuthentication("token"), null);
+
+        assertThat(authenticationCache.get("token")).isNull();
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        Date expiration = new Date(System.currentTimeMillis() + ONE_MINUTE);
+        authenticationCache.put("token1", createAuthentication("token1"), expiration);
+        authenticationCache.put("token2", createAuthentication("token2"), expiration);
+        authenticationCache.put("token3", createAuthentication("token3"), expiration);
+
+        assertThat(authenticationCache.size()).isEqualTo(2);
+        assertThat(authenticationCache.get("token3")).isNotNull();
+    }
+
+    @Test
+    public void testMetrics() {
+        MetricRegistry metricRegistry = new MetricRegistry();
+        authenticationCache.registerMetrics(metricRegistry, "cache");
+        authenticationCache.put("token", createAuthentication("token"), new Date(System.currentTimeMillis() + ONE_MINUTE));
+
+        authenticationCache.get("token");
+        authenticationCache.get("token");
+        authenticationCache.get("other-token");
+
+        assertThat(metricRegistry.getMeters().get("cache.hits").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.getMeters().get("cache.misses").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.getGauges().get("cache.size").getValue()).isEqualTo(1);
+    }
+
+    private Authentication createAuthentication(String token) {
+        return new UsernamePasswordAuthenticationToken("user", token, Collections.emptyList());
+    }
+}
@@ -88,6 +88,47 @@ public class TokenProviderTest {
         assertThat(isTokenValid).isEqualTo(false);
     }
 
+    @Test
+    public void testValidateAndGetAuthentication() {
+        Authentication authentication = createAuthentication();
+        String token = tokenProvider.createToken(authentication, false);
+
+        Optional<Authentication> tokenAuthentication = tokenProvider.validateAndGetAuthentication(token);
+
+        assertThat(tokenAuthentication).isPresent();
+        assertThat(tokenAuthentication.get().getName()).isEqualTo("anonymous");
+        assertThat(tokenAuthentication.get().getCredentials()).isEqualTo(token);
+        assertThat(tokenAuthentication.get().getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly(AuthoritiesConstants.ANONYMOUS);
+    }
+
+    @Test
+    public void testValidateAndGetAuthenticationIsCached() {
+        Authentication authentication = createAuthentication();
+        String token = tokenProvider.createToken(authentication, false);
+
+        Optional<Authentication> firstAuthentication = tokenProvider.validateAndGetAuthentication(token);
+        Optional<Authentication> secondAuthentication = tokenProvider.validateAndGetAuthentication(token);
+
+        assertThat(firstAuthentication).isPresent();
+        assertThat(secondAuthentication.get()).isSameAs(firstAuthentication.get());
+    }
+
+    @Test
+    public void testValidateAndGetAuthenticationWhenJWTisExpired() {
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", -ONE_MINUTE);
+
+        Authentication authentication = createAuthentication();
+        String token = tokenProvider.createToken(authentication, false);
+
+        assertThat(tokenProvider.validateAndGetAuthentication(token)).isEmpty();
+    }
+
+    @Test
+    public void testValidateAndGetAuthenticationWhenJWThasInvalidSignature() {
+        assertThat(tokenProvider.validateAndGetAuthentication(createTokenWithDifferentSignature())).isEmpty();
+    }
+
     private Authentication createAuthentication() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(AuthoritiesConstants.ANONYMOUS));
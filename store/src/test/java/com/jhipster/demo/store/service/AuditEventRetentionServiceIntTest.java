@@ -0,0 +1,84 @@
+package com.jhipster.demo.store.service;
+
+import com.jhipster.demo.store.StoreApp;
+import com.jhipster.demo.store.domain.PersistentAuditEvent;
+import com.jhipster.demo.store.repository.PersistenceAuditEventRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the AuditEventRetentionService, on a database without partitions.
+ *
+ * @see AuditEventRetentionService
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = StoreApp.class)
+public class AuditEventRetentionServiceIntTest {
+
+    @Autowired
+    private AuditEventRetentionService auditEventRetentionService;
+
+    @Autowired
+    private PersistenceAuditEventRepository persistenceAuditEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Before
+    public void setup() {
+        persistenceAuditEventRepository.deleteAll();
+    }
+
+    @After
+    public void tearDown() {
+        persistenceAuditEventRepository.deleteAll();
+    }
+
+    private PersistentAuditEvent createEvent(String principal, Instant date) {
+        PersistentAuditEvent event = new PersistentAuditEvent();
+        event.setPrincipal(principal);
+        event.setAuditEventType("test-type");
+        event.setAuditEventDate(date);
+        event.setData(Collections.singletonMap("test-key", "test-value"));
+        return persistenceAuditEventRepository.save(event);
+    }
+
+    @Test
+    public void testExpiredEventsAreDeleted() {
+        ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+        // The default retention keeps the current month and the 12 previous full months
+        createEvent("expired-user", now.minusMonths(14).toInstant());
+        PersistentAuditEvent retained = createEvent("retained-user", now.minusMonths(11).toInstant());
+        PersistentAuditEvent recent = createEvent("recent-user", now.toInstant());
+
+        auditEventRetentionService.applyRetention();
+
+        assertThat(persistenceAuditEventRepository.findAll()).extracting(PersistentAuditEvent::getId)
+            .containsExactlyInAnyOrder(retained.getId(), recent.getId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from jhi_persistent_audit_evt_data", Long.class))
+            .isEqualTo(2L);
+    }
+
+    @Test
+    public void testRetentionWithoutExpiredEvents() {
+        createEvent("recent-user", Instant.now());
+
+        auditEventRetentionService.applyRetention();
+
+        assertThat(persistenceAuditEventRepository.count()).isEqualTo(1);
+    }
+}
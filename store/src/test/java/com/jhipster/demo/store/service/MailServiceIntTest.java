@@ -1,4 +1,5 @@
 package com.jhipster.demo.store.service;
+import com.jhipster.demo.store.config.ApplicationProperties;
 import com.jhipster.demo.store.config.Constants;
 
 import com.jhipster.demo.store.StoreApp;
@@ -12,6 +13,7 @@ import org.mockito.Captor;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.MessageSource;
 import org.springframework.mail.MailSendException;
@@ -24,6 +26,12 @@ import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
 import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +50,13 @@ public class MailServiceIntTest {
     @Autowired
     private SpringTemplateEngine templateEngine;
 
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    @Qualifier("mailExecutor")
+    private Executor mailExecutor;
+
     @Spy
     private JavaMailSenderImpl javaMailSender;
 
@@ -54,7 +69,8 @@ public class MailServiceIntTest {
     public void setup() {
         MockitoAnnotations.initMocks(this);
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
-        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine);
+        mailService = new MailService(jHipsterProperties, javaMailSender, messageSource, templateEngine,
+            applicationProperties, mailExecutor);
     }
 
     @Test
@@ -184,4 +200,100 @@ public class MailServiceIntTest {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
     }
 
+    @Test
+    public void testSendEmailsFromTemplate() throws Exception {
+        try (SmtpServerStub smtpServer = new SmtpServerStub()) {
+            MailService bulkMailService = createBulkMailService(smtpServer, 50);
+            User john = createUser("john", "en");
+            User jane = createUser("jane", "en");
+            User jean = createUser("jean", "fr");
+
+            int sent = bulkMailService.sendActivationEmails(Arrays.asList(john, jane, jean)).get(10, TimeUnit.SECONDS);
+
+            assertThat(sent).isEqualTo(3);
+            // One batch, over one connection, per language
+            assertThat(smtpServer.getConnections()).isEqualTo(2);
+            assertThat(smtpServer.getMessages()).hasSize(3);
+            for (User user : Arrays.asList(john, jane, jean)) {
+                MimeMessage message = findMessage(smtpServer, user);
+                String content = message.getContent().toString();
+                assertThat(content).contains(user.getLogin())
+                    .contains("/#/activate?key=" + user.getActivationKey())
+                    .doesNotContain("{", "}");
+                assertThat(message.getSubject())
+                    .isEqualTo(messageSource.getMessage("email.activation.title", null, Locale.forLanguageTag(user.getLangKey())));
+                assertThat(message.getFrom()[0].toString()).isEqualTo("test@localhost");
+            }
+        }
+    }
+
+    @Test
+    public void testSendEmailsFromTemplateByBatches() throws Exception {
+        try (SmtpServerStub smtpServer = new SmtpServerStub()) {
+            MailService bulkMailService = createBulkMailService(smtpServer, 2);
+            List<User> users = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                users.add(createUser("user" + i, "en"));
+            }
+
+            int sent = bulkMailService.sendActivationEmails(users).get(10, TimeUnit.SECONDS);
+
+            assertThat(sent).isEqualTo(5);
+            assertThat(smtpServer.getConnections()).isEqualTo(3);
+            assertThat(smtpServer.getMessages()).hasSize(5);
+        }
+    }
+
+    @Test
+    public void testSendEmailsFromTemplateSkipsInvalidRecipients() throws Exception {
+        try (SmtpServerStub smtpServer = new SmtpServerStub()) {
+            MailService bulkMailService = createBulkMailService(smtpServer, 50);
+            User john = createUser("john", "en");
+            User withoutEmail = createUser("jane", "en");
+            withoutEmail.setEmail(null);
+            User invalidEmail = createUser("jean", "en");
+            invalidEmail.setEmail("jean@");
+
+            int sent = bulkMailService.sendActivationEmails(Arrays.asList(withoutEmail, invalidEmail, john))
+                .get(10, TimeUnit.SECONDS);
+
+            assertThat(sent).isEqualTo(1);
+            assertThat(smtpServer.getMessages()).hasSize(1);
+            findMessage(smtpServer, john);
+        }
+    }
+
+    @Test
+    public void testSendEmailsFromTemplateWithException() throws Exception {
+        doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage[].class));
+        int sent = mailService.sendActivationEmails(Arrays.asList(createUser("john", "en"))).get(10, TimeUnit.SECONDS);
+        assertThat(sent).isEqualTo(0);
+    }
+
+    private MailService createBulkMailService(SmtpServerStub smtpServer, int batchSize) {
+        JavaMailSenderImpl smtpMailSender = new JavaMailSenderImpl();
+        smtpMailSender.setHost("localhost");
+        smtpMailSender.setPort(smtpServer.getPort());
+        ApplicationProperties bulkProperties = new ApplicationProperties();
+        bulkProperties.getMail().setBatchSize(batchSize);
+        return new MailService(jHipsterProperties, smtpMailSender, messageSource, templateEngine, bulkProperties, mailExecutor);
+    }
+
+    private static User createUser(String login, String langKey) {
+        User user = new User();
+        user.setLogin(login);
+        user.setEmail(login + "@example.com");
+        user.setLangKey(langKey);
+        user.setActivationKey(login + "-key");
+        return user;
+    }
+
+    private static MimeMessage findMessage(SmtpServerStub smtpServer, User user) throws Exception {
+        for (MimeMessage message : smtpServer.getMessages()) {
+            if (message.getAllRecipients()[0].toString().equals(user.getEmail())) {
+                return message;
+            }
+        }
+        throw new AssertionError("No email sent to " + user.getEmail());
+    }
 }
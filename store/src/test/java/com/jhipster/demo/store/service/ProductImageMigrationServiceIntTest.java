@@ -0,0 +1,106 @@
+package com.jhipster.demo.store.service;
+
+import com.jhipster.demo.store.StoreApp;
+import com.jhipster.demo.store.config.ApplicationProperties;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.File;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the ProductImageMigrationService.
+ *
+ * @see ProductImageMigrationService
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = StoreApp.class)
+@Transactional
+public class ProductImageMigrationServiceIntTest {
+
+    private static final long PRODUCT_ID = 1000000L;
+
+    private static final byte[] IMAGE = new byte[] { 1, 2, 3 };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private Environment env;
+
+    @Before
+    public void setup() {
+        jdbcTemplate.update("insert into product (id, name, price, jhi_size, image, image_content_type)" +
+            " values (?, 'legacy', 1, 'S', ?, 'image/png')", PRODUCT_ID, IMAGE);
+    }
+
+    private ProductImageMigrationService createService(String storageDirectory, boolean clearLegacyImages) {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getImages().setStorageDirectory(storageDirectory);
+        applicationProperties.getImages().setClearLegacyImages(clearLegacyImages);
+        return new ProductImageMigrationService(jdbcTemplate, transactionManager,
+            new ImageStorageService(applicationProperties, env), entityManagerFactory, applicationProperties);
+    }
+
+    private Map<String, Object> findProduct() {
+        return jdbcTemplate.queryForMap("select image, image_sha256 from product where id = ?", PRODUCT_ID);
+    }
+
+    @Test
+    public void testLegacyImageIsCopiedAndKept() throws Exception {
+        File storage = temporaryFolder.newFolder();
+
+        assertThat(createService(storage.getPath(), false).tryMigrateLegacyImages()).isTrue();
+
+        Map<String, Object> product = findProduct();
+        assertThat(product.get("image_sha256")).isNotNull();
+        assertThat((byte[]) product.get("image")).isEqualTo(IMAGE);
+    }
+
+    @Test
+    public void testLegacyImageIsClearedWhenEnabled() throws Exception {
+        File storage = temporaryFolder.newFolder();
+        createService(storage.getPath(), false).tryMigrateLegacyImages();
+
+        assertThat(createService(storage.getPath(), true).tryMigrateLegacyImages()).isTrue();
+
+        Map<String, Object> product = findProduct();
+        assertThat(product.get("image_sha256")).isNotNull();
+        assertThat(product.get("image")).isNull();
+    }
+
+    @Test
+    public void testFailedMigrationIsReported() throws Exception {
+        // A file instead of a directory: the images cannot be stored
+        File storage = temporaryFolder.newFile();
+
+        assertThat(createService(storage.getPath(), true).tryMigrateLegacyImages()).isFalse();
+
+        Map<String, Object> product = findProduct();
+        assertThat(product.get("image_sha256")).isNull();
+        assertThat((byte[]) product.get("image")).isEqualTo(IMAGE);
+    }
+}
@@ -0,0 +1,56 @@
+package com.jhipster.demo.store.service.analytics;
+
+import com.jhipster.demo.store.domain.enumeration.OrderStatus;
+import com.jhipster.demo.store.service.analytics.RevenueRollup.Dimension;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the {@link RevenueRollup}.
+ */
+public class RevenueRollupUnitTest {
+
+    private static List<String> buckets(RevenueRollup rollup) {
+        List<String> buckets = new ArrayList<>();
+        rollup.forEach((dimension, bucket, revenue, quantity) ->
+            buckets.add(dimension + " " + bucket + " " + revenue.stripTrailingZeros().toPlainString() + " " + quantity));
+        return buckets;
+    }
+
+    @Test
+    public void testAddSumsEachDimension() {
+        RevenueRollup rollup = new RevenueRollup();
+        rollup.add(Instant.parse("2001-02-03T23:59:59Z"), OrderStatus.PENDING, 10L, new BigDecimal("10.50"), 2);
+        rollup.add(Instant.parse("2001-02-04T00:00:00Z"), OrderStatus.PENDING, null, new BigDecimal("4.50"), 1);
+
+        assertThat(buckets(rollup)).containsOnly(
+            "DAY 2001-02-03 10.5 2", "DAY 2001-02-04 4.5 1",
+            "CATEGORY 10 10.5 2", "CATEGORY none 4.5 1",
+            "STATUS PENDING 15 3");
+    }
+
+    @Test
+    public void testMinusKeepsOnlyChangedBuckets() {
+        RevenueRollup previous = new RevenueRollup();
+        previous.add(Instant.parse("2001-02-03T10:00:00Z"), OrderStatus.PENDING, 10L, new BigDecimal("10.50"), 2);
+        RevenueRollup current = new RevenueRollup();
+        current.add(Instant.parse("2001-02-03T10:00:00Z"), OrderStatus.COMPLETED, 10L, new BigDecimal("10.50"), 2);
+
+        assertThat(buckets(current.minus(previous))).containsOnly("STATUS COMPLETED 10.5 2", "STATUS PENDING -10.5 -2");
+        assertThat(buckets(current.minus(current))).isEmpty();
+    }
+
+    @Test
+    public void testMinusEmptyRollupNegates() {
+        RevenueRollup previous = new RevenueRollup();
+        previous.add(Dimension.DAY, "2001-02-03", new BigDecimal("10.50"), 2);
+
+        assertThat(buckets(new RevenueRollup().minus(previous))).containsOnly("DAY 2001-02-03 -10.5 -2");
+    }
+}
@@ -0,0 +1,110 @@
+package com.jhipster.demo.store.service.search;
+
+import com.jhipster.demo.store.domain.enumeration.Size;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Test class for the {@link ProductSearchIndex}.
+ */
+public class ProductSearchIndexUnitTest {
+
+    private ProductSearchIndex index;
+
+    @Before
+    public void setup() {
+        index = new ProductSearchIndex();
+        index.index(1L, "Red running shoes", "Light shoes for trail running", Size.M, 10L, "Shoes");
+        index.index(2L, "Blue rain coat", "Waterproof coat, with a hood", Size.L, 20L, "Coats");
+        index.index(3L, "Crème brûlée mug", "A mug for running coffee", Size.S, null, null);
+    }
+
+    @Test
+    public void testTokenizeFoldsCaseAndDiacritics() {
+        assertThat(ProductSearchIndex.tokenize("Crème Brûlée, 2-pack!")).containsExactly("creme", "brulee", "2", "pack");
+    }
+
+    @Test
+    public void testSearchMatchesAllWords() {
+        assertThat(index.search("running shoes", null, null, 0, 10).getProductIds()).containsExactly(1L);
+        assertThat(index.search("creme", null, null, 0, 10).getProductIds()).containsExactly(3L);
+        assertThat(index.search("running hood", null, null, 0, 10).getProductIds()).isEmpty();
+    }
+
+    @Test
+    public void testSearchMatchesPrefixOfLastWord() {
+        assertThat(index.search("waterp", null, null, 0, 10).getProductIds()).containsExactly(2L);
+        assertThat(index.search("waterp coat", null, null, 0, 10).getProductIds()).isEmpty();
+    }
+
+    @Test
+    public void testSearchMatchesSizeAndCategoryName() {
+        assertThat(index.search("xl", null, null, 0, 10).getProductIds()).isEmpty();
+        assertThat(index.search("l", null, null, 0, 10).getProductIds()).containsExactly(2L);
+        assertThat(index.search("coats", null, null, 0, 10).getProductIds()).containsExactly(2L);
+    }
+
+    @Test
+    public void testSearchRanksNameMatchesFirst() {
+        index.index(4L, "Running socks", null, Size.S, 10L, "Shoes");
+
+        assertThat(index.search("running", null, null, 0, 10).getProductIds()).containsExactly(4L, 1L, 3L);
+        assertThat(index.search("running", null, null, 1, 1).getProductIds()).containsExactly(1L);
+        assertThat(index.search("running", null, null, 0, 10).getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    public void testSearchFacets() {
+        ProductSearchIndex.Hits hits = index.search("running", Size.M, null, 0, 10);
+
+        assertThat(hits.getProductIds()).containsExactly(1L);
+        assertThat(hits.getSizeFacets()).containsOnly(entry(Size.M, 1L), entry(Size.S, 1L));
+        assertThat(hits.getCategoryFacets()).containsOnly(entry(10L, 1L));
+        assertThat(index.search("", null, 10L, 0, 10).getProductIds()).containsExactly(1L);
+        assertThat(index.search("", null, 30L, 0, 10).getProductIds()).isEmpty();
+    }
+
+    @Test
+    public void testIndexReplacesAndDeletesProducts() {
+        index.index(1L, "Green hat", null, Size.M, 10L, "Shoes");
+        index.delete(2L);
+
+        assertThat(index.search("running shoes", null, null, 0, 10).getProductIds()).isEmpty();
+        assertThat(index.search("hat", null, null, 0, 10).getProductIds()).containsExactly(1L);
+        assertThat(index.search("coat", null, null, 0, 10).getProductIds()).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testRenamingCategoryDoesNotRequireReindexing() {
+        index.updateCategory(10L, "Sneakers");
+
+        assertThat(index.search("sneakers", null, null, 0, 10).getProductIds()).containsExactly(1L);
+        assertThat(index.getCategoryName(10L)).isEqualTo("Sneakers");
+    }
+
+    @Test
+    public void testIndexingWithoutCategoryNameKeepsTheKnownName() {
+        index.index(4L, "Running socks", null, Size.S, 10L, null);
+
+        assertThat(index.getCategoryName(10L)).isEqualTo("Shoes");
+        assertThat(index.search("shoes", null, null, 0, 10).getProductIds()).containsExactly(1L, 4L);
+    }
+
+    @Test
+    public void testDeletedDocumentsArePurged() {
+        for (long id = 100; id < 5000; id++) {
+            index.index(id, "Product " + id, null, Size.S, null, null);
+        }
+        for (long id = 100; id < 5000; id++) {
+            index.delete(id);
+        }
+
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("product", null, null, 0, 10).getTotal()).isEqualTo(0);
+        assertThat(index.search("running", null, null, 0, 10).getProductIds()).containsExactly(1L, 3L);
+    }
+}
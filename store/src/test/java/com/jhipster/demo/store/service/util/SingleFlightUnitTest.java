@@ -0,0 +1,143 @@
+package com.jhipster.demo.store.service.util;
+
+import com.codahale.metrics.MetricRegistry;
+import com.hazelcast.core.IMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link SingleFlight} request coalescing.
+ */
+public class SingleFlightUnitTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+
+    private IMap<String, Boolean> locks;
+
+    private SingleFlight singleFlight;
+
+    private ExecutorService executor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() throws Exception {
+        locks = mock(IMap.class);
+        when(locks.tryLock(anyString(), anyLong(), any(TimeUnit.class), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        singleFlight = new SingleFlight(locks, metricRegistry);
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentLoadsAreCoalesced() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> singleFlight.load("Product", 1L, () -> false, () -> {
+            loading.countDown();
+            await(release);
+            loads.incrementAndGet();
+            return "product";
+        })));
+        loading.await(1, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> singleFlight.load("Product", 1L, () -> false, this::load)));
+        }
+        while (metricRegistry.meter("com.jhipster.demo.store.service.util.SingleFlight.Product.coalesced").getCount() < 7) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("product");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(metricRegistry.meter("com.jhipster.demo.store.service.util.SingleFlight.Product.loads").getCount()).isEqualTo(1);
+        verify(locks).unlock("Product:1");
+    }
+
+    @Test
+    public void testSequentialLoadsAreNotCoalesced() {
+        singleFlight.load("Product", 1L, () -> false, this::load);
+        singleFlight.load("Product", 1L, () -> false, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCachedValuesAreLoadedWithoutClusterLock() {
+        assertThat(singleFlight.<String>load("Product", 1L, () -> true, this::load)).isEqualTo("product");
+
+        verifyZeroInteractions(locks);
+    }
+
+    @Test
+    public void testValueIsLoadedWhenClusterLockTimesOut() throws Exception {
+        when(locks.tryLock(anyString(), anyLong(), any(TimeUnit.class), anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        assertThat(singleFlight.<String>load("Product", 1L, () -> false, this::load)).isEqualTo("product");
+
+        assertThat(metricRegistry.meter("com.jhipster.demo.store.service.util.SingleFlight.Product.cluster-waits").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.meter("com.jhipster.demo.store.service.util.SingleFlight.Product.lock-timeouts").getCount()).isEqualTo(1);
+        verify(locks, never()).unlock(anyString());
+    }
+
+    @Test
+    public void testLoadExceptionIsThrown() {
+        assertThatThrownBy(() -> singleFlight.load("Product", 1L, () -> false, () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(locks).unlock("Product:1");
+        assertThat(singleFlight.<String>load("Product", 1L, () -> false, this::load)).isEqualTo("product");
+    }
+
+    @Test
+    public void testLoadsInsideTransactionAreNotCoalesced() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            singleFlight.load("Product", 1L, () -> false, this::load);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        verifyZeroInteractions(locks);
+    }
+
+    private String load() {
+        loads.incrementAndGet();
+        return "product";
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,326 @@
+package com.jhipster.demo.store.web.rest;
+
+import com.jhipster.demo.store.StoreApp;
+
+import com.jhipster.demo.store.domain.OrderItem;
+import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.ProductCategory;
+import com.jhipster.demo.store.domain.ProductOrder;
+import com.jhipster.demo.store.domain.enumeration.OrderItemStatus;
+import com.jhipster.demo.store.domain.enumeration.OrderStatus;
+import com.jhipster.demo.store.service.OrderItemService;
+import com.jhipster.demo.store.service.ProductOrderService;
+import com.jhipster.demo.store.service.ProductService;
+import com.jhipster.demo.store.service.analytics.OrderAnalyticsService;
+import com.jhipster.demo.store.service.dto.OrderItemDTO;
+import com.jhipster.demo.store.service.dto.ProductDTO;
+import com.jhipster.demo.store.service.dto.ProductOrderDTO;
+import com.jhipster.demo.store.service.dto.RevenueDTO;
+import com.jhipster.demo.store.service.mapper.OrderItemMapper;
+import com.jhipster.demo.store.service.mapper.ProductMapper;
+import com.jhipster.demo.store.service.mapper.ProductOrderMapper;
+import com.jhipster.demo.store.web.rest.errors.ExceptionTranslator;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ILock;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.jhipster.demo.store.web.rest.TestUtil.createFormattingConversionService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the AnalyticsResource REST controller.
+ *
+ * @see AnalyticsResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = StoreApp.class)
+public class AnalyticsResourceIntTest {
+
+    private static final Instant PLACED_DATE = Instant.parse("2001-02-03T23:30:00Z");
+    private static final Instant UPDATED_PLACED_DATE = Instant.parse("2001-02-04T00:30:00Z");
+
+    private static final LocalDate DAY = LocalDate.of(2001, 2, 3);
+    private static final LocalDate UPDATED_DAY = LocalDate.of(2001, 2, 4);
+
+    @Autowired
+    private OrderAnalyticsService orderAnalyticsService;
+
+    @Autowired
+    private HazelcastInstance hazelcastInstance;
+
+    @Autowired
+    private OrderItemService orderItemService;
+
+    @Autowired
+    private OrderItemMapper orderItemMapper;
+
+    @Autowired
+    private ProductOrderService productOrderService;
+
+    @Autowired
+    private ProductOrderMapper productOrderMapper;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restAnalyticsMockMvc;
+
+    private ProductCategory productCategory;
+
+    private Product product;
+
+    private ProductOrder productOrder;
+
+    @Before
+    public void setup() {
+        AnalyticsResource analyticsResource = new AnalyticsResource(orderAnalyticsService);
+        this.restAnalyticsMockMvc = MockMvcBuilders.standaloneSetup(analyticsResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        productCategory = ProductCategoryResourceIntTest.createEntity(em);
+        em.persist(productCategory);
+        product = ProductResourceIntTest.createEntity(em).productCategory(productCategory);
+        em.persist(product);
+        productOrder = ProductOrderResourceIntTest.createEntity(em).placedDate(PLACED_DATE).status(OrderStatus.PENDING);
+        em.persist(productOrder);
+        em.flush();
+    }
+
+    private OrderItemDTO saveOrderItem(int quantity, String totalPrice) {
+        OrderItem orderItem = new OrderItem()
+            .quantity(quantity)
+            .totalPrice(new BigDecimal(totalPrice))
+            .status(OrderItemStatus.AVAILABLE)
+            .product(product)
+            .order(productOrder);
+        return orderItemService.save(orderItemMapper.toDto(orderItem));
+    }
+
+    private static BigDecimal revenue(List<RevenueDTO> revenues, String key) {
+        return revenues.stream()
+            .filter(revenue -> revenue.getKey().equals(key))
+            .map(RevenueDTO::getRevenue)
+            .findFirst()
+            .orElse(BigDecimal.ZERO);
+    }
+
+    @Test
+    @Transactional
+    public void getRevenueByDay() throws Exception {
+        saveOrderItem(2, "10.50");
+        saveOrderItem(1, "4.50");
+
+        restAnalyticsMockMvc.perform(get("/api/analytics/revenue/days?fromDate=2001-02-01&toDate=2001-02-28"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].key").value("2001-02-03"))
+            .andExpect(jsonPath("$.[0].revenue").value(15.0))
+            .andExpect(jsonPath("$.[0].quantity").value(3));
+    }
+
+    @Test
+    @Transactional
+    public void getRevenueByDayWithTooLongPeriod() throws Exception {
+        restAnalyticsMockMvc.perform(get("/api/analytics/revenue/days?fromDate=2000-01-01&toDate=2001-02-28"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    public void getRevenueByCategory() throws Exception {
+        saveOrderItem(2, "10.50");
+
+        restAnalyticsMockMvc.perform(get("/api/analytics/revenue/categories"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.[*].key").value(hasItem(productCategory.getId().toString())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(productCategory.getName())));
+        assertThat(revenue(orderAnalyticsService.findRevenueByCategory(), productCategory.getId().toString()))
+            .isEqualByComparingTo("10.50");
+    }
+
+    @Test
+    @Transactional
+    public void getRevenueByStatus() throws Exception {
+        BigDecimal pendingRevenue = revenue(orderAnalyticsService.findRevenueByStatus(), "PENDING");
+
+        saveOrderItem(2, "10.50");
+
+        restAnalyticsMockMvc.perform(get("/api/analytics/revenue/statuses"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.[*].key").value(hasItem("PENDING")));
+        assertThat(revenue(orderAnalyticsService.findRevenueByStatus(), "PENDING"))
+            .isEqualByComparingTo(pendingRevenue.add(new BigDecimal("10.50")));
+    }
+
+    @Test
+    @Transactional
+    public void updateAndDeleteOrderItemUpdatesRevenue() {
+        OrderItemDTO orderItemDTO = saveOrderItem(2, "10.50");
+        orderItemDTO.setQuantity(3);
+        orderItemDTO.setTotalPrice(new BigDecimal("20.00"));
+        orderItemService.save(orderItemDTO);
+
+        List<RevenueDTO> revenues = orderAnalyticsService.findRevenueByDay(DAY, DAY);
+        assertThat(revenues).hasSize(1);
+        assertThat(revenues.get(0).getRevenue()).isEqualByComparingTo("20.00");
+        assertThat(revenues.get(0).getQuantity()).isEqualTo(3);
+
+        orderItemService.delete(orderItemDTO.getId());
+
+        assertThat(revenue(orderAnalyticsService.findRevenueByDay(DAY, DAY), "2001-02-03")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @Transactional
+    public void updateProductOrderMovesRevenue() {
+        saveOrderItem(2, "10.50");
+        List<RevenueDTO> statusRevenues = orderAnalyticsService.findRevenueByStatus();
+
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
+        productOrderDTO.setPlacedDate(UPDATED_PLACED_DATE);
+        productOrderDTO.setStatus(OrderStatus.CANCELLED);
+        productOrderService.save(productOrderDTO);
+
+        List<RevenueDTO> dayRevenues = orderAnalyticsService.findRevenueByDay(DAY, UPDATED_DAY);
+        assertThat(revenue(dayRevenues, "2001-02-03")).isEqualByComparingTo("0");
+        assertThat(revenue(dayRevenues, "2001-02-04")).isEqualByComparingTo("10.50");
+        List<RevenueDTO> updatedStatusRevenues = orderAnalyticsService.findRevenueByStatus();
+        assertThat(revenue(updatedStatusRevenues, "PENDING"))
+            .isEqualByComparingTo(revenue(statusRevenues, "PENDING").subtract(new BigDecimal("10.50")));
+        assertThat(revenue(updatedStatusRevenues, "CANCELLED"))
+            .isEqualByComparingTo(revenue(statusRevenues, "CANCELLED").add(new BigDecimal("10.50")));
+    }
+
+    @Test
+    @Transactional
+    public void placeProductOrderAddsRevenue() {
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(
+            ProductOrderResourceIntTest.createEntity(em).placedDate(UPDATED_PLACED_DATE));
+        productOrderDTO.getOrderItems().add(orderItemMapper.toDto(new OrderItem()
+            .quantity(2).totalPrice(new BigDecimal("10.50")).status(OrderItemStatus.AVAILABLE).product(product)));
+        productOrderDTO.getOrderItems().add(orderItemMapper.toDto(new OrderItem()
+            .quantity(1).totalPrice(new BigDecimal("4.50")).status(OrderItemStatus.AVAILABLE).product(product)));
+        productOrderService.place(productOrderDTO);
+
+        List<RevenueDTO> revenues = orderAnalyticsService.findRevenueByDay(UPDATED_DAY, UPDATED_DAY);
+        assertThat(revenues).hasSize(1);
+        assertThat(revenues.get(0).getRevenue()).isEqualByComparingTo("15.00");
+        assertThat(revenues.get(0).getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    @Transactional
+    public void updateProductCategoryMovesRevenue() {
+        saveOrderItem(2, "10.50");
+        ProductCategory otherCategory = ProductCategoryResourceIntTest.createEntity(em);
+        em.persist(otherCategory);
+        em.flush();
+
+        ProductDTO productDTO = productMapper.toDto(product);
+        productDTO.setProductCategoryId(otherCategory.getId());
+        productService.save(productDTO);
+
+        List<RevenueDTO> revenues = orderAnalyticsService.findRevenueByCategory();
+        assertThat(revenue(revenues, productCategory.getId().toString())).isEqualByComparingTo("0");
+        assertThat(revenue(revenues, otherCategory.getId().toString())).isEqualByComparingTo("10.50");
+    }
+
+    @Test
+    @Transactional
+    public void rebuildKeepsRevenue() throws Exception {
+        saveOrderItem(2, "10.50");
+        saveOrderItem(1, "4.50");
+        List<RevenueDTO> categoryRevenues = orderAnalyticsService.findRevenueByCategory();
+        List<RevenueDTO> statusRevenues = orderAnalyticsService.findRevenueByStatus();
+
+        restAnalyticsMockMvc.perform(post("/api/analytics/rebuild"))
+            .andExpect(status().isNoContent());
+
+        List<RevenueDTO> dayRevenues = orderAnalyticsService.findRevenueByDay(DAY, DAY);
+        assertThat(dayRevenues).hasSize(1);
+        assertThat(dayRevenues.get(0).getRevenue()).isEqualByComparingTo("15.00");
+        assertThat(dayRevenues.get(0).getQuantity()).isEqualTo(3);
+        assertThat(revenue(orderAnalyticsService.findRevenueByCategory(), productCategory.getId().toString()))
+            .isEqualByComparingTo(revenue(categoryRevenues, productCategory.getId().toString()));
+        assertThat(revenue(orderAnalyticsService.findRevenueByStatus(), "PENDING"))
+            .isEqualByComparingTo(revenue(statusRevenues, "PENDING"));
+    }
+
+    @Test
+    @Transactional
+    public void rebuildIsSkippedWhileAnotherNodeRebuilds() throws Exception {
+        saveOrderItem(2, "10.50");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread otherNode = new Thread(() -> {
+            ILock lock = hazelcastInstance.getLock("order-revenue-rebuild");
+            lock.lock();
+            try {
+                locked.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        otherNode.start();
+        try {
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            restAnalyticsMockMvc.perform(post("/api/analytics/rebuild"))
+                .andExpect(status().isConflict());
+            orderAnalyticsService.rebuildIfEmpty();
+        } finally {
+            release.countDown();
+            otherNode.join();
+        }
+
+        List<RevenueDTO> dayRevenues = orderAnalyticsService.findRevenueByDay(DAY, DAY);
+        assertThat(dayRevenues).hasSize(1);
+        assertThat(dayRevenues.get(0).getRevenue()).isEqualByComparingTo("10.50");
+    }
+}
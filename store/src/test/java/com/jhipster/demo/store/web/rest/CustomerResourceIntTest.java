@@ -5,7 +5,10 @@ import com.jhipster.demo.store.StoreApp;
 import com.jhipster.demo.store.domain.Customer;
 import com.jhipster.demo.store.domain.User;
 import com.jhipster.demo.store.repository.CustomerRepository;
+import com.jhipster.demo.store.service.CustomerQueryService;
 import com.jhipster.demo.store.service.CustomerService;
+import com.jhipster.demo.store.service.dto.CustomerDTO;
+import com.jhipster.demo.store.service.mapper.CustomerMapper;
 import com.jhipster.demo.store.web.rest.errors.ExceptionTranslator;
 
 import org.junit.Before;
@@ -71,10 +74,16 @@ public class CustomerResourceIntTest {
 
     @Autowired
     private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerMapper customerMapper;
     
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private CustomerQueryService customerQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -94,7 +103,7 @@ public class CustomerResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final CustomerResource customerResource = new CustomerResource(customerService);
+        final CustomerResource customerResource = new CustomerResource(customerService, customerQueryService);
         this.restCustomerMockMvc = MockMvcBuilders.standaloneSetup(customerResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -138,9 +147,10 @@ public class CustomerResourceIntTest {
         int databaseSizeBeforeCreate = customerRepository.findAll().size();
 
         // Create the Customer
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isCreated());
 
         // Validate the Customer in the database
@@ -167,9 +177,10 @@ public class CustomerResourceIntTest {
         customer.setId(1L);
 
         // An entity with an existing ID cannot be created, so this API call must fail
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the Customer in the database
@@ -185,10 +196,11 @@ public class CustomerResourceIntTest {
         customer.setFirstName(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -203,10 +215,11 @@ public class CustomerResourceIntTest {
         customer.setLastName(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -221,10 +234,11 @@ public class CustomerResourceIntTest {
         customer.setGender(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -239,10 +253,11 @@ public class CustomerResourceIntTest {
         customer.setEmail(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -257,10 +272,11 @@ public class CustomerResourceIntTest {
         customer.setPhone(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -275,10 +291,11 @@ public class CustomerResourceIntTest {
         customer.setAddressLine1(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -293,10 +310,11 @@ public class CustomerResourceIntTest {
         customer.setCity(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -311,10 +329,11 @@ public class CustomerResourceIntTest {
         customer.setCountry(null);
 
         // Create the Customer, which fails.
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
 
         restCustomerMockMvc.perform(post("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         List<Customer> customerList = customerRepository.findAll();
@@ -343,6 +362,23 @@ public class CustomerResourceIntTest {
             .andExpect(jsonPath("$.[*].country").value(hasItem(DEFAULT_COUNTRY.toString())));
     }
     
+    @Test
+    @Transactional
+    public void getAllCustomersByLastNameContainsSomething() throws Exception {
+        // Initialize the database
+        customerRepository.saveAndFlush(customer);
+
+        // Get all the customerList where lastName contains DEFAULT_LAST_NAME
+        restCustomerMockMvc.perform(get("/api/customers?sort=id,desc&lastName.contains=" + DEFAULT_LAST_NAME))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(customer.getId().intValue())));
+
+        // Get all the customerList where lastName contains UPDATED_LAST_NAME
+        restCustomerMockMvc.perform(get("/api/customers?sort=id,desc&lastName.contains=" + UPDATED_LAST_NAME))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
     @Test
     @Transactional
     public void getCustomer() throws Exception {
@@ -377,7 +413,7 @@ public class CustomerResourceIntTest {
     @Transactional
     public void updateCustomer() throws Exception {
         // Initialize the database
-        customerService.save(customer);
+        customerRepository.saveAndFlush(customer);
 
         int databaseSizeBeforeUpdate = customerRepository.findAll().size();
 
@@ -395,10 +431,11 @@ public class CustomerResourceIntTest {
             .addressLine2(UPDATED_ADDRESS_LINE_2)
             .city(UPDATED_CITY)
             .country(UPDATED_COUNTRY);
+        CustomerDTO customerDTO = customerMapper.toDto(updatedCustomer);
 
         restCustomerMockMvc.perform(put("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(updatedCustomer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isOk());
 
         // Validate the Customer in the database
@@ -424,9 +461,10 @@ public class CustomerResourceIntTest {
         // Create the Customer
 
         // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        CustomerDTO customerDTO = customerMapper.toDto(customer);
         restCustomerMockMvc.perform(put("/api/customers")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(customer)))
+            .content(TestUtil.convertObjectToJsonBytes(customerDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the Customer in the database
@@ -438,7 +476,7 @@ public class CustomerResourceIntTest {
     @Transactional
     public void deleteCustomer() throws Exception {
         // Initialize the database
-        customerService.save(customer);
+        customerRepository.saveAndFlush(customer);
 
         int databaseSizeBeforeDelete = customerRepository.findAll().size();
 
@@ -466,4 +504,27 @@ public class CustomerResourceIntTest {
         customer1.setId(null);
         assertThat(customer1).isNotEqualTo(customer2);
     }
+
+    @Test
+    @Transactional
+    public void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(CustomerDTO.class);
+        CustomerDTO customerDTO1 = new CustomerDTO();
+        customerDTO1.setId(1L);
+        CustomerDTO customerDTO2 = new CustomerDTO();
+        assertThat(customerDTO1).isNotEqualTo(customerDTO2);
+        customerDTO2.setId(customerDTO1.getId());
+        assertThat(customerDTO1).isEqualTo(customerDTO2);
+        customerDTO2.setId(2L);
+        assertThat(customerDTO1).isNotEqualTo(customerDTO2);
+        customerDTO1.setId(null);
+        assertThat(customerDTO1).isNotEqualTo(customerDTO2);
+    }
+
+    @Test
+    @Transactional
+    public void testEntityFromId() {
+        assertThat(customerMapper.fromId(42L).getId()).isEqualTo(42);
+        assertThat(customerMapper.fromId(null)).isNull();
+    }
 }
@@ -6,9 +6,14 @@ import com.jhipster.demo.store.domain.OrderItem;
 import com.jhipster.demo.store.domain.Product;
 import com.jhipster.demo.store.domain.ProductOrder;
 import com.jhipster.demo.store.repository.OrderItemRepository;
+import com.jhipster.demo.store.service.OrderItemQueryService;
 import com.jhipster.demo.store.service.OrderItemService;
+import com.jhipster.demo.store.service.dto.OrderItemDTO;
+import com.jhipster.demo.store.service.mapper.OrderItemMapper;
 import com.jhipster.demo.store.web.rest.errors.ExceptionTranslator;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,6 +29,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -55,10 +61,16 @@ public class OrderItemResourceIntTest {
 
     @Autowired
     private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private OrderItemMapper orderItemMapper;
     
     @Autowired
     private OrderItemService orderItemService;
 
+    @Autowired
+    private OrderItemQueryService orderItemQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -71,6 +83,9 @@ public class OrderItemResourceIntTest {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private MockMvc restOrderItemMockMvc;
 
     private OrderItem orderItem;
@@ -78,7 +93,7 @@ public class OrderItemResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final OrderItemResource orderItemResource = new OrderItemResource(orderItemService);
+        final OrderItemResource orderItemResource = new OrderItemResource(orderItemService, orderItemQueryService);
         this.restOrderItemMockMvc = MockMvcBuilders.standaloneSetup(orderItemResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -121,9 +136,10 @@ public class OrderItemResourceIntTest {
         int databaseSizeBeforeCreate = orderItemRepository.findAll().size();
 
         // Create the OrderItem
+        OrderItemDTO orderItemDTO = orderItemMapper.toDto(orderItem);
         restOrderItemMockMvc.perform(post("/api/order-items")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(orderItem)))
+            .content(TestUtil.convertObjectToJsonBytes(orderItemDTO)))
             .andExpect(status().isCreated());
 
         // Validate the OrderItem in the database
@@ -144,9 +160,10 @@ public class OrderItemResourceIntTest {
         orderItem.setId(1L);
 
         // An entity with an existing ID cannot be created, so this API call must fail
+        OrderItemDTO orderItemDTO = orderItemMapper.toDto(orderItem);
         restOrderItemMockMvc.perform(post("/api/order-items")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(orderItem)))
+            .content(TestUtil.convertObjectToJsonBytes(orderItemDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the OrderItem in the database
@@ -162,10 +179,11 @@ public class OrderItemResourceIntTest {
         orderItem.setQuantity(null);
 
         // Create the OrderItem, which fails.
+        OrderItemDTO orderItemDTO = orderItemMapper.toDto(orderItem);
 
         restOrderItemMockMvc.perform(post("/api/order-items")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(orderItem)))
+            .content(TestUtil.convertObjectToJsonBytes(orderItemDTO)))
             .andExpect(status().isBadRequest());
 
         List<OrderItem> orderItemList = orderItemRepository.findAll();
@@ -180,10 +198,11 @@ public class OrderItemResourceIntTest {
         orderItem.setTotalPrice(null);
 
         // Create the OrderItem, which fails.
+        OrderItemDTO orderItemDTO = orderItemMapper.toDto(orderItem);
 
         restOrderItemMockMvc.perform(post("/api/order-items")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(orderItem)))
+            .content(TestUtil.convertObjectToJsonBytes(orderItemDTO)))
             .andExpect(status().isBadRequest());
 
         List<OrderItem> orderItemList = orderItemRepository.findAll();
@@ -198,10 +217,11 @@ public class OrderItemResourceIntTest {
         orderItem.setStatus(null);
 
         // Create the OrderItem, which fails.
+        OrderItemDTO orderItemDTO = orderItemMapper.toDto(orderItem);
 
         restOrderItemMockMvc.perform(post("/api/order-items")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(orderItem)))
+            .content(TestUtil.convertObjectToJsonBytes(orderItemDTO)))
             .andExpect(status().isBadRequest());
 
         List<OrderItem> orderItemList = orderItemRepository.findAll();
@@ -220,10 +240,63 @@ public class OrderItemResourceIntTest {
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(orderItem.getId().intValue())))
             .andExpect(jsonPath("$.[*].quantity").value(hasItem(DEFAULT_QUANTITY)))
-            .andExpect(jsonPath("$.[*].totalPrice").value(hasItem(DEFAULT_TOTAL_PRICE.intValue())))
+            .andExpect(jsonPath("$.[*].totalPrice").value(hasItem(DEFAULT_TOTAL_PRICE.doubleValue())))
             .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())));
     }
     
+    @Test
+    @Transactional
+    public void getAllOrderItemsByOrderAndStatus() throws Exception {
+        // Initialize the database
+        orderItemRepository.saveAndFlush(orderItem);
+        Long orderId = orderItem.getOrder().getId();
+
+        // Get all the orderItemList of the order with the default status
+        restOrderItemMockMvc.perform(get("/api/order-items?sort=id,desc&orderId.equals=" + orderId + "&status.equals=" + DEFAULT_STATUS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(orderItem.getId().intValue())));
+
+        // Get all the orderItemList of another order
+        restOrderItemMockMvc.perform(get("/api/order-items?sort=id,desc&orderId.equals=" + (orderId + 1)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Get all the orderItemList of the order with the updated status
+        restOrderItemMockMvc.perform(get("/api/order-items?sort=id,desc&orderId.equals=" + orderId + "&status.equals=" + UPDATED_STATUS))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void getAllOrderItemsWithBoundedQueryCount() throws Exception {
+        // Initialize the database, each orderItem having its own associated entities
+        for (int i = 0; i < 10; i++) {
+            orderItemRepository.save(createEntity(em));
+        }
+        em.flush();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Get a page of orderItems: the columns of the associations are selected by the page query, which is followed by the count query
+        statistics.clear();
+        restOrderItemMockMvc.perform(get("/api/order-items?sort=id,desc&size=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(5))
+            .andExpect(jsonPath("$.[*].productName").isNotEmpty())
+            .andExpect(jsonPath("$.[*].orderCode").isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        // Get a slice of orderItems: the columns of the associations are selected by the slice query
+        statistics.clear();
+        restOrderItemMockMvc.perform(get("/api/order-items?after=&size=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(5))
+            .andExpect(jsonPath("$.[*].productName").isNotEmpty())
+            .andExpect(jsonPath("$.[*].orderCode").isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     @Transactional
     public void getOrderItem() throws Exception {
@@ -252,7 +325,7 @@ public class OrderItemResourceIntTest {
     @Transactional
     public void updateOrderItem() throws Exception {
         // Initialize the database
-        orderItemService.save(orderItem);
+        orderItemRepository.saveAndFlush(orderItem);
 
         int databaseSizeBeforeUpdate = orderItemRepository.findAll().size();
 
@@ -264,10 +337,11 @@ public class OrderItemResourceIntTest {
             .quantity(UPDATED_QUANTITY)
             .totalPrice(UPDATED_TOTAL_PRICE)
             .status(UPDATED_STATUS);
+        OrderItemDTO orderItemDTO = orderItemMapper.toDto(updatedOrderItem);
 
         restOrderItemMockMvc.perform(put("/api/order-items")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(updatedOrderItem)))
+            .content(TestUtil.convertObjectToJsonBytes(orderItemDTO)))
             .andExpect(status().isOk());
 
         // Validate the OrderItem in the database
@@ -287,9 +361,10 @@ public class OrderItemResourceIntTest {
         // Create the OrderItem
 
         // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        OrderItemDTO orderItemDTO = orderItemMapper.toDto(orderItem);
         restOrderItemMockMvc.perform(put("/api/order-items")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(orderItem)))
+            .content(TestUtil.convertObjectToJsonBytes(orderItemDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the OrderItem in the database
@@ -301,7 +376,7 @@ public class OrderItemResourceIntTest {
     @Transactional
     public void deleteOrderItem() throws Exception {
         // Initialize the database
-        orderItemService.save(orderItem);
+        orderItemRepository.saveAndFlush(orderItem);
 
         int databaseSizeBeforeDelete = orderItemRepository.findAll().size();
 
@@ -329,4 +404,27 @@ public class OrderItemResourceIntTest {
         orderItem1.setId(null);
         assertThat(orderItem1).isNotEqualTo(orderItem2);
     }
+
+    @Test
+    @Transactional
+    public void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(OrderItemDTO.class);
+        OrderItemDTO orderItemDTO1 = new OrderItemDTO();
+        orderItemDTO1.setId(1L);
+        OrderItemDTO orderItemDTO2 = new OrderItemDTO();
+        assertThat(orderItemDTO1).isNotEqualTo(orderItemDTO2);
+        orderItemDTO2.setId(orderItemDTO1.getId());
+        assertThat(orderItemDTO1).isEqualTo(orderItemDTO2);
+        orderItemDTO2.setId(2L);
+        assertThat(orderItemDTO1).isNotEqualTo(orderItemDTO2);
+        orderItemDTO1.setId(null);
+        assertThat(orderItemDTO1).isNotEqualTo(orderItemDTO2);
+    }
+
+    @Test
+    @Transactional
+    public void testEntityFromId() {
+        assertThat(orderItemMapper.fromId(42L).getId()).isEqualTo(42);
+        assertThat(orderItemMapper.fromId(null)).isNull();
+    }
 }
@@ -5,6 +5,8 @@ import com.jhipster.demo.store.StoreApp;
 import com.jhipster.demo.store.domain.ProductCategory;
 import com.jhipster.demo.store.repository.ProductCategoryRepository;
 import com.jhipster.demo.store.service.ProductCategoryService;
+import com.jhipster.demo.store.service.dto.ProductCategoryDTO;
+import com.jhipster.demo.store.service.mapper.ProductCategoryMapper;
 import com.jhipster.demo.store.web.rest.errors.ExceptionTranslator;
 
 import org.junit.Before;
@@ -48,6 +50,9 @@ public class ProductCategoryResourceIntTest {
 
     @Autowired
     private ProductCategoryRepository productCategoryRepository;
+
+    @Autowired
+    private ProductCategoryMapper productCategoryMapper;
     
     @Autowired
     private ProductCategoryService productCategoryService;
@@ -103,9 +108,10 @@ public class ProductCategoryResourceIntTest {
         int databaseSizeBeforeCreate = productCategoryRepository.findAll().size();
 
         // Create the ProductCategory
+        ProductCategoryDTO productCategoryDTO = productCategoryMapper.toDto(productCategory);
         restProductCategoryMockMvc.perform(post("/api/product-categories")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productCategory)))
+            .content(TestUtil.convertObjectToJsonBytes(productCategoryDTO)))
             .andExpect(status().isCreated());
 
         // Validate the ProductCategory in the database
@@ -125,9 +131,10 @@ public class ProductCategoryResourceIntTest {
         productCategory.setId(1L);
 
         // An entity with an existing ID cannot be created, so this API call must fail
+        ProductCategoryDTO productCategoryDTO = productCategoryMapper.toDto(productCategory);
         restProductCategoryMockMvc.perform(post("/api/product-categories")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productCategory)))
+            .content(TestUtil.convertObjectToJsonBytes(productCategoryDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the ProductCategory in the database
@@ -143,10 +150,11 @@ public class ProductCategoryResourceIntTest {
         productCategory.setName(null);
 
         // Create the ProductCategory, which fails.
+        ProductCategoryDTO productCategoryDTO = productCategoryMapper.toDto(productCategory);
 
         restProductCategoryMockMvc.perform(post("/api/product-categories")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productCategory)))
+            .content(TestUtil.convertObjectToJsonBytes(productCategoryDTO)))
             .andExpect(status().isBadRequest());
 
         List<ProductCategory> productCategoryList = productCategoryRepository.findAll();
@@ -195,7 +203,7 @@ public class ProductCategoryResourceIntTest {
     @Transactional
     public void updateProductCategory() throws Exception {
         // Initialize the database
-        productCategoryService.save(productCategory);
+        productCategoryRepository.saveAndFlush(productCategory);
 
         int databaseSizeBeforeUpdate = productCategoryRepository.findAll().size();
 
@@ -206,10 +214,11 @@ public class ProductCategoryResourceIntTest {
         updatedProductCategory
             .name(UPDATED_NAME)
             .description(UPDATED_DESCRIPTION);
+        ProductCategoryDTO productCategoryDTO = productCategoryMapper.toDto(updatedProductCategory);
 
         restProductCategoryMockMvc.perform(put("/api/product-categories")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(updatedProductCategory)))
+            .content(TestUtil.convertObjectToJsonBytes(productCategoryDTO)))
             .andExpect(status().isOk());
 
         // Validate the ProductCategory in the database
@@ -228,9 +237,10 @@ public class ProductCategoryResourceIntTest {
         // Create the ProductCategory
 
         // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        ProductCategoryDTO productCategoryDTO = productCategoryMapper.toDto(productCategory);
         restProductCategoryMockMvc.perform(put("/api/product-categories")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productCategory)))
+            .content(TestUtil.convertObjectToJsonBytes(productCategoryDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the ProductCategory in the database
@@ -242,7 +252,7 @@ public class ProductCategoryResourceIntTest {
     @Transactional
     public void deleteProductCategory() throws Exception {
         // Initialize the database
-        productCategoryService.save(productCategory);
+        productCategoryRepository.saveAndFlush(productCategory);
 
         int databaseSizeBeforeDelete = productCategoryRepository.findAll().size();
 
@@ -270,4 +280,27 @@ public class ProductCategoryResourceIntTest {
         productCategory1.setId(null);
         assertThat(productCategory1).isNotEqualTo(productCategory2);
     }
+
+    @Test
+    @Transactional
+    public void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(ProductCategoryDTO.class);
+        ProductCategoryDTO productCategoryDTO1 = new ProductCategoryDTO();
+        productCategoryDTO1.setId(1L);
+        ProductCategoryDTO productCategoryDTO2 = new ProductCategoryDTO();
+        assertThat(productCategoryDTO1).isNotEqualTo(productCategoryDTO2);
+        productCategoryDTO2.setId(productCategoryDTO1.getId());
+        assertThat(productCategoryDTO1).isEqualTo(productCategoryDTO2);
+        productCategoryDTO2.setId(2L);
+        assertThat(productCategoryDTO1).isNotEqualTo(productCategoryDTO2);
+        productCategoryDTO1.setId(null);
+        assertThat(productCategoryDTO1).isNotEqualTo(productCategoryDTO2);
+    }
+
+    @Test
+    @Transactional
+    public void testEntityFromId() {
+        assertThat(productCategoryMapper.fromId(42L).getId()).isEqualTo(42);
+        assertThat(productCategoryMapper.fromId(null)).isNull();
+    }
 }
@@ -2,12 +2,22 @@ package com.jhipster.demo.store.web.rest;
 
 import com.jhipster.demo.store.StoreApp;
 
+import com.jhipster.demo.store.domain.OrderItem;
+import com.jhipster.demo.store.domain.Product;
 import com.jhipster.demo.store.domain.ProductOrder;
 import com.jhipster.demo.store.domain.Customer;
+import com.jhipster.demo.store.repository.OrderItemRepository;
 import com.jhipster.demo.store.repository.ProductOrderRepository;
+import com.jhipster.demo.store.service.ProductOrderQueryService;
 import com.jhipster.demo.store.service.ProductOrderService;
+import com.jhipster.demo.store.service.dto.ProductOrderDTO;
+import com.jhipster.demo.store.service.mapper.OrderItemMapper;
+import com.jhipster.demo.store.service.mapper.ProductOrderMapper;
 import com.jhipster.demo.store.web.rest.errors.ExceptionTranslator;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,21 +29,29 @@ import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 
 import static com.jhipster.demo.store.web.rest.TestUtil.createFormattingConversionService;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.jhipster.demo.store.domain.enumeration.OrderItemStatus;
 import com.jhipster.demo.store.domain.enumeration.OrderStatus;
 /**
  * Test class for the ProductOrderResource REST controller.
@@ -58,13 +76,28 @@ public class ProductOrderResourceIntTest {
 
     @Autowired
     private ProductOrderRepository productOrderRepository;
+
+    @Autowired
+    private ProductOrderMapper productOrderMapper;
+
+    @Autowired
+    private OrderItemMapper orderItemMapper;
     
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
     @Autowired
     private ProductOrderService productOrderService;
 
+    @Autowired
+    private ProductOrderQueryService productOrderQueryService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private PageableHandlerMethodArgumentResolver pageableArgumentResolver;
 
@@ -74,6 +107,9 @@ public class ProductOrderResourceIntTest {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private MockMvc restProductOrderMockMvc;
 
     private ProductOrder productOrder;
@@ -81,7 +117,7 @@ public class ProductOrderResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final ProductOrderResource productOrderResource = new ProductOrderResource(productOrderService);
+        final ProductOrderResource productOrderResource = new ProductOrderResource(productOrderService, productOrderQueryService, objectMapper);
         this.restProductOrderMockMvc = MockMvcBuilders.standaloneSetup(productOrderResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -120,9 +156,10 @@ public class ProductOrderResourceIntTest {
         int databaseSizeBeforeCreate = productOrderRepository.findAll().size();
 
         // Create the ProductOrder
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
         restProductOrderMockMvc.perform(post("/api/product-orders")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productOrder)))
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
             .andExpect(status().isCreated());
 
         // Validate the ProductOrder in the database
@@ -144,9 +181,65 @@ public class ProductOrderResourceIntTest {
         productOrder.setId(1L);
 
         // An entity with an existing ID cannot be created, so this API call must fail
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
         restProductOrderMockMvc.perform(post("/api/product-orders")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productOrder)))
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
+            .andExpect(status().isBadRequest());
+
+        // Validate the ProductOrder in the database
+        List<ProductOrder> productOrderList = productOrderRepository.findAll();
+        assertThat(productOrderList).hasSize(databaseSizeBeforeCreate);
+    }
+
+    @Test
+    @Transactional
+    public void placeProductOrder() throws Exception {
+        int databaseSizeBeforeCreate = productOrderRepository.findAll().size();
+        int orderItemsSizeBeforeCreate = orderItemRepository.findAll().size();
+
+        // Place the ProductOrder with its OrderItems
+        Product product = ProductResourceIntTest.createEntity(em);
+        em.persist(product);
+        em.flush();
+        for (int i = 1; i <= 3; i++) {
+            productOrder.getOrderItems().add(new OrderItem()
+                .quantity(i)
+                .totalPrice(new BigDecimal(i * 10))
+                .status(OrderItemStatus.AVAILABLE)
+                .product(product));
+        }
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
+        productOrder.getOrderItems().forEach(orderItem -> productOrderDTO.getOrderItems().add(orderItemMapper.toDto(orderItem)));
+        restProductOrderMockMvc.perform(post("/api/product-orders/place")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").isNumber())
+            .andExpect(jsonPath("$.orderItems.length()").value(3));
+
+        // Validate the ProductOrder and its OrderItems in the database
+        List<ProductOrder> productOrderList = productOrderRepository.findAll();
+        assertThat(productOrderList).hasSize(databaseSizeBeforeCreate + 1);
+        ProductOrder testProductOrder = productOrderList.get(productOrderList.size() - 1);
+        assertThat(testProductOrder.getCode()).isEqualTo(DEFAULT_CODE);
+        List<OrderItem> orderItemList = orderItemRepository.findAll();
+        assertThat(orderItemList).hasSize(orderItemsSizeBeforeCreate + 3);
+        assertThat(orderItemList.subList(orderItemsSizeBeforeCreate, orderItemList.size()))
+            .allMatch(orderItem -> orderItem.getOrder().getId().equals(testProductOrder.getId()))
+            .extracting(OrderItem::getQuantity).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @Transactional
+    public void placeProductOrderWithoutOrderItems() throws Exception {
+        int databaseSizeBeforeCreate = productOrderRepository.findAll().size();
+
+        // A ProductOrder without OrderItems cannot be placed, so this API call must fail
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
+        restProductOrderMockMvc.perform(post("/api/product-orders/place")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the ProductOrder in the database
@@ -154,6 +247,33 @@ public class ProductOrderResourceIntTest {
         assertThat(productOrderList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    public void placeProductOrderWithInvalidOrderItem() throws Exception {
+        int databaseSizeBeforeCreate = productOrderRepository.findAll().size();
+        int orderItemsSizeBeforeCreate = orderItemRepository.findAll().size();
+
+        // Place the ProductOrder with an OrderItem without quantity, which fails
+        Product product = ProductResourceIntTest.createEntity(em);
+        em.persist(product);
+        em.flush();
+        productOrder.getOrderItems().add(new OrderItem()
+            .totalPrice(BigDecimal.TEN)
+            .status(OrderItemStatus.AVAILABLE)
+            .product(product));
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
+        productOrder.getOrderItems().forEach(orderItem -> productOrderDTO.getOrderItems().add(orderItemMapper.toDto(orderItem)));
+        restProductOrderMockMvc.perform(post("/api/product-orders/place")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.validation"));
+
+        // Validate the ProductOrder and its OrderItems in the database
+        assertThat(productOrderRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+        assertThat(orderItemRepository.findAll()).hasSize(orderItemsSizeBeforeCreate);
+    }
+
     @Test
     @Transactional
     public void checkPlacedDateIsRequired() throws Exception {
@@ -162,10 +282,11 @@ public class ProductOrderResourceIntTest {
         productOrder.setPlacedDate(null);
 
         // Create the ProductOrder, which fails.
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
 
         restProductOrderMockMvc.perform(post("/api/product-orders")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productOrder)))
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
             .andExpect(status().isBadRequest());
 
         List<ProductOrder> productOrderList = productOrderRepository.findAll();
@@ -180,10 +301,11 @@ public class ProductOrderResourceIntTest {
         productOrder.setStatus(null);
 
         // Create the ProductOrder, which fails.
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
 
         restProductOrderMockMvc.perform(post("/api/product-orders")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productOrder)))
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
             .andExpect(status().isBadRequest());
 
         List<ProductOrder> productOrderList = productOrderRepository.findAll();
@@ -198,10 +320,11 @@ public class ProductOrderResourceIntTest {
         productOrder.setCode(null);
 
         // Create the ProductOrder, which fails.
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
 
         restProductOrderMockMvc.perform(post("/api/product-orders")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productOrder)))
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
             .andExpect(status().isBadRequest());
 
         List<ProductOrder> productOrderList = productOrderRepository.findAll();
@@ -224,7 +347,161 @@ public class ProductOrderResourceIntTest {
             .andExpect(jsonPath("$.[*].code").value(hasItem(DEFAULT_CODE.toString())))
             .andExpect(jsonPath("$.[*].invoiceId").value(hasItem(DEFAULT_INVOICE_ID.intValue())));
     }
-    
+
+    @Test
+    @Transactional
+    public void getAllProductOrdersByPlacedDateIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        productOrderRepository.saveAndFlush(productOrder);
+
+        // Get all the productOrderList where placedDate greater than or equals to DEFAULT_PLACED_DATE
+        defaultProductOrderShouldBeFound("placedDate.greaterOrEqualThan=" + DEFAULT_PLACED_DATE);
+
+        // Get all the productOrderList where placedDate greater than or equals to UPDATED_PLACED_DATE
+        defaultProductOrderShouldNotBeFound("placedDate.greaterOrEqualThan=" + UPDATED_PLACED_DATE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductOrdersByPlacedDateIsLessThanSomething() throws Exception {
+        // Initialize the database
+        productOrderRepository.saveAndFlush(productOrder);
+
+        // Get all the productOrderList where placedDate less than DEFAULT_PLACED_DATE
+        defaultProductOrderShouldNotBeFound("placedDate.lessThan=" + DEFAULT_PLACED_DATE);
+
+        // Get all the productOrderList where placedDate less than UPDATED_PLACED_DATE
+        defaultProductOrderShouldBeFound("placedDate.lessThan=" + UPDATED_PLACED_DATE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductOrdersByStatusIsInShouldWork() throws Exception {
+        // Initialize the database
+        productOrderRepository.saveAndFlush(productOrder);
+
+        // Get all the productOrderList where status in DEFAULT_STATUS or UPDATED_STATUS
+        defaultProductOrderShouldBeFound("status.in=" + DEFAULT_STATUS + "," + UPDATED_STATUS);
+
+        // Get all the productOrderList where status equals to UPDATED_STATUS
+        defaultProductOrderShouldNotBeFound("status.in=" + UPDATED_STATUS);
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductOrdersByCustomerIsEqualToSomething() throws Exception {
+        // Initialize the database
+        productOrderRepository.saveAndFlush(productOrder);
+        Long customerId = productOrder.getCustomer().getId();
+
+        // Get all the productOrderList where customer equals to customerId
+        defaultProductOrderShouldBeFound("customerId.equals=" + customerId);
+
+        // Get all the productOrderList where customer equals to customerId + 1
+        defaultProductOrderShouldNotBeFound("customerId.equals=" + (customerId + 1));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned
+     */
+    private void defaultProductOrderShouldBeFound(String filter) throws Exception {
+        restProductOrderMockMvc.perform(get("/api/product-orders?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(productOrder.getId().intValue())))
+            .andExpect(jsonPath("$.[*].placedDate").value(hasItem(DEFAULT_PLACED_DATE.toString())))
+            .andExpect(jsonPath("$.[*].status").value(hasItem(DEFAULT_STATUS.toString())));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned
+     */
+    private void defaultProductOrderShouldNotBeFound(String filter) throws Exception {
+        restProductOrderMockMvc.perform(get("/api/product-orders?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductOrdersWithKeysetPagination() throws Exception {
+        // Initialize the database
+        productOrderRepository.saveAndFlush(productOrder);
+        ProductOrder recentProductOrder = productOrderRepository.saveAndFlush(createEntity(em).placedDate(UPDATED_PLACED_DATE));
+
+        // Get the first slice, which only contains the most recent productOrder
+        MvcResult result = restProductOrderMockMvc.perform(get("/api/product-orders?after=&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string("Link", containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(recentProductOrder.getId().intValue()))
+            .andReturn();
+
+        // Follow the "next" link to get the oldest productOrder
+        String nextLink = result.getResponse().getHeader("Link").split(">; rel=\"next\"")[0].substring(1);
+        restProductOrderMockMvc.perform(get(nextLink))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Link", not(containsString("rel=\"next\""))))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(productOrder.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductOrdersWithKeysetPaginationAndCriteria() throws Exception {
+        // Initialize the database, the most recent productOrder not matching the criteria
+        productOrderRepository.saveAndFlush(productOrder);
+        ProductOrder matchingProductOrder = productOrderRepository.saveAndFlush(createEntity(em).placedDate(DEFAULT_PLACED_DATE.plusSeconds(1)));
+        productOrderRepository.saveAndFlush(createEntity(em).placedDate(UPDATED_PLACED_DATE).status(UPDATED_STATUS));
+
+        // Get the first slice, which only contains the most recent matching productOrder
+        MvcResult result = restProductOrderMockMvc.perform(get("/api/product-orders?after=&size=1&status.equals=" + DEFAULT_STATUS))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Link", containsString("status.equals=" + DEFAULT_STATUS)))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(matchingProductOrder.getId().intValue()))
+            .andReturn();
+
+        // Follow the "next" link, which keeps the criteria, to get the oldest productOrder
+        String nextLink = result.getResponse().getHeader("Link").split(">; rel=\"next\"")[0].substring(1);
+        restProductOrderMockMvc.perform(get(nextLink))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Link", not(containsString("rel=\"next\""))))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(productOrder.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductOrdersWithBoundedQueryCount() throws Exception {
+        // Initialize the database, each productOrder having its own associated entities
+        for (int i = 0; i < 10; i++) {
+            productOrderRepository.save(createEntity(em));
+        }
+        em.flush();
+        em.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Get a page of productOrders: the columns of the associations are selected by the page query, which is followed by the count query
+        statistics.clear();
+        restProductOrderMockMvc.perform(get("/api/product-orders?sort=id,desc&size=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(5))
+            .andExpect(jsonPath("$.[*].customerEmail").isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+
+        // Get a slice of productOrders: the columns of the associations are selected by the slice query
+        statistics.clear();
+        restProductOrderMockMvc.perform(get("/api/product-orders?after=&size=5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(5))
+            .andExpect(jsonPath("$.[*].customerEmail").isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     @Transactional
     public void getProductOrder() throws Exception {
@@ -242,6 +519,38 @@ public class ProductOrderResourceIntTest {
             .andExpect(jsonPath("$.invoiceId").value(DEFAULT_INVOICE_ID.intValue()));
     }
 
+    @Test
+    @Transactional
+    public void exportProductOrders() throws Exception {
+        // Initialize the database
+        productOrderRepository.saveAndFlush(productOrder);
+
+        List<ProductOrderDTO> productOrders = new ArrayList<>();
+        productOrderService.exportAll(productOrders::add);
+        assertThat(productOrders).extracting(ProductOrderDTO::getId).contains(productOrder.getId());
+        assertThat(productOrders).extracting(ProductOrderDTO::getCustomerEmail).contains(productOrder.getCustomer().getEmail());
+    }
+
+    @Test
+    @Transactional
+    public void exportProductOrdersAsCsv() throws Exception {
+        // The export is written by an asynchronous request, which cannot see the data of the test transaction
+        MvcResult mvcResult = restProductOrderMockMvc.perform(get("/api/product-orders/export?format=csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restProductOrderMockMvc.perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("text/csv;charset=UTF-8"))
+            .andExpect(content().string(startsWith("id,placedDate,status,code,invoiceId,customerId,customerEmail\r\n")));
+    }
+
+    @Test
+    @Transactional
+    public void exportProductOrdersWithUnsupportedFormat() throws Exception {
+        restProductOrderMockMvc.perform(get("/api/product-orders/export?format=xml"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     public void getNonExistingProductOrder() throws Exception {
@@ -254,7 +563,7 @@ public class ProductOrderResourceIntTest {
     @Transactional
     public void updateProductOrder() throws Exception {
         // Initialize the database
-        productOrderService.save(productOrder);
+        productOrderRepository.saveAndFlush(productOrder);
 
         int databaseSizeBeforeUpdate = productOrderRepository.findAll().size();
 
@@ -267,10 +576,11 @@ public class ProductOrderResourceIntTest {
             .status(UPDATED_STATUS)
             .code(UPDATED_CODE)
             .invoiceId(UPDATED_INVOICE_ID);
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(updatedProductOrder);
 
         restProductOrderMockMvc.perform(put("/api/product-orders")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(updatedProductOrder)))
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
             .andExpect(status().isOk());
 
         // Validate the ProductOrder in the database
@@ -291,9 +601,10 @@ public class ProductOrderResourceIntTest {
         // Create the ProductOrder
 
         // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        ProductOrderDTO productOrderDTO = productOrderMapper.toDto(productOrder);
         restProductOrderMockMvc.perform(put("/api/product-orders")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(productOrder)))
+            .content(TestUtil.convertObjectToJsonBytes(productOrderDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the ProductOrder in the database
@@ -305,7 +616,7 @@ public class ProductOrderResourceIntTest {
     @Transactional
     public void deleteProductOrder() throws Exception {
         // Initialize the database
-        productOrderService.save(productOrder);
+        productOrderRepository.saveAndFlush(productOrder);
 
         int databaseSizeBeforeDelete = productOrderRepository.findAll().size();
 
@@ -333,4 +644,27 @@ public class ProductOrderResourceIntTest {
         productOrder1.setId(null);
         assertThat(productOrder1).isNotEqualTo(productOrder2);
     }
+
+    @Test
+    @Transactional
+    public void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(ProductOrderDTO.class);
+        ProductOrderDTO productOrderDTO1 = new ProductOrderDTO();
+        productOrderDTO1.setId(1L);
+        ProductOrderDTO productOrderDTO2 = new ProductOrderDTO();
+        assertThat(productOrderDTO1).isNotEqualTo(productOrderDTO2);
+        productOrderDTO2.setId(productOrderDTO1.getId());
+        assertThat(productOrderDTO1).isEqualTo(productOrderDTO2);
+        productOrderDTO2.setId(2L);
+        assertThat(productOrderDTO1).isNotEqualTo(productOrderDTO2);
+        productOrderDTO1.setId(null);
+        assertThat(productOrderDTO1).isNotEqualTo(productOrderDTO2);
+    }
+
+    @Test
+    @Transactional
+    public void testEntityFromId() {
+        assertThat(productOrderMapper.fromId(42L).getId()).isEqualTo(42);
+        assertThat(productOrderMapper.fromId(null)).isNull();
+    }
 }
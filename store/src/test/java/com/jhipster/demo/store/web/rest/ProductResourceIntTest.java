@@ -3,10 +3,18 @@ package com.jhipster.demo.store.web.rest;
 import com.jhipster.demo.store.StoreApp;
 
 import com.jhipster.demo.store.domain.Product;
+import com.jhipster.demo.store.domain.ProductCategory;
+import com.jhipster.demo.store.repository.ProductCategoryRepository;
 import com.jhipster.demo.store.repository.ProductRepository;
+import com.jhipster.demo.store.service.ImageStorageService;
+import com.jhipster.demo.store.service.ProductQueryService;
 import com.jhipster.demo.store.service.ProductService;
+import com.jhipster.demo.store.service.search.ProductSearchService;
+import com.jhipster.demo.store.service.dto.ProductDTO;
+import com.jhipster.demo.store.service.mapper.ProductMapper;
 import com.jhipster.demo.store.web.rest.errors.ExceptionTranslator;
 
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -14,13 +22,16 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.Base64Utils;
 
 import javax.persistence.EntityManager;
 import java.math.BigDecimal;
@@ -29,7 +40,9 @@ import java.util.List;
 
 import static com.jhipster.demo.store.web.rest.TestUtil.createFormattingConversionService;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -62,10 +75,25 @@ public class ProductResourceIntTest {
 
     @Autowired
     private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Autowired
+    private ProductMapper productMapper;
     
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private ProductQueryService productQueryService;
+
+    @Autowired
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private ProductSearchService productSearchService;
+
     @Autowired
     private MappingJackson2HttpMessageConverter jacksonMessageConverter;
 
@@ -85,12 +113,12 @@ public class ProductResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final ProductResource productResource = new ProductResource(productService);
+        final ProductResource productResource = new ProductResource(productService, productQueryService, productSearchService);
         this.restProductMockMvc = MockMvcBuilders.standaloneSetup(productResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
             .setConversionService(createFormattingConversionService())
-            .setMessageConverters(jacksonMessageConverter).build();
+            .setMessageConverters(jacksonMessageConverter, new ResourceHttpMessageConverter(), new ResourceRegionHttpMessageConverter()).build();
     }
 
     /**
@@ -115,15 +143,24 @@ public class ProductResourceIntTest {
         product = createEntity(em);
     }
 
+    /**
+     * Save the product with the service, which moves its image to the image storage.
+     */
+    private void saveProduct(Product product) {
+        ProductDTO result = productService.save(productMapper.toDto(product));
+        product.setId(result.getId());
+    }
+
     @Test
     @Transactional
     public void createProduct() throws Exception {
         int databaseSizeBeforeCreate = productRepository.findAll().size();
 
         // Create the Product
+        ProductDTO productDTO = productMapper.toDto(product);
         restProductMockMvc.perform(post("/api/products")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(product)))
+            .content(TestUtil.convertObjectToJsonBytes(productDTO)))
             .andExpect(status().isCreated());
 
         // Validate the Product in the database
@@ -134,8 +171,9 @@ public class ProductResourceIntTest {
         assertThat(testProduct.getDescription()).isEqualTo(DEFAULT_DESCRIPTION);
         assertThat(testProduct.getPrice()).isEqualTo(DEFAULT_PRICE);
         assertThat(testProduct.getSize()).isEqualTo(DEFAULT_SIZE);
-        assertThat(testProduct.getImage()).isEqualTo(DEFAULT_IMAGE);
+        assertThat(testProduct.getImageSha256()).isEqualTo(DigestUtils.sha256Hex(DEFAULT_IMAGE));
         assertThat(testProduct.getImageContentType()).isEqualTo(DEFAULT_IMAGE_CONTENT_TYPE);
+        assertThat(imageStorageService.load(testProduct.getImageSha256())).isPresent();
     }
 
     @Test
@@ -147,9 +185,10 @@ public class ProductResourceIntTest {
         product.setId(1L);
 
         // An entity with an existing ID cannot be created, so this API call must fail
+        ProductDTO productDTO = productMapper.toDto(product);
         restProductMockMvc.perform(post("/api/products")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(product)))
+            .content(TestUtil.convertObjectToJsonBytes(productDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the Product in the database
@@ -165,10 +204,11 @@ public class ProductResourceIntTest {
         product.setName(null);
 
         // Create the Product, which fails.
+        ProductDTO productDTO = productMapper.toDto(product);
 
         restProductMockMvc.perform(post("/api/products")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(product)))
+            .content(TestUtil.convertObjectToJsonBytes(productDTO)))
             .andExpect(status().isBadRequest());
 
         List<Product> productList = productRepository.findAll();
@@ -183,10 +223,11 @@ public class ProductResourceIntTest {
         product.setPrice(null);
 
         // Create the Product, which fails.
+        ProductDTO productDTO = productMapper.toDto(product);
 
         restProductMockMvc.perform(post("/api/products")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(product)))
+            .content(TestUtil.convertObjectToJsonBytes(productDTO)))
             .andExpect(status().isBadRequest());
 
         List<Product> productList = productRepository.findAll();
@@ -201,10 +242,11 @@ public class ProductResourceIntTest {
         product.setSize(null);
 
         // Create the Product, which fails.
+        ProductDTO productDTO = productMapper.toDto(product);
 
         restProductMockMvc.perform(post("/api/products")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(product)))
+            .content(TestUtil.convertObjectToJsonBytes(productDTO)))
             .andExpect(status().isBadRequest());
 
         List<Product> productList = productRepository.findAll();
@@ -215,7 +257,7 @@ public class ProductResourceIntTest {
     @Transactional
     public void getAllProducts() throws Exception {
         // Initialize the database
-        productRepository.saveAndFlush(product);
+        saveProduct(product);
 
         // Get all the productList
         restProductMockMvc.perform(get("/api/products?sort=id,desc"))
@@ -224,17 +266,221 @@ public class ProductResourceIntTest {
             .andExpect(jsonPath("$.[*].id").value(hasItem(product.getId().intValue())))
             .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME.toString())))
             .andExpect(jsonPath("$.[*].description").value(hasItem(DEFAULT_DESCRIPTION.toString())))
-            .andExpect(jsonPath("$.[*].price").value(hasItem(DEFAULT_PRICE.intValue())))
+            .andExpect(jsonPath("$.[*].price").value(hasItem(DEFAULT_PRICE.doubleValue())))
             .andExpect(jsonPath("$.[*].size").value(hasItem(DEFAULT_SIZE.toString())))
             .andExpect(jsonPath("$.[*].imageContentType").value(hasItem(DEFAULT_IMAGE_CONTENT_TYPE)))
-            .andExpect(jsonPath("$.[*].image").value(hasItem(Base64Utils.encodeToString(DEFAULT_IMAGE))));
+            .andExpect(jsonPath("$.[*].imageUrl").value(hasItem("/api/products/" + product.getId() + "/image")))
+            .andExpect(jsonPath("$.[*].image").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsByPriceIsGreaterThanOrEqualToSomething() throws Exception {
+        // Initialize the database
+        productRepository.saveAndFlush(product);
+
+        // Get all the productList where price greater than or equals to DEFAULT_PRICE
+        defaultProductShouldBeFound("price.greaterOrEqualThan=" + DEFAULT_PRICE);
+
+        // Get all the productList where price greater than or equals to UPDATED_PRICE
+        defaultProductShouldNotBeFound("price.greaterOrEqualThan=" + UPDATED_PRICE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsByPriceIsLessThanSomething() throws Exception {
+        // Initialize the database
+        productRepository.saveAndFlush(product);
+
+        // Get all the productList where price less than or equals to DEFAULT_PRICE
+        defaultProductShouldNotBeFound("price.lessThan=" + DEFAULT_PRICE);
+
+        // Get all the productList where price less than or equals to UPDATED_PRICE
+        defaultProductShouldBeFound("price.lessThan=" + UPDATED_PRICE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsByProductSizeIsEqualToSomething() throws Exception {
+        // Initialize the database
+        productRepository.saveAndFlush(product);
+
+        // Get all the productList where productSize equals to DEFAULT_SIZE
+        defaultProductShouldBeFound("productSize.equals=" + DEFAULT_SIZE);
+
+        // Get all the productList where productSize equals to UPDATED_SIZE
+        defaultProductShouldNotBeFound("productSize.equals=" + UPDATED_SIZE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsByProductSizeIsInShouldWork() throws Exception {
+        // Initialize the database
+        productRepository.saveAndFlush(product);
+
+        // Get all the productList where productSize in DEFAULT_SIZE or UPDATED_SIZE
+        defaultProductShouldBeFound("productSize.in=" + DEFAULT_SIZE + "," + UPDATED_SIZE);
+
+        // Get all the productList where productSize equals to UPDATED_SIZE
+        defaultProductShouldNotBeFound("productSize.in=" + UPDATED_SIZE);
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsByProductCategoryIsEqualToSomething() throws Exception {
+        // Initialize the database
+        ProductCategory productCategory = ProductCategoryResourceIntTest.createEntity(em);
+        em.persist(productCategory);
+        em.flush();
+        product.setProductCategory(productCategory);
+        productRepository.saveAndFlush(product);
+        Long productCategoryId = productCategory.getId();
+
+        // Get all the productList where productCategory equals to productCategoryId
+        defaultProductShouldBeFound("productCategoryId.equals=" + productCategoryId);
+
+        // Get all the productList where productCategory equals to productCategoryId + 1
+        defaultProductShouldNotBeFound("productCategoryId.equals=" + (productCategoryId + 1));
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsByCriteriaArePaginated() throws Exception {
+        // Initialize the database
+        productRepository.saveAndFlush(product);
+        productRepository.saveAndFlush(createEntity(em).name(UPDATED_NAME));
+        productRepository.saveAndFlush(createEntity(em).price(UPDATED_PRICE));
+
+        // Get the first page of the products matching the filter
+        restProductMockMvc.perform(get("/api/products?sort=id,asc&page=0&size=1&price.lessThan=" + UPDATED_PRICE))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(product.getId().intValue()));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned
+     */
+    private void defaultProductShouldBeFound(String filter) throws Exception {
+        restProductMockMvc.perform(get("/api/products?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(product.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].price").value(hasItem(DEFAULT_PRICE.doubleValue())))
+            .andExpect(jsonPath("$.[*].size").value(hasItem(DEFAULT_SIZE.toString())));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned
+     */
+    private void defaultProductShouldNotBeFound(String filter) throws Exception {
+        restProductMockMvc.perform(get("/api/products?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void searchProducts() throws Exception {
+        // Initialize the database and the search index
+        ProductCategory productCategory = ProductCategoryResourceIntTest.createEntity(em).name("Summer shoes");
+        em.persist(productCategory);
+        productRepository.saveAndFlush(product.productCategory(productCategory));
+        productRepository.saveAndFlush(createEntity(em).name("Winter coat").size(UPDATED_SIZE));
+        productSearchService.rebuild();
+
+        // Search the products
+        restProductMockMvc.perform(get("/api/_search/products?query=shoe"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.products.[*].id").value(hasItem(product.getId().intValue())))
+            .andExpect(jsonPath("$.products.length()").value(1))
+            .andExpect(jsonPath("$.products.[0].productCategoryName").value("Summer shoes"))
+            .andExpect(jsonPath("$.sizes.S").value(1))
+            .andExpect(jsonPath("$.categories.[0].id").value(productCategory.getId().intValue()))
+            .andExpect(jsonPath("$.categories.[0].name").value("Summer shoes"))
+            .andExpect(jsonPath("$.categories.[0].count").value(1));
+
+        // Filter the products by size
+        restProductMockMvc.perform(get("/api/_search/products?query=shoe&productSize=" + UPDATED_SIZE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.products.length()").value(0))
+            .andExpect(jsonPath("$.sizes.S").value(1));
+    }
+
+    @Test
+    public void searchCreatedProductByCategoryName() throws Exception {
+        // Not transactional: the search index is only updated once the changes are committed
+        ProductCategory productCategory = productCategoryRepository.saveAndFlush(
+            ProductCategoryResourceIntTest.createEntity(em).name("Summer sandals"));
+        ProductDTO productDTO = productMapper.toDto(product);
+        productDTO.setProductCategoryId(productCategory.getId());
+        Long productId = null;
+        try {
+            // Create the Product, whose category only has its id
+            MvcResult result = restProductMockMvc.perform(post("/api/products")
+                .contentType(TestUtil.APPLICATION_JSON_UTF8)
+                .content(TestUtil.convertObjectToJsonBytes(productDTO)))
+                .andExpect(status().isCreated())
+                .andReturn();
+            String location = result.getResponse().getHeader(HttpHeaders.LOCATION);
+            productId = Long.valueOf(location.substring(location.lastIndexOf('/') + 1));
+
+            // Search the product by the name of its category
+            restProductMockMvc.perform(get("/api/_search/products?query=sandals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products.[*].id").value(hasItem(productId.intValue())))
+                .andExpect(jsonPath("$.categories.[0].name").value("Summer sandals"));
+        } finally {
+            if (productId != null) {
+                productRepository.deleteById(productId);
+            }
+            productCategoryRepository.deleteById(productCategory.getId());
+        }
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsWithKeysetPagination() throws Exception {
+        // Initialize the database
+        productRepository.saveAndFlush(product);
+        Product otherProduct = productRepository.saveAndFlush(createEntity(em).name(UPDATED_NAME));
+
+        // Get the first slice, which only contains the first product
+        MvcResult result = restProductMockMvc.perform(get("/api/products?after=&size=1"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string("Link", containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(product.getId().intValue()))
+            .andReturn();
+
+        // Follow the "next" link to get the second product
+        String nextLink = result.getResponse().getHeader("Link").split(">; rel=\"next\"")[0].substring(1);
+        restProductMockMvc.perform(get(nextLink))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Link", not(containsString("rel=\"next\""))))
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(otherProduct.getId().intValue()));
+    }
+
+    @Test
+    @Transactional
+    public void getAllProductsWithInvalidCursor() throws Exception {
+        restProductMockMvc.perform(get("/api/products?after=not-a-cursor"))
+            .andExpect(status().isBadRequest());
     }
     
     @Test
     @Transactional
     public void getProduct() throws Exception {
         // Initialize the database
-        productRepository.saveAndFlush(product);
+        saveProduct(product);
 
         // Get the product
         restProductMockMvc.perform(get("/api/products/{id}", product.getId()))
@@ -246,7 +492,59 @@ public class ProductResourceIntTest {
             .andExpect(jsonPath("$.price").value(DEFAULT_PRICE.intValue()))
             .andExpect(jsonPath("$.size").value(DEFAULT_SIZE.toString()))
             .andExpect(jsonPath("$.imageContentType").value(DEFAULT_IMAGE_CONTENT_TYPE))
-            .andExpect(jsonPath("$.image").value(Base64Utils.encodeToString(DEFAULT_IMAGE)));
+            .andExpect(jsonPath("$.imageUrl").value("/api/products/" + product.getId() + "/image"))
+            .andExpect(jsonPath("$.image").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    public void getProductImage() throws Exception {
+        // Initialize the database
+        saveProduct(product);
+
+        // Get the image of the product
+        restProductMockMvc.perform(get("/api/products/{id}/image", product.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(DEFAULT_IMAGE_CONTENT_TYPE))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + DigestUtils.sha256Hex(DEFAULT_IMAGE) + "\""))
+            .andExpect(content().bytes(DEFAULT_IMAGE));
+    }
+
+    @Test
+    @Transactional
+    public void getProductImageNotModified() throws Exception {
+        // Initialize the database
+        saveProduct(product);
+
+        // Get the image of the product, which the client already has
+        restProductMockMvc.perform(get("/api/products/{id}/image", product.getId())
+            .header(HttpHeaders.IF_NONE_MATCH, "\"" + DigestUtils.sha256Hex(DEFAULT_IMAGE) + "\""))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    public void getProductImageRange() throws Exception {
+        // Initialize the database
+        saveProduct(product.image(TestUtil.createByteArray(10, "0")));
+
+        // Get the first bytes of the image of the product
+        restProductMockMvc.perform(get("/api/products/{id}/image", product.getId())
+            .header(HttpHeaders.RANGE, "bytes=0-3"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/10"))
+            .andExpect(content().bytes(TestUtil.createByteArray(4, "0")));
+    }
+
+    @Test
+    @Transactional
+    public void getNonExistingProductImage() throws Exception {
+        // Initialize the database
+        saveProduct(product.image(null).imageContentType(null));
+
+        // Get the image of a product without image
+        restProductMockMvc.perform(get("/api/products/{id}/image", product.getId()))
+            .andExpect(status().isNotFound());
     }
 
     @Test
@@ -261,7 +559,7 @@ public class ProductResourceIntTest {
     @Transactional
     public void updateProduct() throws Exception {
         // Initialize the database
-        productService.save(product);
+        saveProduct(product);
 
         int databaseSizeBeforeUpdate = productRepository.findAll().size();
 
@@ -276,10 +574,11 @@ public class ProductResourceIntTest {
             .size(UPDATED_SIZE)
             .image(UPDATED_IMAGE)
             .imageContentType(UPDATED_IMAGE_CONTENT_TYPE);
+        ProductDTO productDTO = productMapper.toDto(updatedProduct);
 
         restProductMockMvc.perform(put("/api/products")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(updatedProduct)))
+            .content(TestUtil.convertObjectToJsonBytes(productDTO)))
             .andExpect(status().isOk());
 
         // Validate the Product in the database
@@ -290,7 +589,7 @@ public class ProductResourceIntTest {
         assertThat(testProduct.getDescription()).isEqualTo(UPDATED_DESCRIPTION);
         assertThat(testProduct.getPrice()).isEqualTo(UPDATED_PRICE);
         assertThat(testProduct.getSize()).isEqualTo(UPDATED_SIZE);
-        assertThat(testProduct.getImage()).isEqualTo(UPDATED_IMAGE);
+        assertThat(testProduct.getImageSha256()).isEqualTo(DigestUtils.sha256Hex(UPDATED_IMAGE));
         assertThat(testProduct.getImageContentType()).isEqualTo(UPDATED_IMAGE_CONTENT_TYPE);
     }
 
@@ -302,9 +601,10 @@ public class ProductResourceIntTest {
         // Create the Product
 
         // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        ProductDTO productDTO = productMapper.toDto(product);
         restProductMockMvc.perform(put("/api/products")
             .contentType(TestUtil.APPLICATION_JSON_UTF8)
-            .content(TestUtil.convertObjectToJsonBytes(product)))
+            .content(TestUtil.convertObjectToJsonBytes(productDTO)))
             .andExpect(status().isBadRequest());
 
         // Validate the Product in the database
@@ -316,7 +616,7 @@ public class ProductResourceIntTest {
     @Transactional
     public void deleteProduct() throws Exception {
         // Initialize the database
-        productService.save(product);
+        saveProduct(product);
 
         int databaseSizeBeforeDelete = productRepository.findAll().size();
 
@@ -344,4 +644,27 @@ public class ProductResourceIntTest {
         product1.setId(null);
         assertThat(product1).isNotEqualTo(product2);
     }
+
+    @Test
+    @Transactional
+    public void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(ProductDTO.class);
+        ProductDTO productDTO1 = new ProductDTO();
+        productDTO1.setId(1L);
+        ProductDTO productDTO2 = new ProductDTO();
+        assertThat(productDTO1).isNotEqualTo(productDTO2);
+        productDTO2.setId(productDTO1.getId());
+        assertThat(productDTO1).isEqualTo(productDTO2);
+        productDTO2.setId(2L);
+        assertThat(productDTO1).isNotEqualTo(productDTO2);
+        productDTO1.setId(null);
+        assertThat(productDTO1).isNotEqualTo(productDTO2);
+    }
+
+    @Test
+    @Transactional
+    public void testEntityFromId() {
+        assertThat(productMapper.fromId(42L).getId()).isEqualTo(42);
+        assertThat(productMapper.fromId(null)).isNull();
+    }
 }
@@ -2,15 +2,19 @@ package com.jhipster.demo.store.web.rest.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpHeaders;
 
 /**
@@ -41,4 +45,29 @@ public class PaginationUtilUnitTest {
         assertTrue(Long.valueOf(xTotalCountHeaders.get(0)).equals(400L));
     }
 
+    @Test
+    public void generateKeysetPaginationHttpHeadersTest() {
+        String baseUrl = "/api/_search/example";
+        KeysetCursor cursor = KeysetCursor.of(Instant.parse("2018-09-29T16:15:27Z"), 42L);
+        SliceImpl<String> slice = new SliceImpl<>(Arrays.asList("a", "b"), PageRequest.of(0, 2), true);
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, cursor, baseUrl);
+        List<String> strHeaders = headers.get(HttpHeaders.LINK);
+        assertNotNull(strHeaders);
+        assertTrue(strHeaders.size() == 1);
+        String expectedData = "</api/_search/example?after=" + cursor.encode() + "&size=2>; rel=\"next\","
+                + "</api/_search/example?after=&size=2>; rel=\"first\"";
+        assertEquals(expectedData, strHeaders.get(0));
+        assertNull(headers.get("X-Total-Count"));
+    }
+
+    @Test
+    public void keysetCursorRoundTripTest() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.of(Instant.parse("2018-09-29T16:15:27.123Z"), 42L).encode(), "example");
+        assertEquals(Instant.parse("2018-09-29T16:15:27.123Z"), cursor.getInstant());
+        assertEquals(Long.valueOf(42L), cursor.getId());
+        cursor = KeysetCursor.decode(KeysetCursor.of(7L).encode(), "example");
+        assertNull(cursor.getInstant());
+        assertEquals(Long.valueOf(7L), cursor.getId());
+    }
+
 }
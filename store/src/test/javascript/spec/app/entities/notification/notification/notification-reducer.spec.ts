@@ -33,6 +33,7 @@ describe('Entities reducer tests', () => {
     entities: [] as ReadonlyArray<INotification>,
     entity: defaultValue,
     updating: false,
+    totalItems: 0,
     updateSuccess: false
   };
 
@@ -122,7 +123,7 @@ describe('Entities reducer tests', () => {
 
   describe('Successes', () => {
     it('should fetch all entities', () => {
-      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }] };
+      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }], headers: { 'x-total-count': 123 } };
       expect(
         reducer(undefined, {
           type: SUCCESS(ACTION_TYPES.FETCH_NOTIFICATION_LIST),
@@ -131,6 +132,7 @@ describe('Entities reducer tests', () => {
       ).toEqual({
         ...initialState,
         loading: false,
+        totalItems: payload.headers['x-total-count'],
         entities: payload.data
       });
     });